@@ -0,0 +1,180 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
+import serp.project.crm.core.domain.dto.request.CreateOpportunityRequest;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.entity.AddressEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementDayEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.enums.LeadSource;
+import serp.project.crm.core.domain.enums.LeadStatus;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Representative, fully populated inputs shared by the benchmarks.
+ */
+final class BenchmarkFixtures {
+
+    static final long TENANT_ID = 1L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static LeadEntity lead(long id) {
+        return LeadEntity.builder()
+                .id(id)
+                .tenantId(TENANT_ID)
+                .company("Acme Technology " + id)
+                .industry("Technology")
+                .companySize("201-500")
+                .website("https://acme" + id + ".example.com")
+                .name("Lead " + id)
+                .email("lead" + id + "@acme.example.com")
+                .phone("+84901234" + String.format("%03d", id % 1000))
+                .jobTitle("Chief Technology Officer")
+                .address(AddressEntity.builder()
+                        .street("1 Dai Co Viet")
+                        .city("Hanoi")
+                        .state("Hanoi")
+                        .zipCode("100000")
+                        .country("Vietnam")
+                        .build())
+                .leadSource(LeadSource.REFERRAL)
+                .leadStatus(LeadStatus.CONTACTED)
+                .assignedTo(7L)
+                .estimatedValue(new BigDecimal("250000000"))
+                .probability(40)
+                .expectedCloseDate(LocalDate.of(2026, 12, 31))
+                .notes("Met at the regional partner summit; interested in the full suite.")
+                .createdAt(1_760_000_000_000L + id)
+                .updatedAt(1_760_000_000_000L + id)
+                .createdBy(3L)
+                .updatedBy(3L)
+                .build();
+    }
+
+    static List<LeadEntity> leads(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(BenchmarkFixtures::lead).toList();
+    }
+
+    static LeadEngagementEntity engagement(long leadId) {
+        long today = LeadEngagementEntity.epochDay(System.currentTimeMillis());
+        return LeadEngagementEntity.builder()
+                .leadId(leadId)
+                .tenantId(TENANT_ID)
+                .callCount(3)
+                .meetingCount(1)
+                .emailCount(6)
+                .taskCount(2)
+                .lastActivityAt(System.currentTimeMillis() - 86_400_000L)
+                .recentDays(List.of(
+                        engagementDay(leadId, today - 1, 2, 1, 4, 1),
+                        engagementDay(leadId, today - 20, 1, 0, 2, 1)))
+                .build();
+    }
+
+    private static LeadEngagementDayEntity engagementDay(long leadId, long activityDay, int calls, int meetings,
+                                                         int emails, int tasks) {
+        return LeadEngagementDayEntity.builder()
+                .leadId(leadId)
+                .activityDay(activityDay)
+                .callCount(calls)
+                .meetingCount(meetings)
+                .emailCount(emails)
+                .taskCount(tasks)
+                .build();
+    }
+
+    static CreateLeadRequest createLeadRequest() {
+        return CreateLeadRequest.builder()
+                .company("Acme Technology")
+                .industry("Technology")
+                .companySize("201-500")
+                .website("https://acme.example.com")
+                .name("New Lead")
+                .email("new.lead@acme.example.com")
+                .phone("+84901234567")
+                .jobTitle("Engineering Manager")
+                .street("1 Dai Co Viet")
+                .city("Hanoi")
+                .country("Vietnam")
+                .leadSource(LeadSource.WEBSITE)
+                .estimatedValue(new BigDecimal("120000000"))
+                .expectedCloseDate(LocalDate.of(2026, 12, 31))
+                .notes("Requested a demo from the pricing page.")
+                .build();
+    }
+
+    static OpportunityEntity opportunity(long id) {
+        return OpportunityEntity.builder()
+                .id(id)
+                .tenantId(TENANT_ID)
+                .name("Suite rollout " + id)
+                .description("Company-wide rollout of the CRM and logistics modules")
+                .leadId(id)
+                .customerId(100L + id)
+                .stage(OpportunityStage.PROPOSAL)
+                .stageEnteredAt(1_760_000_000_000L)
+                .estimatedValue(new BigDecimal("480000000"))
+                .probability(50)
+                .expectedCloseDate(LocalDate.of(2026, 12, 31))
+                .assignedTo(7L)
+                .notes("Procurement review scheduled.")
+                .createdAt(1_760_000_000_000L)
+                .updatedAt(1_760_000_000_000L)
+                .createdBy(3L)
+                .updatedBy(3L)
+                .build();
+    }
+
+    static CreateOpportunityRequest createOpportunityRequest() {
+        return CreateOpportunityRequest.builder()
+                .name("Suite rollout")
+                .description("Company-wide rollout of the CRM and logistics modules")
+                .customerId(101L)
+                .stage(OpportunityStage.PROSPECTING)
+                .estimatedValue(new BigDecimal("480000000"))
+                .expectedCloseDate(LocalDate.of(2026, 12, 31))
+                .assignedTo(7L)
+                .notes("Inbound from the partner programme.")
+                .build();
+    }
+
+    /**
+     * The filter the lead list screen sends when most of its controls are in use.
+     */
+    static LeadFilterRequest fullFilter() {
+        return LeadFilterRequest.builder()
+                .keyword("acme")
+                .statuses(List.of(LeadStatus.NEW, LeadStatus.CONTACTED, LeadStatus.NURTURING))
+                .sources(List.of(LeadSource.WEBSITE, LeadSource.REFERRAL))
+                .industries(List.of("Technology", "Finance"))
+                .assignedTo(7L)
+                .estimatedValueMin(new BigDecimal("10000000"))
+                .estimatedValueMax(new BigDecimal("900000000"))
+                .probabilityMin(20)
+                .probabilityMax(90)
+                .expectedCloseDateFrom(LocalDate.of(2026, 1, 1))
+                .expectedCloseDateTo(LocalDate.of(2026, 12, 31))
+                .createdFrom(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .createdTo(LocalDateTime.of(2026, 12, 31, 23, 59))
+                .city("Hanoi")
+                .country("Vietnam")
+                .hasEmail(true)
+                .hasPhone(true)
+                .build();
+    }
+}
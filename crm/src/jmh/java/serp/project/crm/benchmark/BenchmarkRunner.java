@@ -0,0 +1,116 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the crm benchmarks and compares the scores with a baseline recorded on the reference machine. No
+ * baseline ships with the repository, so a run without one only writes its results.
+ * <p>
+ * System properties (set by the {@code benchmark} Maven profile):
+ * <ul>
+ * <li>{@code jmh.include}: regex of benchmarks to run</li>
+ * <li>{@code jmh.result}: where this run's JSON results are written</li>
+ * <li>{@code jmh.baseline}: baseline JSON to compare against; ignored when missing</li>
+ * <li>{@code jmh.threshold}: relative slowdown reported as a regression, e.g. {@code 0.10}</li>
+ * <li>{@code jmh.failOnRegression}: exit non-zero when any benchmark regressed</li>
+ * <li>{@code jmh.updateBaseline}: replace the baseline with this run's results</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path result = Path.of(System.getProperty("jmh.result", "target/jmh/crm-result.json"));
+        Path baseline = Path.of(System.getProperty("jmh.baseline", "src/jmh/baseline/crm-baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("jmh.threshold", "0.10"));
+        Files.createDirectories(result.toAbsolutePath().getParent());
+
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("jmh.include", BenchmarkRunner.class.getPackageName() + "\\..*"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+
+        List<String> regressions = Files.exists(baseline)
+                ? compare(scores(baseline), scores(result), threshold)
+                : List.of();
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline + "; run with -Djmh.updateBaseline=true to record one");
+        }
+
+        if (Boolean.getBoolean("jmh.updateBaseline")) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+        } else if (!regressions.isEmpty() && Boolean.getBoolean("jmh.failOnRegression")) {
+            System.exit(1);
+        }
+    }
+
+    private static List<String> compare(Map<String, Score> baseline, Map<String, Score> current, double threshold) {
+        List<String> regressions = new ArrayList<>();
+        System.out.println();
+        System.out.printf(Locale.ROOT, "%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score before = baseline.get(entry.getKey());
+            Score now = entry.getValue();
+            if (before == null || before.value() <= 0 || !before.unit().equals(now.unit())) {
+                System.out.printf(Locale.ROOT, "%-90s %14s %14.3f %9s%n", entry.getKey(), "-", now.value(), "new");
+                continue;
+            }
+            double change = (now.value() - before.value()) / before.value();
+            boolean regressed = change > threshold;
+            if (regressed) {
+                regressions.add(entry.getKey());
+            }
+            System.out.printf(Locale.ROOT, "%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.value(),
+                    now.value(), change * 100, regressed ? "  REGRESSION" : "");
+        }
+        System.out.printf(Locale.ROOT, "%n%d regression(s) above %.0f%%%n", regressions.size(), threshold * 100);
+        return regressions;
+    }
+
+    private static Map<String, Score> scores(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            run.path("params").properties()
+                    .forEach(param -> key.append(' ').append(param.getKey()).append('=')
+                            .append(param.getValue().asText()));
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    // All crm benchmarks use AverageTime, so a higher score is slower
+    private record Score(double value, String unit) {
+    }
+}
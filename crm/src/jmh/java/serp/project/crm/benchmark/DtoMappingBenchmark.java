@@ -0,0 +1,87 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
+import serp.project.crm.core.domain.dto.request.CreateOpportunityRequest;
+import serp.project.crm.core.domain.dto.response.LeadResponse;
+import serp.project.crm.core.domain.dto.response.OpportunityResponse;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.mapper.LeadDtoMapper;
+import serp.project.crm.core.mapper.OpportunityDtoMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping paid by every read endpoint, once per row on list pages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private final LeadDtoMapper leadDtoMapper = new LeadDtoMapper();
+    private final OpportunityDtoMapper opportunityDtoMapper = new OpportunityDtoMapper();
+
+    private LeadEntity lead;
+    private List<LeadEntity> leadPage;
+    private CreateLeadRequest createLeadRequest;
+    private OpportunityEntity opportunity;
+    private CreateOpportunityRequest createOpportunityRequest;
+
+    @Setup
+    public void setUp() {
+        lead = BenchmarkFixtures.lead(1L);
+        leadPage = BenchmarkFixtures.leads(pageSize);
+        createLeadRequest = BenchmarkFixtures.createLeadRequest();
+        opportunity = BenchmarkFixtures.opportunity(1L);
+        createOpportunityRequest = BenchmarkFixtures.createOpportunityRequest();
+    }
+
+    @Benchmark
+    public LeadResponse leadToResponse() {
+        return leadDtoMapper.toResponse(lead);
+    }
+
+    @Benchmark
+    public List<LeadResponse> leadPageToResponses() {
+        return leadPage.stream().map(leadDtoMapper::toResponse).toList();
+    }
+
+    @Benchmark
+    public LeadEntity leadRequestToEntity() {
+        return leadDtoMapper.toEntity(createLeadRequest);
+    }
+
+    @Benchmark
+    public OpportunityResponse opportunityToResponse() {
+        return opportunityDtoMapper.toResponse(opportunity);
+    }
+
+    @Benchmark
+    public OpportunityEntity opportunityRequestToEntity() {
+        return opportunityDtoMapper.toEntity(createOpportunityRequest);
+    }
+}
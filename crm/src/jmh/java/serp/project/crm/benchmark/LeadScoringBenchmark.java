@@ -0,0 +1,74 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.AsyncTaskExecutor;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.port.store.ILeadEngagementPort;
+import serp.project.crm.core.port.store.ILeadPort;
+import serp.project.crm.core.service.impl.LeadScoringService;
+import serp.project.crm.kernel.property.LeadScoringProperties;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring runs on every lead create and update, and once per lead during a tenant rescore.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeadScoringBenchmark {
+
+    private LeadScoringService scoringService;
+    private LeadEntity lead;
+    private LeadEntity newLead;
+    private LeadEngagementEntity engagement;
+
+    @Setup
+    public void setUp() {
+        lead = BenchmarkFixtures.lead(42L);
+        newLead = BenchmarkFixtures.lead(43L);
+        newLead.setId(null);
+        engagement = BenchmarkFixtures.engagement(42L);
+
+        ILeadEngagementPort engagementPort = Stubs.port(ILeadEngagementPort.class,
+                Map.of("findByLeadId", Optional.of(engagement)));
+        ILeadPort leadPort = Stubs.port(ILeadPort.class, Map.of());
+        scoringService = Stubs.service(LeadScoringService.class, engagementPort, leadPort, new LeadScoringProperties(),
+                Stubs.port(AsyncTaskExecutor.class, Map.of()));
+    }
+
+    @Benchmark
+    public Integer scoreWithEngagement() {
+        return scoringService.calculateSmartScore(lead, engagement);
+    }
+
+    @Benchmark
+    public Integer scoreThroughPort() {
+        return scoringService.calculateSmartScore(lead);
+    }
+
+    @Benchmark
+    public Integer scoreNewLead() {
+        return scoringService.calculateSmartScore(newLead);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.infrastructure.store.model.LeadModel;
+import serp.project.crm.infrastructure.store.specification.LeadSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Specification composition and predicate tree construction for the lead search endpoint, with the JPA
+ * criteria API stubbed out so Hibernate's own cost is excluded.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeadSpecificationBenchmark {
+
+    private LeadFilterRequest emptyFilter;
+    private LeadFilterRequest fullFilter;
+    private Root<LeadModel> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        emptyFilter = LeadFilterRequest.builder().build();
+        fullFilter = BenchmarkFixtures.fullFilter();
+        root = Stubs.criteria(Root.class);
+        query = Stubs.criteria(CriteriaQuery.class);
+        criteriaBuilder = Stubs.criteria(CriteriaBuilder.class);
+    }
+
+    @Benchmark
+    public Specification<LeadModel> buildEmptyFilter() {
+        return LeadSpecification.build(emptyFilter, BenchmarkFixtures.TENANT_ID);
+    }
+
+    @Benchmark
+    public Specification<LeadModel> buildFullFilter() {
+        return LeadSpecification.build(fullFilter, BenchmarkFixtures.TENANT_ID);
+    }
+
+    @Benchmark
+    public Predicate buildAndResolveFullFilter() {
+        return LeadSpecification.build(fullFilter, BenchmarkFixtures.TENANT_ID)
+                .toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import serp.project.crm.core.domain.constant.Constants;
+import serp.project.crm.core.domain.dto.GeneralResponse;
+import serp.project.crm.core.domain.dto.PageRequest;
+import serp.project.crm.core.domain.dto.PageResponse;
+import serp.project.crm.core.domain.dto.response.LeadResponse;
+import serp.project.crm.core.mapper.LeadDtoMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of a lead list page, the largest response the lead screens fetch routinely.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private GeneralResponse<PageResponse<LeadResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LeadDtoMapper leadDtoMapper = new LeadDtoMapper();
+        List<LeadResponse> items = BenchmarkFixtures.leads(pageSize).stream()
+                .map(leadDtoMapper::toResponse)
+                .toList();
+        PageRequest pageRequest = PageRequest.builder().page(1).size(pageSize).build();
+        response = GeneralResponse.<PageResponse<LeadResponse>>builder()
+                .status(Constants.HttpStatus.SUCCESS)
+                .code(Constants.HttpStatusCode.SUCCESS)
+                .message("OK")
+                .data(PageResponse.of(items, pageRequest, 5_000L))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeLeadPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.benchmark;
+
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.annotation.QualifierAnnotationAutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interface stand-ins so benchmarks measure the code under test rather than a database or a mocking library.
+ */
+final class Stubs {
+
+    private static final Map<Class<?>, Object> CRITERIA = new ConcurrentHashMap<>();
+
+    private Stubs() {
+    }
+
+    /**
+     * A service built the way the application context builds it: constructor arguments are resolved by type
+     * from {@code collaborators} and {@code @Value} fields get their declared defaults, so reordering the
+     * service's fields cannot swap its stubs.
+     */
+    static <T> T service(Class<T> type, Object... collaborators) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setAutowireCandidateResolver(new QualifierAnnotationAutowireCandidateResolver());
+        beanFactory.addEmbeddedValueResolver(new StandardEnvironment()::resolveRequiredPlaceholders);
+        AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiring);
+        for (int i = 0; i < collaborators.length; i++) {
+            beanFactory.registerSingleton("collaborator" + i, collaborators[i]);
+        }
+        return beanFactory.createBean(type);
+    }
+
+    /**
+     * A port whose listed methods return fixed answers; anything else fails loudly.
+     */
+    static <T> T port(Class<T> type, Map<String, Object> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return objectMethod(proxy, method.getName(), args);
+                    }
+                    if (!answers.containsKey(method.getName())) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    return answers.get(method.getName());
+                }));
+    }
+
+    /**
+     * A JPA criteria object where every call returns another shared stub of the declared return type,
+     * enough for a {@code Specification} to build its full predicate tree.
+     */
+    static <T> T criteria(Class<T> type) {
+        return type.cast(CRITERIA.computeIfAbsent(type, key -> Proxy.newProxyInstance(
+                Stubs.class.getClassLoader(), new Class<?>[] { key },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return objectMethod(proxy, method.getName(), args);
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    return returnType.isInterface() ? criteria(returnType) : null;
+                })));
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "Stub@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+}
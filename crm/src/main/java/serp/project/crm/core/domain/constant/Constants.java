@@ -58,6 +58,10 @@ public class Constants {
         public static final int MIN_PROGRESS_PERCENT = 0;
         public static final int MAX_PROGRESS_PERCENT = 100;
 
+        // Bulk operations
+        public static final int MAX_BULK_LEAD_CONVERSIONS = 500;
+        public static final int MAX_BULK_ACTIVITIES = 5000;
+
         // Email regex
         public static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
 
@@ -81,6 +85,9 @@ public class Constants {
         public static final String CONTACT_PREFIX = "crm:contact:";
         public static final String ACTIVITY_PREFIX = "crm:activity:";
         public static final String TEAM_PREFIX = "crm:team:";
+        public static final String TEAM_MEMBER_PREFIX = "crm:team-member:";
+
+        public static final String INVALIDATION_CHANNEL = "crm:cache:invalidate";
 
         public static final long DEFAULT_TTL = 3600;
     }
@@ -92,6 +99,7 @@ public class Constants {
         public static final String OPPORTUNITY = "crm.opportunity";
         public static final String CONTACT = "crm.contact";
         public static final String ACTIVITY = "crm.activity";
+        public static final String ACTIVITY_REMINDER = "crm.activity.reminder";
         public static final String TEAM = "crm.team";
 
         public static final String CUSTOMER_DLQ = "crm.customer.dlq";
@@ -136,6 +144,7 @@ public class Constants {
         public static final String ACTIVITY_COMPLETED = "ACTIVITY_COMPLETED";
         public static final String ACTIVITY_CANCELLED = "ACTIVITY_CANCELLED";
         public static final String ACTIVITY_OVERDUE = "ACTIVITY_OVERDUE";
+        public static final String ACTIVITY_DUE_SOON = "ACTIVITY_DUE_SOON";
 
         // Team commands
         public static final String TEAM_CREATED = "TEAM_CREATED";
@@ -20,6 +20,7 @@ public class ErrorMessage {
     public static final String CONFLICT = "Conflict";
     public static final String TOO_MANY_REQUESTS = "Too Many Requests";
     public static final String UNKNOWN_ERROR = "Unknown Error";
+    public static final String SERVICE_UNAVAILABLE = "Service temporarily unavailable";
     
     // ==================== CRM SPECIFIC ERROR MESSAGES ====================
     
@@ -29,6 +30,9 @@ public class ErrorMessage {
     public static final String CUSTOMER_INACTIVE = "Customer is inactive";
     public static final String CUSTOMER_HAS_ACTIVE_OPPORTUNITIES = "Cannot delete customer with active opportunities";
     public static final String CUSTOMER_CANNOT_BE_OWN_PARENT = "Customer cannot be its own parent";
+    public static final String CUSTOMER_HIERARCHY_CYCLE = "Parent customer cannot be a descendant of this customer";
+    public static final String CUSTOMER_PARENT_NOT_FOUND = "Parent customer %d no longer exists";
+    public static final String CUSTOMER_HIERARCHY_NOT_INDEXED = "Customer hierarchy has not been indexed yet; rebuild it first";
     public static final String CANNOT_DELETE_CUSTOMER_WITH_CHILDREN = "Cannot delete customer with child customers";
     
     // Lead errors
@@ -41,6 +45,14 @@ public class ErrorMessage {
     public static final String LEAD_INVALID_STATUS = "Invalid lead status";
     public static final String LEAD_CANNOT_BE_CONVERTED = "Lead cannot be converted in its current status";
     public static final String CANNOT_DELETE_CONVERTED_LEAD = "Cannot delete converted lead";
+    public static final String LEAD_PHONE_ALREADY_EXISTS = "Lead with phone %s already exists";
+    public static final String LEAD_DUPLICATE_IN_FILE = "Duplicate of row %d in the same file";
+    public static final String LEAD_IMPORT_JOB_NOT_FOUND = "Lead import job not found";
+    public static final String LEAD_IMPORT_FILE_EMPTY = "Import file is empty";
+    public static final String LEAD_IMPORT_FILE_UNREADABLE = "Import file could not be read";
+    public static final String LEAD_DUPLICATE_IN_REQUEST = "Lead appears more than once in the request";
+    public static final String LEAD_CONVERSION_CUSTOMER_REQUIRED =
+            "Either createNewCustomer must be true or existingCustomerId must be provided";
     
     // Opportunity errors
     public static final String OPPORTUNITY_NOT_FOUND = "Opportunity not found";
@@ -70,6 +82,10 @@ public class ErrorMessage {
     public static final String ACTIVITY_PROGRESS_INVALID = "Activity progressPercent must be between 0 and 100";
     public static final String ACTIVITY_DURATION_INVALID = "Activity durationMinutes must be greater than zero";
     public static final String ACTIVITY_DUE_DATE_REQUIRED_FOR_TASK = "Due date is required for task activities";
+    public static final String ACTIVITY_ASSIGNEE_REQUIRED = "Activity must be assigned to a team member";
+
+    // Timeline errors
+    public static final String TIMELINE_CURSOR_INVALID = "Invalid timeline cursor";
     
     // Team errors
     public static final String TEAM_NOT_FOUND = "Team not found";
@@ -84,6 +100,9 @@ public class ErrorMessage {
     public static final String MEMBER_ALREADY_IN_ANOTHER_TEAM = "Member is already in another team";
     public static final String MEMBER_IS_NOT_ACTIVE = "Member is not active";
     public static final String MEMBER_NOT_HAS_CRM_ROLE = "Member does not have permission to be assigned to CRM";
+
+    // Assignment errors
+    public static final String ASSIGNMENT_NO_ELIGIBLE_MEMBERS = "No active team members are available for assignment";
     
     // Validation errors
     public static final String INVALID_EMAIL_FORMAT = "Invalid email format";
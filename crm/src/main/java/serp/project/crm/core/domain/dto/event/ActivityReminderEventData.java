@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityReminderEventData {
+    private Long activityId;
+    private Long tenantId;
+    private String reminderKind;
+    private String activityType;
+    private String subject;
+    private String status;
+    private String priority;
+    private Long assignedTo;
+    private Long leadId;
+    private Long customerId;
+    private Long opportunityId;
+    private Long dueDate;
+    private Long reminderDate;
+}
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.AssignmentStrategy;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class AutoAssignLeadRequest {
+
+    @NotNull(message = "Assignment strategy is required")
+    private AssignmentStrategy strategy;
+
+    // Capped by app.assignment.max-batch-size
+    @Min(value = 1, message = "Limit must be at least 1")
+    private Integer limit;
+}
@@ -0,0 +1,29 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.constant.Constants;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkCreateActivityRequest {
+
+    @NotEmpty(message = "At least one activity is required")
+    @Size(max = Constants.Validation.MAX_BULK_ACTIVITIES,
+            message = "At most " + Constants.Validation.MAX_BULK_ACTIVITIES + " activities can be logged at once")
+    private List<@Valid CreateActivityRequest> activities;
+}
@@ -31,4 +31,8 @@ public class UpdateTeamMemberRequest {
     private String role;
     
     private TeamMemberStatus status;
+
+    @Min(value = 1, message = "Assignment weight must be at least 1")
+    @Max(value = 100, message = "Assignment weight must not exceed 100")
+    private Integer assignmentWeight;
 }
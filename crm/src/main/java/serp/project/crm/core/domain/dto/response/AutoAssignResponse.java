@@ -0,0 +1,29 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.AssignmentStrategy;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AutoAssignResponse {
+    private AssignmentStrategy strategy;
+    private Integer candidates;
+    private Integer assigned;
+    private Map<Long, Integer> assignedByMember;
+    private Map<Long, Long> openWorkload;
+}
@@ -0,0 +1,44 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.ActiveStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CustomerHierarchyNodeResponse {
+    private Long id;
+    private String name;
+    private Long parentCustomerId;
+    private Integer depth;
+    private ActiveStatus activeStatus;
+
+    private Integer totalOpportunities;
+    private Integer wonOpportunities;
+    private BigDecimal totalRevenue;
+
+    // Own values plus those of every descendant
+    private Long descendantCount;
+    private Long subtreeOpportunities;
+    private Long subtreeWonOpportunities;
+    private BigDecimal subtreeRevenue;
+
+    @Builder.Default
+    private List<CustomerHierarchyNodeResponse> children = new ArrayList<>();
+}
@@ -0,0 +1,25 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CustomerRollupResponse {
+    private Long customerId;
+    private Long descendantCount;
+    private Long totalOpportunities;
+    private Long wonOpportunities;
+    private BigDecimal totalRevenue;
+}
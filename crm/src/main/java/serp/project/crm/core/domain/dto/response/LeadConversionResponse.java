@@ -22,5 +22,6 @@ public class LeadConversionResponse {
     private Long customerId;
     private Long opportunityId;
     private Long contactId;
+    private Boolean success;
     private String message;
 }
@@ -0,0 +1,49 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.ImportJobStatus;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LeadImportJobResponse {
+    private String jobId;
+    private String fileName;
+    private ImportJobStatus status;
+    private String failureReason;
+
+    private Long totalRows;
+    private Long processedRows;
+    private Long importedRows;
+    private Long duplicateRows;
+    private Long failedRows;
+
+    private Long createdAt;
+    private Long finishedAt;
+
+    private List<RowErrorResponse> errors;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    @Builder
+    public static class RowErrorResponse {
+        private Long rowNumber;
+        private String email;
+        private String message;
+    }
+}
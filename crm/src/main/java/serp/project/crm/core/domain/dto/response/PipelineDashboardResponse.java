@@ -0,0 +1,48 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PipelineDashboardResponse {
+    private Long assignedTo;
+    private String fromMonth;
+    private String toMonth;
+
+    private List<StageSummary> stages;
+
+    private Long openCount;
+    private BigDecimal openValue;
+    private Long wonCount;
+    private BigDecimal wonValue;
+    private Long lostCount;
+    private BigDecimal lostValue;
+    private Double winRate;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    @Builder
+    public static class StageSummary {
+        private OpportunityStage stage;
+        private Long count;
+        private BigDecimal totalValue;
+    }
+}
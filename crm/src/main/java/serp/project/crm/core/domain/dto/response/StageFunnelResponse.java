@@ -0,0 +1,44 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StageFunnelResponse {
+    private String fromMonth;
+    private String toMonth;
+
+    private List<StageSummary> stages;
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StageSummary {
+        private OpportunityStage stage;
+        private Long enteredCount;
+        private Long exitedCount;
+        private Long averageTimeInStageMs;
+        private Double advanceRate; // Share of exits that moved on to another open stage or to won
+        private Double winRate;
+        private Map<OpportunityStage, Long> exitsTo;
+    }
+}
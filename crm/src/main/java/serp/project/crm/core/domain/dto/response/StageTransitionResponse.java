@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StageTransitionResponse {
+    private Long id;
+    private Long opportunityId;
+    private OpportunityStage fromStage;
+    private OpportunityStage toStage;
+    private Long transitionedAt;
+    private Long timeInStageMs;
+    private Long assignedTo;
+    private BigDecimal estimatedValue;
+    private Long createdBy;
+}
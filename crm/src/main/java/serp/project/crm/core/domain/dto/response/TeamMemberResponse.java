@@ -27,6 +27,7 @@ public class TeamMemberResponse {
     private Long userId;
     private String role;
     private TeamMemberStatus status;
+    private Integer assignmentWeight;
     
     // Metadata
     private Long tenantId;
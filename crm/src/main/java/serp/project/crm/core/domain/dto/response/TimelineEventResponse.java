@@ -0,0 +1,29 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import serp.project.crm.core.domain.enums.TimelineEventType;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineEventResponse {
+    private Long id;
+    private TimelineEventType eventType;
+    private Long occurredAt;
+    private Long sourceId;
+    private String activityType;
+    private String title;
+    private String detail;
+    private Long actorId;
+}
@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ActivityCreationEntity {
+    private Integer index;
+    private Long activityId;
+    private String error;
+
+    public static ActivityCreationEntity failed(Integer index, String error) {
+        return ActivityCreationEntity.builder().index(index).error(error).build();
+    }
+
+    public boolean isCreated() {
+        return this.error == null;
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import serp.project.crm.core.domain.enums.AssignmentStrategy;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class AutoAssignResultEntity {
+    private AssignmentStrategy strategy;
+    private int candidateCount; // Unassigned open leads picked up for this run
+    private int assignedCount;
+    private Map<Long, Integer> assignedByMember;
+    private Map<Long, Long> workload; // Open items per member after the run
+}
@@ -31,6 +31,10 @@ public class CustomerEntity extends BaseEntity {
 
     private Long parentCustomerId;
 
+    // Materialized path of ids from the root, e.g. "/12/57/301/"
+    private String hierarchyPath;
+    private Integer hierarchyDepth;
+
     private String taxId;
     private BigDecimal creditLimit;
 
@@ -75,14 +79,25 @@ public class CustomerEntity extends BaseEntity {
         this.setUpdatedBy(updatedBy);
     }
 
-    // Opportunity tracking
-    public void recordOpportunityResult(boolean won, BigDecimal revenue, Long updatedBy) {
-        this.totalOpportunities = (this.totalOpportunities == null ? 0 : this.totalOpportunities) + 1;
-        if (won) {
-            this.wonOpportunities = (this.wonOpportunities == null ? 0 : this.wonOpportunities) + 1;
-            this.totalRevenue = (this.totalRevenue == null ? BigDecimal.ZERO : this.totalRevenue).add(revenue);
+    // Hierarchy
+    public boolean isIndexed() {
+        return this.hierarchyPath != null && this.hierarchyDepth != null;
+    }
+
+    public void placeUnder(CustomerEntity parent) {
+        String segment = this.getId() + "/";
+        if (parent == null) {
+            this.hierarchyPath = "/" + segment;
+            this.hierarchyDepth = 0;
+        } else {
+            this.hierarchyPath = parent.getHierarchyPath() + segment;
+            this.hierarchyDepth = parent.getHierarchyDepth() + 1;
         }
-        this.setUpdatedBy(updatedBy);
+    }
+
+    public boolean isAncestorOrSelfOf(CustomerEntity other) {
+        return this.hierarchyPath != null && other.getHierarchyPath() != null
+                && other.getHierarchyPath().startsWith(this.hierarchyPath);
     }
 
     public void updateFrom(CustomerEntity updates) {
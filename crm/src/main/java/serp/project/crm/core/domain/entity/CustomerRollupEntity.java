@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CustomerRollupEntity {
+    private Long customerId;
+    private Long descendantCount;
+    private Long totalOpportunities;
+    private Long wonOpportunities;
+    private BigDecimal totalRevenue;
+}
@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LeadConversionEntity {
+    private Long leadId;
+    private Long customerId;
+    private Long contactId;
+    private Long opportunityId;
+    private String error;
+
+    public static LeadConversionEntity failed(Long leadId, String error) {
+        return LeadConversionEntity.builder().leadId(leadId).error(error).build();
+    }
+
+    public boolean isConverted() {
+        return this.error == null;
+    }
+}
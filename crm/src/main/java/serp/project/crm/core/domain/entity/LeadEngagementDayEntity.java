@@ -0,0 +1,44 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import serp.project.crm.core.domain.enums.ActivityType;
+
+/**
+ * Completed activities of one lead on one day, so each day's points can be decayed by its own age.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class LeadEngagementDayEntity {
+    private Long leadId;
+    private Long activityDay; // Days since 1970-01-01 (UTC)
+
+    private Integer callCount;
+    private Integer meetingCount;
+    private Integer emailCount;
+    private Integer taskCount;
+
+    public int countOf(ActivityType type) {
+        if (type == null) {
+            return 0;
+        }
+        Integer count = switch (type) {
+            case CALL -> callCount;
+            case MEETING -> meetingCount;
+            case EMAIL -> emailCount;
+            case TASK -> taskCount;
+        };
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import serp.project.crm.core.domain.enums.ActivityType;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class LeadEngagementEntity extends BaseEntity {
+    // Activities older than this no longer add to the engagement score
+    public static final int DECAY_HORIZON_DAYS = 90;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private Long leadId;
+
+    // Completed activities per type
+    private Integer callCount;
+    private Integer meetingCount;
+    private Integer emailCount;
+    private Integer taskCount;
+
+    private Long lastActivityAt; // Unix timestamp (ms) of the latest completed activity
+
+    // Per-day counts within the decay horizon
+    private List<LeadEngagementDayEntity> recentDays;
+
+    public static long epochDay(long timestamp) {
+        return Math.floorDiv(timestamp, MILLIS_PER_DAY);
+    }
+
+    public int countOf(ActivityType type) {
+        if (type == null) {
+            return 0;
+        }
+        Integer count = switch (type) {
+            case CALL -> callCount;
+            case MEETING -> meetingCount;
+            case EMAIL -> emailCount;
+            case TASK -> taskCount;
+        };
+        return count != null ? count : 0;
+    }
+
+    public int totalCount() {
+        int total = 0;
+        for (ActivityType type : ActivityType.values()) {
+            total += countOf(type);
+        }
+        return total;
+    }
+
+    public static LeadEngagementEntity empty(Long leadId, Long tenantId) {
+        return LeadEngagementEntity.builder()
+                .leadId(leadId)
+                .tenantId(tenantId)
+                .callCount(0)
+                .meetingCount(0)
+                .emailCount(0)
+                .taskCount(0)
+                .recentDays(List.of())
+                .build();
+    }
+}
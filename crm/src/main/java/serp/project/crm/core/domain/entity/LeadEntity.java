@@ -65,6 +65,10 @@ public class LeadEntity extends BaseEntity {
                 LeadStatus.CONVERTED.equals(this.leadStatus);
     }
 
+    public boolean isOpen() {
+        return !LeadStatus.CONVERTED.equals(this.leadStatus) && !LeadStatus.DISQUALIFIED.equals(this.leadStatus);
+    }
+
     public boolean canBeConverted() {
         return LeadStatus.QUALIFIED.equals(this.leadStatus) &&
                 estimatedValue != null &&
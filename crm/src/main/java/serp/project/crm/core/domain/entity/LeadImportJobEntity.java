@@ -0,0 +1,95 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.Getter;
+import serp.project.crm.core.domain.enums.ImportJobStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one asynchronous lead import. Counters are updated concurrently by the batch workers.
+ */
+@Getter
+public class LeadImportJobEntity {
+    private final String jobId;
+    private final Long tenantId;
+    private final Long userId;
+    private final String fileName;
+    private final int maxErrors;
+    private final Long createdAt = System.currentTimeMillis();
+
+    private volatile ImportJobStatus status = ImportJobStatus.PENDING;
+    private volatile Long finishedAt;
+    private volatile String failureReason;
+
+    private final AtomicLong totalRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong duplicateRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+
+    private final List<RowError> errors = new ArrayList<>();
+
+    public LeadImportJobEntity(String jobId, Long tenantId, Long userId, String fileName, int maxErrors) {
+        this.jobId = jobId;
+        this.tenantId = tenantId;
+        this.userId = userId;
+        this.fileName = fileName;
+        this.maxErrors = maxErrors;
+    }
+
+    public void start() {
+        this.status = ImportJobStatus.RUNNING;
+    }
+
+    public void complete() {
+        this.finishedAt = System.currentTimeMillis();
+        this.status = ImportJobStatus.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        this.failureReason = reason;
+        this.finishedAt = System.currentTimeMillis();
+        this.status = ImportJobStatus.FAILED;
+    }
+
+    public void rowRead() {
+        totalRows.incrementAndGet();
+    }
+
+    public void rowsImported(int count) {
+        importedRows.addAndGet(count);
+    }
+
+    public void rowDuplicate(long rowNumber, String email, String message) {
+        duplicateRows.incrementAndGet();
+        addError(rowNumber, email, message);
+    }
+
+    public void rowFailed(long rowNumber, String email, String message) {
+        failedRows.incrementAndGet();
+        addError(rowNumber, email, message);
+    }
+
+    public long processedRows() {
+        return importedRows.get() + duplicateRows.get() + failedRows.get();
+    }
+
+    public synchronized List<RowError> errorSnapshot() {
+        return List.copyOf(errors);
+    }
+
+    private synchronized void addError(long rowNumber, String email, String message) {
+        if (errors.size() < maxErrors) {
+            errors.add(new RowError(rowNumber, email, message));
+        }
+    }
+
+    public record RowError(long rowNumber, String email, String message) {
+    }
+}
@@ -28,6 +28,7 @@ public class OpportunityEntity extends BaseEntity {
     private Long customerId;
 
     private OpportunityStage stage;
+    private Long stageEnteredAt; // When the current stage was entered
     private BigDecimal estimatedValue;
     private Integer probability;
     private LocalDate expectedCloseDate;
@@ -82,6 +83,7 @@ public class OpportunityEntity extends BaseEntity {
             throw new IllegalStateException("Cannot advance to the specified stage from the current stage.");
         }
         this.stage = newStage;
+        this.stageEnteredAt = System.currentTimeMillis();
         this.setUpdatedBy(updatedBy);
         updateProbabilityForStage(newStage);
         if (isClosed()) {
@@ -141,6 +143,7 @@ public class OpportunityEntity extends BaseEntity {
             throw new IllegalStateException("Opportunity already closed");
         }
         this.stage = OpportunityStage.CLOSED_WON;
+        this.stageEnteredAt = System.currentTimeMillis();
         this.probability = 100;
         this.actualCloseDate = LocalDate.now();
     }
@@ -150,6 +153,7 @@ public class OpportunityEntity extends BaseEntity {
             throw new IllegalStateException("Opportunity already closed");
         }
         this.stage = OpportunityStage.CLOSED_LOST;
+        this.stageEnteredAt = System.currentTimeMillis();
         this.probability = 0;
         this.actualCloseDate = LocalDate.now();
         this.lossReason = reason;
@@ -162,5 +166,15 @@ public class OpportunityEntity extends BaseEntity {
         if (this.probability == null) {
             updateProbabilityForStage(this.stage);
         }
+        if (this.stageEnteredAt == null) {
+            this.stageEnteredAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Entry time of the current stage; rows written before it was tracked fall back to the creation time.
+     */
+    public Long stageEnteredAtOrCreated() {
+        return stageEnteredAt != null ? stageEnteredAt : getCreatedAt();
     }
 }
@@ -0,0 +1,53 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class PipelineStatEntity extends BaseEntity {
+    public static final Long UNASSIGNED = 0L;
+
+    private static final DateTimeFormatter PERIOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private OpportunityStage stage;
+    private Long assignedTo;
+    private String periodMonth; // yyyy-MM of the opportunity creation time
+
+    private Long opportunityCount;
+    private BigDecimal totalValue;
+
+    public static String periodOf(Long timestamp) {
+        long millis = timestamp != null ? timestamp : System.currentTimeMillis();
+        return PERIOD_FORMAT.format(Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()));
+    }
+
+    public static Long assigneeOf(Long assignedTo) {
+        return assignedTo != null ? assignedTo : UNASSIGNED;
+    }
+
+    public long countOrZero() {
+        return opportunityCount != null ? opportunityCount : 0L;
+    }
+
+    public BigDecimal valueOrZero() {
+        return totalValue != null ? totalValue : BigDecimal.ZERO;
+    }
+}
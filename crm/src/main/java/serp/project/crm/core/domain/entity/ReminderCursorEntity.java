@@ -0,0 +1,36 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import serp.project.crm.core.domain.enums.ReminderKind;
+
+/**
+ * High-water mark of the reminder scan for one tenant: every open activity ordered at or before
+ * (lastDueDate, lastActivityId) has already been reported for {@link #kind}.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class ReminderCursorEntity extends BaseEntity {
+    private ReminderKind kind;
+    private Long lastDueDate;
+    private Long lastActivityId;
+
+    // Epoch millis until which one node owns this cursor; null when unclaimed
+    private Long claimedUntil;
+
+    public void advanceTo(ActivityEntity activity) {
+        this.lastDueDate = activity.getDueDate();
+        this.lastActivityId = activity.getId();
+    }
+}
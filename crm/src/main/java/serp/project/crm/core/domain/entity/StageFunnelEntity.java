@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class StageFunnelEntity {
+    private OpportunityStage stage;
+    private long enteredCount;
+    private long exitedCount;
+    private long totalTimeInStageMs;
+    private Map<OpportunityStage, Long> exitsTo;
+
+    public Long averageTimeInStageMs() {
+        return exitedCount > 0 ? totalTimeInStageMs / exitedCount : null;
+    }
+
+    /**
+     * Share of exits from this stage that went to {@code target}, or null when nothing has left the stage.
+     */
+    public Double conversionRateTo(OpportunityStage target) {
+        if (exitedCount == 0) {
+            return null;
+        }
+        return exitsTo.getOrDefault(target, 0L) / (double) exitedCount;
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class StageMetricEntity {
+    private OpportunityStage fromStage; // null for entries into the pipeline
+    private OpportunityStage toStage;
+    private Long transitionCount;
+    private Long totalTimeInStageMs;
+}
@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class StageTransitionEntity extends BaseEntity {
+    private Long opportunityId;
+    private OpportunityStage fromStage; // null when the opportunity was created
+    private OpportunityStage toStage;
+    private Long transitionedAt;
+    private Long timeInStageMs; // Time spent in fromStage before this transition
+
+    private Long assignedTo;
+    private BigDecimal estimatedValue;
+}
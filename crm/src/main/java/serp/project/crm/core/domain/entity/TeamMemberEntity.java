@@ -18,6 +18,8 @@ import serp.project.crm.core.domain.enums.TeamMemberStatus;
 @Setter
 @SuperBuilder
 public class TeamMemberEntity extends BaseEntity {
+    public static final int DEFAULT_ASSIGNMENT_WEIGHT = 1;
+
     private String name;
     private String email;
     private String phone;
@@ -25,6 +27,7 @@ public class TeamMemberEntity extends BaseEntity {
     private Long userId;
     private String role;
     private TeamMemberStatus status;
+    private Integer assignmentWeight; // Relative share of auto-assigned work
 
     public void updateFrom(TeamMemberEntity updates) {
         if (updates.getName() != null)
@@ -37,12 +40,21 @@ public class TeamMemberEntity extends BaseEntity {
             this.role = updates.getRole();
         if (updates.getStatus() != null)
             this.status = updates.getStatus();
+        if (updates.getAssignmentWeight() != null)
+            this.assignmentWeight = updates.getAssignmentWeight();
     }
 
     public void setDefaults() {
         if (this.status == null) {
             this.status = TeamMemberStatus.INVITED;
         }
+        if (this.assignmentWeight == null) {
+            this.assignmentWeight = DEFAULT_ASSIGNMENT_WEIGHT;
+        }
+    }
+
+    public int assignmentWeightOrDefault() {
+        return assignmentWeight != null && assignmentWeight > 0 ? assignmentWeight : DEFAULT_ASSIGNMENT_WEIGHT;
     }
 
     public void confirmMember(Long tenantId) {
@@ -0,0 +1,54 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.domain.enums.TimelineEventType;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class TimelineEventEntity extends BaseEntity {
+    private TimelineEntityType entityType;
+    private Long entityId;
+
+    private TimelineEventType eventType;
+    private Long occurredAt;
+    private Long sourceId; // Activity, opportunity or lead the event came from
+
+    private String activityType;
+    private String title;
+    private String detail;
+
+    public TimelineEventEntity forStream(TimelineEntityType streamType, Long streamId) {
+        return TimelineEventEntity.builder()
+                .tenantId(getTenantId())
+                .entityType(streamType)
+                .entityId(streamId)
+                .eventType(eventType)
+                .occurredAt(occurredAt)
+                .sourceId(sourceId)
+                .activityType(activityType)
+                .title(title)
+                .detail(detail)
+                .createdBy(getCreatedBy())
+                .build();
+    }
+
+    /**
+     * Keyset position of this event; the next page starts strictly after it.
+     */
+    public String cursor() {
+        return occurredAt + ":" + getId();
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class TimelinePageEntity {
+    private List<TimelineEventEntity> events;
+    private String nextCursor;
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AssignmentStrategy {
+    ROUND_ROBIN("Rotate through members in id order"),
+    LEAST_LOADED("Member with the fewest open leads and opportunities"),
+    WEIGHTED("Member with the lowest open workload relative to their assignment weight");
+
+    private final String description;
+
+    AssignmentStrategy(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+import lombok.Getter;
+import serp.project.crm.core.domain.constant.Constants;
+
+@Getter
+public enum CacheRegion {
+    LEAD(Constants.CacheKey.LEAD_PREFIX),
+    CUSTOMER(Constants.CacheKey.CUSTOMER_PREFIX),
+    OPPORTUNITY(Constants.CacheKey.OPPORTUNITY_PREFIX),
+    CONTACT(Constants.CacheKey.CONTACT_PREFIX),
+    TEAM_MEMBER(Constants.CacheKey.TEAM_MEMBER_PREFIX);
+
+    private final String keyPrefix;
+
+    CacheRegion(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String tenantPrefix(Long tenantId) {
+        return keyPrefix + tenantId + ":";
+    }
+
+    /**
+     * Entries are keyed under the tenant's current generation; bumping the generation orphans every entry of
+     * the tenant at once and lets Redis expire them.
+     */
+    public String key(Long tenantId, long generation, Long id) {
+        return tenantPrefix(tenantId) + "g" + generation + ":" + id;
+    }
+
+    public String generationKey(Long tenantId) {
+        return keyPrefix + "generation:" + tenantId;
+    }
+}
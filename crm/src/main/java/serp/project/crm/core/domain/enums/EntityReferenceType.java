@@ -0,0 +1,24 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+import lombok.Getter;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+
+@Getter
+public enum EntityReferenceType {
+    LEAD(ErrorMessage.LEAD_NOT_FOUND),
+    OPPORTUNITY(ErrorMessage.OPPORTUNITY_NOT_FOUND),
+    CUSTOMER(ErrorMessage.CUSTOMER_NOT_FOUND),
+    CONTACT(ErrorMessage.CONTACT_NOT_FOUND),
+    TEAM_MEMBER(ErrorMessage.TEAM_MEMBER_NOT_FOUND);
+
+    private final String notFoundMessage;
+
+    EntityReferenceType(String notFoundMessage) {
+        this.notFoundMessage = notFoundMessage;
+    }
+}
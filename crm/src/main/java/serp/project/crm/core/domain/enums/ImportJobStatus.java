@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ImportJobStatus {
+    PENDING("Pending"),
+    RUNNING("Running"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String description;
+
+    ImportJobStatus(String description) {
+        this.description = description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
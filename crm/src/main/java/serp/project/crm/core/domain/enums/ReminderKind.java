@@ -0,0 +1,21 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+import lombok.Getter;
+import serp.project.crm.core.domain.constant.Constants;
+
+@Getter
+public enum ReminderKind {
+    DUE_SOON(Constants.KafkaCommand.ACTIVITY_DUE_SOON),
+    OVERDUE(Constants.KafkaCommand.ACTIVITY_OVERDUE);
+
+    private final String command;
+
+    ReminderKind(String command) {
+        this.command = command;
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+public enum TimelineEntityType {
+    LEAD,
+    CUSTOMER,
+    OPPORTUNITY
+}
@@ -0,0 +1,15 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.domain.enums;
+
+public enum TimelineEventType {
+    ACTIVITY_LOGGED,
+    ACTIVITY_COMPLETED,
+    ACTIVITY_CANCELLED,
+    ACTIVITY_DELETED,
+    STAGE_CHANGED,
+    LEAD_CONVERTED
+}
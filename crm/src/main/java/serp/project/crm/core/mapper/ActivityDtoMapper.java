@@ -9,8 +9,12 @@ import org.springframework.stereotype.Component;
 import serp.project.crm.core.domain.dto.request.CreateActivityRequest;
 import serp.project.crm.core.domain.dto.request.UpdateActivityRequest;
 import serp.project.crm.core.domain.dto.response.ActivityResponse;
+import serp.project.crm.core.domain.dto.response.BulkActivityResponse;
+import serp.project.crm.core.domain.entity.ActivityCreationEntity;
 import serp.project.crm.core.domain.entity.ActivityEntity;
 
+import java.util.List;
+
 @Component
 public class ActivityDtoMapper {
 
@@ -89,4 +93,22 @@ public class ActivityDtoMapper {
                 .updatedBy(entity.getUpdatedBy())
                 .build();
     }
+
+    public BulkActivityResponse toBulkResponse(List<ActivityCreationEntity> results) {
+        int created = (int) results.stream().filter(ActivityCreationEntity::isCreated).count();
+
+        return BulkActivityResponse.builder()
+                .requested(results.size())
+                .created(created)
+                .failed(results.size() - created)
+                .results(results.stream()
+                        .map(result -> BulkActivityResponse.ItemResponse.builder()
+                                .index(result.getIndex())
+                                .activityId(result.getActivityId())
+                                .success(result.isCreated())
+                                .error(result.getError())
+                                .build())
+                        .toList())
+                .build();
+    }
 }
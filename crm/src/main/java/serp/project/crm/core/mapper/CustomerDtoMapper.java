@@ -9,9 +9,17 @@ import org.springframework.stereotype.Component;
 import serp.project.crm.core.domain.dto.request.CreateCustomerRequest;
 import serp.project.crm.core.domain.dto.request.UpdateCustomerRequest;
 import serp.project.crm.core.domain.dto.response.AddressResponse;
+import serp.project.crm.core.domain.dto.response.CustomerHierarchyNodeResponse;
 import serp.project.crm.core.domain.dto.response.CustomerResponse;
+import serp.project.crm.core.domain.dto.response.CustomerRollupResponse;
 import serp.project.crm.core.domain.entity.AddressEntity;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class CustomerDtoMapper {
@@ -116,4 +124,74 @@ public class CustomerDtoMapper {
                 .updatedBy(entity.getUpdatedBy())
                 .build();
     }
+
+    public CustomerRollupResponse toRollupResponse(CustomerRollupEntity rollup) {
+        if (rollup == null) {
+            return null;
+        }
+
+        return CustomerRollupResponse.builder()
+                .customerId(rollup.getCustomerId())
+                .descendantCount(rollup.getDescendantCount())
+                .totalOpportunities(rollup.getTotalOpportunities())
+                .wonOpportunities(rollup.getWonOpportunities())
+                .totalRevenue(rollup.getTotalRevenue())
+                .build();
+    }
+
+    /**
+     * Assembles a tree from customers listed depth-first (parents before their children) and fills in the
+     * subtree totals bottom-up. Returns the root node, or null for an empty list.
+     */
+    public CustomerHierarchyNodeResponse toHierarchy(List<CustomerEntity> depthFirst) {
+        if (depthFirst == null || depthFirst.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, CustomerHierarchyNodeResponse> nodes = new HashMap<>();
+        CustomerHierarchyNodeResponse root = null;
+        for (CustomerEntity customer : depthFirst) {
+            CustomerHierarchyNodeResponse node = CustomerHierarchyNodeResponse.builder()
+                    .id(customer.getId())
+                    .name(customer.getName())
+                    .parentCustomerId(customer.getParentCustomerId())
+                    .depth(customer.getHierarchyDepth())
+                    .activeStatus(customer.getActiveStatus())
+                    .totalOpportunities(customer.getTotalOpportunities())
+                    .wonOpportunities(customer.getWonOpportunities())
+                    .totalRevenue(customer.getTotalRevenue())
+                    .build();
+            nodes.put(customer.getId(), node);
+
+            CustomerHierarchyNodeResponse parent = nodes.get(customer.getParentCustomerId());
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else if (root == null) {
+                root = node;
+            }
+        }
+
+        rollUp(root);
+        return root;
+    }
+
+    private void rollUp(CustomerHierarchyNodeResponse node) {
+        long descendants = 0;
+        long opportunities = node.getTotalOpportunities() != null ? node.getTotalOpportunities() : 0;
+        long won = node.getWonOpportunities() != null ? node.getWonOpportunities() : 0;
+        BigDecimal revenue = node.getTotalRevenue() != null ? node.getTotalRevenue() : BigDecimal.ZERO;
+
+        for (CustomerHierarchyNodeResponse child : node.getChildren()) {
+            rollUp(child);
+            descendants += child.getDescendantCount() + 1;
+            opportunities += child.getSubtreeOpportunities();
+            won += child.getSubtreeWonOpportunities();
+            revenue = revenue.add(child.getSubtreeRevenue());
+        }
+
+        node.setDescendantCount(descendants);
+        node.setSubtreeOpportunities(opportunities);
+        node.setSubtreeWonOpportunities(won);
+        node.setSubtreeRevenue(revenue);
+    }
 }
@@ -10,17 +10,25 @@ import serp.project.crm.core.domain.dto.request.ConvertLeadRequest;
 import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
 import serp.project.crm.core.domain.dto.request.UpdateLeadRequest;
 import serp.project.crm.core.domain.dto.response.AddressResponse;
+import serp.project.crm.core.domain.dto.response.AutoAssignResponse;
+import serp.project.crm.core.domain.dto.response.BulkLeadConversionResponse;
 import serp.project.crm.core.domain.dto.response.LeadConversionResponse;
+import serp.project.crm.core.domain.dto.response.LeadImportJobResponse;
 import serp.project.crm.core.domain.dto.response.LeadResponse;
 import serp.project.crm.core.domain.entity.AddressEntity;
+import serp.project.crm.core.domain.entity.AutoAssignResultEntity;
 import serp.project.crm.core.domain.entity.ContactEntity;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
 import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.LeadImportJobEntity;
 import serp.project.crm.core.domain.entity.OpportunityEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
 import serp.project.crm.core.domain.enums.ContactType;
 import serp.project.crm.core.domain.enums.OpportunityStage;
 
+import java.util.List;
+
 @Component
 public class LeadDtoMapper {
 
@@ -136,6 +144,38 @@ public class LeadDtoMapper {
                 .build();
     }
 
+    public LeadImportJobResponse toImportJobResponse(LeadImportJobEntity job, boolean includeErrors) {
+        if (job == null) {
+            return null;
+        }
+
+        List<LeadImportJobResponse.RowErrorResponse> errors = null;
+        if (includeErrors) {
+            errors = job.errorSnapshot().stream()
+                    .map(error -> LeadImportJobResponse.RowErrorResponse.builder()
+                            .rowNumber(error.rowNumber())
+                            .email(error.email())
+                            .message(error.message())
+                            .build())
+                    .toList();
+        }
+
+        return LeadImportJobResponse.builder()
+                .jobId(job.getJobId())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .failureReason(job.getFailureReason())
+                .totalRows(job.getTotalRows().get())
+                .processedRows(job.processedRows())
+                .importedRows(job.getImportedRows().get())
+                .duplicateRows(job.getDuplicateRows().get())
+                .failedRows(job.getFailedRows().get())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .errors(errors)
+                .build();
+    }
+
     // ========== Conversion Mappers ==========
 
     public CustomerEntity toCustomerEntity(LeadEntity lead) {
@@ -190,14 +230,39 @@ public class LeadDtoMapper {
                 .build();
     }
 
-    public LeadConversionResponse toConversionResponse(Long leadId, Long customerId, Long opportunityId,
-            Long contactId) {
+    public LeadConversionResponse toConversionResponse(LeadConversionEntity conversion) {
+        if (conversion == null) {
+            return null;
+        }
+
         return LeadConversionResponse.builder()
-                .leadId(leadId)
-                .customerId(customerId)
-                .opportunityId(opportunityId)
-                .contactId(contactId)
-                .message("Lead converted successfully")
+                .leadId(conversion.getLeadId())
+                .customerId(conversion.getCustomerId())
+                .opportunityId(conversion.getOpportunityId())
+                .contactId(conversion.getContactId())
+                .success(conversion.isConverted())
+                .message(conversion.isConverted() ? "Lead converted successfully" : conversion.getError())
+                .build();
+    }
+
+    public BulkLeadConversionResponse toBulkConversionResponse(List<LeadConversionEntity> conversions) {
+        int converted = (int) conversions.stream().filter(LeadConversionEntity::isConverted).count();
+
+        return BulkLeadConversionResponse.builder()
+                .requested(conversions.size())
+                .converted(converted)
+                .failed(conversions.size() - converted)
+                .results(conversions.stream().map(this::toConversionResponse).toList())
+                .build();
+    }
+
+    public AutoAssignResponse toAutoAssignResponse(AutoAssignResultEntity result) {
+        return AutoAssignResponse.builder()
+                .strategy(result.getStrategy())
+                .candidates(result.getCandidateCount())
+                .assigned(result.getAssignedCount())
+                .assignedByMember(result.getAssignedByMember())
+                .openWorkload(result.getWorkload())
                 .build();
     }
 }
@@ -41,6 +41,7 @@ public class TeamMemberDtoMapper {
                 .phone(request.getPhone())
                 .role(request.getRole())
                 .status(request.getStatus())
+                .assignmentWeight(request.getAssignmentWeight())
                 .build();
     }
 
@@ -58,6 +59,7 @@ public class TeamMemberDtoMapper {
                 .userId(entity.getUserId())
                 .role(entity.getRole())
                 .status(entity.getStatus())
+                .assignmentWeight(entity.getAssignmentWeight())
                 .tenantId(entity.getTenantId())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
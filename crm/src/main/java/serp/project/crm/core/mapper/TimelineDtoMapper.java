@@ -0,0 +1,41 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.mapper;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.dto.response.TimelineEventResponse;
+import serp.project.crm.core.domain.dto.response.TimelinePageResponse;
+import serp.project.crm.core.domain.entity.TimelineEventEntity;
+import serp.project.crm.core.domain.entity.TimelinePageEntity;
+
+@Component
+public class TimelineDtoMapper {
+
+    public TimelineEventResponse toResponse(TimelineEventEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return TimelineEventResponse.builder()
+                .id(entity.getId())
+                .eventType(entity.getEventType())
+                .occurredAt(entity.getOccurredAt())
+                .sourceId(entity.getSourceId())
+                .activityType(entity.getActivityType())
+                .title(entity.getTitle())
+                .detail(entity.getDetail())
+                .actorId(entity.getCreatedBy())
+                .build();
+    }
+
+    public TimelinePageResponse toPageResponse(TimelinePageEntity page) {
+        return TimelinePageResponse.builder()
+                .events(page.getEvents().stream().map(this::toResponse).toList())
+                .nextCursor(page.getNextCursor())
+                .hasMore(page.hasMore())
+                .build();
+    }
+}
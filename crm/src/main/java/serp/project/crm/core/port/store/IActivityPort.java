@@ -14,6 +14,7 @@ import serp.project.crm.core.domain.enums.TaskPriority;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IActivityPort {
 
@@ -41,4 +42,18 @@ public interface IActivityPort {
 
     void deleteById(Long id, Long tenantId);
 
+    Stream<ActivityEntity> streamByTenant(Long tenantId, Long afterId, int fetchSize);
+
+    List<Long> findTenantIdsWithOpenActivities(int shardCount, int shardIndex);
+
+    /**
+     * Open activities due in ((afterDueDate, afterId), untilDueDate], ordered by due date then id.
+     */
+    List<ActivityEntity> findOpenDueAfter(Long tenantId, Long afterDueDate, Long afterId, Long untilDueDate,
+            int limit);
+
+    /**
+     * Inserts the activities with one JDBC batch and returns them with their generated ids, in input order.
+     */
+    List<ActivityEntity> insertBatch(List<ActivityEntity> activities, Long tenantId, Long userId);
 }
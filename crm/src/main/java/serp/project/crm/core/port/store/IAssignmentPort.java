@@ -0,0 +1,29 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IAssignmentPort {
+
+    /**
+     * Open leads plus open opportunities per assignee, counted in one grouped query.
+     */
+    Map<Long, Long> countOpenWorkload(Long tenantId);
+
+    /**
+     * Oldest open leads without an assignee, at most {@code limit} of them.
+     */
+    List<Long> findUnassignedLeadIds(Long tenantId, int limit);
+
+    /**
+     * Sets the assignee of each lead in one batch, skipping leads that were assigned in the meantime.
+     *
+     * @return the lead ids that were actually assigned
+     */
+    List<Long> assignLeads(Map<Long, Long> assigneeByLeadId, Long assignedBy, Long tenantId);
+}
@@ -0,0 +1,35 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.enums.CacheRegion;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+public interface ICachePort {
+
+    /**
+     * Returns the cached copy of the entity, or runs {@code loader} and caches a present result. Every call
+     * returns a fresh copy, so callers may modify it. Cache failures fall back to the loader.
+     */
+    <T> Optional<T> getOrLoad(CacheRegion region, Long tenantId, Long id, Class<T> type,
+            Supplier<Optional<T>> loader);
+
+    /**
+     * Drops the entry on every node; inside a transaction it is dropped again after commit so a concurrent
+     * reader cannot re-cache the old row.
+     */
+    void evict(CacheRegion region, Long tenantId, Long id);
+
+    void evictAll(CacheRegion region, Long tenantId, Collection<Long> ids);
+
+    /**
+     * Drops every entry of the tenant in the region, for set-based updates that do not know the rows touched.
+     */
+    void evictTenant(CacheRegion region, Long tenantId);
+}
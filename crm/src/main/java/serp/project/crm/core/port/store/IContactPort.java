@@ -41,4 +41,5 @@ public interface IContactPort {
 
     void deleteById(Long id, Long tenantId);
 
+    List<ContactEntity> saveAll(List<ContactEntity> contacts);
 }
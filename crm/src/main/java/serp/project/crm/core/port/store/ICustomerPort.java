@@ -9,10 +9,15 @@ import org.springframework.data.util.Pair;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ICustomerPort {
     CustomerEntity save(CustomerEntity customerEntity);
@@ -41,4 +46,46 @@ public interface ICustomerPort {
     Pair<List<CustomerEntity>, Long> findByIndustry(String industry, Long tenantId, PageRequest pageRequest);
 
     Pair<List<CustomerEntity>, Long> filter(CustomerFilterRequest filter, PageRequest pageRequest, Long tenantId);
+
+    Stream<CustomerEntity> streamFilter(CustomerFilterRequest filter, Long tenantId, Long afterId, int fetchSize);
+
+    /**
+     * Applies one closed opportunity to the customer's rollups with a single in-place UPDATE, so concurrent
+     * closes never overwrite each other. Returns false when the customer does not exist.
+     */
+    boolean incrementOpportunityResult(Long customerId, Long tenantId, boolean won, BigDecimal revenue);
+
+    List<Long> findTenantIds();
+
+    /**
+     * Recomputes the tenant's rollups from its opportunities and rewrites only the customers that drifted.
+     */
+    int reconcileOpportunityRollups(Long tenantId);
+
+    /**
+     * Returns the customer and all of its descendants ordered by hierarchy path, i.e. depth-first.
+     */
+    List<CustomerEntity> findSubtree(String hierarchyPath, Long tenantId);
+
+    CustomerRollupEntity sumSubtree(Long customerId, String hierarchyPath, Long tenantId);
+
+    void updateHierarchy(Long customerId, Long tenantId, String hierarchyPath, int hierarchyDepth);
+
+    /**
+     * Re-roots every customer whose path starts with {@code oldPath} onto {@code newPath} in one statement.
+     */
+    int moveSubtree(String oldPath, String newPath, int depthDelta, Long tenantId);
+
+    int rebuildHierarchy(Long tenantId);
+
+    List<CustomerEntity> saveAll(List<CustomerEntity> customers);
+
+    List<CustomerEntity> findByIds(Collection<Long> ids, Long tenantId);
+
+    Set<String> findExistingEmails(Collection<String> emails, Long tenantId);
+
+    /**
+     * Marks freshly inserted top-level customers as hierarchy roots in one statement.
+     */
+    void indexAsRoots(Collection<Long> customerIds, Long tenantId);
 }
@@ -0,0 +1,21 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.enums.EntityReferenceType;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface IEntityReferencePort {
+
+    /**
+     * Returns, per type, which of the given ids exist in the tenant. All types are resolved in one query.
+     */
+    Map<EntityReferenceType, Set<Long>> findExisting(Map<EntityReferenceType, ? extends Collection<Long>> ids,
+            Long tenantId);
+}
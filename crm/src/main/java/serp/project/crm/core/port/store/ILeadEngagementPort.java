@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.enums.ActivityType;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ILeadEngagementPort {
+
+    /**
+     * The lead's aggregate with its per-day counts from the last {@link LeadEngagementEntity#DECAY_HORIZON_DAYS}
+     * days.
+     */
+    Optional<LeadEngagementEntity> findByLeadId(Long leadId, Long tenantId);
+
+    List<LeadEngagementEntity> findByLeadIds(List<Long> leadIds, Long tenantId);
+
+    /**
+     * Atomically adds {@code delta} to the counter of {@code type} for the lead and to the day of
+     * {@code activityAt}, creating the rows on first use. {@code activityAt} only ever moves the last-activity
+     * time forward; see {@link #refreshLastActivityAt} for the other direction.
+     */
+    void increment(Long leadId, Long tenantId, ActivityType type, int delta, long activityAt);
+
+    /**
+     * Recomputes the lead's last-activity time from its completed activities.
+     */
+    void refreshLastActivityAt(Long leadId, Long tenantId);
+
+    void deleteByLeadId(Long leadId, Long tenantId);
+
+    /**
+     * Recomputes every aggregate of the tenant from its completed activities in one set-based statement.
+     */
+    int rebuildForTenant(Long tenantId);
+}
@@ -12,8 +12,12 @@ import serp.project.crm.core.domain.entity.LeadEntity;
 import serp.project.crm.core.domain.enums.LeadSource;
 import serp.project.crm.core.domain.enums.LeadStatus;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ILeadPort {
 
@@ -46,4 +50,33 @@ public interface ILeadPort {
     List<LeadEntity> findByExpectedCloseDateBetween(Long startDate, Long endDate, Long tenantId);
 
     Pair<List<LeadEntity>, Long> filter(LeadFilterRequest filter, PageRequest pageRequest, Long tenantId);
+
+    List<LeadEntity> findByTenantIdAfterId(Long tenantId, Long afterId, int limit);
+
+    void updateProbabilities(Map<Long, Integer> probabilities, Long tenantId);
+
+    /**
+     * Streams matching rows ordered by id, starting after {@code afterId}. Must be consumed and closed
+     * inside a read-only transaction.
+     */
+    Stream<LeadEntity> streamFilter(LeadFilterRequest filter, Long tenantId, Long afterId, int fetchSize);
+
+    /**
+     * Returns the lower-cased emails among {@code emails} that already belong to a lead of the tenant.
+     */
+    Set<String> findExistingEmails(Collection<String> emails, Long tenantId);
+
+    Set<String> findExistingPhones(Collection<String> phones, Long tenantId);
+
+    /**
+     * Inserts the leads with one JDBC batch; ids are not read back.
+     */
+    int insertBatch(List<LeadEntity> leads, Long tenantId, Long userId);
+
+    List<LeadEntity> findByIds(Collection<Long> ids, Long tenantId);
+
+    /**
+     * Writes the conversion outcome (status, customer, opportunity) of every lead with one JDBC batch.
+     */
+    void updateConversions(List<LeadEntity> leads, Long tenantId);
 }
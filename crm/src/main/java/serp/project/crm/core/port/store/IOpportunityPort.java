@@ -14,6 +14,7 @@ import serp.project.crm.core.domain.enums.OpportunityStage;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface IOpportunityPort {
 
@@ -50,4 +51,9 @@ public interface IOpportunityPort {
     Pair<List<OpportunityEntity>, Long> filter(OpportunityFilterRequest filter, PageRequest pageRequest, Long tenantId);
 
     boolean existsByCustomerIdAndName(Long customerId, String name, Long tenantId);
+
+    Stream<OpportunityEntity> streamFilter(OpportunityFilterRequest filter, Long tenantId, Long afterId,
+            int fetchSize);
+
+    List<OpportunityEntity> saveAll(List<OpportunityEntity> opportunities);
 }
@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface IPipelineStatPort {
+
+    /**
+     * Atomically adds the deltas to the (tenant, stage, assignee, month) bucket, creating it on first use.
+     */
+    void increment(Long tenantId, OpportunityStage stage, Long assignedTo, String periodMonth,
+            long countDelta, BigDecimal valueDelta);
+
+    /**
+     * Returns one row per stage summed over the matching buckets; {@code null} filters are ignored.
+     */
+    List<PipelineStatEntity> sumByStage(Long tenantId, Long assignedTo, String fromMonth, String toMonth);
+
+    /**
+     * Replaces every bucket of the tenant with values recomputed from the opportunities table.
+     */
+    int rebuildForTenant(Long tenantId);
+}
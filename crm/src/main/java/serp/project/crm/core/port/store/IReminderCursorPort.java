@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.entity.ReminderCursorEntity;
+import serp.project.crm.core.domain.enums.ReminderKind;
+
+import java.util.Optional;
+
+public interface IReminderCursorPort {
+
+    /**
+     * Claims the tenant's cursor until {@code claimedUntil}, creating it at {@code initialDueDate} on first
+     * use. The claim outlives the current transaction, so the caller can publish without holding a row lock.
+     * Returns empty when another node holds a claim that has not expired by {@code now}.
+     */
+    Optional<ReminderCursorEntity> claimCursor(Long tenantId, ReminderKind kind, Long initialDueDate, long now,
+            long claimedUntil);
+
+    /**
+     * Stores the cursor position and drops the claim. Returns false when the claim expired and another node
+     * has taken the cursor over, in which case nothing is written.
+     */
+    boolean release(ReminderCursorEntity cursor);
+}
@@ -0,0 +1,30 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.entity.StageMetricEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+
+import java.util.List;
+
+public interface IStageHistoryPort {
+
+    void appendAll(List<StageTransitionEntity> transitions);
+
+    List<StageTransitionEntity> findByOpportunityId(Long opportunityId, Long tenantId);
+
+    /**
+     * Atomically adds the deltas to the (tenant, from, to, month) bucket; a {@code null} fromStage is a pipeline entry.
+     */
+    void increment(Long tenantId, OpportunityStage fromStage, OpportunityStage toStage, String periodMonth,
+            long countDelta, long timeInStageDelta);
+
+    /**
+     * Returns one row per (from, to) pair summed over the matching months; {@code null} bounds are ignored.
+     */
+    List<StageMetricEntity> sumByTransition(Long tenantId, String fromMonth, String toMonth);
+}
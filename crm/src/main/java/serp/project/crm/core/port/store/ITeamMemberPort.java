@@ -39,5 +39,10 @@ public interface ITeamMemberPort {
 
     List<TeamMemberEntity> findAllByTeamId(Long teamId, Long tenantId);
 
+    /**
+     * Every member of the tenant that has not been archived.
+     */
+    List<TeamMemberEntity> findAllActive(Long tenantId);
+
     void deleteAllByTeamId(Long teamId, Long tenantId);
 }
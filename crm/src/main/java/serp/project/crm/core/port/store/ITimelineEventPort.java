@@ -0,0 +1,27 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.port.store;
+
+import serp.project.crm.core.domain.entity.TimelineEventEntity;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+
+import java.util.List;
+
+public interface ITimelineEventPort {
+
+    void appendAll(List<TimelineEventEntity> events);
+
+    /**
+     * Newest-first events of one stream strictly before (beforeOccurredAt, beforeId).
+     */
+    List<TimelineEventEntity> findPageBefore(TimelineEntityType entityType, Long entityId, Long tenantId,
+            Long beforeOccurredAt, Long beforeId, int limit);
+
+    /**
+     * Materializes activities and conversions recorded before the timeline existed. Safe to re-run.
+     */
+    int backfill(Long tenantId);
+}
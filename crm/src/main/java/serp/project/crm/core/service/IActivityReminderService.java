@@ -0,0 +1,15 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+public interface IActivityReminderService {
+
+    /**
+     * Scans every tenant of this node's shard once and publishes due-soon and overdue reminders that
+     * have not been reported before. Returns the number of activities reported.
+     */
+    int runReminderCycle();
+}
@@ -7,6 +7,7 @@ package serp.project.crm.core.service;
 
 import org.springframework.data.util.Pair;
 import serp.project.crm.core.domain.dto.PageRequest;
+import serp.project.crm.core.domain.entity.ActivityCreationEntity;
 import serp.project.crm.core.domain.entity.ActivityEntity;
 import serp.project.crm.core.domain.enums.ActivityStatus;
 import serp.project.crm.core.domain.enums.ActivityType;
@@ -18,6 +19,13 @@ import java.util.Optional;
 public interface IActivityService {
 
     ActivityEntity createActivity(ActivityEntity activity, Long userId, Long tenantId);
+
+    /**
+     * Validates the whole batch with one existence query and inserts the valid activities with JDBC
+     * batching. Invalid activities are reported by index and do not block the others.
+     */
+    List<ActivityCreationEntity> createActivities(List<ActivityEntity> activities, Long userId, Long tenantId);
+
     ActivityEntity updateActivity(Long id, ActivityEntity updates, Long tenantId);
 
     Optional<ActivityEntity> getActivityById(Long id, Long tenantId);
@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.ActivityEntity;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IActivityValidationService {
+
+    /**
+     * Checks the field rules, then the linked lead, opportunity, customer, contact and assignee with a single
+     * existence query. Throws on the first violation.
+     */
+    void validate(ActivityEntity activity, Long tenantId);
+
+    void validateReferences(ActivityEntity activity, Long tenantId);
+
+    /**
+     * Validates a batch with one existence query for all referenced ids. Returns the error message of each
+     * invalid activity keyed by its position in the list; valid activities are absent from the map.
+     */
+    Map<Integer, String> validateAll(List<ActivityEntity> activities, Long tenantId);
+}
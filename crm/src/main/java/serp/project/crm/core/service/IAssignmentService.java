@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.AutoAssignResultEntity;
+import serp.project.crm.core.domain.enums.AssignmentStrategy;
+
+import java.util.Map;
+
+public interface IAssignmentService {
+
+    AutoAssignResultEntity autoAssignLeads(Long tenantId, AssignmentStrategy strategy, Integer limit,
+            Long assignedBy);
+
+    /**
+     * Moves one unit of open work between members; either side may be {@code null}.
+     */
+    void onWorkloadMoved(Long tenantId, Long fromMember, Long toMember);
+
+    void onWorkloadChanged(Long tenantId, Map<Long, Long> deltas);
+
+    void invalidate(Long tenantId);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.util.Pair;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
 
 import java.math.BigDecimal;
@@ -22,12 +23,17 @@ public interface ICustomerService {
     void deactivateCustomer(Long id, Long tenantId);
     void deleteCustomer(Long id, Long tenantId);
     void updateCustomerRevenue(Long customerId, Long tenantId, BigDecimal revenue, boolean isWon);
+    int reconcileRevenueRollups(Long tenantId);
+    int reconcileAllRevenueRollups();
 
     Optional<CustomerEntity> getCustomerById(Long id, Long tenantId);
     Optional<CustomerEntity> getCustomerByEmail(String email, Long tenantId);
     Pair<List<CustomerEntity>, Long> getAllCustomers(Long tenantId, PageRequest pageRequest);
     Pair<List<CustomerEntity>, Long> searchCustomers(String keyword, Long tenantId, PageRequest pageRequest);
     List<CustomerEntity> getChildCustomers(Long parentId, Long tenantId);
+    List<CustomerEntity> getCustomerTree(Long id, Long tenantId);
+    CustomerRollupEntity getCustomerRollup(Long id, Long tenantId);
+    int rebuildHierarchy(Long tenantId);
     Pair<List<CustomerEntity>, Long> getCustomersByStatus(ActiveStatus status, Long tenantId, PageRequest pageRequest);
     List<CustomerEntity> getTopCustomersByRevenue(Long tenantId, int limit);
     Pair<List<CustomerEntity>, Long> getCustomersByIndustry(String industry, Long tenantId, PageRequest pageRequest);
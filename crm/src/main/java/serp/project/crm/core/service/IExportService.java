@@ -0,0 +1,28 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
+import serp.project.crm.core.domain.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IExportService {
+
+    long exportLeads(LeadFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            OutputStream out) throws IOException;
+
+    long exportCustomers(CustomerFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            OutputStream out) throws IOException;
+
+    long exportOpportunities(OpportunityFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            OutputStream out) throws IOException;
+
+    long exportActivities(Long tenantId, Long afterId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,21 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.dto.request.ConvertLeadRequest;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
+
+import java.util.List;
+
+public interface ILeadConversionService {
+
+    /**
+     * Converts the leads in one transaction: everything is validated up front with batched reads, then
+     * customers, contacts, opportunities and lead updates are written together. Requests that fail
+     * validation are reported individually and do not block the others. Results follow request order.
+     */
+    List<LeadConversionEntity> convertLeads(List<ConvertLeadRequest> requests, Long tenantId, Long userId);
+}
@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+
+import java.util.List;
+
+public interface ILeadEngagementService {
+
+    LeadEngagementEntity getEngagement(Long leadId, Long tenantId);
+
+    void onActivityCreated(ActivityEntity activity);
+
+    void onActivitiesCreated(List<ActivityEntity> activities);
+
+    void onActivityUpdated(ActivityEntity before, ActivityEntity after);
+
+    void onActivityDeleted(ActivityEntity activity);
+
+    void deleteEngagement(Long leadId, Long tenantId);
+}
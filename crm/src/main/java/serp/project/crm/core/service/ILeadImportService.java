@@ -0,0 +1,21 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.LeadImportJobEntity;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface ILeadImportService {
+
+    /**
+     * Starts an asynchronous import of {@code file}, which is deleted once the job finishes.
+     */
+    LeadImportJobEntity startImport(Path file, String fileName, boolean csv, Long tenantId, Long userId);
+
+    Optional<LeadImportJobEntity> getJob(String jobId, Long tenantId);
+}
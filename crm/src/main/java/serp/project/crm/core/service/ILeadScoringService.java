@@ -5,8 +5,13 @@
 
 package serp.project.crm.core.service;
 
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
 import serp.project.crm.core.domain.entity.LeadEntity;
 
 public interface ILeadScoringService {
     Integer calculateSmartScore(LeadEntity lead);
+
+    Integer calculateSmartScore(LeadEntity lead, LeadEngagementEntity engagement);
+
+    int rescoreTenant(Long tenantId, boolean rebuildAggregates);
 }
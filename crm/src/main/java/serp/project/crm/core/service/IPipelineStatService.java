@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+
+import java.util.List;
+
+public interface IPipelineStatService {
+
+    void onOpportunityCreated(OpportunityEntity opportunity);
+
+    void onOpportunitiesCreated(List<OpportunityEntity> opportunities);
+
+    void onOpportunityChanged(OpportunityEntity before, OpportunityEntity after);
+
+    void onOpportunityDeleted(OpportunityEntity opportunity);
+
+    List<PipelineStatEntity> getStageTotals(Long tenantId, Long assignedTo, String fromMonth, String toMonth);
+
+    int rebuildStats(Long tenantId);
+}
@@ -0,0 +1,23 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.StageFunnelEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
+
+import java.util.List;
+
+public interface IStageHistoryService {
+
+    void onOpportunitiesCreated(List<OpportunityEntity> opportunities);
+
+    void onStageChanged(OpportunityEntity before, OpportunityEntity after);
+
+    List<StageTransitionEntity> getHistory(Long opportunityId, Long tenantId);
+
+    List<StageFunnelEntity> getFunnel(Long tenantId, String fromMonth, String toMonth);
+}
@@ -0,0 +1,39 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service;
+
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.TimelinePageEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.domain.enums.TimelineEventType;
+
+import java.util.List;
+
+public interface ITimelineService {
+
+    void onActivitiesLogged(List<ActivityEntity> activities);
+
+    void onActivityChanged(ActivityEntity activity, TimelineEventType eventType);
+
+    /**
+     * Records the transition when {@code previousStage} differs from the opportunity's current stage.
+     */
+    void onStageChanged(OpportunityEntity opportunity, OpportunityStage previousStage);
+
+    void onLeadsConverted(List<LeadConversionEntity> conversions, Long tenantId, Long userId);
+
+    /**
+     * Newest-first page of the entity's timeline. {@code cursor} is the {@code nextCursor} of the previous
+     * page, or null for the first page.
+     */
+    TimelinePageEntity getTimeline(TimelineEntityType entityType, Long entityId, Long tenantId, String cursor,
+            int size);
+
+    int backfill(Long tenantId);
+}
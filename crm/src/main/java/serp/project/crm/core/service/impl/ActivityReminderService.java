@@ -0,0 +1,173 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import serp.project.crm.core.domain.constant.Constants;
+import serp.project.crm.core.domain.dto.event.ActivityReminderEventData;
+import serp.project.crm.core.domain.dto.message.CrmKafkaMessage;
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.ReminderCursorEntity;
+import serp.project.crm.core.domain.enums.ReminderKind;
+import serp.project.crm.core.port.client.IKafkaPublisher;
+import serp.project.crm.core.port.store.IActivityPort;
+import serp.project.crm.core.port.store.IReminderCursorPort;
+import serp.project.crm.core.service.IActivityReminderService;
+import serp.project.crm.kernel.property.ActivityReminderProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityReminderService implements IActivityReminderService {
+
+    private final IActivityPort activityPort;
+    private final IReminderCursorPort reminderCursorPort;
+    private final IKafkaPublisher kafkaPublisher;
+    private final ActivityReminderProperties reminderProperties;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public int runReminderCycle() {
+        long now = System.currentTimeMillis();
+        List<Long> tenantIds = activityPort.findTenantIdsWithOpenActivities(
+                reminderProperties.getShardCount(), reminderProperties.getShardIndex());
+        if (tenantIds.isEmpty()) {
+            return 0;
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, reminderProperties.getParallelism()));
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(tenantIds.size());
+        for (Long tenantId : tenantIds) {
+            permits.acquireUninterruptibly();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return scanTenant(tenantId, ReminderKind.OVERDUE, now)
+                            + scanTenant(tenantId, ReminderKind.DUE_SOON, now);
+                } catch (Exception e) {
+                    log.error("Reminder scan failed for tenant {}: {}", tenantId, e.getMessage(), e);
+                    return 0;
+                } finally {
+                    permits.release();
+                }
+            }, taskExecutor));
+        }
+
+        int reported = futures.stream().mapToInt(CompletableFuture::join).sum();
+        if (reported > 0) {
+            log.info("Reminder cycle reported {} activities across {} tenants", reported, tenantIds.size());
+        }
+        return reported;
+    }
+
+    /**
+     * Scans one page at a time: a short transaction claims the cursor and reads the page, the page is published
+     * with no transaction open, and a second short transaction advances the cursor and drops the claim. A slow
+     * broker therefore never holds a row lock or a pooled connection.
+     */
+    private int scanTenant(Long tenantId, ReminderKind kind, long now) {
+        long until = kind == ReminderKind.DUE_SOON
+                ? now + TimeUnit.MINUTES.toMillis(reminderProperties.getLookaheadMinutes())
+                : now;
+        int batchSize = Math.max(1, reminderProperties.getBatchSize());
+        int count = 0;
+        while (true) {
+            ReminderBatch batch = transactionTemplate.execute(status -> claimBatch(tenantId, kind, now, until,
+                    batchSize));
+            if (batch == null) {
+                // Another node is scanning this tenant
+                return count;
+            }
+
+            List<ActivityEntity> page = batch.activities();
+            // Keep the cursor before a failed page so the next cycle sends it again
+            boolean sent = !page.isEmpty() && publishReminders(tenantId, kind, page);
+            if (sent) {
+                batch.cursor().advanceTo(page.get(page.size() - 1));
+            }
+            Boolean released = transactionTemplate.execute(status -> reminderCursorPort.release(batch.cursor()));
+            if (!Boolean.TRUE.equals(released)) {
+                log.warn("{} reminder claim for tenant {} expired before the cursor was stored", kind, tenantId);
+                return count;
+            }
+            if (!sent) {
+                return count;
+            }
+            count += page.size();
+            if (page.size() < batchSize) {
+                return count;
+            }
+        }
+    }
+
+    private ReminderBatch claimBatch(Long tenantId, ReminderKind kind, long now, long until, int batchSize) {
+        long claimedAt = System.currentTimeMillis();
+        long claimedUntil = claimedAt + TimeUnit.SECONDS.toMillis(reminderProperties.getClaimTimeoutSeconds());
+        ReminderCursorEntity cursor = reminderCursorPort.claimCursor(tenantId, kind, now, claimedAt, claimedUntil)
+                .orElse(null);
+        if (cursor == null) {
+            return null;
+        }
+        List<ActivityEntity> page = activityPort.findOpenDueAfter(tenantId, cursor.getLastDueDate(),
+                cursor.getLastActivityId(), until, batchSize);
+        return new ReminderBatch(cursor, page);
+    }
+
+    private boolean publishReminders(Long tenantId, ReminderKind kind, List<ActivityEntity> activities) {
+        List<ActivityReminderEventData> reminders = activities.stream()
+                .map(activity -> toEventData(activity, kind))
+                .toList();
+        CrmKafkaMessage message = CrmKafkaMessage.success(kind.getCommand(), null, "ACTIVITY", reminders);
+        message.setTenantId(tenantId);
+        CompletableFuture<Boolean> acknowledged = new CompletableFuture<>();
+        kafkaPublisher.sendMessageAsync(String.valueOf(tenantId), message, Constants.KafkaTopic.ACTIVITY_REMINDER,
+                (success, topic, payload, ex) -> acknowledged.complete(success));
+        try {
+            if (acknowledged.get(reminderProperties.getSendTimeoutSeconds(), TimeUnit.SECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Reminder send for tenant {} was not acknowledged: {}", tenantId, e.getMessage());
+        }
+        log.warn("Stopping {} reminder scan for tenant {} at a failed send; it resumes next cycle", kind, tenantId);
+        return false;
+    }
+
+    private ActivityReminderEventData toEventData(ActivityEntity activity, ReminderKind kind) {
+        return ActivityReminderEventData.builder()
+                .activityId(activity.getId())
+                .tenantId(activity.getTenantId())
+                .reminderKind(kind.name())
+                .activityType(activity.getActivityType() != null ? activity.getActivityType().name() : null)
+                .subject(activity.getSubject())
+                .status(activity.getStatus() != null ? activity.getStatus().name() : null)
+                .priority(activity.getPriority() != null ? activity.getPriority().name() : null)
+                .assignedTo(activity.getAssignedTo())
+                .leadId(activity.getLeadId())
+                .customerId(activity.getCustomerId())
+                .opportunityId(activity.getOpportunityId())
+                .dueDate(activity.getDueDate())
+                .reminderDate(activity.getReminderDate())
+                .build();
+    }
+
+    private record ReminderBatch(ReminderCursorEntity cursor, List<ActivityEntity> activities) {
+    }
+}
@@ -10,24 +10,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 import serp.project.crm.core.domain.constant.Constants;
 import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
+import serp.project.crm.core.domain.entity.ActivityCreationEntity;
 import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.TeamMemberEntity;
 import serp.project.crm.core.domain.enums.ActivityStatus;
 import serp.project.crm.core.domain.enums.ActivityType;
+import serp.project.crm.core.domain.enums.TimelineEventType;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.port.store.IActivityPort;
-import serp.project.crm.core.port.store.IContactPort;
-import serp.project.crm.core.port.store.ICustomerPort;
-import serp.project.crm.core.port.store.ILeadPort;
-import serp.project.crm.core.port.store.IOpportunityPort;
 import serp.project.crm.core.port.store.ITeamMemberPort;
 import serp.project.crm.core.service.IActivityService;
+import serp.project.crm.core.service.IActivityValidationService;
+import serp.project.crm.core.service.ILeadEngagementService;
+import serp.project.crm.core.service.ITimelineService;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -39,12 +42,11 @@ public class ActivityService implements IActivityService {
     private static final int DEFAULT_CALL_DURATION_MINUTES = 15;
 
     private final IActivityPort activityPort;
-    private final ILeadPort leadPort;
-    private final IOpportunityPort opportunityPort;
-    private final ICustomerPort customerPort;
     private final ITeamMemberPort teamMemberPort;
 
-    private final IContactPort contactPort;
+    private final IActivityValidationService activityValidationService;
+    private final ILeadEngagementService leadEngagementService;
+    private final ITimelineService timelineService;
 
     @Override
     @Transactional
@@ -53,26 +55,69 @@ public class ActivityService implements IActivityService {
         activity.setDefaults();
         applyTypeDefaults(activity);
         applyAssignDefault(activity, userId);
-        validateBusinessRules(activity, tenantId);
+        activityValidationService.validate(activity, tenantId);
 
         ActivityEntity saved = activityPort.save(activity);
+        leadEngagementService.onActivityCreated(saved);
+        timelineService.onActivitiesLogged(List.of(saved));
 
         publishActivityCreatedEvent(saved);
 
         return saved;
     }
 
+    @Override
+    @Transactional
+    public List<ActivityCreationEntity> createActivities(List<ActivityEntity> activities, Long userId,
+            Long tenantId) {
+        Long defaultAssignee = activities.stream().anyMatch(activity -> activity.getAssignedTo() == null)
+                ? teamMemberPort.findByUserId(userId, tenantId).map(TeamMemberEntity::getId).orElse(null)
+                : null;
+        for (ActivityEntity activity : activities) {
+            activity.setTenantId(tenantId);
+            activity.setDefaults();
+            applyTypeDefaults(activity);
+            if (activity.getAssignedTo() == null) {
+                activity.setAssignedTo(defaultAssignee);
+            }
+        }
+
+        Map<Integer, String> errors = activityValidationService.validateAll(activities, tenantId);
+        List<ActivityEntity> valid = new ArrayList<>();
+        for (int i = 0; i < activities.size(); i++) {
+            if (!errors.containsKey(i)) {
+                valid.add(activities.get(i));
+            }
+        }
+
+        List<ActivityEntity> saved = activityPort.insertBatch(valid, tenantId, userId);
+        leadEngagementService.onActivitiesCreated(saved);
+        timelineService.onActivitiesLogged(saved);
+        log.debug("Event: {} activities created - Topic: {}", saved.size(), Constants.KafkaTopic.ACTIVITY);
+
+        List<ActivityCreationEntity> results = new ArrayList<>(activities.size());
+        int next = 0;
+        for (int i = 0; i < activities.size(); i++) {
+            results.add(errors.containsKey(i)
+                    ? ActivityCreationEntity.failed(i, errors.get(i))
+                    : ActivityCreationEntity.builder().index(i).activityId(saved.get(next++).getId()).build());
+        }
+        return results;
+    }
+
     @Override
     @Transactional
     public ActivityEntity updateActivity(Long id, ActivityEntity updates, Long tenantId) {
         ActivityEntity existing = activityPort.findById(id, tenantId)
                 .orElseThrow(() -> new AppException(ErrorMessage.ACTIVITY_NOT_FOUND));
+        ActivityEntity before = engagementSnapshot(existing);
 
         existing.updateFrom(updates);
         applyTypeDefaults(existing);
-        validateBusinessRules(existing, tenantId);
+        activityValidationService.validate(existing, tenantId);
 
         ActivityEntity updated = activityPort.save(existing);
+        leadEngagementService.onActivityUpdated(before, updated);
 
         publishActivityUpdatedEvent(updated);
 
@@ -182,9 +227,12 @@ public class ActivityService implements IActivityService {
             throw new AppException(ErrorMessage.ACTIVITY_ALREADY_CANCELLED);
         }
 
+        ActivityEntity before = engagementSnapshot(activity);
         activity.markAsCompleted(tenantId);
 
         ActivityEntity completed = activityPort.save(activity);
+        leadEngagementService.onActivityUpdated(before, completed);
+        timelineService.onActivityChanged(completed, TimelineEventType.ACTIVITY_COMPLETED);
 
         publishActivityCompletedEvent(completed);
 
@@ -208,6 +256,7 @@ public class ActivityService implements IActivityService {
         activity.markAsCancelled(tenantId);
 
         ActivityEntity cancelled = activityPort.save(activity);
+        timelineService.onActivityChanged(cancelled, TimelineEventType.ACTIVITY_CANCELLED);
 
         publishActivityCancelledEvent(cancelled);
 
@@ -221,6 +270,8 @@ public class ActivityService implements IActivityService {
                 .orElseThrow(() -> new AppException(ErrorMessage.ACTIVITY_NOT_FOUND));
 
         activityPort.deleteById(id, tenantId);
+        leadEngagementService.onActivityDeleted(activity);
+        timelineService.onActivityChanged(activity, TimelineEventType.ACTIVITY_DELETED);
 
         publishActivityDeletedEvent(activity);
 
@@ -229,21 +280,19 @@ public class ActivityService implements IActivityService {
     @Override
     @Transactional(readOnly = true)
     public void validateRelations(ActivityEntity activity, Long tenantId) {
-        if (activity.getLeadId() != null && leadPort.findById(activity.getLeadId(), tenantId).isEmpty()) {
-            throw new AppException(ErrorMessage.LEAD_NOT_FOUND);
-        }
-        if (activity.getOpportunityId() != null
-                && opportunityPort.findById(activity.getOpportunityId(), tenantId).isEmpty()) {
-            throw new AppException(ErrorMessage.OPPORTUNITY_NOT_FOUND);
-        }
-        if (activity.getCustomerId() != null
-                && customerPort.findById(activity.getCustomerId(), tenantId).isEmpty()) {
-            throw new AppException(ErrorMessage.CUSTOMER_NOT_FOUND);
-        }
-        if (activity.getContactId() != null
-                && contactPort.findById(activity.getContactId(), tenantId).isEmpty()) {
-            throw new AppException(ErrorMessage.CONTACT_NOT_FOUND);
-        }
+        activityValidationService.validateReferences(activity, tenantId);
+    }
+
+    private ActivityEntity engagementSnapshot(ActivityEntity activity) {
+        return ActivityEntity.builder()
+                .id(activity.getId())
+                .tenantId(activity.getTenantId())
+                .leadId(activity.getLeadId())
+                .activityType(activity.getActivityType())
+                .status(activity.getStatus())
+                .activityDate(activity.getActivityDate())
+                .updatedAt(activity.getUpdatedAt())
+                .build();
     }
 
     private void applyTypeDefaults(ActivityEntity activity) {
@@ -264,46 +313,6 @@ public class ActivityService implements IActivityService {
         }
     }
 
-    private void validateBusinessRules(ActivityEntity activity, Long tenantId) {
-        if (activity.getActivityType() == null) {
-            throw new AppException(ErrorMessage.ACTIVITY_TYPE_REQUIRED);
-        }
-
-        if (!StringUtils.hasText(activity.getSubject())) {
-            throw new AppException(ErrorMessage.ACTIVITY_SUBJECT_REQUIRED);
-        }
-
-        if (!activity.hasAnyLink()) {
-            throw new AppException(ErrorMessage.ACTIVITY_MISSING_ENTITY_REFERENCE);
-        }
-
-        if (!activity.isProgressValid()) {
-            throw new AppException(ErrorMessage.ACTIVITY_PROGRESS_INVALID);
-        }
-
-        if (!activity.isDurationValid()) {
-            throw new AppException(ErrorMessage.ACTIVITY_DURATION_INVALID);
-        }
-
-        if (activity.isTask() && activity.getDueDate() == null) {
-            throw new AppException(ErrorMessage.ACTIVITY_DUE_DATE_REQUIRED_FOR_TASK);
-        }
-
-        long now = System.currentTimeMillis();
-        if (activity.getDueDate() != null && activity.getDueDate() < now) {
-            throw new AppException(ErrorMessage.ACTIVITY_DUE_DATE_PAST);
-        }
-
-        if (activity.isMeeting()
-                || activity.isCall()
-                && activity.getActivityDate() != null && activity.getActivityDate() < now) {
-            log.warn("Activity date is in the past for {} activity {}", activity.getActivityType(), activity.getId());
-        }
-
-        validateRelations(activity, tenantId);
-    }
-
-
     private void publishActivityCreatedEvent(ActivityEntity activity) {
         log.debug("Event: Activity created - ID: {}, Topic: {}", activity.getId(), Constants.KafkaTopic.ACTIVITY);
     }
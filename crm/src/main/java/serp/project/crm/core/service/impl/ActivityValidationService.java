@@ -0,0 +1,157 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.enums.EntityReferenceType;
+import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.IEntityReferencePort;
+import serp.project.crm.core.service.IActivityValidationService;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityValidationService implements IActivityValidationService {
+
+    private final IEntityReferencePort entityReferencePort;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validate(ActivityEntity activity, Long tenantId) {
+        String error = fieldError(activity, System.currentTimeMillis());
+        if (error != null) {
+            throw new AppException(error);
+        }
+        validateReferences(activity, tenantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateReferences(ActivityEntity activity, Long tenantId) {
+        var existing = entityReferencePort.findExisting(collectReferences(List.of(activity)), tenantId);
+        String error = referenceError(activity, existing);
+        if (error != null) {
+            throw new AppException(error);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, String> validateAll(List<ActivityEntity> activities, Long tenantId) {
+        Map<Integer, String> errors = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < activities.size(); i++) {
+            String error = fieldError(activities.get(i), now);
+            if (error != null) {
+                errors.put(i, error);
+            }
+        }
+
+        var existing = entityReferencePort.findExisting(collectReferences(activities), tenantId);
+        for (int i = 0; i < activities.size(); i++) {
+            if (errors.containsKey(i)) {
+                continue;
+            }
+            String error = referenceError(activities.get(i), existing);
+            if (error != null) {
+                errors.put(i, error);
+            }
+        }
+        return errors;
+    }
+
+    private String fieldError(ActivityEntity activity, long now) {
+        if (activity.getActivityType() == null) {
+            return ErrorMessage.ACTIVITY_TYPE_REQUIRED;
+        }
+        if (!StringUtils.hasText(activity.getSubject())) {
+            return ErrorMessage.ACTIVITY_SUBJECT_REQUIRED;
+        }
+        if (!activity.hasAnyLink()) {
+            return ErrorMessage.ACTIVITY_MISSING_ENTITY_REFERENCE;
+        }
+        // No explicit assignee and the creating user is not a team member to default to
+        if (activity.getAssignedTo() == null) {
+            return ErrorMessage.ACTIVITY_ASSIGNEE_REQUIRED;
+        }
+        if (!activity.isProgressValid()) {
+            return ErrorMessage.ACTIVITY_PROGRESS_INVALID;
+        }
+        if (!activity.isDurationValid()) {
+            return ErrorMessage.ACTIVITY_DURATION_INVALID;
+        }
+        if (activity.isTask() && activity.getDueDate() == null) {
+            return ErrorMessage.ACTIVITY_DUE_DATE_REQUIRED_FOR_TASK;
+        }
+        if (activity.getDueDate() != null && activity.getDueDate() < now) {
+            return ErrorMessage.ACTIVITY_DUE_DATE_PAST;
+        }
+
+        if (activity.isMeeting()
+                || activity.isCall()
+                && activity.getActivityDate() != null && activity.getActivityDate() < now) {
+            log.warn("Activity date is in the past for {} activity {}", activity.getActivityType(), activity.getId());
+        }
+        return null;
+    }
+
+    private Map<EntityReferenceType, Set<Long>> collectReferences(List<ActivityEntity> activities) {
+        Map<EntityReferenceType, Set<Long>> ids = new EnumMap<>(EntityReferenceType.class);
+        for (EntityReferenceType type : EntityReferenceType.values()) {
+            ids.put(type, new HashSet<>());
+        }
+        for (ActivityEntity activity : activities) {
+            addIfPresent(ids, EntityReferenceType.LEAD, activity.getLeadId());
+            addIfPresent(ids, EntityReferenceType.OPPORTUNITY, activity.getOpportunityId());
+            addIfPresent(ids, EntityReferenceType.CUSTOMER, activity.getCustomerId());
+            addIfPresent(ids, EntityReferenceType.CONTACT, activity.getContactId());
+            addIfPresent(ids, EntityReferenceType.TEAM_MEMBER, activity.getAssignedTo());
+        }
+        return ids;
+    }
+
+    private void addIfPresent(Map<EntityReferenceType, Set<Long>> ids, EntityReferenceType type, Long id) {
+        if (id != null) {
+            ids.get(type).add(id);
+        }
+    }
+
+    private String referenceError(ActivityEntity activity, Map<EntityReferenceType, Set<Long>> existing) {
+        if (isMissing(existing, EntityReferenceType.LEAD, activity.getLeadId())) {
+            return EntityReferenceType.LEAD.getNotFoundMessage();
+        }
+        if (isMissing(existing, EntityReferenceType.OPPORTUNITY, activity.getOpportunityId())) {
+            return EntityReferenceType.OPPORTUNITY.getNotFoundMessage();
+        }
+        if (isMissing(existing, EntityReferenceType.CUSTOMER, activity.getCustomerId())) {
+            return EntityReferenceType.CUSTOMER.getNotFoundMessage();
+        }
+        if (isMissing(existing, EntityReferenceType.CONTACT, activity.getContactId())) {
+            return EntityReferenceType.CONTACT.getNotFoundMessage();
+        }
+        if (isMissing(existing, EntityReferenceType.TEAM_MEMBER, activity.getAssignedTo())) {
+            return EntityReferenceType.TEAM_MEMBER.getNotFoundMessage();
+        }
+        return null;
+    }
+
+    private boolean isMissing(Map<EntityReferenceType, Set<Long>> existing, EntityReferenceType type, Long id) {
+        return id != null && !existing.get(type).contains(id);
+    }
+}
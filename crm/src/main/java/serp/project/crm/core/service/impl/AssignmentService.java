@@ -0,0 +1,266 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+import serp.project.crm.core.domain.entity.AutoAssignResultEntity;
+import serp.project.crm.core.domain.entity.TeamMemberEntity;
+import serp.project.crm.core.domain.enums.AssignmentStrategy;
+import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.IAssignmentPort;
+import serp.project.crm.core.port.store.ITeamMemberPort;
+import serp.project.crm.core.service.IAssignmentService;
+import serp.project.crm.kernel.property.AssignmentProperties;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes new work to team members from per-tenant in-memory workload counters.
+ * <p>
+ * Counters are seeded with one grouped query and then kept current by the lead and opportunity write paths,
+ * applied after commit. Each pool keeps its members in ordered sets so every strategy selects in O(log n).
+ * Pools are reloaded after {@code app.assignment.refresh-interval-ms}, which also absorbs writes made by
+ * other instances.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssignmentService implements IAssignmentService {
+
+    private final IAssignmentPort assignmentPort;
+    private final ITeamMemberPort teamMemberPort;
+    private final AssignmentProperties assignmentProperties;
+
+    private final Map<Long, TenantPool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public AutoAssignResultEntity autoAssignLeads(Long tenantId, AssignmentStrategy strategy, Integer limit,
+            Long assignedBy) {
+        int batchSize = Math.clamp(limit != null ? limit : assignmentProperties.getMaxBatchSize(), 1,
+                assignmentProperties.getMaxBatchSize());
+        List<Long> leadIds = assignmentPort.findUnassignedLeadIds(tenantId, batchSize);
+        if (leadIds.isEmpty()) {
+            return AutoAssignResultEntity.builder()
+                    .strategy(strategy)
+                    .assignedByMember(Map.of())
+                    .workload(poolFor(tenantId).snapshot())
+                    .build();
+        }
+
+        TenantPool pool = poolFor(tenantId);
+        Map<Long, Long> assigneeByLeadId = new LinkedHashMap<>();
+        for (Long leadId : leadIds) {
+            Long memberId = pool.next(strategy);
+            if (memberId == null) {
+                throw new AppException(ErrorMessage.ASSIGNMENT_NO_ELIGIBLE_MEMBERS);
+            }
+            assigneeByLeadId.put(leadId, memberId);
+        }
+
+        List<Long> assigned = assignmentPort.assignLeads(assigneeByLeadId, assignedBy, tenantId);
+
+        // Leads assigned concurrently were skipped by the update; give their reservations back
+        Map<Long, Long> reserved = new HashMap<>();
+        Map<Long, Integer> assignedByMember = new LinkedHashMap<>();
+        for (Long leadId : assigned) {
+            Long memberId = assigneeByLeadId.remove(leadId);
+            reserved.merge(memberId, 1L, Long::sum);
+            assignedByMember.merge(memberId, 1, Integer::sum);
+        }
+        assigneeByLeadId.values().forEach(memberId -> pool.adjust(memberId, -1));
+        releaseOnRollback(tenantId, reserved);
+
+        log.info("Auto-assigned {} of {} leads for tenant {} using {}", assigned.size(), leadIds.size(), tenantId,
+                strategy);
+        return AutoAssignResultEntity.builder()
+                .strategy(strategy)
+                .candidateCount(leadIds.size())
+                .assignedCount(assigned.size())
+                .assignedByMember(assignedByMember)
+                .workload(pool.snapshot())
+                .build();
+    }
+
+    @Override
+    public void onWorkloadMoved(Long tenantId, Long fromMember, Long toMember) {
+        if (Objects.equals(fromMember, toMember)) {
+            return;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        if (fromMember != null) {
+            deltas.put(fromMember, -1L);
+        }
+        if (toMember != null) {
+            deltas.put(toMember, 1L);
+        }
+        onWorkloadChanged(tenantId, deltas);
+    }
+
+    @Override
+    public void onWorkloadChanged(Long tenantId, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> {
+            // A pool that is not loaded yet will read the committed rows when it is
+            TenantPool pool = pools.get(tenantId);
+            if (pool != null) {
+                deltas.forEach(pool::adjust);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long tenantId) {
+        runAfterCommit(() -> pools.remove(tenantId));
+    }
+
+    private TenantPool poolFor(Long tenantId) {
+        long now = System.currentTimeMillis();
+        TenantPool pool = pools.get(tenantId);
+        if (pool != null && now - pool.loadedAt < assignmentProperties.getRefreshIntervalMs()) {
+            return pool;
+        }
+        return pools.compute(tenantId, (id, current) -> {
+            if (current != null && now - current.loadedAt < assignmentProperties.getRefreshIntervalMs()) {
+                return current;
+            }
+            return load(id);
+        });
+    }
+
+    private TenantPool load(Long tenantId) {
+        List<TeamMemberEntity> members = teamMemberPort.findAllActive(tenantId);
+        Map<Long, Long> workload = assignmentPort.countOpenWorkload(tenantId);
+        TenantPool pool = new TenantPool(System.currentTimeMillis());
+        for (TeamMemberEntity member : members) {
+            pool.add(member.getId(), member.assignmentWeightOrDefault(), workload.getOrDefault(member.getId(), 0L));
+        }
+        log.debug("Loaded assignment pool for tenant {} with {} members", tenantId, members.size());
+        return pool;
+    }
+
+    private void releaseOnRollback(Long tenantId, Map<Long, Long> reserved) {
+        if (reserved.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TenantPool pool = pools.get(tenantId);
+                if (status == STATUS_ROLLED_BACK && pool != null) {
+                    reserved.forEach((memberId, count) -> pool.adjust(memberId, -count));
+                }
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Slot {
+        private final Long memberId;
+        private final int weight;
+        private long openCount;
+
+        private Slot(Long memberId, int weight, long openCount) {
+            this.memberId = memberId;
+            this.weight = weight;
+            this.openCount = openCount;
+        }
+    }
+
+    private static final class TenantPool {
+        private static final Comparator<Slot> LEAST_LOADED = Comparator.<Slot>comparingLong(slot -> slot.openCount)
+                .thenComparing(slot -> slot.memberId);
+
+        // Lowest load-after-one-more per unit of weight, compared without division
+        private static final Comparator<Slot> WEIGHTED = ((Comparator<Slot>) (a, b) -> Long.compare(
+                (a.openCount + 1) * b.weight, (b.openCount + 1) * a.weight))
+                .thenComparing(slot -> slot.memberId);
+
+        private final long loadedAt;
+        private final TreeMap<Long, Slot> slots = new TreeMap<>();
+        private final TreeSet<Slot> byLoad = new TreeSet<>(LEAST_LOADED);
+        private final TreeSet<Slot> byWeightedLoad = new TreeSet<>(WEIGHTED);
+        private Long lastRoundRobin;
+
+        private TenantPool(long loadedAt) {
+            this.loadedAt = loadedAt;
+        }
+
+        private synchronized void add(Long memberId, int weight, long openCount) {
+            Slot slot = new Slot(memberId, weight, openCount);
+            slots.put(memberId, slot);
+            byLoad.add(slot);
+            byWeightedLoad.add(slot);
+        }
+
+        private synchronized Long next(AssignmentStrategy strategy) {
+            if (slots.isEmpty()) {
+                return null;
+            }
+            Slot slot = switch (strategy) {
+                case ROUND_ROBIN -> {
+                    Map.Entry<Long, Slot> entry = lastRoundRobin != null ? slots.higherEntry(lastRoundRobin) : null;
+                    yield (entry != null ? entry : slots.firstEntry()).getValue();
+                }
+                case LEAST_LOADED -> byLoad.first();
+                case WEIGHTED -> byWeightedLoad.first();
+            };
+            lastRoundRobin = slot.memberId;
+            update(slot, 1);
+            return slot.memberId;
+        }
+
+        private synchronized void adjust(Long memberId, long delta) {
+            Slot slot = slots.get(memberId);
+            if (slot != null) {
+                update(slot, delta);
+            }
+        }
+
+        private synchronized Map<Long, Long> snapshot() {
+            Map<Long, Long> workload = new LinkedHashMap<>();
+            slots.forEach((memberId, slot) -> workload.put(memberId, slot.openCount));
+            return workload;
+        }
+
+        private void update(Slot slot, long delta) {
+            // Re-insert so the ordered sets see the new count
+            byLoad.remove(slot);
+            byWeightedLoad.remove(slot);
+            slot.openCount = Math.max(0L, slot.openCount + delta);
+            byLoad.add(slot);
+            byWeightedLoad.add(slot);
+        }
+    }
+}
@@ -15,8 +15,10 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.entity.ContactEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.ContactType;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.IContactPort;
 import serp.project.crm.core.port.store.ICustomerPort;
 import serp.project.crm.core.service.IContactService;
@@ -30,6 +32,7 @@ import java.util.Optional;
 public class ContactService implements IContactService {
 
     private final IContactPort contactPort;
+    private final ICachePort cachePort;
     private final ICustomerPort customerPort;
 
     @Override
@@ -87,7 +90,8 @@ public class ContactService implements IContactService {
     @Override
     @Transactional(readOnly = true)
     public Optional<ContactEntity> getContactById(Long id, Long tenantId) {
-        return contactPort.findById(id, tenantId);
+        return cachePort.getOrLoad(CacheRegion.CONTACT, tenantId, id, ContactEntity.class,
+                () -> contactPort.findById(id, tenantId));
     }
 
     @Override
@@ -7,6 +7,7 @@ package serp.project.crm.core.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.util.Pair;
@@ -15,14 +16,23 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ICustomerPort;
 import serp.project.crm.core.service.ICustomerService;
+import serp.project.crm.kernel.property.CustomerRollupProperties;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 @Service
 @RequiredArgsConstructor
@@ -30,6 +40,9 @@ import java.util.Optional;
 public class CustomerService implements ICustomerService {
 
     private final ICustomerPort customerPort;
+    private final ICachePort cachePort;
+    private final CustomerRollupProperties customerRollupProperties;
+    private final AsyncTaskExecutor taskExecutor;
 
     @Transactional
     public CustomerEntity createCustomer(CustomerEntity customer, Long tenantId) {
@@ -37,9 +50,10 @@ public class CustomerService implements ICustomerService {
             throw new AppException(ErrorMessage.CUSTOMER_ALREADY_EXISTS);
         }
 
+        CustomerEntity parent = null;
         if (customer.getParentCustomerId() != null) {
-            customerPort.findById(customer.getParentCustomerId(), tenantId)
-                    .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND));
+            parent = indexed(customerPort.findById(customer.getParentCustomerId(), tenantId)
+                    .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND)), tenantId);
         }
 
         customer.setTenantId(tenantId);
@@ -47,6 +61,10 @@ public class CustomerService implements ICustomerService {
 
         CustomerEntity saved = customerPort.save(customer);
 
+        // The path ends with the generated id, so it can only be written after the insert
+        saved.placeUnder(parent);
+        customerPort.updateHierarchy(saved.getId(), tenantId, saved.getHierarchyPath(), saved.getHierarchyDepth());
+
         publishCustomerCreatedEvent(saved);
 
         return saved;
@@ -63,19 +81,35 @@ public class CustomerService implements ICustomerService {
             }
         }
 
+        CustomerEntity newParent = null;
         if (updates.getParentCustomerId() != null
                 && !updates.getParentCustomerId().equals(existing.getParentCustomerId())) {
             if (updates.getParentCustomerId().equals(id)) {
                 throw new AppException(ErrorMessage.CUSTOMER_CANNOT_BE_OWN_PARENT);
             }
-            customerPort.findById(updates.getParentCustomerId(), tenantId)
-                    .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND));
+            newParent = indexed(customerPort.findById(updates.getParentCustomerId(), tenantId)
+                    .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND)), tenantId);
+            existing = indexed(existing, tenantId);
+            if (existing.isAncestorOrSelfOf(newParent)) {
+                throw new AppException(ErrorMessage.CUSTOMER_HIERARCHY_CYCLE);
+            }
         }
 
+        String oldPath = existing.getHierarchyPath();
+        Integer oldDepth = existing.getHierarchyDepth();
+
         existing.updateFrom(updates);
+        if (newParent != null) {
+            existing.placeUnder(newParent);
+        }
 
         CustomerEntity updated = customerPort.save(existing);
 
+        if (newParent != null) {
+            customerPort.moveSubtree(oldPath, existing.getHierarchyPath(),
+                    existing.getHierarchyDepth() - oldDepth, tenantId);
+        }
+
         publishCustomerUpdatedEvent(updated);
 
         return updated;
@@ -83,7 +117,8 @@ public class CustomerService implements ICustomerService {
 
     @Transactional(readOnly = true)
     public Optional<CustomerEntity> getCustomerById(Long id, Long tenantId) {
-        return customerPort.findById(id, tenantId);
+        return cachePort.getOrLoad(CacheRegion.CUSTOMER, tenantId, id, CustomerEntity.class,
+                () -> customerPort.findById(id, tenantId));
     }
 
     @Transactional(readOnly = true)
@@ -111,6 +146,32 @@ public class CustomerService implements ICustomerService {
         return customerPort.findByParentCustomerId(parentId, tenantId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CustomerEntity> getCustomerTree(Long id, Long tenantId) {
+        CustomerEntity customer = requireIndexed(customerPort.findById(id, tenantId)
+                .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND)), tenantId);
+
+        return customerPort.findSubtree(customer.getHierarchyPath(), tenantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerRollupEntity getCustomerRollup(Long id, Long tenantId) {
+        CustomerEntity customer = requireIndexed(customerPort.findById(id, tenantId)
+                .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND)), tenantId);
+
+        return customerPort.sumSubtree(id, customer.getHierarchyPath(), tenantId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildHierarchy(Long tenantId) {
+        int updated = customerPort.rebuildHierarchy(tenantId);
+        log.info("Rebuilt hierarchy paths of {} customers for tenant {}", updated, tenantId);
+        return updated;
+    }
+
     @Transactional(readOnly = true)
     public Pair<List<CustomerEntity>, Long> getCustomersByStatus(ActiveStatus status, Long tenantId,
             PageRequest pageRequest) {
@@ -173,13 +234,42 @@ public class CustomerService implements ICustomerService {
     @Transactional
     public void updateCustomerRevenue(Long customerId, Long tenantId, BigDecimal revenue, boolean isWon) {
 
-        CustomerEntity customer = customerPort.findById(customerId, tenantId)
-                .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
-
-        customer.recordOpportunityResult(isWon, revenue != null ? revenue : BigDecimal.ZERO, tenantId);
+        if (!customerPort.incrementOpportunityResult(customerId, tenantId, isWon, revenue)) {
+            throw new AppException(ErrorMessage.CUSTOMER_NOT_FOUND);
+        }
+    }
 
-        customerPort.save(customer);
+    @Override
+    public int reconcileRevenueRollups(Long tenantId) {
+        int corrected = customerPort.reconcileOpportunityRollups(tenantId);
+        if (corrected > 0) {
+            log.warn("Reconciled revenue rollups of {} customers for tenant {}", corrected, tenantId);
+        }
+        return corrected;
+    }
 
+    @Override
+    public int reconcileAllRevenueRollups() {
+        List<Long> tenantIds = customerPort.findTenantIds();
+        Semaphore permits = new Semaphore(Math.max(1, customerRollupProperties.getReconcileParallelism()));
+        List<CompletableFuture<Integer>> futures = new ArrayList<>(tenantIds.size());
+        for (Long tenantId : tenantIds) {
+            permits.acquireUninterruptibly();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return reconcileRevenueRollups(tenantId);
+                } catch (Exception e) {
+                    log.error("Revenue rollup reconciliation failed for tenant {}: {}", tenantId, e.getMessage(), e);
+                    return 0;
+                } finally {
+                    permits.release();
+                }
+            }, taskExecutor));
+        }
+        int corrected = futures.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("Revenue rollup reconciliation finished: {} tenants, {} customers corrected",
+                tenantIds.size(), corrected);
+        return corrected;
     }
 
     @Override
@@ -196,6 +286,55 @@ public class CustomerService implements ICustomerService {
         return customerPort.filter(filter, pageRequest, tenantId);
     }
 
+    /**
+     * Customers created before the hierarchy index existed have no path yet; writes index the tenant on first use.
+     */
+    private CustomerEntity indexed(CustomerEntity customer, Long tenantId) {
+        if (customer.isIndexed()) {
+            return customer;
+        }
+        customerPort.rebuildHierarchy(tenantId);
+        CustomerEntity reloaded = customerPort.findById(customer.getId(), tenantId)
+                .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND));
+        if (!reloaded.isIndexed()) {
+            AppException broken = brokenLink(reloaded, tenantId);
+            throw broken != null ? broken : new AppException(ErrorMessage.CUSTOMER_HIERARCHY_NOT_INDEXED);
+        }
+        return reloaded;
+    }
+
+    /**
+     * Reads use the stored index as is and leave rebuilding to writes and the admin rebuild.
+     */
+    private CustomerEntity requireIndexed(CustomerEntity customer, Long tenantId) {
+        if (customer.isIndexed()) {
+            return customer;
+        }
+        AppException broken = brokenLink(customer, tenantId);
+        throw broken != null ? broken : new AppException(ErrorMessage.CUSTOMER_HIERARCHY_NOT_INDEXED);
+    }
+
+    /**
+     * Why the customer cannot be reached from a root: an ancestor that no longer exists, or parent links that
+     * loop. Null when the parent chain does end at a root.
+     */
+    private AppException brokenLink(CustomerEntity customer, Long tenantId) {
+        Set<Long> visited = new HashSet<>();
+        CustomerEntity current = customer;
+        while (current.getParentCustomerId() != null) {
+            if (!visited.add(current.getId())) {
+                return new AppException(ErrorMessage.CUSTOMER_HIERARCHY_CYCLE);
+            }
+            Long parentId = current.getParentCustomerId();
+            Optional<CustomerEntity> parent = customerPort.findById(parentId, tenantId);
+            if (parent.isEmpty()) {
+                return new AppException(String.format(ErrorMessage.CUSTOMER_PARENT_NOT_FOUND, parentId));
+            }
+            current = parent.get();
+        }
+        return null;
+    }
+
     private void publishCustomerCreatedEvent(CustomerEntity customer) {
         log.debug("Event: Customer created - ID: {}, Topic: {}", customer.getId(), Constants.KafkaTopic.CUSTOMER);
     }
@@ -0,0 +1,236 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.AddressEntity;
+import serp.project.crm.core.domain.entity.BaseEntity;
+import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.enums.ExportFormat;
+import serp.project.crm.core.mapper.ActivityDtoMapper;
+import serp.project.crm.core.mapper.CustomerDtoMapper;
+import serp.project.crm.core.mapper.LeadDtoMapper;
+import serp.project.crm.core.mapper.OpportunityDtoMapper;
+import serp.project.crm.core.port.store.IActivityPort;
+import serp.project.crm.core.port.store.ICustomerPort;
+import serp.project.crm.core.port.store.ILeadPort;
+import serp.project.crm.core.port.store.IOpportunityPort;
+import serp.project.crm.core.service.IExportService;
+import serp.project.crm.kernel.property.ExportProperties;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService implements IExportService {
+
+    private static final List<Column<LeadEntity>> LEAD_COLUMNS = List.of(
+            new Column<>("id", LeadEntity::getId),
+            new Column<>("name", LeadEntity::getName),
+            new Column<>("email", LeadEntity::getEmail),
+            new Column<>("phone", LeadEntity::getPhone),
+            new Column<>("company", LeadEntity::getCompany),
+            new Column<>("industry", LeadEntity::getIndustry),
+            new Column<>("company_size", LeadEntity::getCompanySize),
+            new Column<>("website", LeadEntity::getWebsite),
+            new Column<>("job_title", LeadEntity::getJobTitle),
+            new Column<>("lead_source", LeadEntity::getLeadSource),
+            new Column<>("lead_status", LeadEntity::getLeadStatus),
+            new Column<>("assigned_to", LeadEntity::getAssignedTo),
+            new Column<>("estimated_value", LeadEntity::getEstimatedValue),
+            new Column<>("probability", LeadEntity::getProbability),
+            new Column<>("expected_close_date", LeadEntity::getExpectedCloseDate),
+            new Column<>("city", lead -> city(lead.getAddress())),
+            new Column<>("country", lead -> country(lead.getAddress())),
+            new Column<>("converted_customer_id", LeadEntity::getConvertedCustomerId),
+            new Column<>("converted_opportunity_id", LeadEntity::getConvertedOpportunityId),
+            new Column<>("created_at", LeadEntity::getCreatedAt),
+            new Column<>("updated_at", LeadEntity::getUpdatedAt));
+
+    private static final List<Column<CustomerEntity>> CUSTOMER_COLUMNS = List.of(
+            new Column<>("id", CustomerEntity::getId),
+            new Column<>("name", CustomerEntity::getName),
+            new Column<>("email", CustomerEntity::getEmail),
+            new Column<>("phone", CustomerEntity::getPhone),
+            new Column<>("website", CustomerEntity::getWebsite),
+            new Column<>("industry", CustomerEntity::getIndustry),
+            new Column<>("company_size", CustomerEntity::getCompanySize),
+            new Column<>("parent_customer_id", CustomerEntity::getParentCustomerId),
+            new Column<>("tax_id", CustomerEntity::getTaxId),
+            new Column<>("credit_limit", CustomerEntity::getCreditLimit),
+            new Column<>("total_opportunities", CustomerEntity::getTotalOpportunities),
+            new Column<>("won_opportunities", CustomerEntity::getWonOpportunities),
+            new Column<>("total_revenue", CustomerEntity::getTotalRevenue),
+            new Column<>("active_status", CustomerEntity::getActiveStatus),
+            new Column<>("city", customer -> city(customer.getAddress())),
+            new Column<>("country", customer -> country(customer.getAddress())),
+            new Column<>("created_at", CustomerEntity::getCreatedAt),
+            new Column<>("updated_at", CustomerEntity::getUpdatedAt));
+
+    private static final List<Column<OpportunityEntity>> OPPORTUNITY_COLUMNS = List.of(
+            new Column<>("id", OpportunityEntity::getId),
+            new Column<>("name", OpportunityEntity::getName),
+            new Column<>("customer_id", OpportunityEntity::getCustomerId),
+            new Column<>("lead_id", OpportunityEntity::getLeadId),
+            new Column<>("stage", OpportunityEntity::getStage),
+            new Column<>("estimated_value", OpportunityEntity::getEstimatedValue),
+            new Column<>("probability", OpportunityEntity::getProbability),
+            new Column<>("expected_close_date", OpportunityEntity::getExpectedCloseDate),
+            new Column<>("actual_close_date", OpportunityEntity::getActualCloseDate),
+            new Column<>("assigned_to", OpportunityEntity::getAssignedTo),
+            new Column<>("loss_reason", OpportunityEntity::getLossReason),
+            new Column<>("created_at", OpportunityEntity::getCreatedAt),
+            new Column<>("updated_at", OpportunityEntity::getUpdatedAt));
+
+    private static final List<Column<ActivityEntity>> ACTIVITY_COLUMNS = List.of(
+            new Column<>("id", ActivityEntity::getId),
+            new Column<>("activity_type", ActivityEntity::getActivityType),
+            new Column<>("subject", ActivityEntity::getSubject),
+            new Column<>("status", ActivityEntity::getStatus),
+            new Column<>("priority", ActivityEntity::getPriority),
+            new Column<>("lead_id", ActivityEntity::getLeadId),
+            new Column<>("contact_id", ActivityEntity::getContactId),
+            new Column<>("customer_id", ActivityEntity::getCustomerId),
+            new Column<>("opportunity_id", ActivityEntity::getOpportunityId),
+            new Column<>("assigned_to", ActivityEntity::getAssignedTo),
+            new Column<>("activity_date", ActivityEntity::getActivityDate),
+            new Column<>("due_date", ActivityEntity::getDueDate),
+            new Column<>("duration_minutes", ActivityEntity::getDurationMinutes),
+            new Column<>("progress_percent", ActivityEntity::getProgressPercent),
+            new Column<>("created_at", ActivityEntity::getCreatedAt),
+            new Column<>("updated_at", ActivityEntity::getUpdatedAt));
+
+    private final ILeadPort leadPort;
+    private final ICustomerPort customerPort;
+    private final IOpportunityPort opportunityPort;
+    private final IActivityPort activityPort;
+
+    private final LeadDtoMapper leadDtoMapper;
+    private final CustomerDtoMapper customerDtoMapper;
+    private final OpportunityDtoMapper opportunityDtoMapper;
+    private final ActivityDtoMapper activityDtoMapper;
+
+    private final ExportProperties exportProperties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportLeads(LeadFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            OutputStream out) throws IOException {
+        try (Stream<LeadEntity> rows = leadPort.streamFilter(filter, tenantId, afterId,
+                exportProperties.getFetchSize())) {
+            return write(rows, format, LEAD_COLUMNS, leadDtoMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCustomers(CustomerFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            OutputStream out) throws IOException {
+        try (Stream<CustomerEntity> rows = customerPort.streamFilter(filter, tenantId, afterId,
+                exportProperties.getFetchSize())) {
+            return write(rows, format, CUSTOMER_COLUMNS, customerDtoMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOpportunities(OpportunityFilterRequest filter, Long tenantId, Long afterId,
+            ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<OpportunityEntity> rows = opportunityPort.streamFilter(filter, tenantId, afterId,
+                exportProperties.getFetchSize())) {
+            return write(rows, format, OPPORTUNITY_COLUMNS, opportunityDtoMapper::toResponse, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportActivities(Long tenantId, Long afterId, ExportFormat format, OutputStream out)
+            throws IOException {
+        try (Stream<ActivityEntity> rows = activityPort.streamByTenant(tenantId, afterId,
+                exportProperties.getFetchSize())) {
+            return write(rows, format, ACTIVITY_COLUMNS, activityDtoMapper::toResponse, out);
+        }
+    }
+
+    private <T extends BaseEntity> long write(Stream<T> rows, ExportFormat format, List<Column<T>> columns,
+            Function<T, ?> toResponse, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns.stream().map(Column::header).toList());
+        }
+
+        int flushEvery = Math.max(1, exportProperties.getFlushEveryRows());
+        long written = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.stream().map(column -> column.extractor().apply(row)).toList());
+            } else {
+                writer.write(objectMapper.writeValueAsString(toResponse.apply(row)));
+                writer.write('\n');
+            }
+            if (++written % flushEvery == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return written;
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Enum<?> e ? e.name() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String city(AddressEntity address) {
+        return address != null ? address.getCity() : null;
+    }
+
+    private static String country(AddressEntity address) {
+        return address != null ? address.getCountry() : null;
+    }
+
+    private record Column<T>(String header, Function<T, Object> extractor) {
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+import serp.project.crm.core.domain.dto.request.ConvertLeadRequest;
+import serp.project.crm.core.domain.entity.ContactEntity;
+import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.mapper.LeadDtoMapper;
+import serp.project.crm.core.port.store.IContactPort;
+import serp.project.crm.core.port.store.ICustomerPort;
+import serp.project.crm.core.port.store.ILeadPort;
+import serp.project.crm.core.port.store.IOpportunityPort;
+import serp.project.crm.core.service.IAssignmentService;
+import serp.project.crm.core.service.ILeadConversionService;
+import serp.project.crm.core.service.IPipelineStatService;
+import serp.project.crm.core.service.IStageHistoryService;
+import serp.project.crm.core.service.ITimelineService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeadConversionService implements ILeadConversionService {
+
+    private final ILeadPort leadPort;
+    private final ICustomerPort customerPort;
+    private final IContactPort contactPort;
+    private final IOpportunityPort opportunityPort;
+    private final IPipelineStatService pipelineStatService;
+    private final ITimelineService timelineService;
+    private final IStageHistoryService stageHistoryService;
+    private final IAssignmentService assignmentService;
+    private final LeadDtoMapper leadDtoMapper;
+
+    @Override
+    @Transactional
+    public List<LeadConversionEntity> convertLeads(List<ConvertLeadRequest> requests, Long tenantId, Long userId) {
+        LeadConversionEntity[] results = new LeadConversionEntity[requests.size()];
+
+        // Batched reads: leads, referenced customers and e-mails of the customers to be created
+        Map<Long, LeadEntity> leads = leadPort.findByIds(
+                requests.stream().map(ConvertLeadRequest::getLeadId).filter(Objects::nonNull).distinct().toList(),
+                tenantId).stream().collect(Collectors.toMap(LeadEntity::getId, Function.identity()));
+        Set<Long> existingCustomerIds = customerPort.findByIds(
+                requests.stream()
+                        .filter(request -> !Boolean.TRUE.equals(request.getCreateNewCustomer()))
+                        .map(ConvertLeadRequest::getExistingCustomerId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList(),
+                tenantId).stream().map(CustomerEntity::getId).collect(Collectors.toSet());
+        Set<String> takenEmails = new HashSet<>(customerPort.findExistingEmails(
+                requests.stream()
+                        .filter(request -> Boolean.TRUE.equals(request.getCreateNewCustomer()))
+                        .map(request -> leads.get(request.getLeadId()))
+                        .filter(Objects::nonNull)
+                        .map(LeadEntity::getEmail)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList(),
+                tenantId));
+
+        List<Integer> accepted = new ArrayList<>();
+        Set<Long> seenLeadIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ConvertLeadRequest request = requests.get(i);
+            String error = validate(request, leads.get(request.getLeadId()), seenLeadIds, existingCustomerIds,
+                    takenEmails);
+            if (error != null) {
+                results[i] = LeadConversionEntity.failed(request.getLeadId(), error);
+            } else {
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        // Customers first: contacts and opportunities need their ids
+        List<Integer> creatingCustomer = accepted.stream()
+                .filter(i -> Boolean.TRUE.equals(requests.get(i).getCreateNewCustomer()))
+                .toList();
+        List<CustomerEntity> newCustomers = creatingCustomer.stream()
+                .map(i -> {
+                    CustomerEntity customer = leadDtoMapper.toCustomerEntity(leads.get(requests.get(i).getLeadId()));
+                    customer.setTenantId(tenantId);
+                    customer.setCreatedBy(userId);
+                    customer.setDefaults();
+                    return customer;
+                })
+                .toList();
+        List<CustomerEntity> savedCustomers = newCustomers.isEmpty() ? List.of() : customerPort.saveAll(newCustomers);
+        customerPort.indexAsRoots(savedCustomers.stream().map(CustomerEntity::getId).toList(), tenantId);
+
+        Long[] customerIds = new Long[requests.size()];
+        for (int k = 0; k < creatingCustomer.size(); k++) {
+            customerIds[creatingCustomer.get(k)] = savedCustomers.get(k).getId();
+        }
+        for (Integer i : accepted) {
+            if (customerIds[i] == null) {
+                customerIds[i] = requests.get(i).getExistingCustomerId();
+            }
+        }
+
+        List<ContactEntity> contacts = new ArrayList<>(accepted.size());
+        List<OpportunityEntity> opportunities = new ArrayList<>(accepted.size());
+        for (Integer i : accepted) {
+            LeadEntity lead = leads.get(requests.get(i).getLeadId());
+
+            ContactEntity contact = leadDtoMapper.toContactEntity(lead, customerIds[i]);
+            contact.setTenantId(tenantId);
+            contact.setCreatedBy(userId);
+            contact.setDefaults();
+            contacts.add(contact);
+
+            OpportunityEntity opportunity = leadDtoMapper.toOpportunityEntity(lead, customerIds[i], requests.get(i));
+            opportunity.setTenantId(tenantId);
+            opportunity.setCreatedBy(userId);
+            opportunity.setDefaults();
+            opportunities.add(opportunity);
+        }
+        List<ContactEntity> savedContacts = contactPort.saveAll(contacts);
+        List<OpportunityEntity> savedOpportunities = opportunityPort.saveAll(opportunities);
+        pipelineStatService.onOpportunitiesCreated(savedOpportunities);
+        stageHistoryService.onOpportunitiesCreated(savedOpportunities);
+
+        List<LeadEntity> convertedLeads = new ArrayList<>(accepted.size());
+        Map<Long, Long> workloadDeltas = new HashMap<>();
+        for (int k = 0; k < accepted.size(); k++) {
+            int i = accepted.get(k);
+            LeadEntity lead = leads.get(requests.get(i).getLeadId());
+            OpportunityEntity opportunity = savedOpportunities.get(k);
+            if (lead.getAssignedTo() != null) {
+                workloadDeltas.merge(lead.getAssignedTo(), -1L, Long::sum);
+            }
+            if (opportunity.getAssignedTo() != null && !opportunity.isClosed()) {
+                workloadDeltas.merge(opportunity.getAssignedTo(), 1L, Long::sum);
+            }
+            lead.markAsConverted(userId, opportunity.getId(), customerIds[i]);
+            convertedLeads.add(lead);
+
+            results[i] = LeadConversionEntity.builder()
+                    .leadId(lead.getId())
+                    .customerId(customerIds[i])
+                    .contactId(savedContacts.get(k).getId())
+                    .opportunityId(opportunity.getId())
+                    .build();
+        }
+        leadPort.updateConversions(convertedLeads, tenantId);
+        workloadDeltas.values().removeIf(delta -> delta == 0);
+        assignmentService.onWorkloadChanged(tenantId, workloadDeltas);
+        timelineService.onLeadsConverted(Arrays.asList(results), tenantId, userId);
+
+        log.info("Converted {} of {} leads for tenant {}", accepted.size(), requests.size(), tenantId);
+        return Arrays.asList(results);
+    }
+
+    private String validate(ConvertLeadRequest request, LeadEntity lead, Set<Long> seenLeadIds,
+            Set<Long> existingCustomerIds, Set<String> takenEmails) {
+        if (lead == null) {
+            return ErrorMessage.LEAD_NOT_FOUND;
+        }
+        if (!seenLeadIds.add(lead.getId())) {
+            return ErrorMessage.LEAD_DUPLICATE_IN_REQUEST;
+        }
+        if (!lead.canBeConverted()) {
+            return ErrorMessage.LEAD_CANNOT_BE_CONVERTED;
+        }
+        if (Boolean.TRUE.equals(request.getCreateNewCustomer())) {
+            // Also claims the e-mail so a second lead of the batch cannot create the same customer
+            if (lead.getEmail() != null && !takenEmails.add(lead.getEmail())) {
+                return ErrorMessage.CUSTOMER_ALREADY_EXISTS;
+            }
+            return null;
+        }
+        if (request.getExistingCustomerId() == null) {
+            return ErrorMessage.LEAD_CONVERSION_CUSTOMER_REQUIRED;
+        }
+        if (!existingCustomerIds.contains(request.getExistingCustomerId())) {
+            return ErrorMessage.CUSTOMER_NOT_FOUND;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.enums.ActivityType;
+import serp.project.crm.core.port.store.ILeadEngagementPort;
+import serp.project.crm.core.service.ILeadEngagementService;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeadEngagementService implements ILeadEngagementService {
+
+    private final ILeadEngagementPort leadEngagementPort;
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeadEngagementEntity getEngagement(Long leadId, Long tenantId) {
+        return leadEngagementPort.findByLeadId(leadId, tenantId)
+                .orElseGet(() -> LeadEngagementEntity.empty(leadId, tenantId));
+    }
+
+    @Override
+    @Transactional
+    public void onActivityCreated(ActivityEntity activity) {
+        if (countsTowardEngagement(activity)) {
+            leadEngagementPort.increment(activity.getLeadId(), activity.getTenantId(),
+                    activity.getActivityType(), 1, engagementTime(activity));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onActivitiesCreated(List<ActivityEntity> activities) {
+        // One upsert per (lead, type, day) instead of one per activity
+        Map<Counter, Integer> counts = new LinkedHashMap<>();
+        Map<Counter, Long> lastActivityAt = new HashMap<>();
+        for (ActivityEntity activity : activities) {
+            if (!countsTowardEngagement(activity)) {
+                continue;
+            }
+            long activityAt = engagementTime(activity);
+            Counter counter = new Counter(activity.getTenantId(), activity.getLeadId(), activity.getActivityType(),
+                    LeadEngagementEntity.epochDay(activityAt));
+            counts.merge(counter, 1, Integer::sum);
+            lastActivityAt.merge(counter, activityAt, Math::max);
+        }
+        counts.forEach((counter, count) -> leadEngagementPort.increment(counter.leadId(), counter.tenantId(),
+                counter.type(), count, lastActivityAt.get(counter)));
+    }
+
+    @Override
+    @Transactional
+    public void onActivityUpdated(ActivityEntity before, ActivityEntity after) {
+        boolean counted = countsTowardEngagement(before);
+        boolean counts = countsTowardEngagement(after);
+        if (counted && counts
+                && Objects.equals(before.getLeadId(), after.getLeadId())
+                && before.getActivityType() == after.getActivityType()
+                && Objects.equals(before.getActivityDate(), after.getActivityDate())) {
+            return;
+        }
+
+        if (counted) {
+            leadEngagementPort.increment(before.getLeadId(), before.getTenantId(),
+                    before.getActivityType(), -1, engagementTime(before));
+        }
+        if (counts) {
+            leadEngagementPort.increment(after.getLeadId(), after.getTenantId(),
+                    after.getActivityType(), 1, engagementTime(after));
+        }
+        if (counted) {
+            // The moved or removed activity may have been the lead's latest one
+            leadEngagementPort.refreshLastActivityAt(before.getLeadId(), before.getTenantId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onActivityDeleted(ActivityEntity activity) {
+        if (countsTowardEngagement(activity)) {
+            leadEngagementPort.increment(activity.getLeadId(), activity.getTenantId(),
+                    activity.getActivityType(), -1, engagementTime(activity));
+            leadEngagementPort.refreshLastActivityAt(activity.getLeadId(), activity.getTenantId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteEngagement(Long leadId, Long tenantId) {
+        leadEngagementPort.deleteByLeadId(leadId, tenantId);
+    }
+
+    private record Counter(Long tenantId, Long leadId, ActivityType type, long day) {
+    }
+
+    private boolean countsTowardEngagement(ActivityEntity activity) {
+        return activity != null
+                && activity.getLeadId() != null
+                && activity.getActivityType() != null
+                && activity.isCompleted();
+    }
+
+    // Same fallback as the rebuild query, so an undated activity lands on the same day either way
+    private long engagementTime(ActivityEntity activity) {
+        if (activity.getActivityDate() != null) {
+            return activity.getActivityDate();
+        }
+        return activity.getUpdatedAt() != null ? activity.getUpdatedAt() : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,371 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.entity.LeadImportJobEntity;
+import serp.project.crm.core.mapper.LeadDtoMapper;
+import serp.project.crm.core.port.store.ILeadPort;
+import serp.project.crm.core.service.ILeadImportService;
+import serp.project.crm.core.service.IAssignmentService;
+import serp.project.crm.core.service.ILeadScoringService;
+import serp.project.crm.kernel.property.LeadImportProperties;
+import serp.project.crm.kernel.utils.CsvReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeadImportService implements ILeadImportService {
+
+    // Normalized CSV header -> CreateLeadRequest property
+    private static final Map<String, String> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("company", "company"),
+            Map.entry("companyname", "company"),
+            Map.entry("industry", "industry"),
+            Map.entry("companysize", "companySize"),
+            Map.entry("website", "website"),
+            Map.entry("name", "name"),
+            Map.entry("fullname", "name"),
+            Map.entry("contactname", "name"),
+            Map.entry("email", "email"),
+            Map.entry("phone", "phone"),
+            Map.entry("jobtitle", "jobTitle"),
+            Map.entry("title", "jobTitle"),
+            Map.entry("street", "street"),
+            Map.entry("city", "city"),
+            Map.entry("state", "state"),
+            Map.entry("postalcode", "postalCode"),
+            Map.entry("zipcode", "postalCode"),
+            Map.entry("country", "country"),
+            Map.entry("leadsource", "leadSource"),
+            Map.entry("source", "leadSource"),
+            Map.entry("assignedto", "assignedTo"),
+            Map.entry("estimatedvalue", "estimatedValue"),
+            Map.entry("expectedclosedate", "expectedCloseDate"),
+            Map.entry("notes", "notes"));
+
+    private final ILeadPort leadPort;
+    private final ILeadScoringService leadScoringService;
+    private final IAssignmentService assignmentService;
+    private final LeadDtoMapper leadDtoMapper;
+    private final LeadImportProperties leadImportProperties;
+    private final AsyncTaskExecutor taskExecutor;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    private final Map<String, LeadImportJobEntity> jobs = new ConcurrentHashMap<>();
+
+    @Override
+    public LeadImportJobEntity startImport(Path file, String fileName, boolean csv, Long tenantId, Long userId) {
+        evictFinishedJobs();
+
+        LeadImportJobEntity job = new LeadImportJobEntity(UUID.randomUUID().toString(), tenantId, userId, fileName,
+                leadImportProperties.getMaxErrors());
+        jobs.put(job.getJobId(), job);
+
+        CompletableFuture.runAsync(() -> runImport(job, file, csv), taskExecutor);
+        log.info("Lead import {} started for tenant {} from file {}", job.getJobId(), tenantId, fileName);
+        return job;
+    }
+
+    @Override
+    public Optional<LeadImportJobEntity> getJob(String jobId, Long tenantId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.getTenantId().equals(tenantId));
+    }
+
+    private void runImport(LeadImportJobEntity job, Path file, boolean csv) {
+        job.start();
+        ImportPipeline pipeline = new ImportPipeline(job);
+        try (InputStream in = Files.newInputStream(file)) {
+            if (csv) {
+                readCsv(in, pipeline);
+            } else {
+                readJson(in, pipeline);
+            }
+            pipeline.finish();
+
+            if (job.getTotalRows().get() == 0) {
+                job.fail(ErrorMessage.LEAD_IMPORT_FILE_EMPTY);
+            } else {
+                job.complete();
+            }
+            log.info("Lead import {} finished: {} rows, {} imported, {} duplicates, {} failed",
+                    job.getJobId(), job.getTotalRows().get(), job.getImportedRows().get(),
+                    job.getDuplicateRows().get(), job.getFailedRows().get());
+        } catch (Exception e) {
+            pipeline.finish();
+            log.error("Lead import {} failed: {}", job.getJobId(), e.getMessage(), e);
+            job.fail(ErrorMessage.LEAD_IMPORT_FILE_UNREADABLE + ": " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void readCsv(InputStream in, ImportPipeline pipeline) throws IOException {
+        try (CsvReader reader = new CsvReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                return;
+            }
+            List<String> properties = header.stream()
+                    .map(column -> CSV_COLUMNS.get(column.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "")))
+                    .toList();
+
+            long rowNumber = 0;
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (int i = 0; i < record.size() && i < properties.size(); i++) {
+                    String value = record.get(i).trim();
+                    if (properties.get(i) != null && !value.isEmpty()) {
+                        values.put(properties.get(i), value);
+                    }
+                }
+                pipeline.accept(++rowNumber, values);
+            }
+        }
+    }
+
+    private void readJson(InputStream in, ImportPipeline pipeline) throws IOException {
+        // Accepts a top-level JSON array as well as newline-delimited objects
+        try (MappingIterator<Map<String, Object>> iterator = objectMapper.readerForMapOf(Object.class)
+                .readValues(in)) {
+            long rowNumber = 0;
+            while (iterator.hasNextValue()) {
+                pipeline.accept(++rowNumber, iterator.nextValue());
+            }
+        }
+    }
+
+    private void processBatch(LeadImportJobEntity job, List<ImportRow> rows) {
+        Long tenantId = job.getTenantId();
+        Set<String> existingEmails;
+        Set<String> existingPhones;
+        try {
+            Set<String> emails = rows.stream()
+                    .map(ImportRow::email)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            Set<String> phones = rows.stream()
+                    .map(ImportRow::phone)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+            existingEmails = leadPort.findExistingEmails(emails, tenantId);
+            existingPhones = leadPort.findExistingPhones(phones, tenantId);
+        } catch (Exception e) {
+            log.error("Lead import {} duplicate lookup failed: {}", job.getJobId(), e.getMessage(), e);
+            rows.forEach(row -> job.rowFailed(row.rowNumber(), row.lead().getEmail(), e.getMessage()));
+            return;
+        }
+
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            LeadEntity lead = row.lead();
+            if (row.email() != null && existingEmails.contains(row.email())) {
+                job.rowDuplicate(row.rowNumber(), lead.getEmail(),
+                        String.format(ErrorMessage.LEAD_ALREADY_EXISTS, lead.getEmail()));
+                continue;
+            }
+            if (row.phone() != null && existingPhones.contains(row.phone())) {
+                job.rowDuplicate(row.rowNumber(), lead.getEmail(),
+                        String.format(ErrorMessage.LEAD_PHONE_ALREADY_EXISTS, lead.getPhone()));
+                continue;
+            }
+
+            try {
+                lead.setTenantId(tenantId);
+                lead.setDefaults();
+                // New leads have no activities yet, so scoring needs no lookups
+                lead.setProbability(leadScoringService.calculateSmartScore(lead,
+                        LeadEngagementEntity.empty(null, tenantId)));
+            } catch (Exception e) {
+                job.rowFailed(row.rowNumber(), lead.getEmail(), e.getMessage());
+                continue;
+            }
+            accepted.add(row);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<LeadEntity> leads = accepted.stream().map(ImportRow::lead).toList();
+        try {
+            job.rowsImported(leadPort.insertBatch(leads, tenantId, job.getUserId()));
+        } catch (Exception e) {
+            log.error("Lead import {} batch insert failed: {}", job.getJobId(), e.getMessage(), e);
+            accepted.forEach(row -> job.rowFailed(row.rowNumber(), row.lead().getEmail(), e.getMessage()));
+            return;
+        }
+
+        // The rows are committed at this point, so a workload refresh failure must not report them as failed
+        try {
+            assignmentService.onWorkloadChanged(tenantId, leads.stream()
+                    .filter(lead -> lead.getAssignedTo() != null)
+                    .collect(Collectors.groupingBy(LeadEntity::getAssignedTo, Collectors.counting())));
+        } catch (Exception e) {
+            log.warn("Lead import {} could not refresh assignee workload: {}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    private String validate(CreateLeadRequest request) {
+        Set<ConstraintViolation<CreateLeadRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private String conversionError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mappingException && !mappingException.getPath().isEmpty()) {
+            var reference = mappingException.getPath().get(mappingException.getPath().size() - 1);
+            return String.format("Invalid value for field '%s'", reference.getFieldName());
+        }
+        return "Invalid row";
+    }
+
+    private void evictFinishedJobs() {
+        long cutoff = System.currentTimeMillis()
+                - TimeUnit.MINUTES.toMillis(leadImportProperties.getJobRetentionMinutes());
+        jobs.values().removeIf(job -> job.getStatus().isFinished()
+                && job.getFinishedAt() != null
+                && job.getFinishedAt() < cutoff);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email != null && !email.isBlank() ? email.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String normalizePhone(String phone) {
+        return phone != null && !phone.isBlank() ? phone.trim() : null;
+    }
+
+    private record ImportRow(long rowNumber, LeadEntity lead, String email, String phone) {
+    }
+
+    /**
+     * Validates and dedupes rows in file order, then hands full batches to the executor with at most
+     * {@code parallelism} batches in flight.
+     */
+    private class ImportPipeline {
+        private final LeadImportJobEntity job;
+        private final Semaphore permits = new Semaphore(Math.max(1, leadImportProperties.getParallelism()));
+        private final List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        private final Map<String, Long> seenEmails = new HashMap<>();
+        private final Map<String, Long> seenPhones = new HashMap<>();
+        private List<ImportRow> batch = new ArrayList<>();
+
+        ImportPipeline(LeadImportJobEntity job) {
+            this.job = job;
+        }
+
+        void accept(long rowNumber, Map<String, Object> values) {
+            job.rowRead();
+
+            CreateLeadRequest request;
+            try {
+                request = objectMapper.convertValue(values, CreateLeadRequest.class);
+            } catch (IllegalArgumentException e) {
+                job.rowFailed(rowNumber, stringValue(values.get("email")), conversionError(e));
+                return;
+            }
+
+            String error = validate(request);
+            if (error != null) {
+                job.rowFailed(rowNumber, request.getEmail(), error);
+                return;
+            }
+
+            String email = normalizeEmail(request.getEmail());
+            String phone = normalizePhone(request.getPhone());
+            Long firstRow = email != null ? seenEmails.get(email) : null;
+            if (firstRow == null && phone != null) {
+                firstRow = seenPhones.get(phone);
+            }
+            if (firstRow != null) {
+                job.rowDuplicate(rowNumber, request.getEmail(),
+                        String.format(ErrorMessage.LEAD_DUPLICATE_IN_FILE, firstRow));
+                return;
+            }
+            if (email != null) {
+                seenEmails.put(email, rowNumber);
+            }
+            if (phone != null) {
+                seenPhones.put(phone, rowNumber);
+            }
+
+            batch.add(new ImportRow(rowNumber, leadDtoMapper.toEntity(request), email, phone));
+            if (batch.size() >= leadImportProperties.getBatchSize()) {
+                submit();
+            }
+        }
+
+        void finish() {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        }
+
+        private void submit() {
+            List<ImportRow> rows = batch;
+            batch = new ArrayList<>();
+            permits.acquireUninterruptibly();
+            inFlight.add(CompletableFuture.runAsync(() -> {
+                try {
+                    processBatch(job, rows);
+                } finally {
+                    permits.release();
+                }
+            }, taskExecutor));
+        }
+
+        private String stringValue(Object value) {
+            return value != null ? value.toString() : null;
+        }
+    }
+}
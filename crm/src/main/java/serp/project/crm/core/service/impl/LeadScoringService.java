@@ -6,40 +6,41 @@
 package serp.project.crm.core.service.impl;
 
 import java.math.BigDecimal;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementDayEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
 import serp.project.crm.core.domain.entity.LeadEntity;
 import serp.project.crm.core.domain.enums.ActivityType;
-import serp.project.crm.core.port.store.IActivityPort;
+import serp.project.crm.core.port.store.ILeadEngagementPort;
+import serp.project.crm.core.port.store.ILeadPort;
 import serp.project.crm.core.service.ILeadScoringService;
+import serp.project.crm.kernel.property.LeadScoringProperties;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LeadScoringService implements ILeadScoringService {
 
-    private final IActivityPort activityPort;
-
-    // Profile scores
-    private static final int SCORE_TITLE_C_LEVEL = 25;
-    private static final int SCORE_TITLE_MANAGER = 15;
-    private static final int SCORE_INDUSTRY_TECH_FINANCE = 20;
-    private static final int SCORE_HIGH_VALUE = 20;
+    private static final BigDecimal HIGH_VALUE_THRESHOLD = new BigDecimal("100000000");
 
-    // Activity scores
-    private static final int SCORE_ACT_MEETING = 30;
-    private static final int SCORE_ACT_CALL = 15;
-    private static final int SCORE_ACT_EMAIL = 5;
-    private static final int SCORE_ACT_TASK = 2;
+    private final ILeadEngagementPort leadEngagementPort;
+    private final ILeadPort leadPort;
+    private final LeadScoringProperties properties;
+    private final AsyncTaskExecutor taskExecutor;
 
     @Override
     public Integer calculateSmartScore(LeadEntity lead) {
@@ -47,12 +48,76 @@ public class LeadScoringService implements ILeadScoringService {
             return 0;
         }
 
+        LeadEngagementEntity engagement = lead.getId() != null
+                ? leadEngagementPort.findByLeadId(lead.getId(), lead.getTenantId()).orElse(null)
+                : null;
+        return calculateSmartScore(lead, engagement);
+    }
+
+    @Override
+    public Integer calculateSmartScore(LeadEntity lead, LeadEngagementEntity engagement) {
+        if (lead == null) {
+            return 0;
+        }
+
         int profileScore = calculateProfileScore(lead);
-        int engagementScore = lead.getId() != null ? calculateEngagementScore(lead.getId(), lead.getTenantId()) : 0;
+        int engagementScore = calculateEngagementScore(engagement,
+                LeadEngagementEntity.epochDay(System.currentTimeMillis()));
         int totalScore = profileScore + engagementScore;
         return Math.min(totalScore, 100);
     }
 
+    @Override
+    public int rescoreTenant(Long tenantId, boolean rebuildAggregates) {
+        if (rebuildAggregates) {
+            int rebuilt = leadEngagementPort.rebuildForTenant(tenantId);
+            log.info("Rebuilt {} lead engagement aggregates for tenant {}", rebuilt, tenantId);
+        }
+
+        int batchSize = Math.max(properties.getRescoreBatchSize(), 1);
+        Semaphore permits = new Semaphore(Math.max(properties.getRescoreParallelism(), 1));
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+
+        long lastId = 0L;
+        while (true) {
+            List<LeadEntity> leads = leadPort.findByTenantIdAfterId(tenantId, lastId, batchSize);
+            if (leads.isEmpty()) {
+                break;
+            }
+            lastId = leads.get(leads.size() - 1).getId();
+
+            permits.acquireUninterruptibly();
+            batches.add(CompletableFuture.supplyAsync(() -> rescoreBatch(leads, tenantId), taskExecutor)
+                    .whenComplete((count, error) -> permits.release()));
+
+            if (leads.size() < batchSize) {
+                break;
+            }
+        }
+
+        int rescored = batches.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("Rescored {} leads for tenant {}", rescored, tenantId);
+        return rescored;
+    }
+
+    private int rescoreBatch(List<LeadEntity> leads, Long tenantId) {
+        List<Long> leadIds = leads.stream().map(LeadEntity::getId).toList();
+        Map<Long, LeadEngagementEntity> engagements = leadEngagementPort.findByLeadIds(leadIds, tenantId)
+                .stream()
+                .collect(Collectors.toMap(LeadEngagementEntity::getLeadId, Function.identity()));
+
+        Map<Long, Integer> changed = new HashMap<>();
+        for (LeadEntity lead : leads) {
+            Integer score = calculateSmartScore(lead, engagements.get(lead.getId()));
+            if (!Objects.equals(score, lead.getProbability())) {
+                changed.put(lead.getId(), score);
+            }
+        }
+
+        leadPort.updateProbabilities(changed, tenantId);
+        return changed.size();
+    }
+
     private int calculateProfileScore(LeadEntity lead) {
         int score = 0;
 
@@ -60,9 +125,9 @@ public class LeadScoringService implements ILeadScoringService {
             String title = lead.getJobTitle().toLowerCase();
             if (title.contains("ceo") || title.contains("cto") || title.contains("director")
                     || title.contains("founder") || title.contains("president")) {
-                score += SCORE_TITLE_C_LEVEL;
+                score += properties.getTitleCLevel();
             } else if (title.contains("manager") || title.contains("head") || title.contains("lead")) {
-                score += SCORE_TITLE_MANAGER;
+                score += properties.getTitleManager();
             }
         }
 
@@ -70,67 +135,64 @@ public class LeadScoringService implements ILeadScoringService {
             String industry = lead.getIndustry().toLowerCase();
             if (industry.contains("technology") || industry.contains("software") || industry.contains("finance")
                     || industry.contains("banking")) {
-                score += SCORE_INDUSTRY_TECH_FINANCE;
+                score += properties.getIndustryTechFinance();
             }
         }
 
-        if (lead.getEstimatedValue() != null && lead.getEstimatedValue().compareTo(new BigDecimal("100000000")) > 0) {
-            score += SCORE_HIGH_VALUE;
+        if (lead.getEstimatedValue() != null && lead.getEstimatedValue().compareTo(HIGH_VALUE_THRESHOLD) > 0) {
+            score += properties.getHighValue();
         }
 
         if (lead.getPhone() != null && !lead.getPhone().isEmpty())
-            score += 5;
+            score += properties.getContactField();
         if (lead.getEmail() != null && !lead.getEmail().isEmpty())
-            score += 5;
+            score += properties.getContactField();
         if (lead.getCompany() != null && !lead.getCompany().isEmpty())
-            score += 5;
+            score += properties.getContactField();
 
         return score;
     }
 
-    private int calculateEngagementScore(long leadId, long tenantId) {
-        List<ActivityEntity> activities = activityPort.findAllByLeadId(leadId, tenantId);
+    // Engagement is read from the per-day counts maintained by LeadEngagementService,
+    // each day decayed by its own age so an old burst does not count as recent.
+    private int calculateEngagementScore(LeadEngagementEntity engagement, long today) {
+        if (engagement == null || engagement.getRecentDays() == null) {
+            return 0;
+        }
 
-        int score = 0;
-        for (var activity : activities) {
-            if (!activity.isCompleted()) {
+        double points = 0;
+        for (LeadEngagementDayEntity day : engagement.getRecentDays()) {
+            double timeDecayMultiplier = calculateTimeDecayMultiplier(today - day.getActivityDay());
+            if (timeDecayMultiplier == 0) {
                 continue;
             }
-            int basePoint = getBasePointForActivity(activity.getActivityType());
-            double timeDecayMultiplier = calculateTimeDecayMultiplier(activity.getActivityDate(), LocalDate.now());
-
-            score += (int) (basePoint * timeDecayMultiplier);
+            int basePoints = 0;
+            for (ActivityType type : ActivityType.values()) {
+                basePoints += day.countOf(type) * getBasePointForActivity(type);
+            }
+            points += basePoints * timeDecayMultiplier;
         }
 
-        return score;
+        return (int) points;
     }
 
     private int getBasePointForActivity(ActivityType type) {
         if (type == null)
             return 0;
         return switch (type) {
-            case MEETING -> SCORE_ACT_MEETING;
-            case CALL -> SCORE_ACT_CALL;
-            case EMAIL -> SCORE_ACT_EMAIL;
-            case TASK -> SCORE_ACT_TASK;
+            case MEETING -> properties.getActivityMeeting();
+            case CALL -> properties.getActivityCall();
+            case EMAIL -> properties.getActivityEmail();
+            case TASK -> properties.getActivityTask();
         };
     }
 
-    private double calculateTimeDecayMultiplier(Long activityTimestamp, LocalDate now) {
-        if (activityTimestamp == null)
-            return 0.0;
-
-        LocalDate activityDate = Instant.ofEpochMilli(activityTimestamp)
-                .atZone(ZoneId.systemDefault())
-                .toLocalDate();
-
-        long daysDiff = ChronoUnit.DAYS.between(activityDate, now);
-
+    private double calculateTimeDecayMultiplier(long daysDiff) {
         if (daysDiff <= 7) {
             return 1.0; // Trong vòng 1 tuần: 100% điểm
         } else if (daysDiff <= 30) {
             return 0.7;
-        } else if (daysDiff <= 90) {
+        } else if (daysDiff <= LeadEngagementEntity.DECAY_HORIZON_DAYS) {
             return 0.3;
         } else {
             return 0.0;
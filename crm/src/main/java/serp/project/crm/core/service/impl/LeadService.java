@@ -15,10 +15,14 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
 import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.LeadSource;
 import serp.project.crm.core.domain.enums.LeadStatus;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ILeadPort;
+import serp.project.crm.core.service.IAssignmentService;
+import serp.project.crm.core.service.ILeadEngagementService;
 import serp.project.crm.core.service.ILeadScoringService;
 import serp.project.crm.core.service.ILeadService;
 
@@ -32,7 +36,10 @@ import java.util.Optional;
 public class LeadService implements ILeadService {
 
     private final ILeadPort leadPort;
+    private final ICachePort cachePort;
     private final ILeadScoringService leadScoringService;
+    private final ILeadEngagementService leadEngagementService;
+    private final IAssignmentService assignmentService;
 
     private static final int QUALIFICATION_SCORE_THRESHOLD = 70;
 
@@ -47,6 +54,7 @@ public class LeadService implements ILeadService {
         lead.setProbability(leadScoringService.calculateSmartScore(lead));
 
         LeadEntity saved = leadPort.save(lead);
+        assignmentService.onWorkloadMoved(tenantId, null, openAssignee(saved));
 
         publishLeadCreatedEvent(saved);
 
@@ -63,6 +71,7 @@ public class LeadService implements ILeadService {
             }
         }
 
+        Long previousAssignee = openAssignee(existing);
         try {
             existing.updateFrom(updates);
         } catch (IllegalStateException e) {
@@ -74,6 +83,7 @@ public class LeadService implements ILeadService {
         }
 
         LeadEntity updated = leadPort.save(existing);
+        assignmentService.onWorkloadMoved(tenantId, previousAssignee, openAssignee(updated));
 
         publishLeadUpdatedEvent(updated);
 
@@ -82,7 +92,8 @@ public class LeadService implements ILeadService {
 
     @Transactional(readOnly = true)
     public Optional<LeadEntity> getLeadById(Long id, Long tenantId) {
-        return leadPort.findById(id, tenantId);
+        return cachePort.getOrLoad(CacheRegion.LEAD, tenantId, id, LeadEntity.class,
+                () -> leadPort.findById(id, tenantId));
     }
 
     @Transactional(readOnly = true)
@@ -156,8 +167,10 @@ public class LeadService implements ILeadService {
 
         // TODO: Validate user exists in account service
 
+        Long previousAssignee = openAssignee(lead);
         lead.setAssignedTo(userId);
         LeadEntity updated = leadPort.save(lead);
+        assignmentService.onWorkloadMoved(tenantId, previousAssignee, openAssignee(updated));
 
         publishLeadUpdatedEvent(updated);
 
@@ -189,8 +202,10 @@ public class LeadService implements ILeadService {
         LeadEntity lead = leadPort.findById(id, tenantId)
                 .orElseThrow(() -> new AppException(ErrorMessage.LEAD_NOT_FOUND));
 
+        Long previousAssignee = openAssignee(lead);
         lead.markAsConverted(tenantId, opportunityId, customerId);
         LeadEntity converted = leadPort.save(lead);
+        assignmentService.onWorkloadMoved(tenantId, previousAssignee, null);
 
         return converted;
     }
@@ -205,11 +220,17 @@ public class LeadService implements ILeadService {
         }
 
         leadPort.deleteById(id, tenantId);
+        leadEngagementService.deleteEngagement(id, tenantId);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(lead), null);
 
         publishLeadDeletedEvent(lead);
 
     }
 
+    private Long openAssignee(LeadEntity lead) {
+        return lead.isOpen() ? lead.getAssignedTo() : null;
+    }
+
     // ========== Event Publishing ==========
 
     private void publishLeadCreatedEvent(LeadEntity lead) {
@@ -15,11 +15,17 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
 import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.OpportunityStage;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.IOpportunityPort;
 import serp.project.crm.core.port.store.ITeamMemberPort;
+import serp.project.crm.core.service.IAssignmentService;
 import serp.project.crm.core.service.IOpportunityService;
+import serp.project.crm.core.service.IPipelineStatService;
+import serp.project.crm.core.service.IStageHistoryService;
+import serp.project.crm.core.service.ITimelineService;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -31,7 +37,12 @@ import java.util.Optional;
 public class OpportunityService implements IOpportunityService {
 
     private final IOpportunityPort opportunityPort;
+    private final ICachePort cachePort;
     private final ITeamMemberPort teamMemberPort;
+    private final IPipelineStatService pipelineStatService;
+    private final ITimelineService timelineService;
+    private final IStageHistoryService stageHistoryService;
+    private final IAssignmentService assignmentService;
 
     @Override
     @Transactional
@@ -40,6 +51,9 @@ public class OpportunityService implements IOpportunityService {
         opportunity.setDefaults();
 
         OpportunityEntity saved = opportunityPort.save(opportunity);
+        pipelineStatService.onOpportunityCreated(saved);
+        stageHistoryService.onOpportunitiesCreated(List.of(saved));
+        assignmentService.onWorkloadMoved(tenantId, null, openAssignee(saved));
 
         publishOpportunityCreatedEvent(saved);
 
@@ -62,6 +76,7 @@ public class OpportunityService implements IOpportunityService {
                     .orElseThrow(() -> new AppException(ErrorMessage.TEAM_MEMBER_NOT_FOUND));
         }
 
+        OpportunityEntity before = statSnapshot(existing);
         try {
             existing.updateFrom(updates);
         } catch (IllegalArgumentException e) {
@@ -69,6 +84,10 @@ public class OpportunityService implements IOpportunityService {
         }
 
         OpportunityEntity updated = opportunityPort.save(existing);
+        pipelineStatService.onOpportunityChanged(before, updated);
+        timelineService.onStageChanged(updated, before.getStage());
+        stageHistoryService.onStageChanged(before, updated);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(before), openAssignee(updated));
 
         publishOpportunityUpdatedEvent(updated);
 
@@ -78,7 +97,8 @@ public class OpportunityService implements IOpportunityService {
     @Override
     @Transactional(readOnly = true)
     public Optional<OpportunityEntity> getOpportunityById(Long id, Long tenantId) {
-        return opportunityPort.findById(id, tenantId);
+        return cachePort.getOrLoad(CacheRegion.OPPORTUNITY, tenantId, id, OpportunityEntity.class,
+                () -> opportunityPort.findById(id, tenantId));
     }
 
     @Override
@@ -137,6 +157,7 @@ public class OpportunityService implements IOpportunityService {
                 .orElseThrow(() -> new AppException(ErrorMessage.OPPORTUNITY_NOT_FOUND));
 
         OpportunityStage oldStage = opportunity.getStage();
+        OpportunityEntity before = statSnapshot(opportunity);
         try {
             opportunity.advanceToStage(newStage, tenantId);
         } catch (AppException e) {
@@ -144,6 +165,10 @@ public class OpportunityService implements IOpportunityService {
         }
 
         OpportunityEntity updated = opportunityPort.save(opportunity);
+        pipelineStatService.onOpportunityChanged(before, updated);
+        timelineService.onStageChanged(updated, oldStage);
+        stageHistoryService.onStageChanged(before, updated);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(before), openAssignee(updated));
 
         publishOpportunityStageChangedEvent(updated, oldStage, newStage);
 
@@ -156,6 +181,7 @@ public class OpportunityService implements IOpportunityService {
         OpportunityEntity opportunity = opportunityPort.findById(id, tenantId)
                 .orElseThrow(() -> new AppException(ErrorMessage.OPPORTUNITY_NOT_FOUND));
 
+        OpportunityEntity before = statSnapshot(opportunity);
         try {
             opportunity.closeAsWon();
         } catch (Exception e) {
@@ -163,6 +189,10 @@ public class OpportunityService implements IOpportunityService {
         }
 
         OpportunityEntity closed = opportunityPort.save(opportunity);
+        pipelineStatService.onOpportunityChanged(before, closed);
+        timelineService.onStageChanged(closed, before.getStage());
+        stageHistoryService.onStageChanged(before, closed);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(before), openAssignee(closed));
 
         publishOpportunityWonEvent(closed);
 
@@ -175,6 +205,7 @@ public class OpportunityService implements IOpportunityService {
         OpportunityEntity opportunity = opportunityPort.findById(id, tenantId)
                 .orElseThrow(() -> new AppException(ErrorMessage.OPPORTUNITY_NOT_FOUND));
 
+        OpportunityEntity before = statSnapshot(opportunity);
         try {
             opportunity.closeAsLost(lostReason);
         } catch (Exception e) {
@@ -182,6 +213,10 @@ public class OpportunityService implements IOpportunityService {
         }
 
         OpportunityEntity closed = opportunityPort.save(opportunity);
+        pipelineStatService.onOpportunityChanged(before, closed);
+        timelineService.onStageChanged(closed, before.getStage());
+        stageHistoryService.onStageChanged(before, closed);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(before), openAssignee(closed));
 
         publishOpportunityLostEvent(closed);
 
@@ -199,6 +234,8 @@ public class OpportunityService implements IOpportunityService {
         }
 
         opportunityPort.deleteById(id, tenantId);
+        pipelineStatService.onOpportunityDeleted(opportunity);
+        assignmentService.onWorkloadMoved(tenantId, openAssignee(opportunity), null);
 
         publishOpportunityDeletedEvent(opportunity);
     }
@@ -211,6 +248,22 @@ public class OpportunityService implements IOpportunityService {
         return opportunityPort.filter(filter, pageRequest, tenantId);
     }
 
+    private OpportunityEntity statSnapshot(OpportunityEntity opportunity) {
+        return OpportunityEntity.builder()
+                .id(opportunity.getId())
+                .tenantId(opportunity.getTenantId())
+                .stage(opportunity.getStage())
+                .stageEnteredAt(opportunity.getStageEnteredAt())
+                .assignedTo(opportunity.getAssignedTo())
+                .estimatedValue(opportunity.getEstimatedValue())
+                .createdAt(opportunity.getCreatedAt())
+                .build();
+    }
+
+    private Long openAssignee(OpportunityEntity opportunity) {
+        return opportunity.isClosed() ? null : opportunity.getAssignedTo();
+    }
+
     private void publishOpportunityCreatedEvent(OpportunityEntity opportunity) {
         log.debug("Event: Opportunity created - ID: {}, Topic: {}", opportunity.getId(),
                 Constants.KafkaTopic.OPPORTUNITY);
@@ -0,0 +1,123 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.port.store.IPipelineStatPort;
+import serp.project.crm.core.service.IPipelineStatService;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineStatService implements IPipelineStatService {
+
+    private final IPipelineStatPort pipelineStatPort;
+
+    @Override
+    @Transactional
+    public void onOpportunityCreated(OpportunityEntity opportunity) {
+        apply(opportunity, 1);
+    }
+
+    @Override
+    @Transactional
+    public void onOpportunitiesCreated(List<OpportunityEntity> opportunities) {
+        // One upsert per bucket instead of one per opportunity
+        Map<Bucket, Long> counts = new LinkedHashMap<>();
+        Map<Bucket, BigDecimal> values = new LinkedHashMap<>();
+        for (OpportunityEntity opportunity : opportunities) {
+            if (opportunity.getStage() == null) {
+                continue;
+            }
+            Bucket bucket = new Bucket(opportunity.getTenantId(), opportunity.getStage(),
+                    PipelineStatEntity.assigneeOf(opportunity.getAssignedTo()),
+                    PipelineStatEntity.periodOf(opportunity.getCreatedAt()));
+            counts.merge(bucket, 1L, Long::sum);
+            values.merge(bucket, opportunity.getEstimatedValue() != null
+                    ? opportunity.getEstimatedValue()
+                    : BigDecimal.ZERO, BigDecimal::add);
+        }
+        counts.forEach((bucket, count) -> pipelineStatPort.increment(bucket.tenantId(), bucket.stage(),
+                bucket.assignedTo(), bucket.periodMonth(), count, values.get(bucket)));
+    }
+
+    @Override
+    @Transactional
+    public void onOpportunityChanged(OpportunityEntity before, OpportunityEntity after) {
+        if (sameBucket(before, after) && sameValue(before, after)) {
+            return;
+        }
+        apply(before, -1);
+        apply(after, 1);
+    }
+
+    @Override
+    @Transactional
+    public void onOpportunityDeleted(OpportunityEntity opportunity) {
+        apply(opportunity, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PipelineStatEntity> getStageTotals(Long tenantId, Long assignedTo, String fromMonth,
+            String toMonth) {
+        return pipelineStatPort.sumByStage(tenantId, assignedTo, fromMonth, toMonth);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildStats(Long tenantId) {
+        int buckets = pipelineStatPort.rebuildForTenant(tenantId);
+        log.info("Rebuilt {} pipeline stat buckets for tenant {}", buckets, tenantId);
+        return buckets;
+    }
+
+    private void apply(OpportunityEntity opportunity, int sign) {
+        if (opportunity == null || opportunity.getStage() == null) {
+            return;
+        }
+        BigDecimal value = opportunity.getEstimatedValue() != null
+                ? opportunity.getEstimatedValue()
+                : BigDecimal.ZERO;
+        pipelineStatPort.increment(
+                opportunity.getTenantId(),
+                opportunity.getStage(),
+                opportunity.getAssignedTo(),
+                PipelineStatEntity.periodOf(opportunity.getCreatedAt()),
+                sign,
+                sign < 0 ? value.negate() : value);
+    }
+
+    private record Bucket(Long tenantId, OpportunityStage stage, Long assignedTo, String periodMonth) {
+    }
+
+    private boolean sameBucket(OpportunityEntity before, OpportunityEntity after) {
+        return before != null && after != null
+                && before.getStage() == after.getStage()
+                && Objects.equals(PipelineStatEntity.assigneeOf(before.getAssignedTo()),
+                        PipelineStatEntity.assigneeOf(after.getAssignedTo()))
+                && Objects.equals(PipelineStatEntity.periodOf(before.getCreatedAt()),
+                        PipelineStatEntity.periodOf(after.getCreatedAt()));
+    }
+
+    private boolean sameValue(OpportunityEntity before, OpportunityEntity after) {
+        BigDecimal beforeValue = before.getEstimatedValue() != null ? before.getEstimatedValue() : BigDecimal.ZERO;
+        BigDecimal afterValue = after.getEstimatedValue() != null ? after.getEstimatedValue() : BigDecimal.ZERO;
+        return beforeValue.compareTo(afterValue) == 0;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.entity.StageFunnelEntity;
+import serp.project.crm.core.domain.entity.StageMetricEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.port.store.IStageHistoryPort;
+import serp.project.crm.core.service.IStageHistoryService;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StageHistoryService implements IStageHistoryService {
+
+    private final IStageHistoryPort stageHistoryPort;
+
+    @Override
+    @Transactional
+    public void onOpportunitiesCreated(List<OpportunityEntity> opportunities) {
+        List<StageTransitionEntity> transitions = new ArrayList<>();
+        Map<Bucket, Long> counts = new LinkedHashMap<>();
+        for (OpportunityEntity opportunity : opportunities) {
+            if (opportunity.getStage() == null) {
+                continue;
+            }
+            StageTransitionEntity transition = transitionOf(opportunity, null, null);
+            transitions.add(transition);
+            counts.merge(bucketOf(transition), 1L, Long::sum);
+        }
+        stageHistoryPort.appendAll(transitions);
+        counts.forEach((bucket, count) -> stageHistoryPort.increment(bucket.tenantId(), null,
+                bucket.toStage(), bucket.periodMonth(), count, 0));
+    }
+
+    @Override
+    @Transactional
+    public void onStageChanged(OpportunityEntity before, OpportunityEntity after) {
+        if (before == null || after == null || before.getStage() == after.getStage()) {
+            return;
+        }
+        Long enteredAt = before.stageEnteredAtOrCreated();
+        Long timeInStage = enteredAt != null && after.getStageEnteredAt() != null
+                ? Math.max(0L, after.getStageEnteredAt() - enteredAt)
+                : null;
+
+        StageTransitionEntity transition = transitionOf(after, before.getStage(), timeInStage);
+        stageHistoryPort.appendAll(List.of(transition));
+        stageHistoryPort.increment(transition.getTenantId(), transition.getFromStage(), transition.getToStage(),
+                PipelineStatEntity.periodOf(transition.getTransitionedAt()), 1,
+                timeInStage != null ? timeInStage : 0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StageTransitionEntity> getHistory(Long opportunityId, Long tenantId) {
+        return stageHistoryPort.findByOpportunityId(opportunityId, tenantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StageFunnelEntity> getFunnel(Long tenantId, String fromMonth, String toMonth) {
+        Map<OpportunityStage, StageFunnelEntity> funnel = new EnumMap<>(OpportunityStage.class);
+        for (OpportunityStage stage : OpportunityStage.values()) {
+            funnel.put(stage, StageFunnelEntity.builder()
+                    .stage(stage)
+                    .exitsTo(new EnumMap<>(OpportunityStage.class))
+                    .build());
+        }
+
+        for (StageMetricEntity metric : stageHistoryPort.sumByTransition(tenantId, fromMonth, toMonth)) {
+            long count = metric.getTransitionCount() != null ? metric.getTransitionCount() : 0L;
+            StageFunnelEntity target = funnel.get(metric.getToStage());
+            target.setEnteredCount(target.getEnteredCount() + count);
+
+            if (metric.getFromStage() == null) {
+                continue;
+            }
+            StageFunnelEntity source = funnel.get(metric.getFromStage());
+            source.setExitedCount(source.getExitedCount() + count);
+            source.setTotalTimeInStageMs(source.getTotalTimeInStageMs()
+                    + (metric.getTotalTimeInStageMs() != null ? metric.getTotalTimeInStageMs() : 0L));
+            source.getExitsTo().merge(metric.getToStage(), count, Long::sum);
+        }
+        return List.copyOf(funnel.values());
+    }
+
+    private StageTransitionEntity transitionOf(OpportunityEntity opportunity, OpportunityStage fromStage,
+            Long timeInStage) {
+        Long transitionedAt = opportunity.stageEnteredAtOrCreated();
+        return StageTransitionEntity.builder()
+                .tenantId(opportunity.getTenantId())
+                .opportunityId(opportunity.getId())
+                .fromStage(fromStage)
+                .toStage(opportunity.getStage())
+                .transitionedAt(transitionedAt != null ? transitionedAt : System.currentTimeMillis())
+                .timeInStageMs(timeInStage)
+                .assignedTo(opportunity.getAssignedTo())
+                .estimatedValue(opportunity.getEstimatedValue())
+                .createdBy(opportunity.getUpdatedBy() != null ? opportunity.getUpdatedBy() : opportunity.getCreatedBy())
+                .build();
+    }
+
+    private Bucket bucketOf(StageTransitionEntity transition) {
+        return new Bucket(transition.getTenantId(), transition.getToStage(),
+                PipelineStatEntity.periodOf(transition.getTransitionedAt()));
+    }
+
+    private record Bucket(Long tenantId, OpportunityStage toStage, String periodMonth) {
+    }
+}
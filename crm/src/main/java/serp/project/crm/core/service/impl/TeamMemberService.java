@@ -15,10 +15,13 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.response.user.UserProfileResponse;
 import serp.project.crm.core.domain.entity.TeamMemberEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.TeamMemberStatus;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.port.client.IUserProfileClient;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ITeamMemberPort;
+import serp.project.crm.core.service.IAssignmentService;
 import serp.project.crm.core.service.ITeamMemberService;
 import serp.project.crm.core.service.ITeamService;
 
@@ -32,9 +35,11 @@ import java.util.Optional;
 public class TeamMemberService implements ITeamMemberService {
 
     private final ITeamMemberPort teamMemberPort;
+    private final ICachePort cachePort;
     private final IUserProfileClient userProfileClient;
 
     private final ITeamService teamService;
+    private final IAssignmentService assignmentService;
 
     private static final List<String> ALLOWED_ROLES = List.of("LEADER", "MEMBER", "VIEWER");
 
@@ -60,6 +65,7 @@ public class TeamMemberService implements ITeamMemberService {
         }
 
         TeamMemberEntity saved = teamMemberPort.save(teamMember);
+        assignmentService.invalidate(tenantId);
 
         publishTeamMemberAddedEvent(saved);
 
@@ -75,6 +81,9 @@ public class TeamMemberService implements ITeamMemberService {
         existing.updateFrom(updates);
 
         TeamMemberEntity updated = teamMemberPort.save(existing);
+        if (updates.getStatus() != null || updates.getAssignmentWeight() != null) {
+            assignmentService.invalidate(tenantId);
+        }
 
         publishTeamMemberUpdatedEvent(updated);
 
@@ -84,7 +93,8 @@ public class TeamMemberService implements ITeamMemberService {
     @Override
     @Transactional(readOnly = true)
     public Optional<TeamMemberEntity> getTeamMemberById(Long id, Long tenantId) {
-        return teamMemberPort.findById(id, tenantId);
+        return cachePort.getOrLoad(CacheRegion.TEAM_MEMBER, tenantId, id, TeamMemberEntity.class,
+                () -> teamMemberPort.findById(id, tenantId));
     }
 
     @Override
@@ -134,6 +144,7 @@ public class TeamMemberService implements ITeamMemberService {
                 .orElseThrow(() -> new AppException(ErrorMessage.TEAM_MEMBER_NOT_FOUND));
 
         teamMemberPort.deleteById(id, tenantId);
+        assignmentService.invalidate(tenantId);
 
         publishTeamMemberRemovedEvent(teamMember);
 
@@ -0,0 +1,165 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.constant.Constants;
+import serp.project.crm.core.domain.constant.ErrorMessage;
+import serp.project.crm.core.domain.entity.ActivityEntity;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
+import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.TimelineEventEntity;
+import serp.project.crm.core.domain.entity.TimelinePageEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.domain.enums.TimelineEventType;
+import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.port.store.ITimelineEventPort;
+import serp.project.crm.core.service.ITimelineService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineService implements ITimelineService {
+
+    private final ITimelineEventPort timelineEventPort;
+
+    @Override
+    @Transactional
+    public void onActivitiesLogged(List<ActivityEntity> activities) {
+        List<TimelineEventEntity> events = new ArrayList<>();
+        for (ActivityEntity activity : activities) {
+            long occurredAt = activity.getActivityDate() != null
+                    ? activity.getActivityDate()
+                    : System.currentTimeMillis();
+            fanOut(events, activityEvent(activity, TimelineEventType.ACTIVITY_LOGGED, occurredAt,
+                    activity.getCreatedBy()), activity.getLeadId(), activity.getCustomerId(),
+                    activity.getOpportunityId());
+        }
+        timelineEventPort.appendAll(events);
+    }
+
+    @Override
+    @Transactional
+    public void onActivityChanged(ActivityEntity activity, TimelineEventType eventType) {
+        List<TimelineEventEntity> events = new ArrayList<>();
+        fanOut(events, activityEvent(activity, eventType, System.currentTimeMillis(), activity.getUpdatedBy()),
+                activity.getLeadId(), activity.getCustomerId(), activity.getOpportunityId());
+        timelineEventPort.appendAll(events);
+    }
+
+    @Override
+    @Transactional
+    public void onStageChanged(OpportunityEntity opportunity, OpportunityStage previousStage) {
+        if (previousStage == opportunity.getStage()) {
+            return;
+        }
+        TimelineEventEntity template = TimelineEventEntity.builder()
+                .tenantId(opportunity.getTenantId())
+                .eventType(TimelineEventType.STAGE_CHANGED)
+                .occurredAt(System.currentTimeMillis())
+                .sourceId(opportunity.getId())
+                .title(opportunity.getName())
+                .detail(previousStage + " -> " + opportunity.getStage())
+                .createdBy(opportunity.getUpdatedBy())
+                .build();
+
+        List<TimelineEventEntity> events = new ArrayList<>();
+        fanOut(events, template, opportunity.getLeadId(), opportunity.getCustomerId(), opportunity.getId());
+        timelineEventPort.appendAll(events);
+    }
+
+    @Override
+    @Transactional
+    public void onLeadsConverted(List<LeadConversionEntity> conversions, Long tenantId, Long userId) {
+        long now = System.currentTimeMillis();
+        List<TimelineEventEntity> events = new ArrayList<>();
+        for (LeadConversionEntity conversion : conversions) {
+            if (!conversion.isConverted()) {
+                continue;
+            }
+            TimelineEventEntity template = TimelineEventEntity.builder()
+                    .tenantId(tenantId)
+                    .eventType(TimelineEventType.LEAD_CONVERTED)
+                    .occurredAt(now)
+                    .sourceId(conversion.getLeadId())
+                    .createdBy(userId)
+                    .build();
+            fanOut(events, template, conversion.getLeadId(), conversion.getCustomerId(),
+                    conversion.getOpportunityId());
+        }
+        timelineEventPort.appendAll(events);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TimelinePageEntity getTimeline(TimelineEntityType entityType, Long entityId, Long tenantId, String cursor,
+            int size) {
+        int limit = Math.clamp(size, Constants.Pagination.MIN_SIZE, Constants.Pagination.MAX_SIZE);
+        long beforeOccurredAt = Long.MAX_VALUE;
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                beforeOccurredAt = Long.parseLong(parts[0]);
+                beforeId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new AppException(ErrorMessage.TIMELINE_CURSOR_INVALID);
+            }
+        }
+
+        // One extra row tells whether another page exists without a count query
+        List<TimelineEventEntity> events = timelineEventPort.findPageBefore(entityType, entityId, tenantId,
+                beforeOccurredAt, beforeId, limit + 1);
+        boolean hasMore = events.size() > limit;
+        List<TimelineEventEntity> page = hasMore ? events.subList(0, limit) : events;
+        return TimelinePageEntity.builder()
+                .events(page)
+                .nextCursor(hasMore ? page.get(page.size() - 1).cursor() : null)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int backfill(Long tenantId) {
+        int inserted = timelineEventPort.backfill(tenantId);
+        log.info("Backfilled {} timeline events for tenant {}", inserted, tenantId);
+        return inserted;
+    }
+
+    private TimelineEventEntity activityEvent(ActivityEntity activity, TimelineEventType eventType, long occurredAt,
+            Long actor) {
+        return TimelineEventEntity.builder()
+                .tenantId(activity.getTenantId())
+                .eventType(eventType)
+                .occurredAt(occurredAt)
+                .sourceId(activity.getId())
+                .activityType(activity.getActivityType() != null ? activity.getActivityType().name() : null)
+                .title(activity.getSubject())
+                .createdBy(actor)
+                .build();
+    }
+
+    private void fanOut(List<TimelineEventEntity> events, TimelineEventEntity template, Long leadId,
+            Long customerId, Long opportunityId) {
+        addStream(events, template, TimelineEntityType.LEAD, leadId);
+        addStream(events, template, TimelineEntityType.CUSTOMER, customerId);
+        addStream(events, template, TimelineEntityType.OPPORTUNITY, opportunityId);
+    }
+
+    private void addStream(List<TimelineEventEntity> events, TimelineEventEntity template,
+            TimelineEntityType entityType, Long entityId) {
+        if (entityId != null) {
+            events.add(template.forStream(entityType, entityId));
+        }
+    }
+}
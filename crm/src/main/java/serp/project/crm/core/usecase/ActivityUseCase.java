@@ -14,9 +14,12 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.GeneralResponse;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.PageResponse;
+import serp.project.crm.core.domain.dto.request.BulkCreateActivityRequest;
 import serp.project.crm.core.domain.dto.request.CreateActivityRequest;
 import serp.project.crm.core.domain.dto.request.UpdateActivityRequest;
 import serp.project.crm.core.domain.dto.response.ActivityResponse;
+import serp.project.crm.core.domain.dto.response.BulkActivityResponse;
+import serp.project.crm.core.domain.entity.ActivityCreationEntity;
 import serp.project.crm.core.domain.entity.ActivityEntity;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.mapper.ActivityDtoMapper;
@@ -53,6 +56,24 @@ public class ActivityUseCase {
         }
     }
 
+    public GeneralResponse<?> bulkCreateActivities(BulkCreateActivityRequest request, Long userId, Long tenantId) {
+        try {
+            List<ActivityEntity> activities = request.getActivities().stream()
+                    .map(activityDtoMapper::toEntity)
+                    .toList();
+            List<ActivityCreationEntity> results = activityService.createActivities(activities, userId, tenantId);
+            BulkActivityResponse response = activityDtoMapper.toBulkResponse(results);
+
+            log.info("[ActivityUseCase] Bulk activity logging for tenant {}: {} created, {} failed",
+                    tenantId, response.getCreated(), response.getFailed());
+            return responseUtils.success(response, "Bulk activity logging completed");
+
+        } catch (Exception e) {
+            log.error("[ActivityUseCase] Unexpected error logging activities: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to log activities");
+        }
+    }
+
     @Transactional(rollbackFor = Exception.class)
     public GeneralResponse<?> updateActivity(Long id, UpdateActivityRequest request, Long tenantId) {
         try {
@@ -17,8 +17,11 @@ import serp.project.crm.core.domain.dto.PageResponse;
 import serp.project.crm.core.domain.dto.request.CreateCustomerRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.dto.request.UpdateCustomerRequest;
+import serp.project.crm.core.domain.dto.response.CustomerHierarchyNodeResponse;
 import serp.project.crm.core.domain.dto.response.CustomerResponse;
+import serp.project.crm.core.domain.dto.response.CustomerRollupResponse;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.mapper.CustomerDtoMapper;
 import serp.project.crm.core.service.ICustomerService;
@@ -148,4 +151,62 @@ public class CustomerUseCase {
             return responseUtils.internalServerError("Failed to delete customer");
         }
     }
+
+    public GeneralResponse<?> reconcileRevenueRollups(Long tenantId) {
+        try {
+            int corrected = customerService.reconcileRevenueRollups(tenantId);
+
+            log.info("[CustomerUseCase] Revenue rollups reconciled for tenant {}: {}", tenantId, corrected);
+            return responseUtils.success(corrected, "Customer revenue rollups reconciled");
+
+        } catch (Exception e) {
+            log.error("[CustomerUseCase] Unexpected error reconciling revenue rollups: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to reconcile customer revenue rollups");
+        }
+    }
+
+    public GeneralResponse<?> getCustomerHierarchy(Long id, Long tenantId) {
+        try {
+            List<CustomerEntity> tree = customerService.getCustomerTree(id, tenantId);
+            CustomerHierarchyNodeResponse response = customerDtoMapper.toHierarchy(tree);
+
+            return responseUtils.success(response);
+
+        } catch (AppException e) {
+            log.error("[CustomerUseCase] Error getting customer hierarchy: {}", e.getMessage());
+            return responseUtils.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("[CustomerUseCase] Unexpected error getting customer hierarchy: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to get customer hierarchy");
+        }
+    }
+
+    public GeneralResponse<?> getCustomerRollup(Long id, Long tenantId) {
+        try {
+            CustomerRollupEntity rollup = customerService.getCustomerRollup(id, tenantId);
+            CustomerRollupResponse response = customerDtoMapper.toRollupResponse(rollup);
+
+            return responseUtils.success(response);
+
+        } catch (AppException e) {
+            log.error("[CustomerUseCase] Error getting customer rollup: {}", e.getMessage());
+            return responseUtils.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("[CustomerUseCase] Unexpected error getting customer rollup: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to get customer rollup");
+        }
+    }
+
+    public GeneralResponse<?> rebuildHierarchy(Long tenantId) {
+        try {
+            int updated = customerService.rebuildHierarchy(tenantId);
+
+            log.info("[CustomerUseCase] Customer hierarchy rebuilt for tenant {}: {}", tenantId, updated);
+            return responseUtils.success(updated, "Customer hierarchy rebuilt");
+
+        } catch (Exception e) {
+            log.error("[CustomerUseCase] Unexpected error rebuilding customer hierarchy: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to rebuild customer hierarchy");
+        }
+    }
 }
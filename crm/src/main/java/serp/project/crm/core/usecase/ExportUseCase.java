@@ -0,0 +1,79 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
+import serp.project.crm.core.domain.enums.ExportFormat;
+import serp.project.crm.core.service.IExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportUseCase {
+
+    private final IExportService exportService;
+
+    public void exportLeads(LeadFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            boolean gzip, OutputStream out) throws IOException {
+        export("leads", tenantId, gzip, out,
+                target -> exportService.exportLeads(filter, tenantId, afterId, format, target));
+    }
+
+    public void exportCustomers(CustomerFilterRequest filter, Long tenantId, Long afterId, ExportFormat format,
+            boolean gzip, OutputStream out) throws IOException {
+        export("customers", tenantId, gzip, out,
+                target -> exportService.exportCustomers(filter, tenantId, afterId, format, target));
+    }
+
+    public void exportOpportunities(OpportunityFilterRequest filter, Long tenantId, Long afterId,
+            ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        export("opportunities", tenantId, gzip, out,
+                target -> exportService.exportOpportunities(filter, tenantId, afterId, format, target));
+    }
+
+    public void exportActivities(Long tenantId, Long afterId, ExportFormat format, boolean gzip,
+            OutputStream out) throws IOException {
+        export("activities", tenantId, gzip, out,
+                target -> exportService.exportActivities(tenantId, afterId, format, target));
+    }
+
+    private void export(String resource, Long tenantId, boolean gzip, OutputStream out, ExportTask task)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        try {
+            long rows;
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, true);
+                rows = task.run(gzipOut);
+                gzipOut.finish();
+            } else {
+                rows = task.run(out);
+            }
+            log.info("Exported {} {} for tenant {} in {} ms", rows, resource, tenantId,
+                    System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.warn("Export of {} for tenant {} aborted: {}", resource, tenantId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error exporting {} for tenant {}: {}", resource, tenantId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExportTask {
+        long run(OutputStream out) throws IOException;
+    }
+}
@@ -14,22 +14,31 @@ import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.GeneralResponse;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.PageResponse;
+import serp.project.crm.core.domain.dto.request.AutoAssignLeadRequest;
+import serp.project.crm.core.domain.dto.request.BulkConvertLeadRequest;
 import serp.project.crm.core.domain.dto.request.ConvertLeadRequest;
 import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
 import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
 import serp.project.crm.core.domain.dto.request.QualifyLeadRequest;
 import serp.project.crm.core.domain.dto.request.UpdateLeadRequest;
+import serp.project.crm.core.domain.dto.response.BulkLeadConversionResponse;
 import serp.project.crm.core.domain.dto.response.LeadConversionResponse;
+import serp.project.crm.core.domain.dto.response.LeadImportJobResponse;
 import serp.project.crm.core.domain.dto.response.LeadResponse;
-import serp.project.crm.core.domain.entity.ContactEntity;
-import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.AutoAssignResultEntity;
+import serp.project.crm.core.domain.entity.LeadConversionEntity;
 import serp.project.crm.core.domain.entity.LeadEntity;
-import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.LeadImportJobEntity;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.mapper.LeadDtoMapper;
 import serp.project.crm.core.service.*;
 import serp.project.crm.kernel.utils.ResponseUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 
 @Service
@@ -38,9 +47,10 @@ import java.util.List;
 public class LeadUseCase {
 
     private final ILeadService leadService;
-    private final ICustomerService customerService;
-    private final IOpportunityService opportunityService;
-    private final IContactService contactService;
+    private final ILeadScoringService leadScoringService;
+    private final ILeadImportService leadImportService;
+    private final ILeadConversionService leadConversionService;
+    private final IAssignmentService assignmentService;
 
     private final LeadDtoMapper leadDtoMapper;
     private final ResponseUtils responseUtils;
@@ -105,54 +115,55 @@ public class LeadUseCase {
         }
     }
 
-    @Transactional(rollbackFor = Exception.class)
-    public GeneralResponse<?> convertLead(ConvertLeadRequest request, Long tenantId) {
+    public GeneralResponse<?> convertLead(ConvertLeadRequest request, Long tenantId, Long userId) {
         try {
-            LeadEntity lead = leadService.getLeadById(request.getLeadId(), tenantId)
-                    .orElseThrow(() -> new AppException(ErrorMessage.LEAD_NOT_FOUND));
-            if (!lead.canBeConverted()) {
-                return responseUtils.badRequest(ErrorMessage.LEAD_CANNOT_BE_CONVERTED);
+            LeadConversionEntity conversion = leadConversionService
+                    .convertLeads(List.of(request), tenantId, userId).get(0);
+            if (!conversion.isConverted()) {
+                log.error("Error converting lead {}: {}", request.getLeadId(), conversion.getError());
+                return responseUtils.badRequest(conversion.getError());
             }
 
-            Long customerId;
-            if (Boolean.TRUE.equals(request.getCreateNewCustomer())) {
-                CustomerEntity customer = leadDtoMapper.toCustomerEntity(lead);
-
-                CustomerEntity createdCustomer = customerService.createCustomer(customer, tenantId);
-                customerId = createdCustomer.getId();
-                log.info("Created new customer ID: {} from lead", customerId);
-            } else {
-                customerId = request.getExistingCustomerId();
-                if (customerId == null) {
-                    return responseUtils
-                            .badRequest("Either createNewCustomer must be true or existingCustomerId must be provided");
-                }
-                customerService.getCustomerById(customerId, tenantId)
-                        .orElseThrow(() -> new AppException(ErrorMessage.CUSTOMER_NOT_FOUND));
-                log.info("Using existing customer ID: {}", customerId);
-            }
+            LeadConversionResponse response = leadDtoMapper.toConversionResponse(conversion);
 
-            ContactEntity contact = leadDtoMapper.toContactEntity(lead, customerId);
-            ContactEntity createdContact = contactService.createContact(contact, tenantId, tenantId); // TODO: fix userId
-            log.info("Created contact ID: {} from lead", createdContact.getId());
+            log.info("Lead conversion completed successfully");
+            return responseUtils.success(response, "Lead converted successfully");
 
-            OpportunityEntity opportunity = leadDtoMapper.toOpportunityEntity(lead, customerId, request);
-            OpportunityEntity createdOpportunity = opportunityService.createOpportunity(opportunity, tenantId);
+        } catch (Exception e) {
+            log.error("Unexpected error converting lead: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to convert lead");
+        }
+    }
 
-            leadService.convertLead(request.getLeadId(), customerId, createdOpportunity.getId(), tenantId);
+    public GeneralResponse<?> bulkConvertLeads(BulkConvertLeadRequest request, Long tenantId, Long userId) {
+        try {
+            List<LeadConversionEntity> conversions = leadConversionService
+                    .convertLeads(request.getConversions(), tenantId, userId);
+            BulkLeadConversionResponse response = leadDtoMapper.toBulkConversionResponse(conversions);
 
-            LeadConversionResponse response = leadDtoMapper.toConversionResponse(
-                    request.getLeadId(), customerId, createdOpportunity.getId(), createdContact.getId());
+            log.info("Bulk lead conversion for tenant {}: {} converted, {} failed",
+                    tenantId, response.getConverted(), response.getFailed());
+            return responseUtils.success(response, "Bulk lead conversion completed");
 
-            log.info("Lead conversion completed successfully");
-            return responseUtils.success(response, "Lead converted successfully");
+        } catch (Exception e) {
+            log.error("Unexpected error bulk converting leads: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to convert leads");
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public GeneralResponse<?> autoAssignLeads(AutoAssignLeadRequest request, Long tenantId, Long userId) {
+        try {
+            AutoAssignResultEntity result = assignmentService.autoAssignLeads(tenantId, request.getStrategy(),
+                    request.getLimit(), userId);
+            return responseUtils.success(leadDtoMapper.toAutoAssignResponse(result), "Leads auto-assigned");
 
         } catch (AppException e) {
-            log.error("Error converting lead: {}", e.getMessage());
-            throw e;
+            log.error("Error auto-assigning leads: {}", e.getMessage());
+            return responseUtils.badRequest(e.getMessage());
         } catch (Exception e) {
-            log.error("Unexpected error converting lead: {}", e.getMessage(), e);
-            return responseUtils.internalServerError("Failed to convert lead");
+            log.error("Unexpected error auto-assigning leads: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to auto-assign leads");
         }
     }
 
@@ -216,6 +227,19 @@ public class LeadUseCase {
         }
     }
 
+    public GeneralResponse<?> rescoreLeads(Long tenantId, boolean rebuildAggregates) {
+        try {
+            int rescored = leadScoringService.rescoreTenant(tenantId, rebuildAggregates);
+
+            log.info("Leads rescored for tenant {}: {}", tenantId, rescored);
+            return responseUtils.success(rescored, "Leads rescored successfully");
+
+        } catch (Exception e) {
+            log.error("Unexpected error rescoring leads: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to rescore leads");
+        }
+    }
+
     @Transactional
     public GeneralResponse<?> deleteLead(Long id, Long tenantId) {
         try {
@@ -233,4 +257,44 @@ public class LeadUseCase {
         }
     }
 
+    public GeneralResponse<?> importLeads(InputStream content, String fileName, boolean csv, Long tenantId,
+            Long userId) {
+        Path file = null;
+        try {
+            // Stage the upload so the async job outlives the request
+            file = Files.createTempFile("lead-import-", csv ? ".csv" : ".json");
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+
+            LeadImportJobEntity job = leadImportService.startImport(file, fileName, csv, tenantId, userId);
+            LeadImportJobResponse response = leadDtoMapper.toImportJobResponse(job, false);
+            return responseUtils.success(response, "Lead import started");
+
+        } catch (IOException e) {
+            log.error("Error staging lead import file {}: {}", fileName, e.getMessage());
+            deleteQuietly(file);
+            throw new AppException(ErrorMessage.LEAD_IMPORT_FILE_UNREADABLE);
+        } catch (Exception e) {
+            log.error("Unexpected error starting lead import: {}", e.getMessage(), e);
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    public GeneralResponse<?> getImportJob(String jobId, boolean includeErrors, Long tenantId) {
+        return leadImportService.getJob(jobId, tenantId)
+                .<GeneralResponse<?>>map(job -> responseUtils.success(
+                        leadDtoMapper.toImportJobResponse(job, includeErrors)))
+                .orElseGet(() -> responseUtils.notFound(ErrorMessage.LEAD_IMPORT_JOB_NOT_FOUND));
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete staged import file {}: {}", file, e.getMessage());
+        }
+    }
 }
@@ -18,19 +18,31 @@ import serp.project.crm.core.domain.dto.request.CreateOpportunityRequest;
 import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
 import serp.project.crm.core.domain.dto.request.UpdateOpportunityRequest;
 import serp.project.crm.core.domain.dto.response.OpportunityResponse;
+import serp.project.crm.core.domain.dto.response.PipelineDashboardResponse;
+import serp.project.crm.core.domain.dto.response.StageFunnelResponse;
+import serp.project.crm.core.domain.dto.response.StageTransitionResponse;
 import serp.project.crm.core.domain.entity.CustomerEntity;
 import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.entity.StageFunnelEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
 import serp.project.crm.core.domain.entity.TeamMemberEntity;
 import serp.project.crm.core.domain.enums.OpportunityStage;
 import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.mapper.OpportunityDtoMapper;
 import serp.project.crm.core.service.ICustomerService;
 import serp.project.crm.core.service.IOpportunityService;
+import serp.project.crm.core.service.IPipelineStatService;
+import serp.project.crm.core.service.IStageHistoryService;
 import serp.project.crm.core.service.ITeamMemberService;
 import serp.project.crm.kernel.utils.ResponseUtils;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +52,8 @@ public class OpportunityUseCase {
     private final IOpportunityService opportunityService;
     private final ICustomerService customerService;
     private final ITeamMemberService teamMemberService;
+    private final IPipelineStatService pipelineStatService;
+    private final IStageHistoryService stageHistoryService;
 
     private final OpportunityDtoMapper opportunityDtoMapper;
     private final ResponseUtils responseUtils;
@@ -244,4 +258,142 @@ public class OpportunityUseCase {
             return responseUtils.internalServerError("Failed to filter opportunities");
         }
     }
+
+    @Transactional(readOnly = true)
+    public GeneralResponse<?> getPipelineDashboard(Long tenantId, Long assignedTo, String fromMonth, String toMonth) {
+        try {
+            List<PipelineStatEntity> totals = pipelineStatService.getStageTotals(tenantId, assignedTo, fromMonth,
+                    toMonth);
+            return responseUtils.success(buildDashboard(totals, assignedTo, fromMonth, toMonth));
+        } catch (Exception e) {
+            log.error("Error fetching pipeline dashboard: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to fetch pipeline dashboard");
+        }
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public GeneralResponse<?> rebuildPipelineStats(Long tenantId) {
+        try {
+            int buckets = pipelineStatService.rebuildStats(tenantId);
+            return responseUtils.success(buckets, "Pipeline statistics rebuilt successfully");
+        } catch (Exception e) {
+            log.error("Unexpected error rebuilding pipeline statistics: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public GeneralResponse<?> getStageHistory(Long id, Long tenantId) {
+        try {
+            opportunityService.getOpportunityById(id, tenantId)
+                    .orElseThrow(() -> new AppException(ErrorMessage.OPPORTUNITY_NOT_FOUND));
+            List<StageTransitionEntity> transitions = stageHistoryService.getHistory(id, tenantId);
+            return responseUtils.success(transitions.stream().map(this::toTransitionResponse).toList());
+        } catch (AppException e) {
+            log.error("Error fetching stage history: {}", e.getMessage());
+            return responseUtils.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error fetching stage history: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to fetch stage history");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public GeneralResponse<?> getStageFunnel(Long tenantId, String fromMonth, String toMonth) {
+        try {
+            List<StageFunnelEntity> funnel = stageHistoryService.getFunnel(tenantId, fromMonth, toMonth);
+            return responseUtils.success(buildFunnel(funnel, fromMonth, toMonth));
+        } catch (Exception e) {
+            log.error("Error fetching stage funnel: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to fetch stage funnel");
+        }
+    }
+
+    private PipelineDashboardResponse buildDashboard(List<PipelineStatEntity> totals, Long assignedTo,
+            String fromMonth, String toMonth) {
+        Map<OpportunityStage, PipelineStatEntity> byStage = new EnumMap<>(OpportunityStage.class);
+        totals.forEach(total -> byStage.put(total.getStage(), total));
+
+        List<PipelineDashboardResponse.StageSummary> stages = new ArrayList<>();
+        long openCount = 0;
+        BigDecimal openValue = BigDecimal.ZERO;
+        for (OpportunityStage stage : OpportunityStage.values()) {
+            PipelineStatEntity total = byStage.get(stage);
+            long count = total != null ? total.countOrZero() : 0L;
+            BigDecimal value = total != null ? total.valueOrZero() : BigDecimal.ZERO;
+            stages.add(PipelineDashboardResponse.StageSummary.builder()
+                    .stage(stage)
+                    .count(count)
+                    .totalValue(value)
+                    .build());
+            if (stage.isActive()) {
+                openCount += count;
+                openValue = openValue.add(value);
+            }
+        }
+
+        PipelineDashboardResponse.StageSummary won = stages.get(OpportunityStage.CLOSED_WON.ordinal());
+        PipelineDashboardResponse.StageSummary lost = stages.get(OpportunityStage.CLOSED_LOST.ordinal());
+        long closedCount = won.getCount() + lost.getCount();
+        Double winRate = closedCount > 0
+                ? BigDecimal.valueOf(won.getCount() * 100.0 / closedCount).setScale(2, RoundingMode.HALF_UP)
+                        .doubleValue()
+                : null;
+
+        return PipelineDashboardResponse.builder()
+                .assignedTo(assignedTo)
+                .fromMonth(fromMonth)
+                .toMonth(toMonth)
+                .stages(stages)
+                .openCount(openCount)
+                .openValue(openValue)
+                .wonCount(won.getCount())
+                .wonValue(won.getTotalValue())
+                .lostCount(lost.getCount())
+                .lostValue(lost.getTotalValue())
+                .winRate(winRate)
+                .build();
+    }
+
+    private StageFunnelResponse buildFunnel(List<StageFunnelEntity> funnel, String fromMonth, String toMonth) {
+        List<StageFunnelResponse.StageSummary> stages = funnel.stream()
+                .map(stage -> StageFunnelResponse.StageSummary.builder()
+                        .stage(stage.getStage())
+                        .enteredCount(stage.getEnteredCount())
+                        .exitedCount(stage.getExitedCount())
+                        .averageTimeInStageMs(stage.averageTimeInStageMs())
+                        .advanceRate(percent(stage.getExitedCount() - stage.getExitsTo()
+                                .getOrDefault(OpportunityStage.CLOSED_LOST, 0L), stage.getExitedCount()))
+                        .winRate(percent(stage.getExitsTo().getOrDefault(OpportunityStage.CLOSED_WON, 0L),
+                                stage.getExitedCount()))
+                        .exitsTo(stage.getExitsTo())
+                        .build())
+                .toList();
+
+        return StageFunnelResponse.builder()
+                .fromMonth(fromMonth)
+                .toMonth(toMonth)
+                .stages(stages)
+                .build();
+    }
+
+    private StageTransitionResponse toTransitionResponse(StageTransitionEntity transition) {
+        return StageTransitionResponse.builder()
+                .id(transition.getId())
+                .opportunityId(transition.getOpportunityId())
+                .fromStage(transition.getFromStage())
+                .toStage(transition.getToStage())
+                .transitionedAt(transition.getTransitionedAt())
+                .timeInStageMs(transition.getTimeInStageMs())
+                .assignedTo(transition.getAssignedTo())
+                .estimatedValue(transition.getEstimatedValue())
+                .createdBy(transition.getCreatedBy())
+                .build();
+    }
+
+    private Double percent(long part, long whole) {
+        return whole > 0
+                ? BigDecimal.valueOf(part * 100.0 / whole).setScale(2, RoundingMode.HALF_UP).doubleValue()
+                : null;
+    }
 }
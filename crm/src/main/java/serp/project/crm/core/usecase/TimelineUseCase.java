@@ -0,0 +1,54 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.core.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import serp.project.crm.core.domain.dto.GeneralResponse;
+import serp.project.crm.core.domain.entity.TimelinePageEntity;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.exception.AppException;
+import serp.project.crm.core.mapper.TimelineDtoMapper;
+import serp.project.crm.core.service.ITimelineService;
+import serp.project.crm.kernel.utils.ResponseUtils;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TimelineUseCase {
+
+    private final ITimelineService timelineService;
+    private final TimelineDtoMapper timelineDtoMapper;
+    private final ResponseUtils responseUtils;
+
+    public GeneralResponse<?> getTimeline(TimelineEntityType entityType, Long entityId, Long tenantId,
+            String cursor, int size) {
+        try {
+            TimelinePageEntity page = timelineService.getTimeline(entityType, entityId, tenantId, cursor, size);
+            return responseUtils.success(timelineDtoMapper.toPageResponse(page));
+
+        } catch (AppException e) {
+            log.error("[TimelineUseCase] Error fetching {} {} timeline: {}", entityType, entityId, e.getMessage());
+            return responseUtils.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("[TimelineUseCase] Unexpected error fetching {} {} timeline: {}", entityType, entityId,
+                    e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to fetch timeline");
+        }
+    }
+
+    public GeneralResponse<?> backfill(Long tenantId) {
+        try {
+            int inserted = timelineService.backfill(tenantId);
+            return responseUtils.success(inserted, "Timeline backfill completed");
+
+        } catch (Exception e) {
+            log.error("[TimelineUseCase] Unexpected error backfilling timeline: {}", e.getMessage(), e);
+            return responseUtils.internalServerError("Failed to backfill timeline");
+        }
+    }
+}
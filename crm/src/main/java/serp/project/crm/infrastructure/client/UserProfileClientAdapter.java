@@ -7,6 +7,7 @@ package serp.project.crm.infrastructure.client;
 
 import java.util.Map;
 
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -18,7 +19,6 @@ import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.port.client.IUserProfileClient;
 import serp.project.crm.kernel.property.ExternalServiceProperties;
 import serp.project.crm.kernel.utils.HttpClientHelper;
-import serp.project.crm.kernel.utils.JsonUtils;
 import serp.project.crm.kernel.utils.TokenUtils;
 
 @Component
@@ -26,12 +26,16 @@ import serp.project.crm.kernel.utils.TokenUtils;
 @Slf4j
 public class UserProfileClientAdapter implements IUserProfileClient {
 
+    private static final String USER_PROFILE_ENDPOINT = "account.user-profile";
+
+    private static final ParameterizedTypeReference<GeneralResponse<UserProfileResponse>> USER_PROFILE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final TokenUtils tokenUtils;
     private final HttpClientHelper httpClientHelper;
     private final ExternalServiceProperties serviceProperties;
 
-    private final JsonUtils jsonUtils;
-
     @Override
     public UserProfileResponse getUserProfileById(Long userId) {
         try {
@@ -40,10 +44,11 @@ public class UserProfileClientAdapter implements IUserProfileClient {
             String url = serviceProperties.getServiceUrlByName(Constants.ServiceNames.ACCOUNT_SERVICE)
                     + "/internal/api/v1/users/" + userId;
             var response = httpClientHelper
-                    .get(url, null, Map.of("Authorization", "Bearer " + serviceToken), GeneralResponse.class)
+                    .get(USER_PROFILE_ENDPOINT, url, null, Map.of("Authorization", "Bearer " + serviceToken),
+                            USER_PROFILE_TYPE)
                     .block();
             if (response != null && response.isSuccess()) {
-                return jsonUtils.fromJson(jsonUtils.toJson(response.getData()), UserProfileResponse.class);
+                return response.getData();
             }
 
             return null;
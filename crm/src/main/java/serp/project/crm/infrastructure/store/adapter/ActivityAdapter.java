@@ -6,8 +6,15 @@
 package serp.project.crm.infrastructure.store.adapter;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.entity.ActivityEntity;
 import serp.project.crm.core.domain.enums.ActivityStatus;
@@ -15,12 +22,19 @@ import serp.project.crm.core.domain.enums.ActivityType;
 import serp.project.crm.core.domain.enums.TaskPriority;
 import serp.project.crm.core.port.store.IActivityPort;
 import serp.project.crm.infrastructure.store.mapper.ActivityMapper;
+import serp.project.crm.infrastructure.store.model.ActivityModel;
 import serp.project.crm.infrastructure.store.repository.ActivityRepository;
+import serp.project.crm.infrastructure.store.specification.BaseSpecification;
+import serp.project.crm.infrastructure.store.specification.SpecificationStreamer;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -28,6 +42,15 @@ public class ActivityAdapter implements IActivityPort {
 
     private final ActivityRepository activityRepository;
     private final ActivityMapper activityMapper;
+    private final SpecificationStreamer specificationStreamer;
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_ACTIVITY_SQL =
+            "INSERT INTO activities (tenant_id, lead_id, contact_id, customer_id, opportunity_id, activity_type, " +
+                    "subject, description, status, location, assigned_to, activity_date, due_date, reminder_date, " +
+                    "duration_minutes, priority, progress_percent, attachments, created_by, updated_by, " +
+                    "created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())";
 
     @Override
     public ActivityEntity save(ActivityEntity activityEntity) {
@@ -161,4 +184,70 @@ public class ActivityAdapter implements IActivityPort {
         // TODO: Add repository method for activity date range
         return List.of();
     }
+
+    @Override
+    public Stream<ActivityEntity> streamByTenant(Long tenantId, Long afterId, int fetchSize) {
+        Specification<ActivityModel> spec = BaseSpecification.equal("tenantId", tenantId);
+        return specificationStreamer.stream(ActivityModel.class, spec, afterId, fetchSize)
+                .map(activityMapper::toEntity);
+    }
+
+    @Override
+    public List<Long> findTenantIdsWithOpenActivities(int shardCount, int shardIndex) {
+        return activityRepository.findTenantIdsWithOpenActivities(Math.max(1, shardCount), shardIndex);
+    }
+
+    @Override
+    public List<ActivityEntity> findOpenDueAfter(Long tenantId, Long afterDueDate, Long afterId, Long untilDueDate,
+            int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit);
+        return activityRepository.findOpenDueAfter(tenantId, afterDueDate, afterId, untilDueDate, pageable)
+                .stream()
+                .map(activityMapper::toEntity)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<ActivityEntity> insertBatch(List<ActivityEntity> activities, Long tenantId, Long userId) {
+        if (activities == null || activities.isEmpty()) {
+            return List.of();
+        }
+        List<Object[]> rows = activities.stream()
+                .map(activityMapper::toModel)
+                .map(model -> new Object[] {
+                        tenantId, model.getLeadId(), model.getContactId(), model.getCustomerId(),
+                        model.getOpportunityId(), model.getActivityType(), model.getSubject(), model.getDescription(),
+                        model.getStatus(), model.getLocation(), model.getAssignedTo(), model.getActivityDate(),
+                        model.getDueDate(), model.getReminderDate(), model.getDurationMinutes(), model.getPriority(),
+                        model.getProgressPercent(), model.getAttachments(), userId, userId
+                })
+                .toList();
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_ACTIVITY_SQL, new String[] { "id" }),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(rows.get(i)).setValues(ps);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < activities.size(); i++) {
+            ActivityEntity activity = activities.get(i);
+            activity.setId(((Number) keys.get(i).get("id")).longValue());
+            activity.setTenantId(tenantId);
+            activity.setCreatedBy(userId);
+            activity.setUpdatedBy(userId);
+        }
+        return activities;
+    }
 }
@@ -0,0 +1,82 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.enums.CacheRegion;
+import serp.project.crm.core.port.store.IAssignmentPort;
+import serp.project.crm.core.port.store.ICachePort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class AssignmentAdapter implements IAssignmentPort {
+
+    private static final String OPEN_WORKLOAD_SQL =
+            "SELECT assigned_to, COUNT(*) AS open_count FROM (" +
+                    "SELECT assigned_to FROM leads WHERE tenant_id = ? AND assigned_to IS NOT NULL " +
+                    "AND lead_status NOT IN ('CONVERTED', 'DISQUALIFIED') " +
+                    "UNION ALL " +
+                    "SELECT assigned_to FROM opportunities WHERE tenant_id = ? AND assigned_to IS NOT NULL " +
+                    "AND stage NOT IN ('CLOSED_WON', 'CLOSED_LOST')" +
+                    ") workload GROUP BY assigned_to";
+
+    private static final String UNASSIGNED_LEADS_SQL =
+            "SELECT id FROM leads WHERE tenant_id = ? AND assigned_to IS NULL " +
+                    "AND lead_status NOT IN ('CONVERTED', 'DISQUALIFIED') ORDER BY id LIMIT ?";
+
+    private static final String ASSIGN_LEAD_SQL =
+            "UPDATE leads SET assigned_to = ?, updated_by = ?, updated_at = now() " +
+                    "WHERE id = ? AND tenant_id = ? AND assigned_to IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ICachePort cachePort;
+
+    @Override
+    public Map<Long, Long> countOpenWorkload(Long tenantId) {
+        Map<Long, Long> workload = new HashMap<>();
+        jdbcTemplate.query(OPEN_WORKLOAD_SQL,
+                rs -> {
+                    workload.put(rs.getLong("assigned_to"), rs.getLong("open_count"));
+                },
+                tenantId, tenantId);
+        return workload;
+    }
+
+    @Override
+    public List<Long> findUnassignedLeadIds(Long tenantId, int limit) {
+        return jdbcTemplate.queryForList(UNASSIGNED_LEADS_SQL, Long.class, tenantId, limit);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> assignLeads(Map<Long, Long> assigneeByLeadId, Long assignedBy, Long tenantId) {
+        if (assigneeByLeadId.isEmpty()) {
+            return List.of();
+        }
+        List<Long> leadIds = new ArrayList<>(assigneeByLeadId.keySet());
+        List<Object[]> args = leadIds.stream()
+                .map(leadId -> new Object[] { assigneeByLeadId.get(leadId), assignedBy, leadId, tenantId })
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(ASSIGN_LEAD_SQL, args);
+
+        List<Long> assigned = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                assigned.add(leadIds.get(i));
+            }
+        }
+        cachePort.evictAll(CacheRegion.LEAD, tenantId, assigned);
+        return assigned;
+    }
+}
@@ -0,0 +1,302 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import serp.project.crm.core.domain.constant.Constants;
+import serp.project.crm.core.domain.enums.CacheRegion;
+import serp.project.crm.core.port.store.ICachePort;
+import serp.project.crm.kernel.property.CacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Two-level read-through cache: a bounded in-process near cache in front of Redis. Values are stored as
+ * JSON at both levels so hits always deserialize a private copy. Evictions are broadcast over Redis
+ * pub/sub so other nodes drop their near-cache copies.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheAdapter implements ICachePort, MessageListener {
+
+    private static final String ALL_IDS = "*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final CacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<CacheRegion, Cache<String, String>> nearCaches = new EnumMap<>(CacheRegion.class);
+    private Cache<String, Long> generations;
+    private final Map<CacheRegion, RegionStats> stats = new EnumMap<>(CacheRegion.class);
+
+    private static class RegionStats {
+        private final LongAdder nearHits = new LongAdder();
+        private final LongAdder redisHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private double hitRatio() {
+            double hits = nearHits.sum() + redisHits.sum();
+            double total = hits + misses.sum();
+            return total == 0 ? 0 : hits / total;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        generations = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getNearCacheMaxEntries())
+                .expireAfterWrite(Duration.ofMillis(cacheProperties.getNearCacheTtlMs()))
+                .build();
+        for (CacheRegion region : CacheRegion.values()) {
+            nearCaches.put(region, Caffeine.newBuilder()
+                    .maximumSize(cacheProperties.getNearCacheMaxEntries())
+                    .expireAfterWrite(Duration.ofMillis(cacheProperties.getNearCacheTtlMs()))
+                    .build());
+
+            RegionStats regionStats = new RegionStats();
+            stats.put(region, regionStats);
+            registerCounter(region, "near_hit", regionStats.nearHits);
+            registerCounter(region, "redis_hit", regionStats.redisHits);
+            registerCounter(region, "miss", regionStats.misses);
+            Gauge.builder("crm.cache.hit.ratio", regionStats, RegionStats::hitRatio)
+                    .tag("region", region.name())
+                    .register(meterRegistry);
+        }
+        redisMessageListenerContainer.addMessageListener(this,
+                new ChannelTopic(Constants.CacheKey.INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public <T> Optional<T> getOrLoad(CacheRegion region, Long tenantId, Long id, Class<T> type,
+            Supplier<Optional<T>> loader) {
+        if (!cacheProperties.isEnabled() || tenantId == null || id == null) {
+            return loader.get();
+        }
+        String key = region.key(tenantId, generation(region, tenantId), id);
+        RegionStats regionStats = stats.get(region);
+        Cache<String, String> nearCache = nearCaches.get(region);
+
+        String json = nearCache.getIfPresent(key);
+        if (json != null) {
+            T cached = read(json, type);
+            if (cached != null) {
+                regionStats.nearHits.increment();
+                return Optional.of(cached);
+            }
+            discard(nearCache, key);
+        } else {
+            json = redisGet(key);
+            if (json != null) {
+                T cached = read(json, type);
+                if (cached != null) {
+                    regionStats.redisHits.increment();
+                    nearCache.put(key, json);
+                    return Optional.of(cached);
+                }
+                discard(nearCache, key);
+            }
+        }
+
+        regionStats.misses.increment();
+        Optional<T> loaded = loader.get();
+        loaded.ifPresent(value -> {
+            String serialized = write(value);
+            if (serialized != null) {
+                nearCache.put(key, serialized);
+                redisSet(key, serialized);
+            }
+        });
+        return loaded;
+    }
+
+    @Override
+    public void evict(CacheRegion region, Long tenantId, Long id) {
+        if (id == null) {
+            return;
+        }
+        evictAll(region, tenantId, List.of(id));
+    }
+
+    @Override
+    public void evictAll(CacheRegion region, Long tenantId, Collection<Long> ids) {
+        if (!cacheProperties.isEnabled() || tenantId == null || ids == null || ids.isEmpty()) {
+            return;
+        }
+        runNowAndAfterCommit(() -> {
+            long generation = generation(region, tenantId);
+            List<String> keys = ids.stream().map(id -> region.key(tenantId, generation, id)).toList();
+            nearCaches.get(region).invalidateAll(keys);
+            try {
+                redisTemplate.delete(keys);
+                for (Long id : ids) {
+                    publish(region, tenantId, String.valueOf(id));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict {} {} entries of tenant {}: {}", keys.size(), region, tenantId,
+                        e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void evictTenant(CacheRegion region, Long tenantId) {
+        if (!cacheProperties.isEnabled() || tenantId == null) {
+            return;
+        }
+        String generationKey = region.generationKey(tenantId);
+        runNowAndAfterCommit(() -> {
+            dropNearTenant(region, tenantId);
+            try {
+                // O(1) regardless of how many entries the tenant has; the orphaned ones expire on their TTL
+                Long generation = redisTemplate.opsForValue().increment(generationKey);
+                if (generation != null) {
+                    generations.put(generationKey, generation);
+                }
+                publish(region, tenantId, ALL_IDS);
+            } catch (RuntimeException e) {
+                generations.invalidate(generationKey);
+                log.warn("Failed to evict {} entries of tenant {}: {}", region, tenantId, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // Format: REGION|tenantId|id, where id may be * for the whole tenant
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            CacheRegion region = CacheRegion.valueOf(parts[0]);
+            Long tenantId = Long.valueOf(parts[1]);
+            if (ALL_IDS.equals(parts[2])) {
+                generations.invalidate(region.generationKey(tenantId));
+                dropNearTenant(region, tenantId);
+            } else {
+                nearCaches.get(region).invalidate(
+                        region.key(tenantId, generation(region, tenantId), Long.valueOf(parts[2])));
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The tenant's current entry generation, read from Redis at most once per near-cache TTL. Generation
+     * bumps from other nodes arrive over pub/sub and drop the local copy right away.
+     */
+    private long generation(CacheRegion region, Long tenantId) {
+        String generationKey = region.generationKey(tenantId);
+        Long generation = generations.getIfPresent(generationKey);
+        if (generation != null) {
+            return generation;
+        }
+        String stored = redisGet(generationKey);
+        long current = stored != null ? Long.parseLong(stored) : 0L;
+        generations.put(generationKey, current);
+        return current;
+    }
+
+    private void discard(Cache<String, String> nearCache, String key) {
+        nearCache.invalidate(key);
+        try {
+            redisTemplate.delete(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to drop unreadable cache entry {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void dropNearTenant(CacheRegion region, Long tenantId) {
+        String prefix = region.tenantPrefix(tenantId);
+        nearCaches.get(region).asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void publish(CacheRegion region, Long tenantId, String id) {
+        redisTemplate.convertAndSend(Constants.CacheKey.INVALIDATION_CHANNEL, region.name() + "|" + tenantId + "|" + id);
+    }
+
+    private void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private String redisGet(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("Cache read failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void redisSet(String key, String json) {
+        try {
+            redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(cacheProperties.getTtlSeconds()));
+        } catch (RuntimeException e) {
+            log.warn("Cache write failed for {}: {}", key, e.getMessage());
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("Discarding unreadable cache entry of type {}: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("Cannot cache value of type {}: {}", value.getClass().getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void registerCounter(CacheRegion region, String result, LongAdder adder) {
+        FunctionCounter.builder("crm.cache.gets", adder, LongAdder::doubleValue)
+                .tag("region", region.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
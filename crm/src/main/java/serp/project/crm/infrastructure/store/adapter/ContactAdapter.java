@@ -10,8 +10,10 @@ import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.entity.ContactEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.ActiveStatus;
 import serp.project.crm.core.domain.enums.ContactType;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.IContactPort;
 import serp.project.crm.infrastructure.store.mapper.ContactMapper;
 import serp.project.crm.infrastructure.store.repository.ContactRepository;
@@ -26,12 +28,15 @@ public class ContactAdapter implements IContactPort {
 
     private final ContactRepository contactRepository;
     private final ContactMapper contactMapper;
+    private final ICachePort cachePort;
 
     @Override
     public ContactEntity save(ContactEntity contactEntity) {
         var model = contactMapper.toModel(contactEntity);
         var savedModel = contactRepository.save(model);
-        return contactMapper.toEntity(savedModel);
+        var saved = contactMapper.toEntity(savedModel);
+        cachePort.evict(CacheRegion.CONTACT, saved.getTenantId(), saved.getId());
+        return saved;
     }
 
     @Override
@@ -108,5 +113,14 @@ public class ContactAdapter implements IContactPort {
     public void deleteById(Long id, Long tenantId) {
         contactRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresent(contactRepository::delete);
+        cachePort.evict(CacheRegion.CONTACT, tenantId, id);
+    }
+
+    @Override
+    public List<ContactEntity> saveAll(List<ContactEntity> contacts) {
+        var models = contacts.stream().map(contactMapper::toModel).toList();
+        var saved = contactMapper.toEntityList(contactRepository.saveAll(models));
+        saved.forEach(contact -> cachePort.evict(CacheRegion.CONTACT, contact.getTenantId(), contact.getId()));
+        return saved;
     }
 }
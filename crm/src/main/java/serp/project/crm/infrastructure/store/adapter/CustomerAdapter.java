@@ -9,21 +9,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.entity.CustomerEntity;
+import serp.project.crm.core.domain.entity.CustomerRollupEntity;
 import serp.project.crm.core.domain.enums.ActiveStatus;
+import serp.project.crm.core.domain.enums.CacheRegion;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ICustomerPort;
 import serp.project.crm.infrastructure.store.mapper.CustomerMapper;
 import serp.project.crm.infrastructure.store.model.CustomerModel;
 import serp.project.crm.infrastructure.store.repository.CustomerRepository;
 import serp.project.crm.infrastructure.store.specification.CustomerSpecification;
+import serp.project.crm.infrastructure.store.specification.SpecificationStreamer;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -31,11 +41,14 @@ public class CustomerAdapter implements ICustomerPort {
 
     private final CustomerRepository customerRepository;
     private final CustomerMapper customerMapper;
+    private final SpecificationStreamer specificationStreamer;
+    private final ICachePort cachePort;
 
     @Override
     public CustomerEntity save(CustomerEntity customerEntity) {
         var model = customerMapper.toModel(customerEntity);
         var savedModel = customerRepository.save(model);
+        cachePort.evict(CacheRegion.CUSTOMER, savedModel.getTenantId(), savedModel.getId());
         return customerMapper.toEntity(savedModel);
     }
 
@@ -93,6 +106,7 @@ public class CustomerAdapter implements ICustomerPort {
     public void deleteById(Long id, Long tenantId) {
         customerRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresent(customerRepository::delete);
+        cachePort.evict(CacheRegion.CUSTOMER, tenantId, id);
     }
 
     @Override
@@ -121,4 +135,104 @@ public class CustomerAdapter implements ICustomerPort {
                 .map(customerMapper::toEntity);
         return customerMapper.pageToPair(page);
     }
+
+    @Override
+    public Stream<CustomerEntity> streamFilter(CustomerFilterRequest filter, Long tenantId, Long afterId,
+            int fetchSize) {
+        Specification<CustomerModel> spec = CustomerSpecification.build(filter, tenantId);
+        return specificationStreamer.stream(CustomerModel.class, spec, afterId, fetchSize)
+                .map(customerMapper::toEntity);
+    }
+
+    @Override
+    @Transactional
+    public boolean incrementOpportunityResult(Long customerId, Long tenantId, boolean won, BigDecimal revenue) {
+        BigDecimal revenueDelta = won && revenue != null ? revenue : BigDecimal.ZERO;
+        cachePort.evict(CacheRegion.CUSTOMER, tenantId, customerId);
+        return customerRepository.incrementOpportunityResult(customerId, tenantId, won ? 1 : 0, revenueDelta) > 0;
+    }
+
+    @Override
+    public List<Long> findTenantIds() {
+        return customerRepository.findDistinctTenantIds();
+    }
+
+    @Override
+    @Transactional
+    public int reconcileOpportunityRollups(Long tenantId) {
+        cachePort.evictTenant(CacheRegion.CUSTOMER, tenantId);
+        return customerRepository.reconcileOpportunityRollups(tenantId);
+    }
+
+    @Override
+    public List<CustomerEntity> findSubtree(String hierarchyPath, Long tenantId) {
+        return customerMapper.toEntityList(customerRepository.findSubtree(tenantId, hierarchyPath));
+    }
+
+    @Override
+    public CustomerRollupEntity sumSubtree(Long customerId, String hierarchyPath, Long tenantId) {
+        var total = customerRepository.sumSubtree(tenantId, hierarchyPath);
+        return CustomerRollupEntity.builder()
+                .customerId(customerId)
+                .descendantCount(Math.max(0L, total.getCustomerCount() - 1))
+                .totalOpportunities(total.getTotalOpportunities())
+                .wonOpportunities(total.getWonOpportunities())
+                .totalRevenue(total.getTotalRevenue())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void updateHierarchy(Long customerId, Long tenantId, String hierarchyPath, int hierarchyDepth) {
+        customerRepository.updateHierarchy(customerId, tenantId, hierarchyPath, hierarchyDepth);
+        cachePort.evict(CacheRegion.CUSTOMER, tenantId, customerId);
+    }
+
+    @Override
+    @Transactional
+    public int moveSubtree(String oldPath, String newPath, int depthDelta, Long tenantId) {
+        cachePort.evictTenant(CacheRegion.CUSTOMER, tenantId);
+        return customerRepository.moveSubtree(tenantId, oldPath, newPath, depthDelta);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildHierarchy(Long tenantId) {
+        cachePort.evictTenant(CacheRegion.CUSTOMER, tenantId);
+        return customerRepository.rebuildHierarchy(tenantId);
+    }
+
+    @Override
+    public List<CustomerEntity> saveAll(List<CustomerEntity> customers) {
+        var models = customers.stream().map(customerMapper::toModel).toList();
+        var saved = customerMapper.toEntityList(customerRepository.saveAll(models));
+        saved.forEach(customer -> cachePort.evict(CacheRegion.CUSTOMER, customer.getTenantId(), customer.getId()));
+        return saved;
+    }
+
+    @Override
+    public List<CustomerEntity> findByIds(Collection<Long> ids, Long tenantId) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return customerMapper.toEntityList(customerRepository.findByTenantIdAndIdIn(tenantId, ids));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails, Long tenantId) {
+        if (emails == null || emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(customerRepository.findExistingEmails(tenantId, emails));
+    }
+
+    @Override
+    @Transactional
+    public void indexAsRoots(Collection<Long> customerIds, Long tenantId) {
+        if (customerIds == null || customerIds.isEmpty()) {
+            return;
+        }
+        customerRepository.indexAsRoots(tenantId, customerIds);
+        cachePort.evictAll(CacheRegion.CUSTOMER, tenantId, customerIds);
+    }
 }
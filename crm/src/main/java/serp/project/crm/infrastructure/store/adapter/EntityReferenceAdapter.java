@@ -0,0 +1,69 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.enums.EntityReferenceType;
+import serp.project.crm.core.port.store.IEntityReferencePort;
+
+import java.sql.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class EntityReferenceAdapter implements IEntityReferencePort {
+
+    private static final Map<EntityReferenceType, String> TABLES = new EnumMap<>(Map.of(
+            EntityReferenceType.LEAD, "leads",
+            EntityReferenceType.OPPORTUNITY, "opportunities",
+            EntityReferenceType.CUSTOMER, "customers",
+            EntityReferenceType.CONTACT, "contacts",
+            EntityReferenceType.TEAM_MEMBER, "team_members"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<EntityReferenceType, Set<Long>> findExisting(Map<EntityReferenceType, ? extends Collection<Long>> ids,
+            Long tenantId) {
+        Map<EntityReferenceType, Set<Long>> existing = new EnumMap<>(EntityReferenceType.class);
+        List<EntityReferenceType> types = new ArrayList<>();
+        List<String> selects = new ArrayList<>();
+        for (var entry : ids.entrySet()) {
+            existing.put(entry.getKey(), new HashSet<>());
+            if (entry.getValue() != null && !entry.getValue().isEmpty()) {
+                types.add(entry.getKey());
+                selects.add("SELECT " + entry.getKey().ordinal() + " AS kind, id FROM " + TABLES.get(entry.getKey())
+                        + " WHERE tenant_id = ? AND id = ANY(?)");
+            }
+        }
+        if (selects.isEmpty()) {
+            return existing;
+        }
+
+        EntityReferenceType[] kinds = EntityReferenceType.values();
+        jdbcTemplate.query(String.join(" UNION ALL ", selects),
+                ps -> {
+                    int index = 1;
+                    for (EntityReferenceType type : types) {
+                        Array array = ps.getConnection().createArrayOf("bigint", ids.get(type).toArray());
+                        ps.setLong(index++, tenantId);
+                        ps.setArray(index++, array);
+                    }
+                },
+                rs -> {
+                    existing.get(kinds[rs.getInt("kind")]).add(rs.getLong("id"));
+                });
+        return existing;
+    }
+}
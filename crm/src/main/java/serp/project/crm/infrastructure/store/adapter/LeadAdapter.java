@@ -7,21 +7,32 @@ package serp.project.crm.infrastructure.store.adapter;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.util.Pair;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.entity.AddressEntity;
 import serp.project.crm.core.domain.entity.LeadEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.LeadSource;
 import serp.project.crm.core.domain.enums.LeadStatus;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ILeadPort;
 import serp.project.crm.infrastructure.store.mapper.LeadMapper;
 import serp.project.crm.infrastructure.store.model.LeadModel;
 import serp.project.crm.infrastructure.store.repository.LeadRepository;
 import serp.project.crm.infrastructure.store.specification.LeadSpecification;
+import serp.project.crm.infrastructure.store.specification.SpecificationStreamer;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -29,11 +40,30 @@ public class LeadAdapter implements ILeadPort {
 
     private final LeadRepository leadRepository;
     private final LeadMapper leadMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final SpecificationStreamer specificationStreamer;
+    private final ICachePort cachePort;
+
+    private static final String UPDATE_PROBABILITY_SQL =
+            "UPDATE leads SET probability = ? WHERE id = ? AND tenant_id = ?";
+
+    private static final String INSERT_LEAD_SQL =
+            "INSERT INTO leads (tenant_id, company, industry, company_size, website, name, email, phone, job_title, " +
+                    "address_street, address_city, address_state, address_zip_code, address_country, " +
+                    "lead_source, lead_status, assigned_to, estimated_value, probability, expected_close_date, " +
+                    "notes, created_by, updated_by, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())";
+
+    private static final String UPDATE_CONVERSION_SQL =
+            "UPDATE leads SET lead_status = ?, converted_customer_id = ?, converted_opportunity_id = ?, " +
+                    "updated_by = ?, updated_at = now() WHERE id = ? AND tenant_id = ?";
 
     @Override
     public LeadEntity save(LeadEntity leadEntity) {
         var model = leadMapper.toModel(leadEntity);
-        return leadMapper.toEntity(leadRepository.save(model));
+        var saved = leadMapper.toEntity(leadRepository.save(model));
+        cachePort.evict(CacheRegion.LEAD, saved.getTenantId(), saved.getId());
+        return saved;
     }
 
     @Override
@@ -104,6 +134,7 @@ public class LeadAdapter implements ILeadPort {
     public void deleteById(Long id, Long tenantId) {
         leadRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresent(leadRepository::delete);
+        cachePort.evict(CacheRegion.LEAD, tenantId, id);
     }
 
     @Override
@@ -135,4 +166,102 @@ public class LeadAdapter implements ILeadPort {
                 .map(leadMapper::toEntity);
         return leadMapper.pageToPair(page);
     }
+
+    @Override
+    public List<LeadEntity> findByTenantIdAfterId(Long tenantId, Long afterId, int limit) {
+        var pageable = org.springframework.data.domain.PageRequest.of(0, limit);
+        return leadRepository.findByTenantIdAndIdGreaterThanOrderByIdAsc(tenantId, afterId, pageable)
+                .stream()
+                .map(leadMapper::toEntity)
+                .toList();
+    }
+
+    @Override
+    public void updateProbabilities(Map<Long, Integer> probabilities, Long tenantId) {
+        if (probabilities == null || probabilities.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = probabilities.entrySet().stream()
+                .map(entry -> new Object[] { entry.getValue(), entry.getKey(), tenantId })
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_PROBABILITY_SQL, args);
+        cachePort.evictAll(CacheRegion.LEAD, tenantId, probabilities.keySet());
+    }
+
+    @Override
+    public Stream<LeadEntity> streamFilter(LeadFilterRequest filter, Long tenantId, Long afterId, int fetchSize) {
+        Specification<LeadModel> spec = LeadSpecification.build(filter, tenantId);
+        return specificationStreamer.stream(LeadModel.class, spec, afterId, fetchSize)
+                .map(leadMapper::toEntity);
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails, Long tenantId) {
+        if (emails == null || emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(leadRepository.findExistingEmails(tenantId, emails));
+    }
+
+    @Override
+    public Set<String> findExistingPhones(Collection<String> phones, Long tenantId) {
+        if (phones == null || phones.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(leadRepository.findExistingPhones(tenantId, phones));
+    }
+
+    @Override
+    @Transactional
+    public int insertBatch(List<LeadEntity> leads, Long tenantId, Long userId) {
+        if (leads == null || leads.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> args = leads.stream()
+                .map(lead -> {
+                    AddressEntity address = lead.getAddress() != null
+                            ? lead.getAddress()
+                            : AddressEntity.builder().build();
+                    return new Object[] {
+                            tenantId, lead.getCompany(), lead.getIndustry(), lead.getCompanySize(),
+                            lead.getWebsite(), lead.getName(), lead.getEmail(), lead.getPhone(), lead.getJobTitle(),
+                            address.getStreet(), address.getCity(), address.getState(), address.getZipCode(),
+                            address.getCountry(),
+                            enumName(lead.getLeadSource()), enumName(lead.getLeadStatus()),
+                            lead.getAssignedTo(), lead.getEstimatedValue(), lead.getProbability(),
+                            lead.getExpectedCloseDate(), lead.getNotes(), userId, userId
+                    };
+                })
+                .toList();
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_LEAD_SQL, args);
+        return counts.length;
+    }
+
+    private String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    @Override
+    public List<LeadEntity> findByIds(Collection<Long> ids, Long tenantId) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return leadMapper.toEntityList(leadRepository.findByTenantIdAndIdIn(tenantId, ids));
+    }
+
+    @Override
+    @Transactional
+    public void updateConversions(List<LeadEntity> leads, Long tenantId) {
+        if (leads == null || leads.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = leads.stream()
+                .map(lead -> new Object[] {
+                        enumName(lead.getLeadStatus()), lead.getConvertedCustomerId(),
+                        lead.getConvertedOpportunityId(), lead.getUpdatedBy(), lead.getId(), tenantId
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(UPDATE_CONVERSION_SQL, args);
+        cachePort.evictAll(CacheRegion.LEAD, tenantId, leads.stream().map(LeadEntity::getId).toList());
+    }
 }
@@ -0,0 +1,105 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.LeadEngagementDayEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.core.domain.enums.ActivityType;
+import serp.project.crm.core.port.store.ILeadEngagementPort;
+import serp.project.crm.infrastructure.store.mapper.LeadEngagementMapper;
+import serp.project.crm.infrastructure.store.model.LeadEngagementModel;
+import serp.project.crm.infrastructure.store.repository.LeadEngagementDayRepository;
+import serp.project.crm.infrastructure.store.repository.LeadEngagementRepository;
+import serp.project.crm.kernel.utils.CollectionUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class LeadEngagementAdapter implements ILeadEngagementPort {
+
+    private final LeadEngagementRepository leadEngagementRepository;
+    private final LeadEngagementDayRepository leadEngagementDayRepository;
+    private final LeadEngagementMapper leadEngagementMapper;
+
+    @Override
+    public Optional<LeadEngagementEntity> findByLeadId(Long leadId, Long tenantId) {
+        return leadEngagementRepository.findByLeadIdAndTenantId(leadId, tenantId)
+                .map(model -> toEntity(model, recentDays(List.of(leadId), tenantId)));
+    }
+
+    @Override
+    public List<LeadEngagementEntity> findByLeadIds(List<Long> leadIds, Long tenantId) {
+        if (CollectionUtils.isEmpty(leadIds)) {
+            return List.of();
+        }
+        List<LeadEngagementModel> models = leadEngagementRepository.findByTenantIdAndLeadIdIn(tenantId, leadIds);
+        if (models.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<LeadEngagementDayEntity>> days = recentDays(leadIds, tenantId);
+        return models.stream()
+                .map(model -> toEntity(model, days))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void increment(Long leadId, Long tenantId, ActivityType type, int delta, long activityAt) {
+        if (type == null || delta == 0) {
+            return;
+        }
+        int callDelta = type == ActivityType.CALL ? delta : 0;
+        int meetingDelta = type == ActivityType.MEETING ? delta : 0;
+        int emailDelta = type == ActivityType.EMAIL ? delta : 0;
+        int taskDelta = type == ActivityType.TASK ? delta : 0;
+        leadEngagementRepository.upsertIncrement(tenantId, leadId, callDelta, meetingDelta, emailDelta, taskDelta,
+                activityAt);
+        leadEngagementDayRepository.upsertIncrement(tenantId, leadId, LeadEngagementEntity.epochDay(activityAt),
+                callDelta, meetingDelta, emailDelta, taskDelta);
+    }
+
+    @Override
+    @Transactional
+    public void refreshLastActivityAt(Long leadId, Long tenantId) {
+        leadEngagementRepository.refreshLastActivityAt(leadId, tenantId);
+    }
+
+    @Override
+    @Transactional
+    public void deleteByLeadId(Long leadId, Long tenantId) {
+        leadEngagementRepository.deleteByLeadIdAndTenantId(leadId, tenantId);
+        leadEngagementDayRepository.deleteByLeadIdAndTenantId(leadId, tenantId);
+    }
+
+    @Override
+    @Transactional
+    public int rebuildForTenant(Long tenantId) {
+        // Leads without completed activities left would otherwise keep their stale rows
+        leadEngagementRepository.deleteByTenantId(tenantId);
+        leadEngagementDayRepository.deleteByTenantId(tenantId);
+        leadEngagementDayRepository.rebuildForTenant(tenantId);
+        return leadEngagementRepository.rebuildForTenant(tenantId);
+    }
+
+    private Map<Long, List<LeadEngagementDayEntity>> recentDays(List<Long> leadIds, Long tenantId) {
+        long fromDay = LeadEngagementEntity.epochDay(System.currentTimeMillis())
+                - LeadEngagementEntity.DECAY_HORIZON_DAYS;
+        return leadEngagementDayRepository.findRecent(tenantId, leadIds, fromDay).stream()
+                .map(leadEngagementMapper::toDayEntity)
+                .collect(Collectors.groupingBy(LeadEngagementDayEntity::getLeadId));
+    }
+
+    private LeadEngagementEntity toEntity(LeadEngagementModel model, Map<Long, List<LeadEngagementDayEntity>> days) {
+        return leadEngagementMapper.toEntity(model, days.getOrDefault(model.getLeadId(), List.of()));
+    }
+}
@@ -13,18 +13,22 @@ import org.springframework.stereotype.Component;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
 import serp.project.crm.core.domain.entity.OpportunityEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.IOpportunityPort;
 import serp.project.crm.infrastructure.store.mapper.OpportunityMapper;
 import serp.project.crm.infrastructure.store.model.OpportunityModel;
 import serp.project.crm.infrastructure.store.repository.OpportunityRepository;
 import serp.project.crm.infrastructure.store.specification.OpportunitySpecification;
+import serp.project.crm.infrastructure.store.specification.SpecificationStreamer;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -32,12 +36,16 @@ public class OpportunityAdapter implements IOpportunityPort {
 
     private final OpportunityRepository opportunityRepository;
     private final OpportunityMapper opportunityMapper;
+    private final SpecificationStreamer specificationStreamer;
+    private final ICachePort cachePort;
 
     @Override
     public OpportunityEntity save(OpportunityEntity opportunityEntity) {
         var model = opportunityMapper.toModel(opportunityEntity);
         var savedModel = opportunityRepository.save(model);
-        return opportunityMapper.toEntity(savedModel);
+        var saved = opportunityMapper.toEntity(savedModel);
+        cachePort.evict(CacheRegion.OPPORTUNITY, saved.getTenantId(), saved.getId());
+        return saved;
     }
 
     @Override
@@ -105,6 +113,7 @@ public class OpportunityAdapter implements IOpportunityPort {
     public void deleteById(Long id, Long tenantId) {
         opportunityRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresent(opportunityRepository::delete);
+        cachePort.evict(CacheRegion.OPPORTUNITY, tenantId, id);
     }
 
     @Override
@@ -152,4 +161,20 @@ public class OpportunityAdapter implements IOpportunityPort {
     public boolean existsByCustomerIdAndName(Long customerId, String name, Long tenantId) {
         return opportunityRepository.existsByTenantIdAndCustomerIdAndName(tenantId, customerId, name);
     }
+
+    @Override
+    public Stream<OpportunityEntity> streamFilter(OpportunityFilterRequest filter, Long tenantId, Long afterId,
+            int fetchSize) {
+        Specification<OpportunityModel> spec = OpportunitySpecification.build(filter, tenantId);
+        return specificationStreamer.stream(OpportunityModel.class, spec, afterId, fetchSize)
+                .map(opportunityMapper::toEntity);
+    }
+
+    @Override
+    public List<OpportunityEntity> saveAll(List<OpportunityEntity> opportunities) {
+        var models = opportunities.stream().map(opportunityMapper::toModel).toList();
+        var saved = opportunityMapper.toEntityList(opportunityRepository.saveAll(models));
+        saved.forEach(opportunity -> cachePort.evict(CacheRegion.OPPORTUNITY, opportunity.getTenantId(), opportunity.getId()));
+        return saved;
+    }
 }
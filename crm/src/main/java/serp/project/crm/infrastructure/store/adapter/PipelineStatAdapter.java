@@ -0,0 +1,57 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.port.store.IPipelineStatPort;
+import serp.project.crm.infrastructure.store.mapper.PipelineStatMapper;
+import serp.project.crm.infrastructure.store.repository.PipelineStatRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class PipelineStatAdapter implements IPipelineStatPort {
+
+    private final PipelineStatRepository pipelineStatRepository;
+    private final PipelineStatMapper pipelineStatMapper;
+
+    @Override
+    @Transactional
+    public void increment(Long tenantId, OpportunityStage stage, Long assignedTo, String periodMonth,
+            long countDelta, BigDecimal valueDelta) {
+        if (stage == null) {
+            return;
+        }
+        BigDecimal value = valueDelta != null ? valueDelta : BigDecimal.ZERO;
+        if (countDelta == 0 && value.signum() == 0) {
+            return;
+        }
+        pipelineStatRepository.upsertIncrement(tenantId, stage.name(),
+                PipelineStatEntity.assigneeOf(assignedTo), periodMonth, countDelta, value);
+    }
+
+    @Override
+    public List<PipelineStatEntity> sumByStage(Long tenantId, Long assignedTo, String fromMonth, String toMonth) {
+        return pipelineStatRepository.sumByStage(tenantId, assignedTo, fromMonth, toMonth)
+                .stream()
+                .map(total -> pipelineStatMapper.toEntity(total, tenantId))
+                .filter(stat -> stat.getStage() != null)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int rebuildForTenant(Long tenantId) {
+        pipelineStatRepository.deleteByTenantId(tenantId);
+        return pipelineStatRepository.insertFromOpportunities(tenantId);
+    }
+}
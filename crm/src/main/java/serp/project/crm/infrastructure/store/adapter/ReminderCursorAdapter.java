@@ -0,0 +1,43 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.ReminderCursorEntity;
+import serp.project.crm.core.domain.enums.ReminderKind;
+import serp.project.crm.core.port.store.IReminderCursorPort;
+import serp.project.crm.infrastructure.store.mapper.ReminderCursorMapper;
+import serp.project.crm.infrastructure.store.repository.ReminderCursorRepository;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ReminderCursorAdapter implements IReminderCursorPort {
+
+    private final ReminderCursorRepository reminderCursorRepository;
+    private final ReminderCursorMapper reminderCursorMapper;
+
+    @Override
+    public Optional<ReminderCursorEntity> claimCursor(Long tenantId, ReminderKind kind, Long initialDueDate,
+            long now, long claimedUntil) {
+        reminderCursorRepository.insertIfAbsent(tenantId, kind.name(), initialDueDate);
+        return reminderCursorRepository.lockUnclaimed(tenantId, kind.name(), now)
+                .map(model -> {
+                    reminderCursorRepository.claim(model.getId(), claimedUntil);
+                    ReminderCursorEntity cursor = reminderCursorMapper.toEntity(model);
+                    cursor.setClaimedUntil(claimedUntil);
+                    return cursor;
+                });
+    }
+
+    @Override
+    public boolean release(ReminderCursorEntity cursor) {
+        return reminderCursorRepository.release(cursor.getId(), cursor.getLastDueDate(), cursor.getLastActivityId(),
+                cursor.getClaimedUntil()) > 0;
+    }
+}
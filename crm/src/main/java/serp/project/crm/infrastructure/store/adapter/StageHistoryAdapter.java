@@ -0,0 +1,83 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.StageMetricEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.port.store.IStageHistoryPort;
+import serp.project.crm.infrastructure.store.mapper.StageTransitionMapper;
+import serp.project.crm.infrastructure.store.repository.StageMetricRepository;
+import serp.project.crm.infrastructure.store.repository.StageTransitionRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class StageHistoryAdapter implements IStageHistoryPort {
+
+    private static final String INSERT_TRANSITION_SQL =
+            "INSERT INTO opportunity_stage_transitions (tenant_id, opportunity_id, from_stage, to_stage, " +
+                    "transitioned_at, time_in_stage_ms, assigned_to, estimated_value, created_by, updated_by, " +
+                    "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())";
+
+    private final StageTransitionRepository stageTransitionRepository;
+    private final StageMetricRepository stageMetricRepository;
+    private final StageTransitionMapper stageTransitionMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void appendAll(List<StageTransitionEntity> transitions) {
+        if (transitions == null || transitions.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = transitions.stream()
+                .map(transition -> new Object[] {
+                        transition.getTenantId(), transition.getOpportunityId(),
+                        enumName(transition.getFromStage()), enumName(transition.getToStage()),
+                        transition.getTransitionedAt(), transition.getTimeInStageMs(),
+                        transition.getAssignedTo(), transition.getEstimatedValue(),
+                        transition.getCreatedBy(), transition.getCreatedBy()
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, args);
+    }
+
+    @Override
+    public List<StageTransitionEntity> findByOpportunityId(Long opportunityId, Long tenantId) {
+        return stageTransitionMapper.toEntityList(stageTransitionRepository
+                .findByTenantIdAndOpportunityIdOrderByTransitionedAtAscIdAsc(tenantId, opportunityId));
+    }
+
+    @Override
+    @Transactional
+    public void increment(Long tenantId, OpportunityStage fromStage, OpportunityStage toStage, String periodMonth,
+            long countDelta, long timeInStageDelta) {
+        if (toStage == null || countDelta == 0) {
+            return;
+        }
+        stageMetricRepository.upsertIncrement(tenantId, fromStage != null ? fromStage.name() : "",
+                toStage.name(), periodMonth, countDelta, timeInStageDelta);
+    }
+
+    @Override
+    public List<StageMetricEntity> sumByTransition(Long tenantId, String fromMonth, String toMonth) {
+        return stageMetricRepository.sumByTransition(tenantId, fromMonth, toMonth)
+                .stream()
+                .map(stageTransitionMapper::toMetric)
+                .filter(metric -> metric.getToStage() != null)
+                .toList();
+    }
+
+    private String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -10,7 +10,9 @@ import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Component;
 import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.entity.TeamMemberEntity;
+import serp.project.crm.core.domain.enums.CacheRegion;
 import serp.project.crm.core.domain.enums.TeamMemberStatus;
+import serp.project.crm.core.port.store.ICachePort;
 import serp.project.crm.core.port.store.ITeamMemberPort;
 import serp.project.crm.infrastructure.store.mapper.TeamMemberMapper;
 import serp.project.crm.infrastructure.store.repository.TeamMemberRepository;
@@ -25,12 +27,15 @@ public class TeamMemberAdapter implements ITeamMemberPort {
 
     private final TeamMemberRepository teamMemberRepository;
     private final TeamMemberMapper teamMemberMapper;
+    private final ICachePort cachePort;
 
     @Override
     public TeamMemberEntity save(TeamMemberEntity teamMemberEntity) {
         var model = teamMemberMapper.toModel(teamMemberEntity);
         var savedModel = teamMemberRepository.save(model);
-        return teamMemberMapper.toEntity(savedModel);
+        var saved = teamMemberMapper.toEntity(savedModel);
+        cachePort.evict(CacheRegion.TEAM_MEMBER, saved.getTenantId(), saved.getId());
+        return saved;
     }
 
     @Override
@@ -98,6 +103,7 @@ public class TeamMemberAdapter implements ITeamMemberPort {
     public void deleteById(Long id, Long tenantId) {
         teamMemberRepository.findByIdAndTenantId(id, tenantId)
                 .ifPresent(teamMemberRepository::delete);
+        cachePort.evict(CacheRegion.TEAM_MEMBER, tenantId, id);
     }
 
     @Override
@@ -109,8 +115,15 @@ public class TeamMemberAdapter implements ITeamMemberPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<TeamMemberEntity> findAllActive(Long tenantId) {
+        return teamMemberMapper.toEntityList(
+                teamMemberRepository.findByTenantIdAndStatusNot(tenantId, TeamMemberStatus.ARCHIVED.name()));
+    }
+
     @Override
     public void deleteAllByTeamId(Long teamId, Long tenantId) {
         teamMemberRepository.deleteByTeamIdAndTenantId(teamId, tenantId);
+        cachePort.evictTenant(CacheRegion.TEAM_MEMBER, tenantId);
     }
 }
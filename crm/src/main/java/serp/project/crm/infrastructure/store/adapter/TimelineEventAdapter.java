@@ -0,0 +1,67 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.crm.core.domain.entity.TimelineEventEntity;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.port.store.ITimelineEventPort;
+import serp.project.crm.infrastructure.store.mapper.TimelineEventMapper;
+import serp.project.crm.infrastructure.store.repository.TimelineEventRepository;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TimelineEventAdapter implements ITimelineEventPort {
+
+    private static final String INSERT_EVENT_SQL =
+            "INSERT INTO timeline_events (tenant_id, entity_type, entity_id, event_type, occurred_at, source_id, " +
+                    "activity_type, title, detail, created_by, updated_by, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now(), now())";
+
+    private final TimelineEventRepository timelineEventRepository;
+    private final TimelineEventMapper timelineEventMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void appendAll(List<TimelineEventEntity> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = events.stream()
+                .map(event -> new Object[] {
+                        event.getTenantId(), enumName(event.getEntityType()), event.getEntityId(),
+                        enumName(event.getEventType()), event.getOccurredAt(),
+                        event.getSourceId(), event.getActivityType(), event.getTitle(), event.getDetail(),
+                        event.getCreatedBy(), event.getCreatedBy()
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, args);
+    }
+
+    @Override
+    public List<TimelineEventEntity> findPageBefore(TimelineEntityType entityType, Long entityId, Long tenantId,
+            Long beforeOccurredAt, Long beforeId, int limit) {
+        return timelineEventMapper.toEntityList(timelineEventRepository.findPageBefore(tenantId, entityType.name(),
+                entityId, beforeOccurredAt, beforeId, limit));
+    }
+
+    @Override
+    @Transactional
+    public int backfill(Long tenantId) {
+        return timelineEventRepository.backfillActivities(tenantId)
+                + timelineEventRepository.backfillConversions(tenantId);
+    }
+
+    private String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
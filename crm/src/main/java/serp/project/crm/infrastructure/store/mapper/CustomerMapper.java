@@ -33,6 +33,8 @@ public class CustomerMapper extends BaseMapper {
                 .industry(model.getIndustry())
                 .companySize(model.getCompanySize())
                 .parentCustomerId(model.getParentCustomerId())
+                .hierarchyPath(model.getHierarchyPath())
+                .hierarchyDepth(model.getHierarchyDepth())
                 .taxId(model.getTaxId())
                 .creditLimit(model.getCreditLimit())
                 .totalOpportunities(model.getTotalOpportunities())
@@ -68,6 +70,8 @@ public class CustomerMapper extends BaseMapper {
                 .industry(entity.getIndustry())
                 .companySize(entity.getCompanySize())
                 .parentCustomerId(entity.getParentCustomerId())
+                .hierarchyPath(entity.getHierarchyPath())
+                .hierarchyDepth(entity.getHierarchyDepth())
                 .taxId(entity.getTaxId())
                 .creditLimit(entity.getCreditLimit())
                 .totalOpportunities(entity.getTotalOpportunities())
@@ -0,0 +1,58 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.mapper;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.LeadEngagementDayEntity;
+import serp.project.crm.core.domain.entity.LeadEngagementEntity;
+import serp.project.crm.infrastructure.store.model.LeadEngagementDayModel;
+import serp.project.crm.infrastructure.store.model.LeadEngagementModel;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LeadEngagementMapper extends BaseMapper {
+
+    public LeadEngagementEntity toEntity(LeadEngagementModel model, List<LeadEngagementDayEntity> recentDays) {
+        if (model == null) {
+            return null;
+        }
+
+        return LeadEngagementEntity.builder()
+                .id(model.getId())
+                .tenantId(model.getTenantId())
+                .leadId(model.getLeadId())
+                .callCount(model.getCallCount())
+                .meetingCount(model.getMeetingCount())
+                .emailCount(model.getEmailCount())
+                .taskCount(model.getTaskCount())
+                .lastActivityAt(model.getLastActivityAt())
+                .recentDays(recentDays)
+                .createdAt(toTimestamp(model.getCreatedAt()))
+                .updatedAt(toTimestamp(model.getUpdatedAt()))
+                .createdBy(model.getCreatedBy())
+                .updatedBy(model.getUpdatedBy())
+                .build();
+    }
+
+    public LeadEngagementDayEntity toDayEntity(LeadEngagementDayModel model) {
+        if (model == null) {
+            return null;
+        }
+
+        return LeadEngagementDayEntity.builder()
+                .leadId(model.getLeadId())
+                .activityDay(model.getActivityDay())
+                .callCount(model.getCallCount())
+                .meetingCount(model.getMeetingCount())
+                .emailCount(model.getEmailCount())
+                .taskCount(model.getTaskCount())
+                .build();
+    }
+}
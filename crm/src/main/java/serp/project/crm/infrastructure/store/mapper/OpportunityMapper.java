@@ -38,6 +38,7 @@ public class OpportunityMapper extends BaseMapper {
                 .assignedTo(model.getAssignedTo())
                 .notes(model.getNotes())
                 .lossReason(model.getLossReason())
+                .stageEnteredAt(model.getStageEnteredAt())
                 .createdAt(toTimestamp(model.getCreatedAt()))
                 .updatedAt(toTimestamp(model.getUpdatedAt()))
                 .createdBy(model.getCreatedBy())
@@ -65,6 +66,7 @@ public class OpportunityMapper extends BaseMapper {
                 .assignedTo(entity.getAssignedTo())
                 .notes(entity.getNotes())
                 .lossReason(entity.getLossReason())
+                .stageEnteredAt(entity.getStageEnteredAt())
                 .createdAt(toLocalDateTime(entity.getCreatedAt()))
                 .updatedAt(toLocalDateTime(entity.getUpdatedAt()))
                 .createdBy(entity.getCreatedBy())
@@ -0,0 +1,31 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.mapper;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.PipelineStatEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.infrastructure.store.repository.PipelineStatRepository;
+
+@Component
+@RequiredArgsConstructor
+public class PipelineStatMapper extends BaseMapper {
+
+    public PipelineStatEntity toEntity(PipelineStatRepository.StageTotal total, Long tenantId) {
+        if (total == null) {
+            return null;
+        }
+
+        return PipelineStatEntity.builder()
+                .tenantId(tenantId)
+                .stage(stringToEnum(total.getStage(), OpportunityStage.class))
+                .opportunityCount(total.getOpportunityCount())
+                .totalValue(total.getTotalValue())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.mapper;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.ReminderCursorEntity;
+import serp.project.crm.core.domain.enums.ReminderKind;
+import serp.project.crm.infrastructure.store.model.ReminderCursorModel;
+
+@Component
+@RequiredArgsConstructor
+public class ReminderCursorMapper extends BaseMapper {
+
+    public ReminderCursorEntity toEntity(ReminderCursorModel model) {
+        if (model == null) {
+            return null;
+        }
+
+        return ReminderCursorEntity.builder()
+                .id(model.getId())
+                .tenantId(model.getTenantId())
+                .kind(stringToEnum(model.getKind(), ReminderKind.class))
+                .lastDueDate(model.getLastDueDate())
+                .lastActivityId(model.getLastActivityId())
+                .claimedUntil(model.getClaimedUntil())
+                .createdAt(toTimestamp(model.getCreatedAt()))
+                .updatedAt(toTimestamp(model.getUpdatedAt()))
+                .build();
+    }
+}
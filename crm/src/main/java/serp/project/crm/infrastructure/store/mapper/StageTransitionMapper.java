@@ -0,0 +1,57 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.mapper;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.StageMetricEntity;
+import serp.project.crm.core.domain.entity.StageTransitionEntity;
+import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.infrastructure.store.model.StageTransitionModel;
+import serp.project.crm.infrastructure.store.repository.StageMetricRepository;
+
+import java.util.List;
+
+@Component
+public class StageTransitionMapper extends BaseMapper {
+
+    public StageTransitionEntity toEntity(StageTransitionModel model) {
+        if (model == null) {
+            return null;
+        }
+
+        return StageTransitionEntity.builder()
+                .id(model.getId())
+                .tenantId(model.getTenantId())
+                .opportunityId(model.getOpportunityId())
+                .fromStage(stringToEnum(model.getFromStage(), OpportunityStage.class))
+                .toStage(stringToEnum(model.getToStage(), OpportunityStage.class))
+                .transitionedAt(model.getTransitionedAt())
+                .timeInStageMs(model.getTimeInStageMs())
+                .assignedTo(model.getAssignedTo())
+                .estimatedValue(model.getEstimatedValue())
+                .createdBy(model.getCreatedBy())
+                .createdAt(toTimestamp(model.getCreatedAt()))
+                .build();
+    }
+
+    public List<StageTransitionEntity> toEntityList(List<StageTransitionModel> models) {
+        return models.stream().map(this::toEntity).toList();
+    }
+
+    public StageMetricEntity toMetric(StageMetricRepository.TransitionTotal total) {
+        if (total == null) {
+            return null;
+        }
+
+        return StageMetricEntity.builder()
+                // Pipeline entries are stored with an empty fromStage, which maps back to null
+                .fromStage(stringToEnum(total.getFromStage(), OpportunityStage.class))
+                .toStage(stringToEnum(total.getToStage(), OpportunityStage.class))
+                .transitionCount(total.getTransitionCount())
+                .totalTimeInStageMs(total.getTotalTimeInStageMs())
+                .build();
+    }
+}
@@ -33,6 +33,7 @@ public class TeamMemberMapper extends BaseMapper {
                 .userId(model.getUserId())
                 .role(model.getRole())
                 .status(stringToEnum(model.getStatus(), TeamMemberStatus.class))
+                .assignmentWeight(model.getAssignmentWeight())
                 .createdAt(toTimestamp(model.getCreatedAt()))
                 .updatedAt(toTimestamp(model.getUpdatedAt()))
                 .createdBy(model.getCreatedBy())
@@ -55,6 +56,7 @@ public class TeamMemberMapper extends BaseMapper {
                 .userId(entity.getUserId())
                 .role(entity.getRole())
                 .status(enumToString(entity.getStatus()))
+                .assignmentWeight(entity.getAssignmentWeight())
                 .createdAt(toLocalDateTime(entity.getCreatedAt()))
                 .updatedAt(toLocalDateTime(entity.getUpdatedAt()))
                 .createdBy(entity.getCreatedBy())
@@ -0,0 +1,43 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.mapper;
+
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.domain.entity.TimelineEventEntity;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.domain.enums.TimelineEventType;
+import serp.project.crm.infrastructure.store.model.TimelineEventModel;
+
+import java.util.List;
+
+@Component
+public class TimelineEventMapper extends BaseMapper {
+
+    public TimelineEventEntity toEntity(TimelineEventModel model) {
+        if (model == null) {
+            return null;
+        }
+
+        return TimelineEventEntity.builder()
+                .id(model.getId())
+                .tenantId(model.getTenantId())
+                .entityType(stringToEnum(model.getEntityType(), TimelineEntityType.class))
+                .entityId(model.getEntityId())
+                .eventType(stringToEnum(model.getEventType(), TimelineEventType.class))
+                .occurredAt(model.getOccurredAt())
+                .sourceId(model.getSourceId())
+                .activityType(model.getActivityType())
+                .title(model.getTitle())
+                .detail(model.getDetail())
+                .createdBy(model.getCreatedBy())
+                .createdAt(toTimestamp(model.getCreatedAt()))
+                .build();
+    }
+
+    public List<TimelineEventEntity> toEntityList(List<TimelineEventModel> models) {
+        return models.stream().map(this::toEntity).toList();
+    }
+}
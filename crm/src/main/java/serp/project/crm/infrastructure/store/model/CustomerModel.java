@@ -18,7 +18,8 @@ import java.math.BigDecimal;
 @Table(name = "customers", indexes = {
         @Index(name = "idx_customers_tenant_id", columnList = "tenant_id"),
         @Index(name = "idx_customers_email", columnList = "email"),
-        @Index(name = "idx_customers_name", columnList = "name")
+        @Index(name = "idx_customers_name", columnList = "name"),
+        @Index(name = "idx_customers_tenant_parent", columnList = "tenant_id, parent_customer_id")
 })
 @NoArgsConstructor
 @AllArgsConstructor
@@ -51,19 +52,27 @@ public class CustomerModel extends BaseModel {
     @Column(name = "parent_customer_id")
     private Long parentCustomerId;
 
+    @Column(name = "hierarchy_path", length = 1000)
+    private String hierarchyPath;
+
+    @Column(name = "hierarchy_depth")
+    private Integer hierarchyDepth;
+
     @Column(name = "tax_id", length = 50)
     private String taxId;
 
     @Column(name = "credit_limit", precision = 15, scale = 2)
     private BigDecimal creditLimit;
 
-    @Column(name = "total_opportunities")
+    // Rollup counters are written only by the atomic increments and reconciliation in CustomerRepository;
+    // an entity save must not write back a stale copy over a concurrent increment.
+    @Column(name = "total_opportunities", updatable = false)
     private Integer totalOpportunities;
 
-    @Column(name = "won_opportunities")
+    @Column(name = "won_opportunities", updatable = false)
     private Integer wonOpportunities;
 
-    @Column(name = "total_revenue", precision = 15, scale = 2)
+    @Column(name = "total_revenue", precision = 15, scale = 2, updatable = false)
     private BigDecimal totalRevenue;
 
     @Column(name = "active_status", nullable = false, length = 20)
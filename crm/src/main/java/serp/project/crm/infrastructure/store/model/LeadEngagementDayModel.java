@@ -0,0 +1,48 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "lead_engagement_days", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lead_engagement_days_lead_day", columnNames = {"lead_id", "activity_day"})
+}, indexes = {
+        @Index(name = "idx_lead_engagement_days_tenant_id", columnList = "tenant_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class LeadEngagementDayModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "lead_id", nullable = false)
+    private Long leadId;
+
+    @Column(name = "activity_day", nullable = false)
+    private Long activityDay;
+
+    @Column(name = "call_count", nullable = false)
+    private Integer callCount;
+
+    @Column(name = "meeting_count", nullable = false)
+    private Integer meetingCount;
+
+    @Column(name = "email_count", nullable = false)
+    private Integer emailCount;
+
+    @Column(name = "task_count", nullable = false)
+    private Integer taskCount;
+}
@@ -0,0 +1,48 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "lead_engagements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_lead_engagements_lead_id", columnNames = "lead_id")
+}, indexes = {
+        @Index(name = "idx_lead_engagements_tenant_id", columnList = "tenant_id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class LeadEngagementModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "lead_id", nullable = false)
+    private Long leadId;
+
+    @Column(name = "call_count", nullable = false)
+    private Integer callCount;
+
+    @Column(name = "meeting_count", nullable = false)
+    private Integer meetingCount;
+
+    @Column(name = "email_count", nullable = false)
+    private Integer emailCount;
+
+    @Column(name = "task_count", nullable = false)
+    private Integer taskCount;
+
+    @Column(name = "last_activity_at")
+    private Long lastActivityAt;
+}
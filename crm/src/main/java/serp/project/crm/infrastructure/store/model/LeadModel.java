@@ -19,7 +19,9 @@ import java.time.LocalDate;
 @Table(name = "leads", indexes = {
         @Index(name = "idx_leads_tenant_id", columnList = "tenant_id"),
         @Index(name = "idx_leads_lead_status", columnList = "lead_status"),
-        @Index(name = "idx_leads_assigned_to", columnList = "assigned_to")
+        @Index(name = "idx_leads_assigned_to", columnList = "assigned_to"),
+        @Index(name = "idx_leads_tenant_email", columnList = "tenant_id, email"),
+        @Index(name = "idx_leads_tenant_phone", columnList = "tenant_id, phone")
 })
 @NoArgsConstructor
 @AllArgsConstructor
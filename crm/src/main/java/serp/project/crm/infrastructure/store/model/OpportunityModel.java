@@ -48,6 +48,9 @@ public class OpportunityModel extends BaseModel {
     @Column(name = "stage", nullable = false, length = 50)
     private String stage;
 
+    @Column(name = "stage_entered_at")
+    private Long stageEnteredAt;
+
     @Column(name = "estimated_value", nullable = false, precision = 15, scale = 2)
     private BigDecimal estimatedValue;
 
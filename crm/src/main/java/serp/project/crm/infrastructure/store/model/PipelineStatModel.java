@@ -0,0 +1,46 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "opportunity_pipeline_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pipeline_stats_bucket",
+                columnNames = {"tenant_id", "stage", "assigned_to", "period_month"})
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class PipelineStatModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "stage", nullable = false, length = 50)
+    private String stage;
+
+    @Column(name = "assigned_to", nullable = false)
+    private Long assignedTo;
+
+    @Column(name = "period_month", nullable = false, length = 7)
+    private String periodMonth;
+
+    @Column(name = "opportunity_count", nullable = false)
+    private Long opportunityCount;
+
+    @Column(name = "total_value", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalValue;
+}
@@ -0,0 +1,40 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "activity_reminder_cursors", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_activity_reminder_cursors_tenant_kind", columnNames = {"tenant_id", "kind"})
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class ReminderCursorModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "kind", nullable = false, length = 20)
+    private String kind;
+
+    @Column(name = "last_due_date", nullable = false)
+    private Long lastDueDate;
+
+    @Column(name = "last_activity_id", nullable = false)
+    private Long lastActivityId;
+
+    @Column(name = "claimed_until")
+    private Long claimedUntil;
+}
@@ -0,0 +1,45 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "opportunity_stage_metrics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stage_metrics_bucket",
+                columnNames = {"tenant_id", "from_stage", "to_stage", "period_month"})
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class StageMetricModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    // Empty for entries into the pipeline so the bucket key stays NOT NULL
+    @Column(name = "from_stage", nullable = false, length = 50)
+    private String fromStage;
+
+    @Column(name = "to_stage", nullable = false, length = 50)
+    private String toStage;
+
+    @Column(name = "period_month", nullable = false, length = 7)
+    private String periodMonth;
+
+    @Column(name = "transition_count", nullable = false)
+    private Long transitionCount;
+
+    @Column(name = "total_time_in_stage_ms", nullable = false)
+    private Long totalTimeInStageMs;
+}
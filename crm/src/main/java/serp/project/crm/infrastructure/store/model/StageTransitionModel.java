@@ -0,0 +1,52 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "opportunity_stage_transitions", indexes = {
+        @Index(name = "idx_stage_transitions_opportunity",
+                columnList = "tenant_id, opportunity_id, transitioned_at")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class StageTransitionModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "opportunity_id", nullable = false)
+    private Long opportunityId;
+
+    @Column(name = "from_stage", length = 50)
+    private String fromStage;
+
+    @Column(name = "to_stage", nullable = false, length = 50)
+    private String toStage;
+
+    @Column(name = "transitioned_at", nullable = false)
+    private Long transitionedAt;
+
+    @Column(name = "time_in_stage_ms")
+    private Long timeInStageMs;
+
+    @Column(name = "assigned_to")
+    private Long assignedTo;
+
+    @Column(name = "estimated_value", precision = 19, scale = 2)
+    private BigDecimal estimatedValue;
+}
@@ -51,4 +51,7 @@ public class TeamMemberModel extends BaseModel {
 
     @Column(name = "status", nullable = false, length = 20)
     private String status;
+
+    @Column(name = "assignment_weight")
+    private Integer assignmentWeight;
 }
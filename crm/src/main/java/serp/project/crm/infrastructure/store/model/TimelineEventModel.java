@@ -0,0 +1,53 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "timeline_events", indexes = {
+        @Index(name = "idx_timeline_events_stream",
+                columnList = "tenant_id, entity_type, entity_id, occurred_at, id")
+})
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@SuperBuilder
+public class TimelineEventModel extends BaseModel {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "event_type", nullable = false, length = 30)
+    private String eventType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Long occurredAt;
+
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    @Column(name = "activity_type", length = 50)
+    private String activityType;
+
+    @Column(name = "title", length = 255)
+    private String title;
+
+    @Column(name = "detail", length = 1000)
+    private String detail;
+}
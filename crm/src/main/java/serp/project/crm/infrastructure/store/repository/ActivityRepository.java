@@ -51,6 +51,32 @@ public interface ActivityRepository extends JpaRepository<ActivityModel, Long> {
 
     List<ActivityModel> findByLeadId(Long leadId);
 
+    // Loose index scan over idx_activities_pending_due: one index probe per tenant with pending activities
+    // instead of reading every open row. Same status and due-date predicate as findOpenDueAfter.
+    @Query(value = "WITH RECURSIVE t AS (" +
+            "SELECT MIN(tenant_id) AS tenant_id FROM activities " +
+            "WHERE status <> 'COMPLETED' AND status <> 'CANCELLED' AND due_date IS NOT NULL " +
+            "UNION ALL " +
+            "SELECT (SELECT MIN(a.tenant_id) FROM activities a " +
+            "WHERE a.status <> 'COMPLETED' AND a.status <> 'CANCELLED' AND a.due_date IS NOT NULL " +
+            "AND a.tenant_id > t.tenant_id) FROM t WHERE t.tenant_id IS NOT NULL) " +
+            "SELECT tenant_id FROM t WHERE tenant_id IS NOT NULL AND MOD(tenant_id, :shardCount) = :shardIndex",
+            nativeQuery = true)
+    List<Long> findTenantIdsWithOpenActivities(@Param("shardCount") int shardCount,
+            @Param("shardIndex") int shardIndex);
+
+    // Keyset scan over (due_date, id); the status predicate matches idx_activities_pending_due
+    @Query("SELECT a FROM ActivityModel a WHERE a.tenantId = :tenantId " +
+            "AND a.status <> 'COMPLETED' AND a.status <> 'CANCELLED' AND a.dueDate IS NOT NULL " +
+            "AND a.dueDate <= :untilDueDate " +
+            "AND (a.dueDate > :afterDueDate OR (a.dueDate = :afterDueDate AND a.id > :afterId)) " +
+            "ORDER BY a.dueDate ASC, a.id ASC")
+    List<ActivityModel> findOpenDueAfter(@Param("tenantId") Long tenantId,
+            @Param("afterDueDate") Long afterDueDate,
+            @Param("afterId") Long afterId,
+            @Param("untilDueDate") Long untilDueDate,
+            Pageable pageable);
+
     long countByTenantId(Long tenantId);
 
     long countByTenantIdAndStatus(Long tenantId, String status);
@@ -9,17 +9,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.crm.infrastructure.store.model.CustomerModel;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<CustomerModel, Long>, JpaSpecificationExecutor<CustomerModel> {
 
+    interface SubtreeTotal {
+        Long getCustomerCount();
+
+        Long getTotalOpportunities();
+
+        Long getWonOpportunities();
+
+        BigDecimal getTotalRevenue();
+    }
+
     Optional<CustomerModel> findByIdAndTenantId(Long id, Long tenantId);
 
     Page<CustomerModel> findByTenantId(Long tenantId, Pageable pageable);
@@ -30,6 +43,11 @@ public interface CustomerRepository extends JpaRepository<CustomerModel, Long>,
 
     boolean existsByEmailAndTenantId(String email, Long tenantId);
 
+    List<CustomerModel> findByTenantIdAndIdIn(Long tenantId, Collection<Long> ids);
+
+    @Query("SELECT c.email FROM CustomerModel c WHERE c.tenantId = :tenantId AND c.email IN :emails")
+    List<String> findExistingEmails(@Param("tenantId") Long tenantId, @Param("emails") Collection<String> emails);
+
     List<CustomerModel> findByParentCustomerIdAndTenantId(Long parentCustomerId, Long tenantId);
 
     @Query("SELECT c FROM CustomerModel c WHERE c.tenantId = :tenantId " +
@@ -44,4 +62,86 @@ public interface CustomerRepository extends JpaRepository<CustomerModel, Long>,
     long countByTenantId(Long tenantId);
 
     long countByTenantIdAndActiveStatus(Long tenantId, String activeStatus);
+
+    @Modifying
+    @Query(value = "UPDATE customers SET " +
+            "total_opportunities = COALESCE(total_opportunities, 0) + 1, " +
+            "won_opportunities = COALESCE(won_opportunities, 0) + :wonDelta, " +
+            "total_revenue = COALESCE(total_revenue, 0) + :revenueDelta, " +
+            "updated_at = now() " +
+            "WHERE id = :id AND tenant_id = :tenantId", nativeQuery = true)
+    int incrementOpportunityResult(@Param("id") Long id,
+            @Param("tenantId") Long tenantId,
+            @Param("wonDelta") int wonDelta,
+            @Param("revenueDelta") BigDecimal revenueDelta);
+
+    @Query(value = "SELECT DISTINCT tenant_id FROM customers", nativeQuery = true)
+    List<Long> findDistinctTenantIds();
+
+    @Modifying
+    @Query(value = "UPDATE customers c SET " +
+            "total_opportunities = r.closed_count, " +
+            "won_opportunities = r.won_count, " +
+            "total_revenue = r.won_value, " +
+            "updated_at = now() " +
+            "FROM (SELECT cu.id, " +
+            "COUNT(o.id) FILTER (WHERE o.stage IN ('CLOSED_WON', 'CLOSED_LOST')) AS closed_count, " +
+            "COUNT(o.id) FILTER (WHERE o.stage = 'CLOSED_WON') AS won_count, " +
+            "COALESCE(SUM(o.estimated_value) FILTER (WHERE o.stage = 'CLOSED_WON'), 0) AS won_value " +
+            "FROM customers cu LEFT JOIN opportunities o " +
+            "ON o.customer_id = cu.id AND o.tenant_id = cu.tenant_id " +
+            "WHERE cu.tenant_id = :tenantId GROUP BY cu.id) r " +
+            "WHERE c.id = r.id AND (" +
+            "c.total_opportunities IS DISTINCT FROM r.closed_count " +
+            "OR c.won_opportunities IS DISTINCT FROM r.won_count " +
+            "OR c.total_revenue IS DISTINCT FROM r.won_value)", nativeQuery = true)
+    int reconcileOpportunityRollups(@Param("tenantId") Long tenantId);
+
+    @Query("SELECT c FROM CustomerModel c WHERE c.tenantId = :tenantId " +
+            "AND c.hierarchyPath LIKE CONCAT(:pathPrefix, '%') ORDER BY c.hierarchyPath")
+    List<CustomerModel> findSubtree(@Param("tenantId") Long tenantId, @Param("pathPrefix") String pathPrefix);
+
+    @Query("SELECT COUNT(c) AS customerCount, " +
+            "COALESCE(SUM(c.totalOpportunities), 0) AS totalOpportunities, " +
+            "COALESCE(SUM(c.wonOpportunities), 0) AS wonOpportunities, " +
+            "COALESCE(SUM(c.totalRevenue), 0) AS totalRevenue " +
+            "FROM CustomerModel c WHERE c.tenantId = :tenantId " +
+            "AND c.hierarchyPath LIKE CONCAT(:pathPrefix, '%')")
+    SubtreeTotal sumSubtree(@Param("tenantId") Long tenantId, @Param("pathPrefix") String pathPrefix);
+
+    @Modifying
+    @Query("UPDATE CustomerModel c SET c.hierarchyPath = :path, c.hierarchyDepth = :depth " +
+            "WHERE c.id = :id AND c.tenantId = :tenantId")
+    int updateHierarchy(@Param("id") Long id,
+            @Param("tenantId") Long tenantId,
+            @Param("path") String path,
+            @Param("depth") int depth);
+
+    @Modifying
+    @Query(value = "UPDATE customers SET hierarchy_path = '/' || id || '/', hierarchy_depth = 0 " +
+            "WHERE tenant_id = :tenantId AND id IN (:ids)", nativeQuery = true)
+    int indexAsRoots(@Param("tenantId") Long tenantId, @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "UPDATE customers SET " +
+            "hierarchy_path = :newPrefix || substr(hierarchy_path, length(:oldPrefix) + 1), " +
+            "hierarchy_depth = hierarchy_depth + :depthDelta " +
+            "WHERE tenant_id = :tenantId AND hierarchy_path LIKE :oldPrefix || '%'", nativeQuery = true)
+    int moveSubtree(@Param("tenantId") Long tenantId,
+            @Param("oldPrefix") String oldPrefix,
+            @Param("newPrefix") String newPrefix,
+            @Param("depthDelta") int depthDelta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH RECURSIVE tree AS (" +
+            "SELECT id, '/' || id || '/' AS path, 0 AS depth FROM customers " +
+            "WHERE tenant_id = :tenantId AND parent_customer_id IS NULL " +
+            "UNION ALL " +
+            "SELECT c.id, t.path || c.id || '/', t.depth + 1 FROM customers c " +
+            "JOIN tree t ON c.parent_customer_id = t.id WHERE c.tenant_id = :tenantId) " +
+            "UPDATE customers c SET hierarchy_path = tree.path, hierarchy_depth = tree.depth " +
+            "FROM tree WHERE c.id = tree.id " +
+            "AND (c.hierarchy_path IS DISTINCT FROM tree.path OR c.hierarchy_depth IS DISTINCT FROM tree.depth)",
+            nativeQuery = true)
+    int rebuildHierarchy(@Param("tenantId") Long tenantId);
 }
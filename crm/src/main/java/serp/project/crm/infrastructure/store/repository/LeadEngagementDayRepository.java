@@ -0,0 +1,69 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.LeadEngagementDayModel;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LeadEngagementDayRepository extends JpaRepository<LeadEngagementDayModel, Long> {
+
+    @Query("SELECT d FROM LeadEngagementDayModel d " +
+            "WHERE d.tenantId = :tenantId AND d.leadId IN :leadIds AND d.activityDay >= :fromDay")
+    List<LeadEngagementDayModel> findRecent(@Param("tenantId") Long tenantId,
+            @Param("leadIds") Collection<Long> leadIds,
+            @Param("fromDay") Long fromDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagement_days (tenant_id, lead_id, activity_day, call_count, meeting_count, " +
+            "email_count, task_count, created_at, updated_at) " +
+            "VALUES (:tenantId, :leadId, :activityDay, GREATEST(:callDelta, 0), GREATEST(:meetingDelta, 0), " +
+            "GREATEST(:emailDelta, 0), GREATEST(:taskDelta, 0), now(), now()) " +
+            "ON CONFLICT (lead_id, activity_day) DO UPDATE SET " +
+            "call_count = GREATEST(lead_engagement_days.call_count + :callDelta, 0), " +
+            "meeting_count = GREATEST(lead_engagement_days.meeting_count + :meetingDelta, 0), " +
+            "email_count = GREATEST(lead_engagement_days.email_count + :emailDelta, 0), " +
+            "task_count = GREATEST(lead_engagement_days.task_count + :taskDelta, 0), " +
+            "updated_at = now()", nativeQuery = true)
+    void upsertIncrement(@Param("tenantId") Long tenantId,
+            @Param("leadId") Long leadId,
+            @Param("activityDay") Long activityDay,
+            @Param("callDelta") int callDelta,
+            @Param("meetingDelta") int meetingDelta,
+            @Param("emailDelta") int emailDelta,
+            @Param("taskDelta") int taskDelta);
+
+    // Same day bucketing as LeadEngagementEntity.epochDay, with the same updated_at fallback as the lead rebuild
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagement_days (tenant_id, lead_id, activity_day, call_count, meeting_count, " +
+            "email_count, task_count, created_at, updated_at) " +
+            "SELECT a.tenant_id, a.lead_id, a.activity_day, " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'CALL'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'MEETING'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'EMAIL'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'TASK'), now(), now() " +
+            "FROM (SELECT tenant_id, lead_id, activity_type, " +
+            "FLOOR(COALESCE(activity_date, (EXTRACT(EPOCH FROM updated_at) * 1000)::BIGINT) / 86400000.0)::BIGINT " +
+            "AS activity_day FROM activities " +
+            "WHERE tenant_id = :tenantId AND lead_id IS NOT NULL AND status = 'COMPLETED') a " +
+            "GROUP BY a.tenant_id, a.lead_id, a.activity_day", nativeQuery = true)
+    int rebuildForTenant(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("DELETE FROM LeadEngagementDayModel d WHERE d.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("DELETE FROM LeadEngagementDayModel d WHERE d.leadId = :leadId AND d.tenantId = :tenantId")
+    void deleteByLeadIdAndTenantId(@Param("leadId") Long leadId, @Param("tenantId") Long tenantId);
+}
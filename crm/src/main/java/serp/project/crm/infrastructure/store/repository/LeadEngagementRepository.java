@@ -0,0 +1,81 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.LeadEngagementModel;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeadEngagementRepository extends JpaRepository<LeadEngagementModel, Long> {
+
+    Optional<LeadEngagementModel> findByLeadIdAndTenantId(Long leadId, Long tenantId);
+
+    List<LeadEngagementModel> findByTenantIdAndLeadIdIn(Long tenantId, List<Long> leadIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagements (tenant_id, lead_id, call_count, meeting_count, email_count, " +
+            "task_count, last_activity_at, created_at, updated_at) " +
+            "VALUES (:tenantId, :leadId, GREATEST(:callDelta, 0), GREATEST(:meetingDelta, 0), " +
+            "GREATEST(:emailDelta, 0), GREATEST(:taskDelta, 0), CAST(:activityAt AS BIGINT), now(), now()) " +
+            "ON CONFLICT (lead_id) DO UPDATE SET " +
+            "call_count = GREATEST(lead_engagements.call_count + :callDelta, 0), " +
+            "meeting_count = GREATEST(lead_engagements.meeting_count + :meetingDelta, 0), " +
+            "email_count = GREATEST(lead_engagements.email_count + :emailDelta, 0), " +
+            "task_count = GREATEST(lead_engagements.task_count + :taskDelta, 0), " +
+            "last_activity_at = GREATEST(lead_engagements.last_activity_at, EXCLUDED.last_activity_at), " +
+            "updated_at = now()", nativeQuery = true)
+    void upsertIncrement(@Param("tenantId") Long tenantId,
+            @Param("leadId") Long leadId,
+            @Param("callDelta") int callDelta,
+            @Param("meetingDelta") int meetingDelta,
+            @Param("emailDelta") int emailDelta,
+            @Param("taskDelta") int taskDelta,
+            @Param("activityAt") Long activityAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO lead_engagements (tenant_id, lead_id, call_count, meeting_count, email_count, " +
+            "task_count, last_activity_at, created_at, updated_at) " +
+            "SELECT a.tenant_id, a.lead_id, " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'CALL'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'MEETING'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'EMAIL'), " +
+            "COUNT(*) FILTER (WHERE a.activity_type = 'TASK'), " +
+            "MAX(COALESCE(a.activity_date, (EXTRACT(EPOCH FROM a.updated_at) * 1000)::BIGINT)), now(), now() " +
+            "FROM activities a " +
+            "WHERE a.tenant_id = :tenantId AND a.lead_id IS NOT NULL AND a.status = 'COMPLETED' " +
+            "GROUP BY a.tenant_id, a.lead_id " +
+            "ON CONFLICT (lead_id) DO UPDATE SET " +
+            "call_count = EXCLUDED.call_count, " +
+            "meeting_count = EXCLUDED.meeting_count, " +
+            "email_count = EXCLUDED.email_count, " +
+            "task_count = EXCLUDED.task_count, " +
+            "last_activity_at = EXCLUDED.last_activity_at, " +
+            "updated_at = now()", nativeQuery = true)
+    int rebuildForTenant(@Param("tenantId") Long tenantId);
+
+    // Recomputed from the activities themselves, since removing or back-dating one can move it backwards
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE lead_engagements SET last_activity_at = (" +
+            "SELECT MAX(COALESCE(a.activity_date, (EXTRACT(EPOCH FROM a.updated_at) * 1000)::BIGINT)) " +
+            "FROM activities a WHERE a.lead_id = :leadId AND a.tenant_id = :tenantId AND a.status = 'COMPLETED'), " +
+            "updated_at = now() WHERE lead_id = :leadId AND tenant_id = :tenantId", nativeQuery = true)
+    void refreshLastActivityAt(@Param("leadId") Long leadId, @Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("DELETE FROM LeadEngagementModel e WHERE e.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query("DELETE FROM LeadEngagementModel e WHERE e.leadId = :leadId AND e.tenantId = :tenantId")
+    void deleteByLeadIdAndTenantId(@Param("leadId") Long leadId, @Param("tenantId") Long tenantId);
+}
@@ -14,6 +14,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import serp.project.crm.infrastructure.store.model.LeadModel;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -31,6 +33,14 @@ public interface LeadRepository extends JpaRepository<LeadModel, Long>, JpaSpeci
 
     boolean existsByEmailAndTenantId(String email, Long tenantId);
 
+    List<LeadModel> findByTenantIdAndIdIn(Long tenantId, Collection<Long> ids);
+
+    @Query("SELECT LOWER(l.email) FROM LeadModel l WHERE l.tenantId = :tenantId AND LOWER(l.email) IN :emails")
+    List<String> findExistingEmails(@Param("tenantId") Long tenantId, @Param("emails") Collection<String> emails);
+
+    @Query("SELECT l.phone FROM LeadModel l WHERE l.tenantId = :tenantId AND l.phone IN :phones")
+    List<String> findExistingPhones(@Param("tenantId") Long tenantId, @Param("phones") Collection<String> phones);
+
     @Query("SELECT l FROM LeadModel l WHERE l.tenantId = :tenantId " +
             "AND (LOWER(l.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
             "OR LOWER(l.email) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -48,4 +58,6 @@ public interface LeadRepository extends JpaRepository<LeadModel, Long>, JpaSpeci
     long countByTenantIdAndLeadStatus(Long tenantId, String leadStatus);
 
     long countByTenantIdAndAssignedTo(Long tenantId, Long assignedTo);
+
+    List<LeadModel> findByTenantIdAndIdGreaterThanOrderByIdAsc(Long tenantId, Long id, Pageable pageable);
 }
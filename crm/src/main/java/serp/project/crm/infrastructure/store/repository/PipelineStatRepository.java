@@ -0,0 +1,68 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.PipelineStatModel;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface PipelineStatRepository extends JpaRepository<PipelineStatModel, Long> {
+
+    interface StageTotal {
+        String getStage();
+
+        Long getOpportunityCount();
+
+        BigDecimal getTotalValue();
+    }
+
+    @Modifying
+    @Query(value = "INSERT INTO opportunity_pipeline_stats (tenant_id, stage, assigned_to, period_month, " +
+            "opportunity_count, total_value, created_at, updated_at) " +
+            "VALUES (:tenantId, :stage, :assignedTo, :periodMonth, :countDelta, :valueDelta, now(), now()) " +
+            "ON CONFLICT (tenant_id, stage, assigned_to, period_month) DO UPDATE SET " +
+            "opportunity_count = opportunity_pipeline_stats.opportunity_count + EXCLUDED.opportunity_count, " +
+            "total_value = opportunity_pipeline_stats.total_value + EXCLUDED.total_value, " +
+            "updated_at = now()", nativeQuery = true)
+    void upsertIncrement(@Param("tenantId") Long tenantId,
+            @Param("stage") String stage,
+            @Param("assignedTo") Long assignedTo,
+            @Param("periodMonth") String periodMonth,
+            @Param("countDelta") long countDelta,
+            @Param("valueDelta") BigDecimal valueDelta);
+
+    @Query("SELECT s.stage AS stage, SUM(s.opportunityCount) AS opportunityCount, SUM(s.totalValue) AS totalValue " +
+            "FROM PipelineStatModel s WHERE s.tenantId = :tenantId " +
+            "AND (:assignedTo IS NULL OR s.assignedTo = :assignedTo) " +
+            "AND (:fromMonth IS NULL OR s.periodMonth >= :fromMonth) " +
+            "AND (:toMonth IS NULL OR s.periodMonth <= :toMonth) " +
+            "GROUP BY s.stage")
+    List<StageTotal> sumByStage(@Param("tenantId") Long tenantId,
+            @Param("assignedTo") Long assignedTo,
+            @Param("fromMonth") String fromMonth,
+            @Param("toMonth") String toMonth);
+
+    @Modifying
+    @Query("DELETE FROM PipelineStatModel s WHERE s.tenantId = :tenantId")
+    void deleteByTenantId(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query(value = "INSERT INTO opportunity_pipeline_stats (tenant_id, stage, assigned_to, period_month, " +
+            "opportunity_count, total_value, created_at, updated_at) " +
+            "SELECT o.tenant_id, o.stage, COALESCE(o.assigned_to, 0), to_char(o.created_at, 'YYYY-MM'), " +
+            "COUNT(*), COALESCE(SUM(o.estimated_value), 0), now(), now() " +
+            "FROM opportunities o WHERE o.tenant_id = :tenantId " +
+            "GROUP BY o.tenant_id, o.stage, COALESCE(o.assigned_to, 0), to_char(o.created_at, 'YYYY-MM')",
+            nativeQuery = true)
+    int insertFromOpportunities(@Param("tenantId") Long tenantId);
+}
@@ -0,0 +1,42 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.ReminderCursorModel;
+
+import java.util.Optional;
+
+@Repository
+public interface ReminderCursorRepository extends JpaRepository<ReminderCursorModel, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO activity_reminder_cursors (tenant_id, kind, last_due_date, last_activity_id, " +
+            "created_at, updated_at) VALUES (:tenantId, :kind, :dueDate, 0, now(), now()) " +
+            "ON CONFLICT (tenant_id, kind) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("tenantId") Long tenantId, @Param("kind") String kind, @Param("dueDate") Long dueDate);
+
+    @Query(value = "SELECT * FROM activity_reminder_cursors WHERE tenant_id = :tenantId AND kind = :kind " +
+            "AND (claimed_until IS NULL OR claimed_until < :now) FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<ReminderCursorModel> lockUnclaimed(@Param("tenantId") Long tenantId, @Param("kind") String kind,
+            @Param("now") Long now);
+
+    @Modifying
+    @Query("UPDATE ReminderCursorModel c SET c.claimedUntil = :claimedUntil, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.id = :id")
+    void claim(@Param("id") Long id, @Param("claimedUntil") Long claimedUntil);
+
+    @Modifying
+    @Query("UPDATE ReminderCursorModel c SET c.lastDueDate = :lastDueDate, c.lastActivityId = :lastActivityId, " +
+            "c.claimedUntil = NULL, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.id = :id AND c.claimedUntil = :claimedUntil")
+    int release(@Param("id") Long id, @Param("lastDueDate") Long lastDueDate,
+            @Param("lastActivityId") Long lastActivityId, @Param("claimedUntil") Long claimedUntil);
+}
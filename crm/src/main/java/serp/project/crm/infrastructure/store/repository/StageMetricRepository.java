@@ -0,0 +1,55 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.StageMetricModel;
+
+import java.util.List;
+
+@Repository
+public interface StageMetricRepository extends JpaRepository<StageMetricModel, Long> {
+
+    interface TransitionTotal {
+        String getFromStage();
+
+        String getToStage();
+
+        Long getTransitionCount();
+
+        Long getTotalTimeInStageMs();
+    }
+
+    @Modifying
+    @Query(value = "INSERT INTO opportunity_stage_metrics (tenant_id, from_stage, to_stage, period_month, " +
+            "transition_count, total_time_in_stage_ms, created_at, updated_at) " +
+            "VALUES (:tenantId, :fromStage, :toStage, :periodMonth, :countDelta, :timeDelta, now(), now()) " +
+            "ON CONFLICT (tenant_id, from_stage, to_stage, period_month) DO UPDATE SET " +
+            "transition_count = opportunity_stage_metrics.transition_count + EXCLUDED.transition_count, " +
+            "total_time_in_stage_ms = opportunity_stage_metrics.total_time_in_stage_ms " +
+            "+ EXCLUDED.total_time_in_stage_ms, " +
+            "updated_at = now()", nativeQuery = true)
+    void upsertIncrement(@Param("tenantId") Long tenantId,
+            @Param("fromStage") String fromStage,
+            @Param("toStage") String toStage,
+            @Param("periodMonth") String periodMonth,
+            @Param("countDelta") long countDelta,
+            @Param("timeDelta") long timeDelta);
+
+    @Query("SELECT m.fromStage AS fromStage, m.toStage AS toStage, SUM(m.transitionCount) AS transitionCount, " +
+            "SUM(m.totalTimeInStageMs) AS totalTimeInStageMs " +
+            "FROM StageMetricModel m WHERE m.tenantId = :tenantId " +
+            "AND (:fromMonth IS NULL OR m.periodMonth >= :fromMonth) " +
+            "AND (:toMonth IS NULL OR m.periodMonth <= :toMonth) " +
+            "GROUP BY m.fromStage, m.toStage")
+    List<TransitionTotal> sumByTransition(@Param("tenantId") Long tenantId,
+            @Param("fromMonth") String fromMonth,
+            @Param("toMonth") String toMonth);
+}
@@ -0,0 +1,19 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.StageTransitionModel;
+
+import java.util.List;
+
+@Repository
+public interface StageTransitionRepository extends JpaRepository<StageTransitionModel, Long> {
+
+    List<StageTransitionModel> findByTenantIdAndOpportunityIdOrderByTransitionedAtAscIdAsc(Long tenantId,
+            Long opportunityId);
+}
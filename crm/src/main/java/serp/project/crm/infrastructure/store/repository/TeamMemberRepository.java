@@ -31,6 +31,8 @@ public interface TeamMemberRepository extends JpaRepository<TeamMemberModel, Lon
 
     Page<TeamMemberModel> findByTenantIdAndStatus(Long tenantId, String status, Pageable pageable);
 
+    List<TeamMemberModel> findByTenantIdAndStatusNot(Long tenantId, String status);
+
     Page<TeamMemberModel> findByTenantIdAndRole(Long tenantId, String role, Pageable pageable);
 
     Optional<TeamMemberModel> findByTenantIdAndTeamIdAndUserId(Long tenantId, Long teamId, Long userId);
@@ -0,0 +1,58 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import serp.project.crm.infrastructure.store.model.TimelineEventModel;
+
+import java.util.List;
+
+@Repository
+public interface TimelineEventRepository extends JpaRepository<TimelineEventModel, Long> {
+
+    // Row-value comparison keeps the predicate a single range on idx_timeline_events_stream
+    @Query(value = "SELECT * FROM timeline_events " +
+            "WHERE tenant_id = :tenantId AND entity_type = :entityType AND entity_id = :entityId " +
+            "AND (occurred_at, id) < (:beforeOccurredAt, :beforeId) " +
+            "ORDER BY occurred_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<TimelineEventModel> findPageBefore(@Param("tenantId") Long tenantId,
+            @Param("entityType") String entityType,
+            @Param("entityId") Long entityId,
+            @Param("beforeOccurredAt") Long beforeOccurredAt,
+            @Param("beforeId") Long beforeId,
+            @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO timeline_events (tenant_id, entity_type, entity_id, event_type, occurred_at, " +
+            "source_id, activity_type, title, created_by, created_at, updated_at) " +
+            "SELECT a.tenant_id, ref.entity_type, ref.entity_id, 'ACTIVITY_LOGGED', " +
+            "COALESCE(a.activity_date, (EXTRACT(EPOCH FROM a.created_at) * 1000)::bigint), " +
+            "a.id, a.activity_type, a.subject, a.created_by, now(), now() " +
+            "FROM activities a CROSS JOIN LATERAL (VALUES ('LEAD', a.lead_id), ('CUSTOMER', a.customer_id), " +
+            "('OPPORTUNITY', a.opportunity_id)) AS ref(entity_type, entity_id) " +
+            "WHERE a.tenant_id = :tenantId AND ref.entity_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM timeline_events t WHERE t.tenant_id = a.tenant_id " +
+            "AND t.entity_type = ref.entity_type AND t.entity_id = ref.entity_id " +
+            "AND t.event_type = 'ACTIVITY_LOGGED' AND t.source_id = a.id)", nativeQuery = true)
+    int backfillActivities(@Param("tenantId") Long tenantId);
+
+    @Modifying
+    @Query(value = "INSERT INTO timeline_events (tenant_id, entity_type, entity_id, event_type, occurred_at, " +
+            "source_id, title, created_by, created_at, updated_at) " +
+            "SELECT l.tenant_id, ref.entity_type, ref.entity_id, 'LEAD_CONVERTED', " +
+            "(EXTRACT(EPOCH FROM l.updated_at) * 1000)::bigint, l.id, l.name, l.updated_by, now(), now() " +
+            "FROM leads l CROSS JOIN LATERAL (VALUES ('LEAD', l.id), ('CUSTOMER', l.converted_customer_id), " +
+            "('OPPORTUNITY', l.converted_opportunity_id)) AS ref(entity_type, entity_id) " +
+            "WHERE l.tenant_id = :tenantId AND l.lead_status = 'CONVERTED' AND ref.entity_id IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM timeline_events t WHERE t.tenant_id = l.tenant_id " +
+            "AND t.entity_type = ref.entity_type AND t.entity_id = ref.entity_id " +
+            "AND t.event_type = 'LEAD_CONVERTED' AND t.source_id = l.id)", nativeQuery = true)
+    int backfillConversions(@Param("tenantId") Long tenantId);
+}
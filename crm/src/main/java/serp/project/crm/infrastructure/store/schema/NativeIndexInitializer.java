@@ -0,0 +1,50 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.schema;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates the indexes that JPA {@code @Index} cannot express (partial and expression indexes, operator classes).
+ * Runs outside a transaction so the indexes can be built concurrently without blocking writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NativeIndexInitializer {
+
+    private static final List<String> INDEXES = List.of(
+            // Superseded by idx_activities_pending_due, whose predicate also excludes CANCELLED and undated rows
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_activities_open_due",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_activities_pending_due " +
+                    "ON activities (tenant_id, due_date, id) " +
+                    "WHERE status <> 'COMPLETED' AND status <> 'CANCELLED' AND due_date IS NOT NULL",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customers_tenant_hierarchy_path " +
+                    "ON customers (tenant_id, hierarchy_path text_pattern_ops)",
+            // Serves the case-insensitive duplicate check of lead imports
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_leads_tenant_lower_email " +
+                    "ON leads (tenant_id, lower(email))");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        for (String ddl : INDEXES) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                log.warn("Could not create index [{}]: {}", ddl, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.infrastructure.store.specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Stream;
+
+/**
+ * Runs a {@link Specification} as a forward-only cursor ordered by id, detaching every row once it has
+ * been read so the persistence context stays empty. Callers must consume and close the stream inside a
+ * transaction.
+ */
+@Component
+public class SpecificationStreamer {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Stream<T> stream(Class<T> type, Specification<T> spec, Long afterId, int fetchSize) {
+        Specification<T> effective = spec.and(BaseSpecification.greaterThan("id", afterId));
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(type);
+        Root<T> root = query.from(type);
+        Predicate predicate = effective.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(model -> {
+                    entityManager.detach(model);
+                    return model;
+                });
+    }
+}
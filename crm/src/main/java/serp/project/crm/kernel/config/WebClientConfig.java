@@ -7,10 +7,12 @@ package serp.project.crm.kernel.config;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.net.URI;
+import java.time.Duration;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,10 +22,12 @@ import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.transport.ProxyProvider;
 import serp.project.crm.core.domain.constant.Constants;
 import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.kernel.property.HttpClientProperties;
 import serp.project.crm.kernel.utils.DataUtils;
 
 @Configuration
@@ -32,26 +36,46 @@ import serp.project.crm.kernel.utils.DataUtils;
 public class WebClientConfig {
 
     private final ObjectMapper objectMapper;
+    private final HttpClientProperties httpClientProperties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider internalConnectionProvider() {
+        return ConnectionProvider.builder("crm-internal")
+                .maxConnections(httpClientProperties.getMaxConnections())
+                .pendingAcquireMaxCount(httpClientProperties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(httpClientProperties.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(httpClientProperties.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(httpClientProperties.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofMillis(httpClientProperties.getEvictInBackgroundMs()))
+                .lifo()
+                .build();
+    }
 
     @Bean
-    public WebClient webClient(WebClient.Builder builder) {
+    public WebClient webClient(WebClient.Builder builder, ConnectionProvider internalConnectionProvider) {
         return builder
-                .clientConnector(new ReactorClientHttpConnector(httpClientWithProxy()))
-                .filter(logRequest())
-                .filter(logResponse())
+                .clientConnector(new ReactorClientHttpConnector(tunedHttpClient(internalConnectionProvider)))
                 .filter(errorHandlingFilter())
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(1024 * 1024))
+                .codecs(configurer -> configurer.defaultCodecs()
+                        .maxInMemorySize(httpClientProperties.getMaxInMemorySizeBytes()))
                 .build();
     }
 
-    private HttpClient httpClientWithProxy() {
+    private HttpClient tunedHttpClient(ConnectionProvider connectionProvider) {
+        return httpClientWithProxy(HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, httpClientProperties.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .compress(true));
+    }
+
+    private HttpClient httpClientWithProxy(HttpClient httpClient) {
         String proxyEnv = System.getenv("HTTPS_PROXY");
         if (DataUtils.isNullOrEmpty(proxyEnv)) {
             proxyEnv = System.getenv("HTTP_PROXY");
         }
 
         if (DataUtils.isNullOrEmpty(proxyEnv)) {
-            return HttpClient.create();
+            return httpClient;
         }
 
         try {
@@ -60,42 +84,33 @@ public class WebClientConfig {
             int port = proxyUri.getPort();
 
             if (DataUtils.isNullOrEmpty(host) || port == -1) {
-                return HttpClient.create();
+                return httpClient;
             }
 
-            return HttpClient.create()
+            return httpClient
                     .proxy(spec -> spec
                             .type(ProxyProvider.Proxy.HTTP)
                             .host(host)
                             .port(port)
                             .nonProxyHosts("localhost|127.*|[::1]"));
         } catch (IllegalArgumentException ex) {
-            return HttpClient.create();
+            return httpClient;
         }
     }
 
-    private ExchangeFilterFunction logRequest() {
-        return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
-            log.info("WebClient Request: {} {}", clientRequest.method(), clientRequest.url());
-            return Mono.just(clientRequest);
-        });
-    }
-
-    private ExchangeFilterFunction logResponse() {
-        return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
-            log.info("WebClient Response: {} {}", clientResponse.statusCode(), clientResponse.request().getURI());
-            return Mono.just(clientResponse);
-        });
-    }
-
     private ExchangeFilterFunction errorHandlingFilter() {
         return ExchangeFilterFunction.ofResponseProcessor(clientResponse -> {
             if (clientResponse.statusCode().isError()) {
                 return clientResponse.bodyToMono(String.class)
                         .defaultIfEmpty("Unknown error")
                         .flatMap(errorBody -> {
-                            log.error("WebClient Error - Status: {}, Body: {}, URL: {}",
-                                    clientResponse.statusCode(), errorBody, clientResponse.request().getURI());
+                            if (clientResponse.statusCode().is5xxServerError()) {
+                                log.error("WebClient Error - Status: {}, Body: {}, URL: {}",
+                                        clientResponse.statusCode(), errorBody, clientResponse.request().getURI());
+                            } else {
+                                log.warn("WebClient Error - Status: {}, Body: {}, URL: {}",
+                                        clientResponse.statusCode(), errorBody, clientResponse.request().getURI());
+                            }
                             return Mono.error(createAppException(clientResponse.statusCode(), errorBody));
                         });
             }
@@ -124,8 +139,9 @@ public class WebClientConfig {
                     yield new AppException(message.isEmpty() ? ErrorMessage.INTERNAL_SERVER_ERROR : message,
                             Constants.HttpStatusCode.INTERNAL_SERVER_ERROR);
                 } else {
+                    // Any other 4xx is still a client error: not retried and not a circuit-breaker failure
                     yield new AppException(message.isEmpty() ? ErrorMessage.UNKNOWN_ERROR : message,
-                            Constants.HttpStatusCode.INTERNAL_SERVER_ERROR);
+                            Constants.HttpStatusCode.BAD_REQUEST);
                 }
             }
         };
@@ -0,0 +1,37 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.activity-reminder")
+@Data
+public class ActivityReminderProperties {
+
+    private boolean enabled = true;
+    private long intervalMs = 60_000;
+
+    // Activities due within this window are reported as due soon
+    private long lookaheadMinutes = 60;
+
+    // Activities per keyset page and per published event
+    private int batchSize = 200;
+    private int parallelism = 4;
+
+    // A page's cursor only advances once Kafka acknowledges its event within this time
+    private long sendTimeoutSeconds = 10;
+
+    // A node's claim on a tenant cursor lapses after this, so a node that dies mid-scan does not block the
+    // tenant; must stay above sendTimeoutSeconds
+    private long claimTimeoutSeconds = 60;
+
+    // This instance scans tenants with tenant_id % shardCount == shardIndex
+    private int shardCount = 1;
+    private int shardIndex = 0;
+}
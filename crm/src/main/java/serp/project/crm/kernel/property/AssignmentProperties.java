@@ -0,0 +1,23 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.assignment")
+@Data
+public class AssignmentProperties {
+
+    // In-memory workload counters are reloaded from the database after this long,
+    // which also folds in writes made by other instances
+    private long refreshIntervalMs = 300000;
+
+    // Bulk auto-assign
+    private int maxBatchSize = 1000;
+}
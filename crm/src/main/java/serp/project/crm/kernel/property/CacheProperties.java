@@ -0,0 +1,26 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import serp.project.crm.core.domain.constant.CacheConstants;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Data
+public class CacheProperties {
+
+    private boolean enabled = true;
+
+    // Redis entries
+    private long ttlSeconds = CacheConstants.SHORT_EXPIRATION;
+
+    // In-process near cache, per region
+    private long nearCacheMaxEntries = 10000;
+    private long nearCacheTtlMs = 30000;
+}
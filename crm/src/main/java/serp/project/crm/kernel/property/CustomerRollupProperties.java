@@ -0,0 +1,20 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.customer-rollup")
+@Data
+public class CustomerRollupProperties {
+
+    private boolean reconcileEnabled = true;
+    private String reconcileCron = "0 30 2 * * *";
+    private int reconcileParallelism = 4;
+}
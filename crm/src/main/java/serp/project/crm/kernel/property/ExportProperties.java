@@ -0,0 +1,22 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+@Data
+public class ExportProperties {
+
+    // Rows the JDBC driver fetches per round trip from the server-side cursor
+    private int fetchSize = 500;
+
+    // Rows written between two flushes of the response stream
+    private int flushEveryRows = 1000;
+}
@@ -0,0 +1,65 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.http-client")
+@Data
+public class HttpClientProperties {
+
+    // Connection pool
+    private int maxConnections = 200;
+    private int pendingAcquireMaxCount = 1000;
+    private long pendingAcquireTimeoutMs = 5000;
+    private long maxIdleTimeMs = 30000;
+    private long maxLifeTimeMs = 300000;
+    private long evictInBackgroundMs = 60000;
+
+    private int connectTimeoutMs = 2000;
+    private int maxInMemorySizeBytes = 4 * 1024 * 1024;
+
+    // Defaults for endpoints without their own entry
+    private long timeoutMs = 10000;
+    private int retries = 1;
+    private long retryBackoffMs = 200;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    // Keyed by the endpoint name callers pass to HttpClientHelper
+    private Map<String, Endpoint> endpoints = new HashMap<>();
+
+    @Data
+    public static class Endpoint {
+        private Long timeoutMs;
+        private Integer retries;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private int failureRatePercent = 50;
+        private long openStateMs = 30000;
+        private int halfOpenCalls = 3;
+    }
+
+    public long timeoutMsFor(String endpoint) {
+        Endpoint config = endpoints.get(endpoint);
+        return config != null && config.getTimeoutMs() != null ? config.getTimeoutMs() : timeoutMs;
+    }
+
+    public int retriesFor(String endpoint) {
+        Endpoint config = endpoints.get(endpoint);
+        return config != null && config.getRetries() != null ? config.getRetries() : retries;
+    }
+}
@@ -0,0 +1,25 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.lead-import")
+@Data
+public class LeadImportProperties {
+
+    private int batchSize = 500;
+    private int parallelism = 4;
+
+    // Row errors kept per job; counters keep counting past the cap
+    private int maxErrors = 1000;
+
+    // Finished jobs are evicted from memory after this long
+    private long jobRetentionMinutes = 60;
+}
@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.kernel.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.lead-scoring")
+@Data
+public class LeadScoringProperties {
+
+    // Profile scores
+    private int titleCLevel = 25;
+    private int titleManager = 15;
+    private int industryTechFinance = 20;
+    private int highValue = 20;
+    private int contactField = 5;
+
+    // Activity scores
+    private int activityMeeting = 30;
+    private int activityCall = 15;
+    private int activityEmail = 5;
+    private int activityTask = 2;
+
+    // Batch rescoring
+    private int rescoreBatchSize = 500;
+    private int rescoreParallelism = 4;
+}
@@ -5,8 +5,12 @@
 
 package serp.project.crm.kernel.utils;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,21 +20,37 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 import serp.project.crm.core.domain.constant.Constants;
+import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.exception.AppException;
+import serp.project.crm.kernel.property.HttpClientProperties;
 
 import java.net.URI;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+/**
+ * Inter-service HTTP calls. Every call belongs to a named endpoint which selects its timeout and retry
+ * budget ({@code app.http-client.endpoints.<name>}), its circuit breaker and its latency timer
+ * ({@code crm.http.client.requests}). Calls made without an endpoint name share {@link #DEFAULT_ENDPOINT}.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class HttpClientHelper {
 
+    public static final String DEFAULT_ENDPOINT = "default";
+
+    private static final String TIMER_NAME = "crm.http.client.requests";
+
     private final WebClient webClient;
+    private final HttpClientProperties httpClientProperties;
+    private final MeterRegistry meterRegistry;
 
-    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
 
     public <T> Mono<T> get(String uri, Class<T> responseType) {
         return get(uri, null, null, responseType);
@@ -42,21 +62,12 @@ public class HttpClientHelper {
 
     public <T> Mono<T> get(String uri, MultiValueMap<String, String> queryParams, Map<String, String> headers,
             Class<T> responseType) {
-        log.info("Making GET request to: {}", uri);
-
-        return webClient.get()
-                .uri(uriBuilder -> buildUri(uriBuilder, uri, queryParams))
-                .headers(httpHeaders -> {
-                    if (headers != null)
-                        headers.forEach(httpHeaders::add);
-                })
-                .retrieve()
-                .bodyToMono(responseType)
-                .timeout(DEFAULT_TIMEOUT)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                        .filter(this::isRetryableError)
-                        .onRetryExhaustedThrow((spec, signal) -> handleRetryExhausted(uri)))
-                .doOnError(error -> handleError(error, uri));
+        return get(DEFAULT_ENDPOINT, uri, queryParams, headers, ParameterizedTypeReference.forType(responseType));
+    }
+
+    public <T> Mono<T> get(String endpoint, String uri, MultiValueMap<String, String> queryParams,
+            Map<String, String> headers, ParameterizedTypeReference<T> responseType) {
+        return execute(endpoint, HttpMethod.GET, uri, queryParams, headers, null, responseType);
     }
 
     public <T, R> Mono<R> post(String uri, T requestBody, Class<R> responseType) {
@@ -64,23 +75,12 @@ public class HttpClientHelper {
     }
 
     public <T, R> Mono<R> post(String uri, T requestBody, Map<String, String> headers, Class<R> responseType) {
-        log.info("Making POST request to: {}", uri);
-
-        return webClient.post()
-                .uri(uri)
-                .headers(httpHeaders -> {
-                    if (headers != null)
-                        headers.forEach(httpHeaders::add);
-                })
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(responseType)
-                .timeout(DEFAULT_TIMEOUT)
-                .retryWhen(Retry.backoff(2, Duration.ofSeconds(1))
-                        .filter(this::isRetryableError)
-                        .onRetryExhaustedThrow((spec, signal) -> handleRetryExhausted(uri)))
-                .doOnSuccess(response -> log.info("POST request successful to: {}", uri))
-                .doOnError(error -> handleError(error, uri));
+        return post(DEFAULT_ENDPOINT, uri, requestBody, headers, ParameterizedTypeReference.forType(responseType));
+    }
+
+    public <T, R> Mono<R> post(String endpoint, String uri, T requestBody, Map<String, String> headers,
+            ParameterizedTypeReference<R> responseType) {
+        return execute(endpoint, HttpMethod.POST, uri, null, headers, requestBody, responseType);
     }
 
     public <T, R> Mono<R> put(String uri, T requestBody, Class<R> responseType) {
@@ -88,23 +88,8 @@ public class HttpClientHelper {
     }
 
     public <T, R> Mono<R> put(String uri, T requestBody, Map<String, String> headers, Class<R> responseType) {
-        log.info("Making PUT request to: {}", uri);
-
-        return webClient.put()
-                .uri(uri)
-                .headers(httpHeaders -> {
-                    if (headers != null)
-                        headers.forEach(httpHeaders::add);
-                })
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(responseType)
-                .timeout(DEFAULT_TIMEOUT)
-                .retryWhen(Retry.backoff(1, Duration.ofSeconds(1))
-                        .filter(this::isRetryableError)
-                        .onRetryExhaustedThrow((spec, signal) -> handleRetryExhausted(uri)))
-                .doOnSuccess(response -> log.info("PUT request successful to: {}", uri))
-                .doOnError(error -> handleError(error, uri));
+        return execute(DEFAULT_ENDPOINT, HttpMethod.PUT, uri, null, headers, requestBody,
+                ParameterizedTypeReference.forType(responseType));
     }
 
     public <T, R> Mono<R> patch(String uri, T requestBody, Class<R> responseType) {
@@ -112,23 +97,8 @@ public class HttpClientHelper {
     }
 
     public <T, R> Mono<R> patch(String uri, T requestBody, Map<String, String> headers, Class<R> responseType) {
-        log.info("Making PATCH request to: {}", uri);
-
-        return webClient.patch()
-                .uri(uri)
-                .headers(httpHeaders -> {
-                    if (headers != null)
-                        headers.forEach(httpHeaders::add);
-                })
-                .bodyValue(requestBody)
-                .retrieve()
-                .bodyToMono(responseType)
-                .timeout(DEFAULT_TIMEOUT)
-                .retryWhen(Retry.backoff(1, Duration.ofSeconds(1))
-                        .filter(this::isRetryableError)
-                        .onRetryExhaustedThrow((spec, signal) -> handleRetryExhausted(uri)))
-                .doOnSuccess(response -> log.info("PATCH request successful to: {}", uri))
-                .doOnError(error -> handleError(error, uri));
+        return execute(DEFAULT_ENDPOINT, HttpMethod.PATCH, uri, null, headers, requestBody,
+                ParameterizedTypeReference.forType(responseType));
     }
 
     public <T> Mono<T> delete(String uri, Class<T> responseType) {
@@ -136,21 +106,60 @@ public class HttpClientHelper {
     }
 
     public <T> Mono<T> delete(String uri, Map<String, String> headers, Class<T> responseType) {
-        log.info("Making DELETE request to: {}", uri);
+        return execute(DEFAULT_ENDPOINT, HttpMethod.DELETE, uri, null, headers, null,
+                ParameterizedTypeReference.forType(responseType));
+    }
+
+    private <R> Mono<R> execute(String endpoint, HttpMethod method, String uri,
+            MultiValueMap<String, String> queryParams, Map<String, String> headers, Object requestBody,
+            ParameterizedTypeReference<R> responseType) {
+        CircuitBreaker circuitBreaker = circuitBreakerFor(endpoint);
+        Duration timeout = Duration.ofMillis(httpClientProperties.timeoutMsFor(endpoint));
 
-        return webClient.delete()
-                .uri(uri)
-                .headers(httpHeaders -> {
-                    if (headers != null)
-                        headers.forEach(httpHeaders::add);
-                })
-                .retrieve()
-                .bodyToMono(responseType)
-                .doOnSuccess(response -> log.info("DELETE request successful to: {}", uri))
-                .doOnError(error -> handleError(error, uri));
+        Mono<R> attempt = Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(new CircuitOpenException(endpoint));
+            }
+            long startedAt = System.nanoTime();
+
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(uriBuilder -> buildUri(uriBuilder, uri, queryParams))
+                    .headers(httpHeaders -> {
+                        if (headers != null)
+                            headers.forEach(httpHeaders::add);
+                    });
+            WebClient.RequestHeadersSpec<?> spec = requestBody != null ? request.bodyValue(requestBody) : request;
+
+            return spec.retrieve()
+                    .bodyToMono(responseType)
+                    .timeout(timeout)
+                    .doOnSuccess(response -> {
+                        circuitBreaker.onSuccess();
+                        record(endpoint, method, "SUCCESS", startedAt);
+                    })
+                    .doOnError(error -> {
+                        if (isRetryableError(error)) {
+                            circuitBreaker.onError();
+                        } else {
+                            // The remote side answered; a 4xx says nothing about its health
+                            circuitBreaker.onSuccess();
+                        }
+                        record(endpoint, method, error instanceof TimeoutException ? "TIMEOUT" : "ERROR", startedAt);
+                    });
+        });
+
+        return attempt
+                .retryWhen(Retry.backoff(httpClientProperties.retriesFor(endpoint),
+                                Duration.ofMillis(httpClientProperties.getRetryBackoffMs()))
+                        .filter(this::isRetryableError)
+                        .onRetryExhaustedThrow((spec, signal) -> handleRetryExhausted(endpoint, uri)))
+                .doOnError(error -> handleError(error, endpoint, uri));
     }
 
     private boolean isRetryableError(Throwable throwable) {
+        if (throwable instanceof CircuitOpenException) {
+            return false;
+        }
         if (throwable instanceof AppException appEx) {
             return appEx.getCode() >= 500;
         }
@@ -159,6 +168,25 @@ public class HttpClientHelper {
                 throwable instanceof java.io.IOException;
     }
 
+    private CircuitBreaker circuitBreakerFor(String endpoint) {
+        return circuitBreakers.computeIfAbsent(endpoint, name -> {
+            HttpClientProperties.CircuitBreaker config = httpClientProperties.getCircuitBreaker();
+            return new CircuitBreaker(name, config.getSlidingWindowSize(), config.getMinimumCalls(),
+                    config.getFailureRatePercent(), config.getOpenStateMs(), config.getHalfOpenCalls());
+        });
+    }
+
+    private void record(String endpoint, HttpMethod method, String outcome, long startedAt) {
+        Timer timer = timers.computeIfAbsent(endpoint + '|' + method.name() + '|' + outcome,
+                key -> Timer.builder(TIMER_NAME)
+                        .tag("endpoint", endpoint)
+                        .tag("method", method.name())
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
     private URI buildUri(UriBuilder uriBuilder, String uri, MultiValueMap<String, String> queryParams) {
         if (uri.startsWith("http://") || uri.startsWith("https://")) {
             UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(uri);
@@ -175,30 +203,27 @@ public class HttpClientHelper {
         return uriBuilder.build();
     }
 
-    private Throwable handleRetryExhausted(String uri) {
-        log.error("Retry exhausted for request to: {}", uri);
+    private Throwable handleRetryExhausted(String endpoint, String uri) {
+        log.error("Retry exhausted for endpoint {} request to: {}", endpoint, uri);
         return new AppException("Service temporarily unavailable after retries",
                 Constants.HttpStatusCode.INTERNAL_SERVER_ERROR);
     }
 
-    private void handleError(Throwable error, String uri) {
-        if (error instanceof TimeoutException) {
-            log.error("Request timeout for: {}", uri);
+    private void handleError(Throwable error, String endpoint, String uri) {
+        if (error instanceof CircuitOpenException) {
+            log.warn("Circuit open for endpoint {}, rejected request to: {}", endpoint, uri);
+        } else if (error instanceof TimeoutException) {
+            log.error("Request timeout for endpoint {}: {}", endpoint, uri);
+        } else if (error instanceof AppException appEx && appEx.getCode() < 500) {
+            log.warn("Request rejected for endpoint {}: {} with error: {}", endpoint, uri, error.getMessage());
         } else {
-            log.error("Request failed for: {} with error: {}", uri, error.getMessage());
+            log.error("Request failed for endpoint {}: {} with error: {}", endpoint, uri, error.getMessage());
         }
     }
 
-    public Mono<String> exampleServiceCall(String endpoint, Object requestData) {
-        return post(endpoint, requestData, String.class)
-                .timeout(Duration.ofSeconds(10))
-                .onErrorMap(throwable -> {
-                    if (throwable instanceof TimeoutException) {
-                        return new AppException(
-                                "Request timeout",
-                                Constants.HttpStatusCode.INTERNAL_SERVER_ERROR);
-                    }
-                    return throwable;
-                });
+    public static class CircuitOpenException extends AppException {
+        public CircuitOpenException(String endpoint) {
+            super(ErrorMessage.SERVICE_UNAVAILABLE + ": " + endpoint, Constants.HttpStatusCode.INTERNAL_SERVER_ERROR);
+        }
     }
 }
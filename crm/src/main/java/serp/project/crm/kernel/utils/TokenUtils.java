@@ -2,6 +2,7 @@ package serp.project.crm.kernel.utils;
 
 import java.util.Map;
 
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,12 @@ import serp.project.crm.kernel.property.KeycloakProperties;
 @Slf4j
 @Component
 public class TokenUtils {
+    private static final String TOKEN_ENDPOINT = "keycloak.token";
+
+    private static final ParameterizedTypeReference<Map<String, Object>> TOKEN_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final HttpClientHelper httpClientHelper;
     private final KeycloakProperties keycloakProperties;
 
@@ -28,7 +35,7 @@ public class TokenUtils {
 
         try {
             var response = httpClientHelper
-                    .post(tokenUrl, formData, Map.class)
+                    .post(TOKEN_ENDPOINT, tokenUrl, formData, null, TOKEN_RESPONSE_TYPE)
                     .block();
 
             if (response == null || !response.containsKey("access_token")) {
@@ -11,9 +11,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import serp.project.crm.core.domain.dto.PageRequest;
+import serp.project.crm.core.domain.dto.request.BulkCreateActivityRequest;
 import serp.project.crm.core.domain.dto.request.CreateActivityRequest;
 import serp.project.crm.core.domain.dto.request.UpdateActivityRequest;
 import serp.project.crm.core.usecase.ActivityUseCase;
+import serp.project.crm.core.usecase.TimelineUseCase;
 import serp.project.crm.kernel.utils.AuthUtils;
 
 @RestController
@@ -23,6 +25,7 @@ import serp.project.crm.kernel.utils.AuthUtils;
 public class ActivityController {
 
     private final ActivityUseCase activityUseCase;
+    private final TimelineUseCase timelineUseCase;
     private final AuthUtils authUtils;
 
     @PostMapping
@@ -36,6 +39,27 @@ public class ActivityController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> bulkCreateActivities(@Valid @RequestBody BulkCreateActivityRequest request) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+        if (tenantId == null || userId == null) {
+            return null;
+        }
+        var response = activityUseCase.bulkCreateActivities(request, userId, tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/timeline/backfill")
+    public ResponseEntity<?> backfillTimeline() {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+        var response = timelineUseCase.backfill(tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateActivity(
             @PathVariable Long id,
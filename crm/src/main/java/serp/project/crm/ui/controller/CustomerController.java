@@ -14,8 +14,10 @@ import serp.project.crm.core.domain.dto.PageRequest;
 import serp.project.crm.core.domain.dto.request.CreateCustomerRequest;
 import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
 import serp.project.crm.core.domain.dto.request.UpdateCustomerRequest;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
 import serp.project.crm.core.usecase.ActivityUseCase;
 import serp.project.crm.core.usecase.CustomerUseCase;
+import serp.project.crm.core.usecase.TimelineUseCase;
 import serp.project.crm.kernel.utils.AuthUtils;
 
 @RestController
@@ -26,6 +28,7 @@ public class CustomerController {
 
     private final CustomerUseCase customerUseCase;
     private final ActivityUseCase activityUseCase;
+    private final TimelineUseCase timelineUseCase;
 
     private final AuthUtils authUtils;
 
@@ -64,6 +67,20 @@ public class CustomerController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> getTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = timelineUseCase.getTimeline(TimelineEntityType.CUSTOMER, id, tenantId, cursor, size);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @GetMapping("/{id}/activities")
     public ResponseEntity<?> getActivitiesByCustomerId(
             @PathVariable Long id,
@@ -123,4 +140,48 @@ public class CustomerController {
         var response = customerUseCase.deleteCustomer(id, tenantId);
         return ResponseEntity.status(response.getCode()).body(response);
     }
+
+    @PostMapping("/revenue-rollups/reconcile")
+    public ResponseEntity<?> reconcileRevenueRollups() {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = customerUseCase.reconcileRevenueRollups(tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @GetMapping("/{id}/hierarchy")
+    public ResponseEntity<?> getCustomerHierarchy(@PathVariable Long id) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = customerUseCase.getCustomerHierarchy(id, tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @GetMapping("/{id}/rollup")
+    public ResponseEntity<?> getCustomerRollup(@PathVariable Long id) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = customerUseCase.getCustomerRollup(id, tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/hierarchy/rebuild")
+    public ResponseEntity<?> rebuildHierarchy() {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = customerUseCase.rebuildHierarchy(tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
 }
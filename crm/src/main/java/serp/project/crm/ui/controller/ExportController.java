@@ -0,0 +1,116 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.ui.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import serp.project.crm.core.domain.dto.request.CustomerFilterRequest;
+import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
+import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
+import serp.project.crm.core.domain.enums.ExportFormat;
+import serp.project.crm.core.usecase.ExportUseCase;
+import serp.project.crm.kernel.utils.AuthUtils;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final ExportUseCase exportUseCase;
+
+    private final AuthUtils authUtils;
+
+    @PostMapping("/leads")
+    public ResponseEntity<StreamingResponseBody> exportLeads(
+            @RequestBody(required = false) LeadFilterRequest request,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") Boolean gzip,
+            @RequestParam(required = false) Long afterId) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("POST /api/v1/exports/leads - Exporting leads as {} for tenant: {}, afterId: {}",
+                format, tenantId, afterId);
+        boolean compressed = Boolean.TRUE.equals(gzip);
+        return streaming("leads", format, compressed,
+                out -> exportUseCase.exportLeads(request, tenantId, afterId, format, compressed, out));
+    }
+
+    @PostMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> exportCustomers(
+            @RequestBody(required = false) CustomerFilterRequest request,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") Boolean gzip,
+            @RequestParam(required = false) Long afterId) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("POST /api/v1/exports/customers - Exporting customers as {} for tenant: {}, afterId: {}",
+                format, tenantId, afterId);
+        boolean compressed = Boolean.TRUE.equals(gzip);
+        return streaming("customers", format, compressed,
+                out -> exportUseCase.exportCustomers(request, tenantId, afterId, format, compressed, out));
+    }
+
+    @PostMapping("/opportunities")
+    public ResponseEntity<StreamingResponseBody> exportOpportunities(
+            @RequestBody(required = false) OpportunityFilterRequest request,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") Boolean gzip,
+            @RequestParam(required = false) Long afterId) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("POST /api/v1/exports/opportunities - Exporting opportunities as {} for tenant: {}, afterId: {}",
+                format, tenantId, afterId);
+        boolean compressed = Boolean.TRUE.equals(gzip);
+        return streaming("opportunities", format, compressed,
+                out -> exportUseCase.exportOpportunities(request, tenantId, afterId, format, compressed, out));
+    }
+
+    @GetMapping("/activities")
+    public ResponseEntity<StreamingResponseBody> exportActivities(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") Boolean gzip,
+            @RequestParam(required = false) Long afterId) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("GET /api/v1/exports/activities - Exporting activities as {} for tenant: {}, afterId: {}",
+                format, tenantId, afterId);
+        boolean compressed = Boolean.TRUE.equals(gzip);
+        return streaming("activities", format, compressed,
+                out -> exportUseCase.exportActivities(tenantId, afterId, format, compressed, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streaming(String resource, ExportFormat format, boolean gzip,
+            StreamingResponseBody body) {
+        String filename = resource + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -8,18 +8,30 @@ package serp.project.crm.ui.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import serp.project.crm.core.domain.constant.ErrorMessage;
 import serp.project.crm.core.domain.dto.PageRequest;
+import serp.project.crm.core.domain.dto.request.AutoAssignLeadRequest;
+import serp.project.crm.core.domain.dto.request.BulkConvertLeadRequest;
 import serp.project.crm.core.domain.dto.request.ConvertLeadRequest;
 import serp.project.crm.core.domain.dto.request.CreateLeadRequest;
 import serp.project.crm.core.domain.dto.request.LeadFilterRequest;
 import serp.project.crm.core.domain.dto.request.QualifyLeadRequest;
 import serp.project.crm.core.domain.dto.request.UpdateLeadRequest;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
+import serp.project.crm.core.exception.AppException;
 import serp.project.crm.core.usecase.ActivityUseCase;
 import serp.project.crm.core.usecase.LeadUseCase;
+import serp.project.crm.core.usecase.TimelineUseCase;
 import serp.project.crm.kernel.utils.AuthUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
 @RestController
 @RequestMapping("/api/v1/leads")
 @RequiredArgsConstructor
@@ -28,6 +40,7 @@ public class LeadController {
 
     private final LeadUseCase leadUseCase;
     private final ActivityUseCase activityUseCase;
+    private final TimelineUseCase timelineUseCase;
     private final AuthUtils authUtils;
 
     @PostMapping
@@ -64,6 +77,20 @@ public class LeadController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> getTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = timelineUseCase.getTimeline(TimelineEntityType.LEAD, id, tenantId, cursor, size);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @GetMapping("/{id}/activities")
     public ResponseEntity<?> getActivitiesByLeadId(
             @PathVariable Long id,
@@ -136,8 +163,81 @@ public class LeadController {
             return null;
         }
 
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+
         request.setLeadId(id);
-        var response = leadUseCase.convertLead(request, tenantId);
+        var response = leadUseCase.convertLead(request, tenantId, userId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/convert/bulk")
+    public ResponseEntity<?> bulkConvertLeads(@Valid @RequestBody BulkConvertLeadRequest request) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+
+        var response = leadUseCase.bulkConvertLeads(request, tenantId, userId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/auto-assign")
+    public ResponseEntity<?> autoAssignLeads(@Valid @RequestBody AutoAssignLeadRequest request) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+        if (tenantId == null || userId == null) {
+            return null;
+        }
+
+        var response = leadUseCase.autoAssignLeads(request, tenantId, userId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/rescore")
+    public ResponseEntity<?> rescoreLeads(
+            @RequestParam(defaultValue = "false") Boolean rebuildAggregates) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = leadUseCase.rescoreLeads(tenantId, Boolean.TRUE.equals(rebuildAggregates));
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importLeads(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+        if (tenantId == null || userId == null) {
+            return null;
+        }
+        if (file.isEmpty()) {
+            throw new AppException(ErrorMessage.LEAD_IMPORT_FILE_EMPTY);
+        }
+
+        boolean csv = isCsv(file, format);
+        try (InputStream content = file.getInputStream()) {
+            var response = leadUseCase.importLeads(content, file.getOriginalFilename(), csv, tenantId, userId);
+            return ResponseEntity.status(response.getCode()).body(response);
+        } catch (IOException e) {
+            throw new AppException(ErrorMessage.LEAD_IMPORT_FILE_UNREADABLE);
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getImportJob(
+            @PathVariable String jobId,
+            @RequestParam(defaultValue = "true") Boolean includeErrors) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = leadUseCase.getImportJob(jobId, Boolean.TRUE.equals(includeErrors), tenantId);
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
@@ -151,4 +251,15 @@ public class LeadController {
         var response = leadUseCase.deleteLead(id, tenantId);
         return ResponseEntity.status(response.getCode()).body(response);
     }
+
+    private boolean isCsv(MultipartFile file, String format) {
+        if (format != null) {
+            return "CSV".equalsIgnoreCase(format);
+        }
+        String fileName = file.getOriginalFilename();
+        if (fileName != null) {
+            return fileName.toLowerCase(Locale.ROOT).endsWith(".csv");
+        }
+        return file.getContentType() != null && file.getContentType().startsWith("text/csv");
+    }
 }
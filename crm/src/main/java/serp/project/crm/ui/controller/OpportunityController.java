@@ -15,8 +15,10 @@ import serp.project.crm.core.domain.dto.request.CreateOpportunityRequest;
 import serp.project.crm.core.domain.dto.request.OpportunityFilterRequest;
 import serp.project.crm.core.domain.dto.request.UpdateOpportunityRequest;
 import serp.project.crm.core.domain.enums.OpportunityStage;
+import serp.project.crm.core.domain.enums.TimelineEntityType;
 import serp.project.crm.core.usecase.ActivityUseCase;
 import serp.project.crm.core.usecase.OpportunityUseCase;
+import serp.project.crm.core.usecase.TimelineUseCase;
 import serp.project.crm.kernel.utils.AuthUtils;
 
 @RestController
@@ -27,6 +29,7 @@ public class OpportunityController {
 
     private final OpportunityUseCase opportunityUseCase;
     private final ActivityUseCase activityUseCase;
+    private final TimelineUseCase timelineUseCase;
 
     private final AuthUtils authUtils;
 
@@ -58,6 +61,49 @@ public class OpportunityController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @GetMapping("/pipeline-stats")
+    public ResponseEntity<?> getPipelineDashboard(
+            @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("GET /api/v1/opportunities/pipeline-stats - Fetching pipeline dashboard for tenant: {}", tenantId);
+        var response = opportunityUseCase.getPipelineDashboard(tenantId, assignedTo, fromMonth, toMonth);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @PostMapping("/pipeline-stats/rebuild")
+    public ResponseEntity<?> rebuildPipelineStats() {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        Long userId = authUtils.getCurrentUserId().orElse(null);
+        if (tenantId == null || userId == null) {
+            return null;
+        }
+
+        log.info("POST /api/v1/opportunities/pipeline-stats/rebuild - Rebuilding pipeline stats for tenant: {}",
+                tenantId);
+        var response = opportunityUseCase.rebuildPipelineStats(tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @GetMapping("/stage-funnel")
+    public ResponseEntity<?> getStageFunnel(
+            @RequestParam(required = false) String fromMonth,
+            @RequestParam(required = false) String toMonth) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("GET /api/v1/opportunities/stage-funnel - Fetching stage funnel for tenant: {}", tenantId);
+        var response = opportunityUseCase.getStageFunnel(tenantId, fromMonth, toMonth);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getOpportunityById(@PathVariable Long id) {
         Long tenantId = authUtils.getCurrentTenantId().orElse(null);
@@ -71,6 +117,32 @@ public class OpportunityController {
         return ResponseEntity.status(response.getCode()).body(response);
     }
 
+    @GetMapping("/{id}/stage-history")
+    public ResponseEntity<?> getStageHistory(@PathVariable Long id) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        log.info("GET /api/v1/opportunities/{}/stage-history - Fetching stage history for tenant: {}", id, tenantId);
+        var response = opportunityUseCase.getStageHistory(id, tenantId);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> getTimeline(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+        Long tenantId = authUtils.getCurrentTenantId().orElse(null);
+        if (tenantId == null) {
+            return null;
+        }
+
+        var response = timelineUseCase.getTimeline(TimelineEntityType.OPPORTUNITY, id, tenantId, cursor, size);
+        return ResponseEntity.status(response.getCode()).body(response);
+    }
+
     @GetMapping("/{id}/activities")
     public ResponseEntity<?> getActivitiesByOpportunityId(
             @PathVariable Long id,
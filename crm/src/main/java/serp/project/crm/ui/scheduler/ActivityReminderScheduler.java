@@ -0,0 +1,33 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.ui.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.service.IActivityReminderService;
+
+@Component
+@ConditionalOnProperty(prefix = "app.activity-reminder", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityReminderScheduler {
+
+    private final IActivityReminderService activityReminderService;
+
+    @Scheduled(fixedDelayString = "${app.activity-reminder.interval-ms:60000}",
+            initialDelayString = "${app.activity-reminder.interval-ms:60000}")
+    public void runReminders() {
+        try {
+            activityReminderService.runReminderCycle();
+        } catch (Exception e) {
+            log.error("Activity reminder cycle failed: {}", e.getMessage(), e);
+        }
+    }
+}
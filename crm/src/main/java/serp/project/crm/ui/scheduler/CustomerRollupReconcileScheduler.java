@@ -0,0 +1,32 @@
+/**
+ * Author: QuanTuanHuy
+ * Description: Part of Serp Project
+ */
+
+package serp.project.crm.ui.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import serp.project.crm.core.service.ICustomerService;
+
+@Component
+@ConditionalOnProperty(prefix = "app.customer-rollup", name = "reconcile-enabled", havingValue = "true",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerRollupReconcileScheduler {
+
+    private final ICustomerService customerService;
+
+    @Scheduled(cron = "${app.customer-rollup.reconcile-cron:0 30 2 * * *}")
+    public void reconcileRevenueRollups() {
+        try {
+            customerService.reconcileAllRevenueRollups();
+        } catch (Exception e) {
+            log.error("Customer revenue rollup reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.util.GeoUtils;
+import serp.project.logistics.util.SpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest-facility and within-radius lookups against {@code facilities} sites spread over Vietnam, through
+ * {@link SpatialIndex} and through the haversine scan over every site that it replaces.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FacilityLookupBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param({ "100", "10000" })
+    public int facilities;
+
+    private List<Site> sites;
+    private SpatialIndex<Site> index;
+    private double[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(7);
+        sites = new ArrayList<>(facilities);
+        for (int i = 0; i < facilities; i++) {
+            sites.add(new Site("FAC-" + i, random.nextDouble(8.5, 23.4), random.nextDouble(102.1, 109.5)));
+        }
+        index = new SpatialIndex<>(sites, Site::latitude, Site::longitude);
+        queries = new double[QUERIES][];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new double[] { random.nextDouble(8.5, 23.4), random.nextDouble(102.1, 109.5) };
+        }
+    }
+
+    @Benchmark
+    public Object indexNearest() {
+        double[] query = nextQuery();
+        return index.nearest(query[0], query[1], 5);
+    }
+
+    @Benchmark
+    public Object scanNearest() {
+        double[] query = nextQuery();
+        return sites.stream()
+                .sorted(Comparator.comparingDouble(
+                        site -> GeoUtils.haversineKm(query[0], query[1], site.latitude(), site.longitude())))
+                .limit(5)
+                .toList();
+    }
+
+    @Benchmark
+    public Object indexWithinRadius() {
+        double[] query = nextQuery();
+        return index.withinRadius(query[0], query[1], 50);
+    }
+
+    @Benchmark
+    public Object scanWithinRadius() {
+        double[] query = nextQuery();
+        return sites.stream()
+                .filter(site -> GeoUtils.haversineKm(query[0], query[1], site.latitude(), site.longitude()) <= 50)
+                .toList();
+    }
+
+    private double[] nextQuery() {
+        next = (next + 1) & (QUERIES - 1);
+        return queries[next];
+    }
+
+    private record Site(String id, double latitude, double longitude) {
+    }
+}
@@ -0,0 +1,58 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.util.IdUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one id from {@link IdUtils#generateIdWithPrefix} against the random-UUID encoding it replaced, on one
+ * thread and with every core taking ids at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private static final String PREFIX = "INI";
+
+    @Benchmark
+    public String timeOrdered() {
+        return IdUtils.generateIdWithPrefix(PREFIX);
+    }
+
+    @Benchmark
+    public String legacyUuid() {
+        return legacyId(PREFIX);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String timeOrderedContended() {
+        return IdUtils.generateIdWithPrefix(PREFIX);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String legacyUuidContended() {
+        return legacyId(PREFIX);
+    }
+
+    static String legacyId(String prefix) {
+        String uuid = UUID.randomUUID().toString().replace("-", "").toUpperCase();
+        return prefix + uuid;
+    }
+}
@@ -0,0 +1,60 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.util.IdUtils;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second into an ordered index already holding {@code existingRows} keys of the same kind, as a
+ * stand-in for the primary key B-tree of a wms2 table. Random UUID keys land on a different branch every
+ * time; time-ordered keys keep appending to the rightmost one, which stays in cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class IdIndexInsertBenchmark {
+
+    private static final String PREFIX = "INI";
+
+    @Param({ "1000000" })
+    public int existingRows;
+
+    private TreeMap<String, Boolean> legacyIndex;
+    private TreeMap<String, Boolean> timeOrderedIndex;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        legacyIndex = new TreeMap<>();
+        timeOrderedIndex = new TreeMap<>();
+        for (int i = 0; i < existingRows; i++) {
+            legacyIndex.put(IdGenerationBenchmark.legacyId(PREFIX), Boolean.TRUE);
+            timeOrderedIndex.put(IdUtils.generateIdWithPrefix(PREFIX), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public Boolean legacyUuidInsert() {
+        return legacyIndex.put(IdGenerationBenchmark.legacyId(PREFIX), Boolean.TRUE);
+    }
+
+    @Benchmark
+    public Boolean timeOrderedInsert() {
+        return timeOrderedIndex.put(IdUtils.generateIdWithPrefix(PREFIX), Boolean.TRUE);
+    }
+}
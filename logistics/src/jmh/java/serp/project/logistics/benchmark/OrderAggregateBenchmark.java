@@ -0,0 +1,140 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.constant.OrderDetailSection;
+import serp.project.logistics.constant.ShipmentStatus;
+import serp.project.logistics.dto.response.OrderAggregateResponse;
+import serp.project.logistics.dto.response.ShipmentDetailResponse;
+import serp.project.logistics.entity.InventoryItemDetailEntity;
+import serp.project.logistics.entity.OrderEntity;
+import serp.project.logistics.entity.OrderItemEntity;
+import serp.project.logistics.entity.ShipmentEntity;
+import serp.project.logistics.repository.InventoryItemDetailRepository;
+import serp.project.logistics.repository.InvoiceRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.ShipmentRepository;
+import serp.project.logistics.service.OrderAggregateService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One order screen for an order with {@code shipments} shipments of {@code lines} lines each. {@code perShipment}
+ * replays the calls the screen used to make, one detail query per shipment, against the same fixtures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderAggregateBenchmark {
+
+    private static final Long TENANT_ID = 1L;
+    private static final String ORDER_ID = "ORD-BENCH";
+
+    @Param({ "20" })
+    public int shipments;
+
+    @Param({ "50" })
+    public int lines;
+
+    @Param({ "200" })
+    public long roundTripMicros;
+
+    private OrderAggregateService orderAggregateService;
+    private OrderRepository orderRepository;
+    private OrderItemRepository orderItemRepository;
+    private ShipmentRepository shipmentRepository;
+    private InventoryItemDetailRepository inventoryItemDetailRepository;
+
+    @Setup
+    public void setUp() {
+        OrderEntity order = OrderEntity.builder().id(ORDER_ID).statusId("APPROVED").tenantId(TENANT_ID).build();
+        List<OrderItemEntity> orderItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            orderItems.add(OrderItemEntity.builder()
+                    .id("ORI-" + i)
+                    .orderId(ORDER_ID)
+                    .productId("PRD-" + i)
+                    .quantity(shipments * 2)
+                    .tenantId(TENANT_ID)
+                    .build());
+        }
+        List<ShipmentEntity> orderShipments = new ArrayList<>(shipments);
+        Map<String, List<InventoryItemDetailEntity>> details = new HashMap<>();
+        for (int s = 0; s < shipments; s++) {
+            String shipmentId = "SHP-" + s;
+            orderShipments.add(ShipmentEntity.builder()
+                    .id(shipmentId)
+                    .orderId(ORDER_ID)
+                    .statusId(ShipmentStatus.IMPORTED.value())
+                    .tenantId(TENANT_ID)
+                    .build());
+            List<InventoryItemDetailEntity> shipmentDetails = new ArrayList<>(lines);
+            for (OrderItemEntity orderItem : orderItems) {
+                shipmentDetails.add(InventoryItemDetailEntity.builder()
+                        .id("IID-" + s + "-" + orderItem.getId())
+                        .shipmentId(shipmentId)
+                        .orderItemId(orderItem.getId())
+                        .productId(orderItem.getProductId())
+                        .quantity(2)
+                        .facilityId("FAC-1")
+                        .tenantId(TENANT_ID)
+                        .build());
+            }
+            details.put(shipmentId, shipmentDetails);
+        }
+
+        orderRepository = Stubs.repository(OrderRepository.class, roundTripMicros, Map.of(
+                "findById", args -> Optional.of(order)));
+        orderItemRepository = Stubs.repository(OrderItemRepository.class, roundTripMicros, Map.of(
+                "findByTenantIdAndOrderId", args -> orderItems));
+        shipmentRepository = Stubs.repository(ShipmentRepository.class, roundTripMicros, Map.of(
+                "findByTenantIdAndOrderId", args -> orderShipments));
+        inventoryItemDetailRepository = Stubs.repository(InventoryItemDetailRepository.class, roundTripMicros, Map.of(
+                "findByTenantIdAndShipmentId", args -> details.get((String) args[1]),
+                "findByTenantIdAndShipmentIdIn", args -> ((Collection<?>) args[1]).stream()
+                        .flatMap(id -> details.get((String) id).stream())
+                        .toList(),
+                "sumQuantityByOrderItem", args -> List.of()));
+        InvoiceRepository invoiceRepository = Stubs.repository(InvoiceRepository.class, roundTripMicros, Map.of(
+                "findBilledForOrder", args -> List.of()));
+        orderAggregateService = Stubs.services(orderRepository, orderItemRepository, shipmentRepository,
+                inventoryItemDetailRepository, invoiceRepository).getBean(OrderAggregateService.class);
+    }
+
+    @Benchmark
+    public OrderAggregateResponse aggregate() {
+        return orderAggregateService.getOrderAggregate(ORDER_ID, EnumSet.allOf(OrderDetailSection.class), TENANT_ID);
+    }
+
+    @Benchmark
+    public List<ShipmentDetailResponse> perShipment() {
+        orderRepository.findById(ORDER_ID);
+        orderItemRepository.findByTenantIdAndOrderId(TENANT_ID, ORDER_ID);
+        List<ShipmentDetailResponse> result = new ArrayList<>(shipments);
+        for (ShipmentEntity shipment : shipmentRepository.findByTenantIdAndOrderId(TENANT_ID, ORDER_ID)) {
+            result.add(ShipmentDetailResponse.fromEntity(shipment,
+                    inventoryItemDetailRepository.findByTenantIdAndShipmentId(TENANT_ID, shipment.getId())));
+        }
+        return result;
+    }
+}
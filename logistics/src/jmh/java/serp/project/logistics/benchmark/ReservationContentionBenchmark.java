@@ -0,0 +1,185 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.entity.OrderItemEntity;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.repository.InventoryItemRepository;
+import serp.project.logistics.repository.InventoryReservationRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.StockLevelRepository;
+import serp.project.logistics.service.InventoryReservationService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hundreds of threads allocating orders for the same hot product at one facility. Levels live in memory
+ * behind the same conditional-update contract as {@code StockLevelRepository.reserve}, and every iteration
+ * ends by checking that no lot was oversold and that lots were drained strictly first-expiring first.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(256)
+@State(Scope.Benchmark)
+public class ReservationContentionBenchmark {
+
+    private static final Long TENANT_ID = 1L;
+    private static final String FACILITY_ID = "FAC-1";
+    private static final String PRODUCT_ID = "PRD-HOT";
+    private static final int LOTS = 5;
+
+    @Param({ "20000" })
+    public long unitsPerLot;
+
+    @Param({ "0", "50" })
+    public long roundTripMicros;
+
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private List<Lot> lots;
+    private InventoryReservationService reservationService;
+
+    @Setup
+    public void setUp() {
+        OrderRepository orderRepository = Stubs.repository(OrderRepository.class, roundTripMicros, Map.of(
+                "getOrderStatus", args -> "APPROVED"));
+        OrderItemRepository orderItemRepository = Stubs.repository(OrderItemRepository.class, roundTripMicros,
+                Map.of("findByTenantIdAndOrderId", args -> List.of(orderItem((String) args[1]))));
+        InventoryReservationRepository reservationRepository = Stubs.repository(
+                InventoryReservationRepository.class, roundTripMicros, Map.of(
+                        "findByTenantIdAndOrderIdAndStatusId", args -> List.of(),
+                        "saveAll", args -> args[0]));
+        StockLevelRepository stockLevelRepository = Stubs.repository(StockLevelRepository.class, roundTripMicros,
+                Map.of(
+                        "lockFacilitiesShared", args -> null,
+                        "findAllocatableLots", args -> allocatableLots(),
+                        "reserve", args -> reserve((String) args[0], (Long) args[1])));
+        reservationService = Stubs.services(reservationRepository, stockLevelRepository, orderRepository,
+                        orderItemRepository, Stubs.unused(InventoryItemRepository.class))
+                .getBean(InventoryReservationService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void restock() {
+        lots = new ArrayList<>(LOTS);
+        for (int i = 0; i < LOTS; i++) {
+            lots.add(new Lot("STL-" + i, "LOT-" + i, LocalDate.of(2030, 1, 1).plusMonths(i), unitsPerLot));
+        }
+        rejected.set(0);
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        boolean earlierLotHasStock = false;
+        for (Lot lot : lots) {
+            long reserved = lot.reserved.get();
+            if (reserved > lot.quantity) {
+                throw new IllegalStateException(lot.lotId + " oversold: " + reserved + "/" + lot.quantity);
+            }
+            if (earlierLotHasStock && reserved > 0) {
+                throw new IllegalStateException(lot.lotId + " reserved before an earlier-expiring lot ran out");
+            }
+            earlierLotHasStock |= reserved < lot.quantity;
+        }
+    }
+
+    @Benchmark
+    public int allocateHotSku() {
+        String orderId = "ORD-" + orderSequence.incrementAndGet();
+        try {
+            return reservationService.reserve(orderId, FACILITY_ID, TENANT_ID).size();
+        } catch (AppException e) {
+            rejected.incrementAndGet();
+            return 0;
+        }
+    }
+
+    private static OrderItemEntity orderItem(String orderId) {
+        return OrderItemEntity.builder()
+                .id("ORI-" + orderId)
+                .orderId(orderId)
+                .productId(PRODUCT_ID)
+                .quantity(1 + Math.floorMod(orderId.hashCode(), 3))
+                .tenantId(TENANT_ID)
+                .build();
+    }
+
+    private List<StockLevelRepository.AllocatableLot> allocatableLots() {
+        List<StockLevelRepository.AllocatableLot> result = new ArrayList<>(LOTS);
+        for (Lot lot : lots) {
+            long available = lot.quantity - lot.reserved.get();
+            if (available > 0) {
+                result.add(new Allocatable(lot.id, lot.lotId, lot.expirationDate, available));
+            }
+        }
+        return result;
+    }
+
+    private int reserve(String id, long quantity) {
+        for (Lot lot : lots) {
+            if (lot.id.equals(id)) {
+                long reserved;
+                do {
+                    reserved = lot.reserved.get();
+                    if (lot.quantity - reserved < quantity) {
+                        return 0;
+                    }
+                } while (!lot.reserved.compareAndSet(reserved, reserved + quantity));
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private record Lot(String id, String lotId, LocalDate expirationDate, long quantity, AtomicLong reserved) {
+
+        Lot(String id, String lotId, LocalDate expirationDate, long quantity) {
+            this(id, lotId, expirationDate, quantity, new AtomicLong());
+        }
+    }
+
+    private record Allocatable(String id, String lotId, LocalDate expirationDate, Long available)
+            implements StockLevelRepository.AllocatableLot {
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getLotId() {
+            return lotId;
+        }
+
+        @Override
+        public LocalDate getExpirationDate() {
+            return expirationDate;
+        }
+
+        @Override
+        public Long getAvailable() {
+            return available;
+        }
+    }
+}
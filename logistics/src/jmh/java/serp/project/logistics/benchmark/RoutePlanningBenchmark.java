@@ -0,0 +1,71 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import serp.project.logistics.util.GeoUtils;
+import serp.project.logistics.util.RouteSolver;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end planning of {@code stops} deliveries scattered around one depot: the haversine matrix, the
+ * neighbour lists and a search bounded by {@code timeLimitMillis} on every core. The returned route distance
+ * lets runs with different limits be compared on quality as well as time.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutePlanningBenchmark {
+
+    private static final double CAPACITY = 200;
+
+    @Param({ "500" })
+    public int stops;
+
+    @Param({ "500", "3000" })
+    public long timeLimitMillis;
+
+    private float[] latitudes;
+    private float[] longitudes;
+    private double[] demand;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        latitudes = new float[stops + 1];
+        longitudes = new float[stops + 1];
+        demand = new double[stops + 1];
+        latitudes[0] = 21.0285f;
+        longitudes[0] = 105.8542f;
+        for (int i = 1; i <= stops; i++) {
+            latitudes[i] = latitudes[0] + (float) (random.nextDouble(-0.25, 0.25));
+            longitudes[i] = longitudes[0] + (float) (random.nextDouble(-0.25, 0.25));
+            demand[i] = 1 + random.nextInt(30);
+        }
+    }
+
+    @Benchmark
+    public double plan() throws InterruptedException {
+        RouteSolver solver = new RouteSolver(GeoUtils.distanceMatrix(latitudes, longitudes), demand, CAPACITY);
+        List<int[]> routes = solver.solve(timeLimitMillis, Runtime.getRuntime().availableProcessors());
+        double distance = 0;
+        for (int[] route : routes) {
+            distance += solver.routeDistance(route);
+        }
+        return distance;
+    }
+}
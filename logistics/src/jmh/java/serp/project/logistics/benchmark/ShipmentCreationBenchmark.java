@@ -0,0 +1,128 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import serp.project.logistics.dto.request.ShipmentCreationForm;
+import serp.project.logistics.entity.ProductEntity;
+import serp.project.logistics.repository.InventoryItemDetailRepository;
+import serp.project.logistics.repository.InventoryItemRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.ProductRepository;
+import serp.project.logistics.repository.ShipmentRepository;
+import serp.project.logistics.repository.StockLevelRepository;
+import serp.project.logistics.service.InventoryItemDetailService;
+import serp.project.logistics.service.ShipmentService;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shipments created per second for an outbound shipment of {@code lines} items. {@code perLineCreation}
+ * adds the same items through the single-item path, one product lookup and one insert each.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipmentCreationBenchmark {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long USER_ID = 7L;
+    private static final String ORDER_ID = "ORD-BENCH";
+    private static final String SHIPMENT_ID = "SHP-BENCH";
+
+    @Param({ "300" })
+    public int lines;
+
+    @Param({ "0", "200" })
+    public long roundTripMicros;
+
+    private ShipmentService shipmentService;
+    private InventoryItemDetailService inventoryItemDetailService;
+    private ShipmentCreationForm form;
+
+    @Setup
+    public void setUp() {
+        Map<String, ProductEntity> products = new HashMap<>();
+        List<ShipmentCreationForm.InventoryItemDetail> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            String productId = "PRD-" + i;
+            products.put(productId, ProductEntity.builder()
+                    .id(productId)
+                    .name("Product " + i)
+                    .unit("box")
+                    .costPrice(10_000L + i)
+                    .tenantId(TENANT_ID)
+                    .build());
+
+            ShipmentCreationForm.InventoryItemDetail item = new ShipmentCreationForm.InventoryItemDetail();
+            item.setProductId(productId);
+            item.setQuantity(1 + i % 5);
+            item.setOrderItemId("ORI-" + i);
+            item.setLotId("LOT-" + i % 7);
+            item.setExpirationDate(LocalDate.of(2030, 1, 1));
+            item.setFacilityId("FAC-1");
+            items.add(item);
+        }
+        form = new ShipmentCreationForm();
+        form.setShipmentTypeId("OUTBOUND");
+        form.setToCustomerId("CUS-1");
+        form.setOrderId(ORDER_ID);
+        form.setItems(items);
+
+        ProductRepository productRepository = Stubs.repository(ProductRepository.class, roundTripMicros, Map.of(
+                "findById", args -> Optional.ofNullable(products.get((String) args[0])),
+                "findByTenantIdAndIdIn", args -> ((Collection<?>) args[1]).stream()
+                        .map(products::get)
+                        .toList()));
+        InventoryItemDetailRepository inventoryItemDetailRepository = Stubs.repository(
+                InventoryItemDetailRepository.class, roundTripMicros, Map.of(
+                        "save", args -> args[0],
+                        "saveAll", args -> args[0]));
+        ShipmentRepository shipmentRepository = Stubs.repository(ShipmentRepository.class, roundTripMicros, Map.of(
+                "save", args -> args[0]));
+        OrderRepository orderRepository = Stubs.repository(OrderRepository.class, roundTripMicros, Map.of(
+                "getOrderStatus", args -> "APPROVED"));
+
+        BeanFactory services = Stubs.services(productRepository, inventoryItemDetailRepository, shipmentRepository,
+                orderRepository, Stubs.unused(OrderItemRepository.class),
+                Stubs.unused(InventoryItemRepository.class), Stubs.unused(StockLevelRepository.class),
+                Stubs.unused(PlatformTransactionManager.class));
+        inventoryItemDetailService = services.getBean(InventoryItemDetailService.class);
+        shipmentService = services.getBean(ShipmentService.class);
+    }
+
+    @Benchmark
+    public ShipmentCreationForm batchedCreation() {
+        shipmentService.createShipment(form, USER_ID, TENANT_ID);
+        return form;
+    }
+
+    @Benchmark
+    public ShipmentCreationForm perLineCreation() {
+        for (ShipmentCreationForm.InventoryItemDetail item : form.getItems()) {
+            inventoryItemDetailService.createInventoryItemDetails(SHIPMENT_ID, item, TENANT_ID);
+        }
+        return form;
+    }
+}
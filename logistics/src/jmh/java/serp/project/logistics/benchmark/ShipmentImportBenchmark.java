@@ -0,0 +1,209 @@
+package serp.project.logistics.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import serp.project.logistics.constant.ShipmentStatus;
+import serp.project.logistics.entity.InventoryItemDetailEntity;
+import serp.project.logistics.entity.InventoryItemEntity;
+import serp.project.logistics.entity.OrderItemEntity;
+import serp.project.logistics.entity.ShipmentEntity;
+import serp.project.logistics.repository.InventoryItemDetailRepository;
+import serp.project.logistics.repository.InventoryItemRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.ProductRepository;
+import serp.project.logistics.repository.ShipmentRepository;
+import serp.project.logistics.repository.StockLevelRepository;
+import serp.project.logistics.service.ShipmentService;
+import serp.project.logistics.util.IdUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importing the last of {@code shipments} partial shipments for an order with {@code lines} order items.
+ * {@code legacyImport} replays the per-row insert and per-shipment re-read that importShipment used to do,
+ * against the same fixtures, so the two scores can be compared directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipmentImportBenchmark {
+
+    private static final Long TENANT_ID = 1L;
+    private static final Long USER_ID = 7L;
+    private static final String ORDER_ID = "ORD-BENCH";
+    private static final int QUANTITY_PER_SHIPMENT = 2;
+
+    @Param({ "500" })
+    public int lines;
+
+    @Param({ "100" })
+    public int shipments;
+
+    @Param({ "0", "200" })
+    public long roundTripMicros;
+
+    private ShipmentService shipmentService;
+    private ShipmentRepository shipmentRepository;
+    private InventoryItemRepository inventoryItemRepository;
+    private InventoryItemDetailRepository inventoryItemDetailRepository;
+    private OrderItemRepository orderItemRepository;
+    private OrderRepository orderRepository;
+    private String currentShipmentId;
+
+    @Setup
+    public void setUp() {
+        List<OrderItemEntity> orderItems = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            orderItems.add(OrderItemEntity.builder()
+                    .id("ORI-" + i)
+                    .orderId(ORDER_ID)
+                    .orderItemSeqId(i + 1)
+                    .productId("PRD-" + i)
+                    .quantity(shipments * QUANTITY_PER_SHIPMENT)
+                    .tenantId(TENANT_ID)
+                    .build());
+        }
+
+        List<ShipmentEntity> importedShipments = new ArrayList<>(shipments);
+        Map<String, List<InventoryItemDetailEntity>> detailsByShipment = new HashMap<>();
+        for (int s = 0; s < shipments; s++) {
+            String shipmentId = "SHP-" + s;
+            importedShipments.add(shipment(shipmentId, ShipmentStatus.IMPORTED));
+            List<InventoryItemDetailEntity> details = new ArrayList<>(lines);
+            for (OrderItemEntity orderItem : orderItems) {
+                details.add(InventoryItemDetailEntity.builder()
+                        .id(IdUtils.generateInventoryItemDetailId())
+                        .productId(orderItem.getProductId())
+                        .quantity(QUANTITY_PER_SHIPMENT)
+                        .shipmentId(shipmentId)
+                        .orderItemId(orderItem.getId())
+                        .lotId("LOT-" + s)
+                        .expirationDate(LocalDate.of(2030, 1, 1))
+                        .facilityId("FAC-1")
+                        .tenantId(TENANT_ID)
+                        .build());
+            }
+            detailsByShipment.put(shipmentId, details);
+        }
+        currentShipmentId = importedShipments.getLast().getId();
+
+        List<InventoryItemDetailRepository.OrderItemQuantity> delivered = new ArrayList<>(lines);
+        for (OrderItemEntity orderItem : orderItems) {
+            delivered.add(new Delivered(orderItem.getId(), (long) shipments * QUANTITY_PER_SHIPMENT));
+        }
+
+        shipmentRepository = Stubs.repository(ShipmentRepository.class, roundTripMicros, Map.of(
+                "findById", args -> Optional.of(shipment((String) args[0], ShipmentStatus.CREATED)),
+                "save", args -> args[0],
+                "findByTenantIdAndOrderIdAndStatusId", args -> importedShipments));
+        inventoryItemDetailRepository = Stubs.repository(InventoryItemDetailRepository.class, roundTripMicros, Map.of(
+                "findByTenantIdAndShipmentId", args -> detailsByShipment.get((String) args[1]),
+                "sumQuantityByOrderItem", args -> delivered));
+        inventoryItemRepository = Stubs.repository(InventoryItemRepository.class, roundTripMicros, Map.of(
+                "save", args -> args[0],
+                "saveAll", args -> args[0]));
+        orderItemRepository = Stubs.repository(OrderItemRepository.class, roundTripMicros, Map.of(
+                "findByTenantIdAndOrderId", args -> orderItems));
+        orderRepository = Stubs.repository(OrderRepository.class, roundTripMicros, Map.of(
+                "updateOrderStatus", args -> null));
+        StockLevelRepository stockLevelRepository = Stubs.repository(StockLevelRepository.class, roundTripMicros,
+                Map.of(
+                        "lockFacilitiesShared", args -> null,
+                        "addQuantities", args -> null));
+
+        shipmentService = Stubs.services(shipmentRepository, inventoryItemDetailRepository, inventoryItemRepository,
+                        orderItemRepository, orderRepository, stockLevelRepository,
+                        Stubs.unused(ProductRepository.class), Stubs.unused(PlatformTransactionManager.class))
+                .getBean(ShipmentService.class);
+    }
+
+    @Benchmark
+    public String setBasedImport() {
+        shipmentService.importShipment(currentShipmentId, USER_ID, TENANT_ID);
+        return currentShipmentId;
+    }
+
+    @Benchmark
+    public boolean legacyImport() {
+        ShipmentEntity shipment = shipmentRepository.findById(currentShipmentId).orElseThrow();
+        shipment.setStatusId(ShipmentStatus.IMPORTED.value());
+        shipment.setHandledByUserId(USER_ID);
+        shipmentRepository.save(shipment);
+
+        for (InventoryItemDetailEntity item : inventoryItemDetailRepository.findByTenantIdAndShipmentId(TENANT_ID,
+                currentShipmentId)) {
+            inventoryItemRepository.save(InventoryItemEntity.builder()
+                    .id(IdUtils.generateInventoryItemId())
+                    .productId(item.getProductId())
+                    .quantity(item.getQuantity())
+                    .facilityId(item.getFacilityId())
+                    .lotId(item.getLotId())
+                    .expirationDate(item.getExpirationDate())
+                    .manufacturingDate(item.getManufacturingDate())
+                    .statusId("VALID")
+                    .receivedDate(LocalDate.now())
+                    .tenantId(item.getTenantId())
+                    .build());
+        }
+
+        Map<String, Integer> deliveredQuantityMap = new HashMap<>();
+        for (ShipmentEntity imported : shipmentRepository.findByTenantIdAndOrderIdAndStatusId(TENANT_ID, ORDER_ID,
+                ShipmentStatus.IMPORTED.value())) {
+            for (InventoryItemDetailEntity item : inventoryItemDetailRepository.findByTenantIdAndShipmentId(TENANT_ID,
+                    imported.getId())) {
+                deliveredQuantityMap.merge(item.getOrderItemId(), item.getQuantity(), Integer::sum);
+            }
+        }
+        for (OrderItemEntity orderItem : orderItemRepository.findByTenantIdAndOrderId(TENANT_ID, ORDER_ID)) {
+            if (deliveredQuantityMap.getOrDefault(orderItem.getId(), 0) != orderItem.getQuantity()) {
+                return false;
+            }
+        }
+        orderRepository.updateOrderStatus(ORDER_ID, "FULLY_DELIVERED", TENANT_ID);
+        return true;
+    }
+
+    private static ShipmentEntity shipment(String id, ShipmentStatus status) {
+        return ShipmentEntity.builder()
+                .id(id)
+                .shipmentTypeId("INBOUND")
+                .orderId(ORDER_ID)
+                .statusId(status.value())
+                .tenantId(TENANT_ID)
+                .build();
+    }
+
+    private record Delivered(String orderItemId, Long quantity)
+            implements InventoryItemDetailRepository.OrderItemQuantity {
+
+        @Override
+        public String getOrderItemId() {
+            return orderItemId;
+        }
+
+        @Override
+        public Long getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package serp.project.logistics.benchmark;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.annotation.QualifierAnnotationAutowireCandidateResolver;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.context.annotation.ClassPathBeanDefinitionScanner;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Repository stand-ins that answer from in-memory fixtures. Each call parks for a fixed round trip so
+ * that the number of statements an algorithm issues shows up in its score, as it would against Postgres.
+ */
+final class Stubs {
+
+    private static final String SERVICE_PACKAGE = "serp.project.logistics.service";
+
+    private Stubs() {
+    }
+
+    /**
+     * Services wired the way the application context wires them: constructor arguments are resolved by type
+     * from {@code collaborators} and the other services, and {@code @Value} fields get their declared
+     * defaults. Reordering a service's fields cannot swap its stubs, and a missing collaborator fails at setup.
+     */
+    static BeanFactory services(Object... collaborators) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.setAutowireCandidateResolver(new QualifierAnnotationAutowireCandidateResolver());
+        beanFactory.addEmbeddedValueResolver(new StandardEnvironment()::resolveRequiredPlaceholders);
+        AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiring);
+        for (int i = 0; i < collaborators.length; i++) {
+            beanFactory.registerSingleton("collaborator" + i, collaborators[i]);
+        }
+        ClassPathBeanDefinitionScanner scanner = new ClassPathBeanDefinitionScanner(beanFactory);
+        scanner.setIncludeAnnotationConfig(false);
+        scanner.scan(SERVICE_PACKAGE);
+        return beanFactory;
+    }
+
+    /**
+     * A collaborator the benchmarked path must never reach.
+     */
+    static <T> T unused(Class<T> type) {
+        return repository(type, 0, Map.of());
+    }
+
+    /**
+     * A repository whose listed methods compute their answer from the call arguments; anything else fails
+     * loudly so a benchmark never silently measures an unexpected path.
+     */
+    static <T> T repository(Class<T> type, long roundTripMicros, Map<String, Function<Object[], Object>> answers) {
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> type.getSimpleName() + "Stub";
+                        };
+                    }
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                    }
+                    if (roundTripNanos > 0) {
+                        LockSupport.parkNanos(roundTripNanos);
+                    }
+                    return answer.apply(args);
+                }));
+    }
+}
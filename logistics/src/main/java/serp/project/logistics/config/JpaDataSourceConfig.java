@@ -10,6 +10,7 @@ import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 
 import javax.sql.DataSource;
+import java.util.Map;
 
 @Configuration
 @PropertySource("classpath:database.properties")
@@ -36,6 +37,9 @@ public class JpaDataSourceConfig {
     @Value("${spring.datasource.hikari.validation-timeout}")
     private int validationTimeout;
 
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
     @Bean
     public DataSource dataSource() {
         HikariDataSource dataSource = new HikariDataSource();
@@ -46,6 +50,7 @@ public class JpaDataSourceConfig {
         dataSource.setMaxLifetime(maxLifetime);
         dataSource.setIdleTimeout(idleTimeout);
         dataSource.setValidationTimeout(validationTimeout);
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
         return dataSource;
     }
 
@@ -55,6 +60,10 @@ public class JpaDataSourceConfig {
         em.setDataSource(dataSource);
         em.setPackagesToScan("serp.project.logistics.entity");
         em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        em.setJpaPropertyMap(Map.of(
+                "hibernate.jdbc.batch_size", jdbcBatchSize,
+                "hibernate.order_inserts", true,
+                "hibernate.order_updates", true));
         return em;
     }
 
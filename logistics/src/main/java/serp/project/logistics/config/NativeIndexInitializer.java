@@ -0,0 +1,43 @@
+package serp.project.logistics.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Index DDL that {@code @Index} cannot express. Statements run one by one outside a transaction so indexes
+ * are built concurrently without blocking writers, and every statement is safe to repeat on each startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NativeIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            // Prefix of uk_wms2_stock_level_key; only slowed down writes to a hot table
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_wms2_stock_level_fefo",
+            // Replaced by the partial index below, which skips lots that were flagged or emptied
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_wms2_stock_level_expiry",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_wms2_stock_level_unflagged_expiry " +
+                    "ON wms2_stock_level (expiration_date, id) " +
+                    "WHERE expiry_alert_stamp IS NULL AND quantity > 0");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        for (String ddl : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                log.warn("[NativeIndexInitializer] Could not apply [{}]: {}", ddl, e.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package serp.project.logistics.constant;
+
+public enum DeliveryStatus {
+    PENDING("PENDING"),
+    DELIVERING("DELIVERING"),
+    DELIVERED("DELIVERED"),
+    ;
+
+    private final String value;
+
+    DeliveryStatus(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+}
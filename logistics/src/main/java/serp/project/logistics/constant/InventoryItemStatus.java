@@ -0,0 +1,17 @@
+package serp.project.logistics.constant;
+
+public enum InventoryItemStatus {
+    VALID("VALID"),
+    ;
+
+    private final String value;
+
+    InventoryItemStatus(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+}
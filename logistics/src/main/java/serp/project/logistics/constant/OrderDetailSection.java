@@ -0,0 +1,33 @@
+package serp.project.logistics.constant;
+
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+
+public enum OrderDetailSection {
+    ITEMS("items"),
+    SHIPMENTS("shipments"),
+    SHIPMENT_ITEMS("shipmentItems"),
+    QUANTITIES("quantities"),
+    INVOICES("invoices"),
+    ;
+
+    private final String value;
+
+    OrderDetailSection(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static OrderDetailSection fromValue(String value) {
+        for (OrderDetailSection section : OrderDetailSection.values()) {
+            if (section.value.equalsIgnoreCase(value)) {
+                return section;
+            }
+        }
+        throw new AppException(AppErrorCode.UNKNOWN_ENUM_VALUE);
+    }
+
+}
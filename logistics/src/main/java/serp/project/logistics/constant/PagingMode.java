@@ -0,0 +1,31 @@
+package serp.project.logistics.constant;
+
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+
+public enum PagingMode {
+    OFFSET("offset"),
+    SLICE("slice"),
+    KEYSET("keyset"),
+    ;
+
+    private final String value;
+
+    PagingMode(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public static PagingMode fromValue(String value) {
+        for (PagingMode mode : PagingMode.values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new AppException(AppErrorCode.UNKNOWN_ENUM_VALUE);
+    }
+
+}
@@ -0,0 +1,19 @@
+package serp.project.logistics.constant;
+
+public enum ReservationStatus {
+    RESERVED("RESERVED"),
+    RELEASED("RELEASED"),
+    COMMITTED("COMMITTED"),
+    ;
+
+    private final String value;
+
+    ReservationStatus(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+}
@@ -3,9 +3,9 @@ package serp.project.logistics.controller;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.CategoryForm;
 import serp.project.logistics.dto.response.GeneralResponse;
 import serp.project.logistics.dto.response.PageResponse;
@@ -50,20 +50,24 @@ public class CategoryController {
             @RequestParam(required = false, defaultValue = "10") int size,
             @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false, defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String statusId) {
         Long tenantId = authUtils.getCurrentTenantId()
                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
         log.info("[CategoryController] Retrieving categories of page {}/{} for tenantId: {}", page, size, tenantId);
-        Page<CategoryEntity> categories = categoryService.getCategories(
+        PageResponse<CategoryEntity> categories = categoryService.getCategories(
                 query,
                 tenantId,
                 page,
                 size,
                 sortBy,
-                sortDirection);
+                sortDirection,
+                PagingMode.fromValue(paging),
+                cursor);
         return ResponseEntity.ok(
-                GeneralResponse.success("Successfully get list of category page " + page, PageResponse.of(categories)));
+                GeneralResponse.success("Successfully get list of category page " + page, categories));
     }
 
     @DeleteMapping("/delete/{categoryId}")
@@ -1,6 +1,5 @@
 package serp.project.logistics.controller;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +9,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.response.GeneralResponse;
 import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.CustomerEntity;
@@ -34,21 +34,25 @@ public class CustomerController {
                         @RequestParam(required = false, defaultValue = "10") int size,
                         @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
                         @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+                        @RequestParam(required = false, defaultValue = "offset") String paging,
+                        @RequestParam(required = false) String cursor,
                         @RequestParam(required = false) String query,
                         @RequestParam(required = false) String statusId) {
                 Long tenantId = authUtils.getCurrentTenantId()
                                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
                 log.info("[CustomerController] Getting customers of page {}/{} for tenantId {}", page, size, tenantId);
-                Page<CustomerEntity> customers = customerService.findCustomers(
+                PageResponse<CustomerEntity> customers = customerService.findCustomers(
                                 query,
                                 statusId,
                                 tenantId,
                                 page,
                                 size,
                                 sortBy,
-                                sortDirection);
+                                sortDirection,
+                                PagingMode.fromValue(paging),
+                                cursor);
                 return ResponseEntity.ok(GeneralResponse.success("Successfully get list of customers at page " + page,
-                                PageResponse.of(customers)));
+                                customers));
         }
 
 }
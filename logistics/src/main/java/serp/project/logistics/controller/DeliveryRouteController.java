@@ -0,0 +1,34 @@
+package serp.project.logistics.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.dto.request.RoutePlanningForm;
+import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.dto.response.RoutePlanResponse;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.service.DeliveryRouteService;
+import serp.project.logistics.util.AuthUtils;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/logistics/api/v1/delivery-route")
+@Slf4j
+public class DeliveryRouteController {
+
+    private final DeliveryRouteService deliveryRouteService;
+    private final AuthUtils authUtils;
+
+    @PostMapping("/plan")
+    public ResponseEntity<GeneralResponse<RoutePlanResponse>> planRoutes(@RequestBody RoutePlanningForm form) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[DeliveryRouteController] Plan delivery routes at facility {} for tenantId {}",
+                form.getFacilityId(), tenantId);
+        RoutePlanResponse response = RoutePlanResponse.fromPlan(deliveryRouteService.planRoutes(form, tenantId));
+        return ResponseEntity.ok(GeneralResponse.success("Delivery routes planned successfully", response));
+    }
+
+}
@@ -1,25 +1,32 @@
 package serp.project.logistics.controller;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.FacilityCreationForm;
 import serp.project.logistics.dto.request.FacilityUpdateForm;
 import serp.project.logistics.dto.response.FacilityDetailResponse;
 import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.dto.response.NearbyFacilityResponse;
 import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.AddressEntity;
 import serp.project.logistics.entity.FacilityEntity;
 import serp.project.logistics.exception.AppErrorCode;
 import serp.project.logistics.exception.AppException;
 import serp.project.logistics.service.AddressService;
+import serp.project.logistics.service.FacilityLocatorService;
 import serp.project.logistics.service.FacilityService;
 import serp.project.logistics.util.AuthUtils;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/logistics/api/v1/facility")
@@ -29,6 +36,7 @@ public class FacilityController {
 
         private final FacilityService facilityService;
         private final AddressService addressService;
+        private final FacilityLocatorService facilityLocatorService;
         private final AuthUtils authUtils;
 
         @PostMapping("/create")
@@ -57,22 +65,26 @@ public class FacilityController {
                         @RequestParam(required = false, defaultValue = "10") int size,
                         @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
                         @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+                        @RequestParam(required = false, defaultValue = "offset") String paging,
+                        @RequestParam(required = false) String cursor,
                         @RequestParam(required = false) String query,
                         @RequestParam(required = false) String statusId) {
                 Long tenantId = authUtils.getCurrentTenantId()
                                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
-                Page<FacilityEntity> facilities = facilityService.findFacilities(
+                PageResponse<FacilityEntity> facilities = facilityService.findFacilities(
                                 query,
                                 statusId,
                                 tenantId,
                                 page,
                                 size,
                                 sortBy,
-                                sortDirection);
+                                sortDirection,
+                                PagingMode.fromValue(paging),
+                                cursor);
                 log.info("[FacilityController] Retrieved list of facilities for tenantId: {} on page {}/{}", tenantId,
                                 page, size);
                 return ResponseEntity.ok(GeneralResponse.success("Successfully get list of facility page " + page,
-                                PageResponse.of(facilities)));
+                                facilities));
         }
 
         @DeleteMapping("/delete/{facilityId}")
@@ -104,4 +116,37 @@ public class FacilityController {
                 return ResponseEntity.ok(GeneralResponse.success("Successfully get facility detail", response));
         }
 
+        @GetMapping("/search/nearest")
+        public ResponseEntity<GeneralResponse<List<NearbyFacilityResponse>>> getNearestFacilities(
+                        @DecimalMin("-90") @DecimalMax("90") @RequestParam double latitude,
+                        @DecimalMin("-180") @DecimalMax("180") @RequestParam double longitude,
+                        @Min(1) @Max(100) @RequestParam(required = false, defaultValue = "5") int limit) {
+                Long tenantId = authUtils.getCurrentTenantId()
+                                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+                log.info("[FacilityController] Retrieving {} nearest facilities to ({}, {}) for tenantId: {}", limit,
+                                latitude, longitude, tenantId);
+                List<NearbyFacilityResponse> response = facilityLocatorService
+                                .findNearest(latitude, longitude, limit, tenantId).stream()
+                                .map(NearbyFacilityResponse::fromNeighbour)
+                                .toList();
+                return ResponseEntity.ok(GeneralResponse.success("Successfully get nearest facilities", response));
+        }
+
+        @GetMapping("/search/within")
+        public ResponseEntity<GeneralResponse<List<NearbyFacilityResponse>>> getFacilitiesWithinRadius(
+                        @DecimalMin("-90") @DecimalMax("90") @RequestParam double latitude,
+                        @DecimalMin("-180") @DecimalMax("180") @RequestParam double longitude,
+                        @DecimalMin("0") @RequestParam double radiusKm) {
+                Long tenantId = authUtils.getCurrentTenantId()
+                                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+                log.info("[FacilityController] Retrieving facilities within {} km of ({}, {}) for tenantId: {}",
+                                radiusKm, latitude, longitude, tenantId);
+                List<NearbyFacilityResponse> response = facilityLocatorService
+                                .findWithinRadius(latitude, longitude, radiusKm, tenantId).stream()
+                                .map(NearbyFacilityResponse::fromNeighbour)
+                                .toList();
+                return ResponseEntity.ok(GeneralResponse.success("Successfully get facilities within radius",
+                                response));
+        }
+
 }
@@ -2,7 +2,6 @@ package serp.project.logistics.controller;
 
 import java.time.LocalDate;
 
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,9 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.InventoryItemCreationForm;
 import serp.project.logistics.dto.request.InventoryItemUpdateForm;
 import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.InventoryItemEntity;
 import serp.project.logistics.exception.AppErrorCode;
 import serp.project.logistics.exception.AppException;
@@ -76,11 +77,13 @@ public class InventoryItemController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<GeneralResponse<Page<InventoryItemEntity>>> searchInventoryItems(
+    public ResponseEntity<GeneralResponse<PageResponse<InventoryItemEntity>>> searchInventoryItems(
             @RequestParam(required = false, defaultValue = "1") int page,
             @RequestParam(required = false, defaultValue = "10") int size,
             @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false, defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String productId,
             @RequestParam(required = false) String facilityId,
@@ -93,7 +96,7 @@ public class InventoryItemController {
                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
         log.info("[InventoryItemController] Retrieving inventory items of page {}/{} for tenantId: {}", page, size,
                 tenantId);
-        Page<InventoryItemEntity> result = inventoryItemService.getInventoryItems(
+        PageResponse<InventoryItemEntity> result = inventoryItemService.getInventoryItems(
                 query,
                 productId,
                 facilityId,
@@ -106,7 +109,9 @@ public class InventoryItemController {
                 page,
                 size,
                 sortBy,
-                sortDirection);
+                sortDirection,
+                PagingMode.fromValue(paging),
+                cursor);
         return ResponseEntity.ok(GeneralResponse.success(
                 "Inventory items retrieved successfully",
                 result));
@@ -0,0 +1,65 @@
+package serp.project.logistics.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.entity.InventoryReservationEntity;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.service.InventoryReservationService;
+import serp.project.logistics.util.AuthUtils;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/logistics/api/v1/reservation")
+@Slf4j
+public class InventoryReservationController {
+
+    private final InventoryReservationService inventoryReservationService;
+    private final AuthUtils authUtils;
+
+    @PostMapping("/reserve/{orderId}")
+    public ResponseEntity<GeneralResponse<List<InventoryReservationEntity>>> reserve(
+            @PathVariable String orderId,
+            @RequestParam String facilityId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[InventoryReservationController] Reserve stock for order {} at facility {} for tenantId {}",
+                orderId, facilityId, tenantId);
+        return ResponseEntity.ok(GeneralResponse.success("Stock reserved successfully",
+                inventoryReservationService.reserve(orderId, facilityId, tenantId)));
+    }
+
+    @PostMapping("/release/{orderId}")
+    public ResponseEntity<GeneralResponse<?>> release(@PathVariable String orderId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[InventoryReservationController] Release stock of order {} for tenantId {}", orderId, tenantId);
+        inventoryReservationService.release(orderId, tenantId);
+        return ResponseEntity.ok(GeneralResponse.success("Reservations released successfully"));
+    }
+
+    @PostMapping("/commit/{orderId}")
+    public ResponseEntity<GeneralResponse<?>> commit(@PathVariable String orderId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[InventoryReservationController] Commit stock of order {} for tenantId {}", orderId, tenantId);
+        inventoryReservationService.commit(orderId, tenantId);
+        return ResponseEntity.ok(GeneralResponse.success("Reservations committed successfully"));
+    }
+
+    @GetMapping("/search/{orderId}")
+    public ResponseEntity<GeneralResponse<List<InventoryReservationEntity>>> getReservations(
+            @PathVariable String orderId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[InventoryReservationController] Get reservations of order {} for tenantId {}", orderId, tenantId);
+        return ResponseEntity.ok(GeneralResponse.success("Successfully get reservations",
+                inventoryReservationService.getReservations(orderId, tenantId)));
+    }
+
+}
@@ -5,17 +5,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.OrderDetailSection;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.dto.response.OrderAggregateResponse;
 import serp.project.logistics.dto.response.OrderDetailResponse;
 import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.OrderEntity;
 import serp.project.logistics.exception.AppErrorCode;
 import serp.project.logistics.exception.AppException;
+import serp.project.logistics.service.OrderAggregateService;
 import serp.project.logistics.service.OrderItemService;
 import serp.project.logistics.service.OrderService;
 import serp.project.logistics.util.AuthUtils;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +33,7 @@ public class OrderController {
 
         private final OrderService orderService;
         private final OrderItemService orderItemService;
+        private final OrderAggregateService orderAggregateService;
         private final AuthUtils authUtils;
 
         @GetMapping("/search/{orderId}")
@@ -45,12 +53,33 @@ public class OrderController {
                 return ResponseEntity.ok(GeneralResponse.success("Successfully get order detail", response));
         }
 
+        @GetMapping("/search/{orderId}/aggregate")
+        public ResponseEntity<GeneralResponse<OrderAggregateResponse>> getOrderAggregate(
+                        @PathVariable String orderId,
+                        @RequestParam(required = false) List<String> fields) {
+                Long tenantId = authUtils.getCurrentTenantId()
+                                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+                Set<OrderDetailSection> sections = EnumSet.allOf(OrderDetailSection.class);
+                if (fields != null && !fields.isEmpty()) {
+                        sections = EnumSet.noneOf(OrderDetailSection.class);
+                        for (String field : fields) {
+                                sections.add(OrderDetailSection.fromValue(field.trim()));
+                        }
+                }
+                log.info("[OrderController] Get order aggregate {} for order ID {} and tenantId {}", sections, orderId,
+                                tenantId);
+                OrderAggregateResponse response = orderAggregateService.getOrderAggregate(orderId, sections, tenantId);
+                return ResponseEntity.ok(GeneralResponse.success("Successfully get order aggregate", response));
+        }
+
         @GetMapping("/search")
         public ResponseEntity<GeneralResponse<PageResponse<OrderEntity>>> getOrders(
                         @RequestParam(required = false, defaultValue = "1") int page,
                         @RequestParam(required = false, defaultValue = "10") int size,
                         @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
                         @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+                        @RequestParam(required = false, defaultValue = "offset") String paging,
+                        @RequestParam(required = false) String cursor,
                         @RequestParam(required = false) String query,
                         @RequestParam(required = false) String statusId,
                         @RequestParam(required = false) String orderTypeId,
@@ -79,8 +108,10 @@ public class OrderController {
                                 page,
                                 size,
                                 sortBy,
-                                sortDirection);
-                return ResponseEntity.ok(GeneralResponse.success("Successfully get orders", PageResponse.of(orders)));
+                                sortDirection,
+                                PagingMode.fromValue(paging),
+                                cursor);
+                return ResponseEntity.ok(GeneralResponse.success("Successfully get orders", orders));
         }
 
 }
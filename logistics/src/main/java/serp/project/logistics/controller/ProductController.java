@@ -2,10 +2,10 @@ package serp.project.logistics.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.ProductCreationForm;
 import serp.project.logistics.dto.request.ProductUpdateForm;
 import serp.project.logistics.dto.response.GeneralResponse;
@@ -66,13 +66,15 @@ public class ProductController {
                         @RequestParam(required = false, defaultValue = "10") int size,
                         @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
                         @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+                        @RequestParam(required = false, defaultValue = "offset") String paging,
+                        @RequestParam(required = false) String cursor,
                         @RequestParam(required = false) String query,
                         @RequestParam(required = false) String categoryId,
                         @RequestParam(required = false) String statusId) {
                 Long tenantId = authUtils.getCurrentTenantId()
                                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
                 log.info("[ProductController] Search products of page {}/{} for tenantId {}", page, size, tenantId);
-                Page<ProductEntity> products = productService.findProducts(
+                PageResponse<ProductEntity> products = productService.findProducts(
                                 query,
                                 categoryId,
                                 statusId,
@@ -80,8 +82,10 @@ public class ProductController {
                                 page,
                                 size,
                                 sortBy,
-                                sortDirection);
+                                sortDirection,
+                                PagingMode.fromValue(paging),
+                                cursor);
                 return ResponseEntity.ok(GeneralResponse.success("Successfully return products at page " + page,
-                                PageResponse.of(products)));
+                                products));
         }
 }
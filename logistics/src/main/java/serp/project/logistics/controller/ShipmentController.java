@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.*;
 import serp.project.logistics.dto.response.GeneralResponse;
 import serp.project.logistics.dto.response.PageResponse;
@@ -132,6 +133,8 @@ public class ShipmentController {
             @RequestParam(required = false, defaultValue = "10") int size,
             @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false, defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String statusId,
             @RequestParam(required = false) String shipmentTypeId,
@@ -153,8 +156,10 @@ public class ShipmentController {
                 page,
                 size,
                 sortBy,
-                sortDirection);
-        return ResponseEntity.ok(GeneralResponse.success("Successfully get orders", PageResponse.of(orders)));
+                sortDirection,
+                PagingMode.fromValue(paging),
+                cursor);
+        return ResponseEntity.ok(GeneralResponse.success("Successfully get orders", orders));
     }
 
 }
@@ -0,0 +1,97 @@
+package serp.project.logistics.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.dto.request.PickSuggestionForm;
+import serp.project.logistics.dto.request.StockAvailabilityForm;
+import serp.project.logistics.dto.response.ExpiringLotResponse;
+import serp.project.logistics.dto.response.GeneralResponse;
+import serp.project.logistics.dto.response.PickSuggestionResponse;
+import serp.project.logistics.dto.response.StockAvailabilityResponse;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.service.LotIndexService;
+import serp.project.logistics.service.StockLevelService;
+import serp.project.logistics.util.AuthUtils;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/logistics/api/v1/stock-level")
+@Slf4j
+public class StockLevelController {
+
+    private final StockLevelService stockLevelService;
+    private final LotIndexService lotIndexService;
+    private final AuthUtils authUtils;
+
+    @GetMapping("/search")
+    public ResponseEntity<GeneralResponse<StockAvailabilityResponse>> getAvailability(
+            @RequestParam String productId,
+            @RequestParam String facilityId,
+            @RequestParam(required = false) String lotId) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[StockLevelController] Get availability of product {} at facility {} for tenantId {}", productId,
+                facilityId, tenantId);
+        StockAvailabilityResponse response = StockAvailabilityResponse.builder()
+                .productId(productId)
+                .facilityId(facilityId)
+                .lotId(lotId)
+                .quantity(stockLevelService.getAvailableQuantity(productId, facilityId, lotId, tenantId))
+                .build();
+        return ResponseEntity.ok(GeneralResponse.success("Successfully get stock availability", response));
+    }
+
+    @PostMapping("/search/bulk")
+    public ResponseEntity<GeneralResponse<List<StockAvailabilityResponse>>> getBulkAvailability(
+            @RequestBody StockAvailabilityForm form) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[StockLevelController] Get availability of {} products for tenantId {}",
+                form.getProductIds() == null ? 0 : form.getProductIds().size(), tenantId);
+        List<StockAvailabilityResponse> response = stockLevelService
+                .getAvailability(form.getProductIds(), form.getFacilityId(), tenantId).stream()
+                .map(StockAvailabilityResponse::fromProjection)
+                .toList();
+        return ResponseEntity.ok(GeneralResponse.success("Successfully get stock availability", response));
+    }
+
+    @PostMapping("/pick-suggestion")
+    public ResponseEntity<GeneralResponse<List<PickSuggestionResponse>>> suggestPicks(
+            @RequestBody PickSuggestionForm form) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[StockLevelController] Suggest picks at facility {} for tenantId {}", form.getFacilityId(),
+                tenantId);
+        List<PickSuggestionResponse> response = lotIndexService.suggestPicks(form, tenantId).stream()
+                .map(PickSuggestionResponse::fromSuggestion)
+                .toList();
+        return ResponseEntity.ok(GeneralResponse.success("Successfully suggest picks", response));
+    }
+
+    @GetMapping("/near-expiry")
+    public ResponseEntity<GeneralResponse<List<ExpiringLotResponse>>> getNearExpiryLots(
+            @RequestParam(defaultValue = "30") int days) {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[StockLevelController] Get lots expiring within {} days for tenantId {}", days, tenantId);
+        List<ExpiringLotResponse> response = stockLevelService.getExpiringLots(days, tenantId).stream()
+                .map(ExpiringLotResponse::fromEntity)
+                .toList();
+        return ResponseEntity.ok(GeneralResponse.success("Successfully get near-expiry lots", response));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<GeneralResponse<Integer>> rebuild() {
+        Long tenantId = authUtils.getCurrentTenantId()
+                .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
+        log.info("[StockLevelController] Rebuild stock levels for tenantId {}", tenantId);
+        return ResponseEntity.ok(GeneralResponse.success("Stock levels rebuilt successfully",
+                stockLevelService.rebuild(tenantId)));
+    }
+
+}
@@ -2,10 +2,10 @@ package serp.project.logistics.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.response.GeneralResponse;
 import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.dto.response.SupplierDetailResponse;
@@ -34,21 +34,25 @@ public class SupplierController {
             @RequestParam(required = false, defaultValue = "10") int size,
             @RequestParam(required = false, defaultValue = "createdStamp") String sortBy,
             @RequestParam(required = false, defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false, defaultValue = "offset") String paging,
+            @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String query,
             @RequestParam(required = false) String statusId) {
         Long tenantId = authUtils.getCurrentTenantId()
                 .orElseThrow(() -> new AppException(AppErrorCode.UNAUTHORIZED));
         log.info("[SupplierController] Getting suppliers of page {}/{} for tenantId {}", page, size, tenantId);
-        Page<SupplierEntity> suppliers = supplierService.findSuppliers(
+        PageResponse<SupplierEntity> suppliers = supplierService.findSuppliers(
                 query,
                 statusId,
                 tenantId,
                 page,
                 size,
                 sortBy,
-                sortDirection);
+                sortDirection,
+                PagingMode.fromValue(paging),
+                cursor);
         return ResponseEntity.ok(GeneralResponse.success("Successfully get list of suppliers at page " + page,
-                PageResponse.of(suppliers)));
+                suppliers));
     }
 
     @GetMapping("/search/{supplierId}")
@@ -0,0 +1,22 @@
+package serp.project.logistics.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class PickSuggestionForm {
+
+    private String facilityId;
+
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+        private String productId;
+
+        private long quantity;
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package serp.project.logistics.dto.request;
+
+import lombok.Data;
+
+@Data
+public class RoutePlanningForm {
+
+    private String facilityId;
+
+    private double vehicleCapacity;
+
+    private Long timeLimitMillis;
+
+}
@@ -0,0 +1,14 @@
+package serp.project.logistics.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class StockAvailabilityForm {
+
+    private List<String> productIds;
+
+    private String facilityId;
+
+}
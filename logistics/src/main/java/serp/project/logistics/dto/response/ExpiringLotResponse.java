@@ -0,0 +1,32 @@
+package serp.project.logistics.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.entity.StockLevelEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ExpiringLotResponse {
+    private String facilityId;
+    private String productId;
+    private String lotId;
+    private LocalDate expirationDate;
+    private long quantity;
+    private long reservedQuantity;
+    private LocalDateTime expiryAlertStamp;
+
+    public static ExpiringLotResponse fromEntity(StockLevelEntity entity) {
+        return ExpiringLotResponse.builder()
+                .facilityId(entity.getFacilityId())
+                .productId(entity.getProductId())
+                .lotId(entity.getLotId())
+                .expirationDate(entity.getExpirationDate())
+                .quantity(entity.getQuantity())
+                .reservedQuantity(entity.getReservedQuantity())
+                .expiryAlertStamp(entity.getExpiryAlertStamp())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package serp.project.logistics.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.service.FacilityLocatorService;
+import serp.project.logistics.util.SpatialIndex;
+
+@Data
+@Builder
+public class NearbyFacilityResponse {
+    private String facilityId;
+    private String name;
+    private String addressId;
+    private String fullAddress;
+    private double latitude;
+    private double longitude;
+    private double distanceKm;
+
+    public static NearbyFacilityResponse fromNeighbour(
+            SpatialIndex.Neighbour<FacilityLocatorService.FacilityLocation> neighbour) {
+        FacilityLocatorService.FacilityLocation location = neighbour.item();
+        return NearbyFacilityResponse.builder()
+                .facilityId(location.facilityId())
+                .name(location.name())
+                .addressId(location.addressId())
+                .fullAddress(location.fullAddress())
+                .latitude(location.latitude())
+                .longitude(location.longitude())
+                .distanceKm(neighbour.distanceKm())
+                .build();
+    }
+}
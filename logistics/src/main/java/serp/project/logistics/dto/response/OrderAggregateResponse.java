@@ -0,0 +1,32 @@
+package serp.project.logistics.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.entity.InvoiceEntity;
+
+import java.util.List;
+
+/**
+ * An order with whichever related sections were asked for; sections that were not requested are left out of
+ * the JSON rather than sent empty.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderAggregateResponse {
+    private OrderDetailResponse order;
+    private List<ShipmentDetailResponse> shipments;
+    private List<OrderItemProgress> quantities;
+    private List<InvoiceEntity> invoices;
+
+    @Data
+    @Builder
+    public static class OrderItemProgress {
+        private String orderItemId;
+        private String productId;
+        private int orderedQuantity;
+        private long deliveredQuantity;
+        private long remainingQuantity;
+    }
+}
@@ -1,24 +1,36 @@
 package serp.project.logistics.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+/**
+ * One page of a search. Offset pages carry the totals; slice and keyset pages skip the count query, so they
+ * leave the totals out and only say whether more rows follow. Keyset pages also carry the cursor that fetches
+ * the next page.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
-    private long totalItems;
+    private Long totalItems;
 
-    private long totalPages;
+    private Long totalPages;
 
-    private long currentPage;
+    private Long currentPage;
+
+    private boolean hasNext;
+
+    private String nextCursor;
 
     private List<T> items;
 
@@ -26,9 +38,26 @@ public class PageResponse<T> {
     public static <T> PageResponse<T> of(Page<T> page) {
         return PageResponse.<T>builder()
                 .totalItems(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .currentPage(page.getNumber() + 1)
+                .totalPages((long) page.getTotalPages())
+                .currentPage(page.getNumber() + 1L)
+                .hasNext(page.hasNext())
                 .items(page.getContent())
                 .build();
     }
+
+    public static <T> PageResponse<T> ofSlice(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .currentPage(slice.getNumber() + 1L)
+                .hasNext(slice.hasNext())
+                .items(slice.getContent())
+                .build();
+    }
+
+    public static <T> PageResponse<T> ofKeyset(List<T> items, String nextCursor) {
+        return PageResponse.<T>builder()
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .items(items)
+                .build();
+    }
 }
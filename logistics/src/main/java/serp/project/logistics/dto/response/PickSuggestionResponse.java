@@ -0,0 +1,25 @@
+package serp.project.logistics.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.service.LotIndexService;
+
+import java.util.List;
+
+@Data
+@Builder
+public class PickSuggestionResponse {
+    private String productId;
+    private long requestedQuantity;
+    private long shortage;
+    private List<LotIndexService.Pick> picks;
+
+    public static PickSuggestionResponse fromSuggestion(LotIndexService.PickSuggestion suggestion) {
+        return PickSuggestionResponse.builder()
+                .productId(suggestion.productId())
+                .requestedQuantity(suggestion.requestedQuantity())
+                .shortage(suggestion.shortage())
+                .picks(suggestion.picks())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package serp.project.logistics.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.service.DeliveryRouteService;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RoutePlanResponse {
+    private String facilityId;
+    private double totalDistanceKm;
+    private List<DeliveryRouteService.Route> routes;
+    private List<String> unroutedDeliveryBillIds;
+    private List<String> skippedDeliveryBillIds;
+
+    public static RoutePlanResponse fromPlan(DeliveryRouteService.RoutePlan plan) {
+        return RoutePlanResponse.builder()
+                .facilityId(plan.facilityId())
+                .totalDistanceKm(plan.totalDistanceKm())
+                .routes(plan.routes())
+                .unroutedDeliveryBillIds(plan.unroutedDeliveryBillIds())
+                .skippedDeliveryBillIds(plan.skippedDeliveryBillIds())
+                .build();
+    }
+}
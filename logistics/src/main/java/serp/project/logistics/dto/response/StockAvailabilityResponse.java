@@ -0,0 +1,22 @@
+package serp.project.logistics.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+import serp.project.logistics.repository.StockLevelRepository;
+
+@Data
+@Builder
+public class StockAvailabilityResponse {
+    private String productId;
+    private String facilityId;
+    private String lotId;
+    private long quantity;
+
+    public static StockAvailabilityResponse fromProjection(StockLevelRepository.ProductQuantity projection) {
+        return StockAvailabilityResponse.builder()
+                .productId(projection.getProductId())
+                .facilityId(projection.getFacilityId())
+                .quantity(projection.getQuantity())
+                .build();
+    }
+}
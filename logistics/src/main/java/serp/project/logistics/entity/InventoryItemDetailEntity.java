@@ -1,15 +1,20 @@
 package serp.project.logistics.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -20,7 +25,7 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @Table(name = "wms2_inventory_item_detail")
-public class InventoryItemDetailEntity {
+public class InventoryItemDetailEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -65,4 +70,21 @@ public class InventoryItemDetailEntity {
     @Column(name = "tenant_id")
     private Long tenantId;
 
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
 }
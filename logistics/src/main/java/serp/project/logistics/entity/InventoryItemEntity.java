@@ -1,15 +1,23 @@
 package serp.project.logistics.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,8 +27,10 @@ import java.time.LocalDateTime;
 @Data
 @Builder
 @Entity
-@Table(name = "wms2_inventory_item")
-public class InventoryItemEntity {
+@Table(name = "wms2_inventory_item", indexes = @Index(
+        name = "idx_wms2_inventory_item_fefo",
+        columnList = "tenant_id, facility_id, product_id, expiration_date, lot_id"))
+public class InventoryItemEntity implements Persistable<String> {
 
     @Id
     private String id;
@@ -59,4 +69,34 @@ public class InventoryItemEntity {
     @Column(name = "tenant_id")
     private Long tenantId;
 
+    /**
+     * Bumped by every write, including the conditional {@code consume} in {@code InventoryItemRepository}, so a
+     * manual edit made from a stale read fails instead of overwriting quantity consumed in between.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    /**
+     * Ids are assigned by {@code IdUtils}, so without this flag every save would be a merge that first
+     * selects the row it is about to insert.
+     */
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
 }
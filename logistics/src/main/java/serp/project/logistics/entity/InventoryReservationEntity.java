@@ -0,0 +1,87 @@
+package serp.project.logistics.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Stock of one lot held for one order item. An order item spread over several lots has one row per lot.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@Entity
+@Table(name = "wms2_inventory_reservation")
+public class InventoryReservationEntity implements Persistable<String> {
+
+    @Id
+    private String id;
+
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "order_item_id")
+    private String orderItemId;
+
+    @Column(name = "facility_id")
+    private String facilityId;
+
+    @Column(name = "product_id")
+    private String productId;
+
+    @Column(name = "lot_id")
+    private String lotId;
+
+    @Column(name = "expiration_date")
+    private LocalDate expirationDate;
+
+    private long quantity;
+
+    @Column(name = "status_id")
+    private String statusId;
+
+    @CreationTimestamp
+    @Column(name = "created_stamp")
+    private LocalDateTime createdStamp;
+
+    @UpdateTimestamp
+    @Column(name = "last_updated_stamp")
+    private LocalDateTime lastUpdatedStamp;
+
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+}
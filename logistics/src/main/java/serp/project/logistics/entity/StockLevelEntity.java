@@ -0,0 +1,73 @@
+package serp.project.logistics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * On-hand quantity of VALID inventory items per (tenant, facility, product, lot), kept in step with
+ * {@code wms2_inventory_item} inside the same transaction. Items without a lot are keyed by an empty lot id.
+ * {@code reservedQuantity} is the part held by open reservations and never exceeds {@code quantity}.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@Entity
+@Table(name = "wms2_stock_level",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_wms2_stock_level_key",
+                columnNames = {"tenant_id", "facility_id", "product_id", "lot_id"}),
+        indexes = @Index(name = "idx_wms2_stock_level_tenant_expiry", columnList = "tenant_id, expiration_date"))
+public class StockLevelEntity {
+
+    public static final String NO_LOT = "";
+
+    @Id
+    private String id;
+
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Column(name = "facility_id")
+    private String facilityId;
+
+    @Column(name = "product_id")
+    private String productId;
+
+    @Column(name = "lot_id")
+    private String lotId;
+
+    private long quantity;
+
+    @Column(name = "reserved_quantity")
+    private long reservedQuantity;
+
+    @Column(name = "expiration_date")
+    private LocalDate expirationDate;
+
+    @Column(name = "expiry_alert_stamp")
+    private LocalDateTime expiryAlertStamp;
+
+    @Column(name = "last_updated_stamp")
+    private LocalDateTime lastUpdatedStamp;
+
+    public long availableQuantity() {
+        return quantity - reservedQuantity;
+    }
+
+    public static String lotKey(String lotId) {
+        return lotId == null ? NO_LOT : lotId;
+    }
+
+}
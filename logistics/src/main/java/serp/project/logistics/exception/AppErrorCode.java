@@ -10,7 +10,11 @@ public enum AppErrorCode {
     NOT_FOUND("PURCHASE-BIZ-001", "Entity not found or access denied", HttpStatus.NOT_FOUND),
     INVALID_STATUS_TRANSITION("PURCHASE-BIZ-002", "Invalid status transition", HttpStatus.BAD_REQUEST),
     UNKNOWN_ENUM_VALUE("PURCHASE-VAL-001", "Unknown enum value provided", HttpStatus.BAD_REQUEST),
+    INVALID_ROUTE_PLANNING_REQUEST("PURCHASE-VAL-002", "Invalid route planning request", HttpStatus.BAD_REQUEST),
+    INVALID_PAGE_CURSOR("PURCHASE-VAL-003", "Invalid page cursor", HttpStatus.BAD_REQUEST),
     ORDER_NOT_APPROVED_YET("PURCHASE-BIZ-004", "Order has not been approved yet", HttpStatus.BAD_REQUEST),
+    INSUFFICIENT_STOCK("PURCHASE-BIZ-005", "Not enough available stock", HttpStatus.CONFLICT),
+    CONCURRENT_MODIFICATION("PURCHASE-BIZ-006", "Entity was modified concurrently, please retry", HttpStatus.CONFLICT),
     CANNOT_ACCESS("PURCHASE-SEC-002", "Cannot access the requested resource", HttpStatus.FORBIDDEN),
     UNAUTHORIZED("PURCHASE-SEC-001", "Unauthorized access", HttpStatus.UNAUTHORIZED);
 
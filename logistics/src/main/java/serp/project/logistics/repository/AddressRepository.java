@@ -3,10 +3,16 @@ package serp.project.logistics.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import serp.project.logistics.entity.AddressEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface AddressRepository extends JpaRepository<AddressEntity,String> {
 
     public List<AddressEntity> findByTenantIdAndEntityId(Long tenantId, String entityId);
 
+    public List<AddressEntity> findByTenantIdAndEntityType(Long tenantId, String entityType);
+
+    public List<AddressEntity> findByTenantIdAndEntityTypeAndEntityIdIn(Long tenantId, String entityType,
+            Collection<String> entityIds);
+
 }
@@ -0,0 +1,13 @@
+package serp.project.logistics.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import serp.project.logistics.entity.DeliveryBillEntity;
+
+import java.util.List;
+
+public interface DeliveryBillRepository extends JpaRepository<DeliveryBillEntity, String> {
+
+    public List<DeliveryBillEntity> findByTenantIdAndFacilityIdAndDeliveryStatusId(Long tenantId, String facilityId,
+            String deliveryStatusId);
+
+}
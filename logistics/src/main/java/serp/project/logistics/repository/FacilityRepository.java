@@ -4,5 +4,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import serp.project.logistics.entity.FacilityEntity;
 
+import java.util.List;
+
 public interface FacilityRepository extends JpaRepository<FacilityEntity, String>, JpaSpecificationExecutor<FacilityEntity> {
+
+    public List<FacilityEntity> findByTenantIdAndStatusId(Long tenantId, String statusId);
+
 }
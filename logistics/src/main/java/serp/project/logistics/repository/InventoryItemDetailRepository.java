@@ -1,16 +1,36 @@
 package serp.project.logistics.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import serp.project.logistics.entity.InventoryItemDetailEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface InventoryItemDetailRepository extends JpaRepository<InventoryItemDetailEntity, String> {
 
     public List<InventoryItemDetailEntity> findByTenantIdAndShipmentId(Long tenantId, String shipmentId);
 
+    public List<InventoryItemDetailEntity> findByTenantIdAndShipmentIdIn(Long tenantId, Collection<String> shipmentIds);
+
     public void deleteByOrderItemId(String orderItemId);
 
     public void deleteByShipmentId(String shipmentId);
 
+    @Query("SELECT d.orderItemId AS orderItemId, SUM(d.quantity) AS quantity " +
+            "FROM InventoryItemDetailEntity d, ShipmentEntity s " +
+            "WHERE s.id = d.shipmentId AND s.tenantId = :tenantId AND s.orderId = :orderId " +
+            "AND s.statusId IN :statusIds AND d.tenantId = :tenantId " +
+            "GROUP BY d.orderItemId")
+    public List<OrderItemQuantity> sumQuantityByOrderItem(Long tenantId, String orderId,
+            Collection<String> statusIds);
+
+    interface OrderItemQuantity {
+
+        String getOrderItemId();
+
+        Long getQuantity();
+
+    }
+
 }
@@ -2,8 +2,27 @@ package serp.project.logistics.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import serp.project.logistics.entity.InventoryItemEntity;
 
+import java.util.List;
+
 public interface InventoryItemRepository extends JpaRepository<InventoryItemEntity, String>, JpaSpecificationExecutor<InventoryItemEntity> {
 
+    @Query("SELECT DISTINCT i.facilityId FROM InventoryItemEntity i WHERE i.tenantId = :tenantId")
+    public List<String> findFacilityIds(Long tenantId);
+
+    @Query("SELECT i FROM InventoryItemEntity i " +
+            "WHERE i.tenantId = :tenantId AND i.facilityId = :facilityId AND i.productId = :productId " +
+            "AND COALESCE(i.lotId, '') = :lotId AND i.statusId = :statusId AND i.quantity > 0 " +
+            "ORDER BY i.expirationDate ASC NULLS LAST, i.receivedDate ASC, i.id ASC")
+    public List<InventoryItemEntity> findConsumable(Long tenantId, String facilityId, String productId, String lotId,
+            String statusId);
+
+    @Modifying
+    @Query("UPDATE InventoryItemEntity i SET i.quantity = i.quantity - :quantity, i.version = i.version + 1 " +
+            "WHERE i.id = :id AND i.quantity >= :quantity")
+    public int consume(String id, int quantity);
+
 }
@@ -0,0 +1,15 @@
+package serp.project.logistics.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import serp.project.logistics.entity.InventoryReservationEntity;
+
+import java.util.List;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservationEntity, String> {
+
+    public List<InventoryReservationEntity> findByTenantIdAndOrderId(Long tenantId, String orderId);
+
+    public List<InventoryReservationEntity> findByTenantIdAndOrderIdAndStatusId(Long tenantId, String orderId,
+            String statusId);
+
+}
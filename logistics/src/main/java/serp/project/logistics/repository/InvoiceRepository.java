@@ -1,7 +1,20 @@
 package serp.project.logistics.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import serp.project.logistics.entity.InvoiceEntity;
 
+import java.util.List;
+
 public interface InvoiceRepository extends JpaRepository<InvoiceEntity, String> {
+
+    /**
+     * Invoices billing any item of the order, reached through order item billings and invoice items.
+     */
+    @Query("SELECT DISTINCT i FROM InvoiceEntity i, InvoiceItemEntity ii, OrderItemBillingEntity b, " +
+            "OrderItemEntity oi " +
+            "WHERE ii.invoiceId = i.id AND b.invoiceItemId = ii.id AND b.orderItemId = oi.id " +
+            "AND oi.orderId = :orderId AND oi.tenantId = :tenantId AND i.tenantId = :tenantId")
+    public List<InvoiceEntity> findBilledForOrder(Long tenantId, String orderId);
+
 }
@@ -4,5 +4,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import serp.project.logistics.entity.ProductEntity;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductRepository extends JpaRepository<ProductEntity,String>, JpaSpecificationExecutor<ProductEntity> {
+
+    public List<ProductEntity> findByTenantIdAndIdIn(Long tenantId, Collection<String> ids);
+
 }
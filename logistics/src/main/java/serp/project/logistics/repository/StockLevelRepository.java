@@ -0,0 +1,138 @@
+package serp.project.logistics.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.logistics.entity.StockLevelEntity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockLevelRepository extends JpaRepository<StockLevelEntity, String>, StockLevelRepositoryCustom {
+
+    public Optional<StockLevelEntity> findByTenantIdAndFacilityIdAndProductIdAndLotId(
+            Long tenantId, String facilityId, String productId, String lotId);
+
+    @Query("SELECT COALESCE(SUM(s.quantity - s.reservedQuantity), 0) FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId")
+    public long sumQuantity(Long tenantId, String facilityId, String productId);
+
+    @Query("SELECT s.productId AS productId, s.facilityId AS facilityId, " +
+            "SUM(s.quantity - s.reservedQuantity) AS quantity " +
+            "FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.productId IN :productIds " +
+            "GROUP BY s.productId, s.facilityId")
+    public List<ProductQuantity> sumQuantityByProductAndFacility(Long tenantId, Collection<String> productIds);
+
+    @Query("SELECT s.productId AS productId, s.facilityId AS facilityId, " +
+            "SUM(s.quantity - s.reservedQuantity) AS quantity " +
+            "FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId IN :productIds " +
+            "GROUP BY s.productId, s.facilityId")
+    public List<ProductQuantity> sumQuantityByProductAndFacility(Long tenantId, String facilityId,
+            Collection<String> productIds);
+
+    @Query("SELECT DISTINCT s.facilityId FROM StockLevelEntity s WHERE s.tenantId = :tenantId")
+    public List<String> findFacilityIds(Long tenantId);
+
+    @Query("SELECT s FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId " +
+            "AND s.quantity > 0")
+    public List<StockLevelEntity> findLots(Long tenantId, String facilityId, String productId);
+
+    @Query("SELECT s FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.quantity > 0 AND s.expirationDate <= :cutoff " +
+            "ORDER BY s.expirationDate ASC, s.id ASC")
+    public List<StockLevelEntity> findExpiring(Long tenantId, LocalDate cutoff);
+
+    /**
+     * First chunk of a keyset scan over lots of every tenant that expire by the cutoff and have not been
+     * flagged yet; continue with {@link #findUnflaggedExpiringAfter}. Both queries carry the predicate of the
+     * partial index {@code idx_wms2_stock_level_unflagged_expiry}, so flagged and emptied lots are never read.
+     */
+    @Query("SELECT s FROM StockLevelEntity s " +
+            "WHERE s.quantity > 0 AND s.expirationDate <= :cutoff AND s.expiryAlertStamp IS NULL " +
+            "ORDER BY s.expirationDate ASC, s.id ASC")
+    public List<StockLevelEntity> findUnflaggedExpiring(LocalDate cutoff, Limit limit);
+
+    @Query("SELECT s FROM StockLevelEntity s " +
+            "WHERE s.quantity > 0 AND s.expirationDate <= :cutoff AND s.expiryAlertStamp IS NULL " +
+            "AND (s.expirationDate > :lastExpirationDate " +
+            "OR (s.expirationDate = :lastExpirationDate AND s.id > :lastId)) " +
+            "ORDER BY s.expirationDate ASC, s.id ASC")
+    public List<StockLevelEntity> findUnflaggedExpiringAfter(LocalDate cutoff, LocalDate lastExpirationDate,
+            String lastId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE StockLevelEntity s SET s.expiryAlertStamp = :stamp " +
+            "WHERE s.id IN :ids AND s.expiryAlertStamp IS NULL")
+    public int markExpiryAlerted(Collection<String> ids, LocalDateTime stamp);
+
+    /**
+     * Lots of the product that still have unreserved stock, first-expiring first.
+     */
+    @Query("SELECT s.id AS id, s.lotId AS lotId, s.expirationDate AS expirationDate, " +
+            "s.quantity - s.reservedQuantity AS available " +
+            "FROM StockLevelEntity s " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId " +
+            "AND s.quantity > s.reservedQuantity " +
+            "ORDER BY s.expirationDate ASC NULLS LAST, s.lotId ASC")
+    public List<AllocatableLot> findAllocatableLots(Long tenantId, String facilityId, String productId);
+
+    @Modifying
+    @Query("UPDATE StockLevelEntity s SET s.reservedQuantity = s.reservedQuantity + :quantity " +
+            "WHERE s.id = :id AND s.quantity - s.reservedQuantity >= :quantity")
+    public int reserve(String id, long quantity);
+
+    @Modifying
+    @Query("UPDATE StockLevelEntity s SET s.reservedQuantity = s.reservedQuantity - :quantity " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId " +
+            "AND s.lotId = :lotId AND s.reservedQuantity >= :quantity")
+    public int release(Long tenantId, String facilityId, String productId, String lotId, long quantity);
+
+    /**
+     * Takes stock off a level without touching its reservations; matches nothing when the level would drop
+     * below its reserved quantity.
+     */
+    @Modifying
+    @Query("UPDATE StockLevelEntity s SET s.quantity = s.quantity - :quantity " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId " +
+            "AND s.lotId = :lotId AND s.quantity - s.reservedQuantity >= :quantity")
+    public int withdraw(Long tenantId, String facilityId, String productId, String lotId, long quantity);
+
+    @Modifying
+    @Query("UPDATE StockLevelEntity s SET s.reservedQuantity = s.reservedQuantity - :quantity, " +
+            "s.quantity = s.quantity - :quantity " +
+            "WHERE s.tenantId = :tenantId AND s.facilityId = :facilityId AND s.productId = :productId " +
+            "AND s.lotId = :lotId AND s.reservedQuantity >= :quantity AND s.quantity >= :quantity")
+    public int consume(Long tenantId, String facilityId, String productId, String lotId, long quantity);
+
+    interface ProductQuantity {
+
+        String getProductId();
+
+        String getFacilityId();
+
+        Long getQuantity();
+
+    }
+
+    interface AllocatableLot {
+
+        String getId();
+
+        String getLotId();
+
+        LocalDate getExpirationDate();
+
+        Long getAvailable();
+
+    }
+
+}
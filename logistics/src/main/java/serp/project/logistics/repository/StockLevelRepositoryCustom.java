@@ -0,0 +1,27 @@
+package serp.project.logistics.repository;
+
+import serp.project.logistics.entity.StockLevelEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface StockLevelRepositoryCustom {
+
+    /**
+     * Adds each row's quantity to the stored level for its key, creating the level when it does not exist yet.
+     */
+    public void addQuantities(List<StockLevelEntity> deltas);
+
+    /**
+     * Blocks a concurrent {@link #rebuildFacility} for these facilities until the current transaction ends.
+     */
+    public void lockFacilitiesShared(Long tenantId, Collection<String> facilityIds);
+
+    /**
+     * Replaces the facility's levels with sums over its VALID inventory items and open reservations and returns
+     * the number of levels written. Holds the facility lock exclusively, so in-flight receipts and reservations
+     * finish first and new ones wait.
+     */
+    public int rebuildFacility(Long tenantId, String facilityId);
+
+}
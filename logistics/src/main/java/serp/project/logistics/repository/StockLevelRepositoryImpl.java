@@ -0,0 +1,123 @@
+package serp.project.logistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import serp.project.logistics.constant.InventoryItemStatus;
+import serp.project.logistics.constant.ReservationStatus;
+import serp.project.logistics.entity.StockLevelEntity;
+import serp.project.logistics.util.IdUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+@RequiredArgsConstructor
+public class StockLevelRepositoryImpl implements StockLevelRepositoryCustom {
+
+    private static final String ADD_SQL =
+            "INSERT INTO wms2_stock_level (id, tenant_id, facility_id, product_id, lot_id, quantity, " +
+            "reserved_quantity, expiration_date, last_updated_stamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?) " +
+            "ON CONFLICT (tenant_id, facility_id, product_id, lot_id) DO UPDATE " +
+            "SET quantity = wms2_stock_level.quantity + EXCLUDED.quantity, " +
+            "expiration_date = LEAST(wms2_stock_level.expiration_date, EXCLUDED.expiration_date), " +
+            "last_updated_stamp = EXCLUDED.last_updated_stamp";
+
+    private static final String REPLACE_SQL =
+            "INSERT INTO wms2_stock_level (id, tenant_id, facility_id, product_id, lot_id, quantity, " +
+            "reserved_quantity, expiration_date, last_updated_stamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String DELETE_FACILITY_SQL =
+            "DELETE FROM wms2_stock_level WHERE tenant_id = ? AND facility_id = ?";
+
+    private static final String SUM_ITEMS_SQL =
+            "SELECT product_id, lot_id, SUM(quantity) AS quantity, SUM(reserved_quantity) AS reserved_quantity, " +
+            "MIN(expiration_date) AS expiration_date FROM (" +
+            "SELECT product_id, COALESCE(lot_id, '') AS lot_id, quantity, 0 AS reserved_quantity, expiration_date " +
+            "FROM wms2_inventory_item WHERE tenant_id = ? AND facility_id = ? AND status_id = ? " +
+            "UNION ALL " +
+            "SELECT product_id, lot_id, 0, quantity, NULL " +
+            "FROM wms2_inventory_reservation WHERE tenant_id = ? AND facility_id = ? AND status_id = ?" +
+            ") stock GROUP BY product_id, lot_id";
+
+    private static final String LOCK_SHARED_SQL = "SELECT pg_advisory_xact_lock_shared(hashtextextended(?, 0))";
+
+    private static final String LOCK_EXCLUSIVE_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(?, 0))";
+
+    private static final ResultSetExtractor<Void> IGNORE_RESULT = rs -> null;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addQuantities(List<StockLevelEntity> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ADD_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, IdUtils.generateStockLevelId());
+            ps.setLong(2, delta.getTenantId());
+            ps.setString(3, delta.getFacilityId());
+            ps.setString(4, delta.getProductId());
+            ps.setString(5, StockLevelEntity.lotKey(delta.getLotId()));
+            ps.setLong(6, delta.getQuantity());
+            ps.setObject(7, delta.getExpirationDate());
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    @Override
+    public void lockFacilitiesShared(Long tenantId, Collection<String> facilityIds) {
+        // Sorted so two receipts touching the same facilities always queue in the same order.
+        for (String facilityId : new TreeSet<>(facilityIds)) {
+            jdbcTemplate.query(LOCK_SHARED_SQL, IGNORE_RESULT, lockKey(tenantId, facilityId));
+        }
+    }
+
+    @Override
+    public int rebuildFacility(Long tenantId, String facilityId) {
+        jdbcTemplate.query(LOCK_EXCLUSIVE_SQL, IGNORE_RESULT, lockKey(tenantId, facilityId));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<StockLevelEntity> levels = jdbcTemplate.query(SUM_ITEMS_SQL,
+                (rs, rowNum) -> StockLevelEntity.builder()
+                        .id(IdUtils.generateStockLevelId())
+                        .tenantId(tenantId)
+                        .facilityId(facilityId)
+                        .productId(rs.getString("product_id"))
+                        .lotId(rs.getString("lot_id"))
+                        .quantity(rs.getLong("quantity"))
+                        .reservedQuantity(rs.getLong("reserved_quantity"))
+                        .expirationDate(rs.getObject("expiration_date", LocalDate.class))
+                        .build(),
+                tenantId, facilityId, InventoryItemStatus.VALID.value(),
+                tenantId, facilityId, ReservationStatus.RESERVED.value());
+
+        jdbcTemplate.update(DELETE_FACILITY_SQL, tenantId, facilityId);
+        if (levels.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(REPLACE_SQL, levels, levels.size(), (ps, level) -> {
+            ps.setString(1, level.getId());
+            ps.setLong(2, tenantId);
+            ps.setString(3, facilityId);
+            ps.setString(4, level.getProductId());
+            ps.setString(5, level.getLotId());
+            ps.setLong(6, level.getQuantity());
+            ps.setLong(7, level.getReservedQuantity());
+            ps.setObject(8, level.getExpirationDate());
+            ps.setTimestamp(9, now);
+        });
+        return levels.size();
+    }
+
+    private static String lockKey(Long tenantId, String facilityId) {
+        return "wms2_stock_level:" + tenantId + ":" + facilityId;
+    }
+
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import serp.project.logistics.constant.EntityType;
 import serp.project.logistics.dto.request.AddressCreationForm;
 import serp.project.logistics.dto.request.AddressUpdateForm;
 import serp.project.logistics.entity.AddressEntity;
@@ -20,6 +21,7 @@ import java.util.List;
 public class AddressService {
 
     private final AddressRepository addressRepository;
+    private final FacilityLocatorService facilityLocatorService;
 
     @Transactional(rollbackFor = Exception.class)
     public void createAddress(AddressCreationForm form, Long tenantId) {
@@ -36,6 +38,7 @@ public class AddressService {
                 .tenantId(tenantId)
                 .build();
         addressRepository.save(address);
+        onFacilityAddressChanged(address);
         log.info("[AddressService] Created address {} with ID {} for tenantId: {}", address.getFullAddress(), addressId,
                 tenantId);
     }
@@ -52,6 +55,7 @@ public class AddressService {
         address.setDefault(form.isDefault());
         address.setFullAddress(form.getFullAddress());
         addressRepository.save(address);
+        onFacilityAddressChanged(address);
         log.info("[AddressService] Updated address {} with ID {} for tenantId: {}", address.getFullAddress(), addressId,
                 tenantId);
     }
@@ -67,8 +71,15 @@ public class AddressService {
             throw new AppException(AppErrorCode.NOT_FOUND);
         }
         addressRepository.delete(address);
+        onFacilityAddressChanged(address);
         log.info("[AddressService] Deleted address {} with ID {} for tenantId: {}", address.getFullAddress(), addressId,
                 tenantId);
     }
 
+    private void onFacilityAddressChanged(AddressEntity address) {
+        if (EntityType.FACILITY.value().equals(address.getEntityType())) {
+            facilityLocatorService.invalidate(address.getTenantId());
+        }
+    }
+
 }
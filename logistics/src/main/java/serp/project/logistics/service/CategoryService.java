@@ -2,11 +2,11 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.CategoryForm;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.CategoryEntity;
 import serp.project.logistics.exception.AppErrorCode;
 import serp.project.logistics.exception.AppException;
@@ -57,17 +57,19 @@ public class CategoryService {
         return category;
     }
 
-    public Page<CategoryEntity> getCategories(
+    public PageResponse<CategoryEntity> getCategories(
             String query,
             Long tenantId,
             int page,
             int size,
             String sortBy,
-            String sortDirection) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return categoryRepository.findAll(
+            String sortDirection,
+            PagingMode paging,
+            String cursor) {
+        return PaginationUtils.search(
+                categoryRepository,
                 CategorySpecification.satisfy(query, tenantId),
-                pageable);
+                page, size, sortBy, sortDirection, paging, cursor);
     }
 
 }
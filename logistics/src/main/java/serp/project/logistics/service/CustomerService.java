@@ -2,9 +2,9 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import serp.project.logistics.constant.PagingMode;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.CustomerEntity;
 import serp.project.logistics.repository.CustomerRepository;
 import serp.project.logistics.repository.specification.CustomerSpecification;
@@ -17,16 +17,20 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
 
-    public Page<CustomerEntity> findCustomers(
+    public PageResponse<CustomerEntity> findCustomers(
             String query,
             String statusId,
             Long tenantId,
             int page,
             int size,
             String sortBy,
-            String sortDirection) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return customerRepository.findAll(CustomerSpecification.satisfy(query, statusId, tenantId), pageable);
+            String sortDirection,
+            PagingMode paging,
+            String cursor) {
+        return PaginationUtils.search(
+                customerRepository,
+                CustomerSpecification.satisfy(query, statusId, tenantId),
+                page, size, sortBy, sortDirection, paging, cursor);
     }
 
     public CustomerEntity getCustomer(String customerId, Long tenantId) {
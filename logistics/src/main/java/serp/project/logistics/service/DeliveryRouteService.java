@@ -0,0 +1,252 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import serp.project.logistics.constant.DeliveryStatus;
+import serp.project.logistics.constant.EntityType;
+import serp.project.logistics.dto.request.RoutePlanningForm;
+import serp.project.logistics.entity.AddressEntity;
+import serp.project.logistics.entity.DeliveryBillEntity;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.repository.AddressRepository;
+import serp.project.logistics.repository.DeliveryBillRepository;
+import serp.project.logistics.util.GeoUtils;
+import serp.project.logistics.util.RouteSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeliveryRouteService {
+
+    private static final int CACHED_MATRICES = 16;
+
+    private final DeliveryBillRepository deliveryBillRepository;
+    private final AddressRepository addressRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<MatrixKey, float[][]> matrixCache = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<MatrixKey, float[][]> eldest) {
+            return size() > CACHED_MATRICES;
+        }
+    };
+
+    @Value("${app.route-planning.time-limit-ms:3000}")
+    private long defaultTimeLimitMillis;
+
+    @Value("${app.route-planning.max-time-limit-ms:10000}")
+    private long maxTimeLimitMillis;
+
+    @Value("${app.route-planning.threads:0}")
+    private int threads;
+
+    /**
+     * Sequences the facility's pending delivery bills into capacity-bound routes and stores each bill's place as
+     * {@code sequenceId = <route>-<stop>}, both zero-padded so the ids sort in delivery order. Bills whose
+     * customer has no address, or whose weight alone exceeds the vehicle capacity, are left unsequenced.
+     * The solve runs outside any transaction; bills that left PENDING while it ran are skipped on write.
+     */
+    public RoutePlan planRoutes(RoutePlanningForm form, Long tenantId) {
+        if (form.getFacilityId() == null || form.getVehicleCapacity() <= 0) {
+            log.error("[DeliveryRouteService] Route planning needs a facility and a positive vehicle capacity, got {}",
+                    form);
+            throw new AppException(AppErrorCode.INVALID_ROUTE_PLANNING_REQUEST);
+        }
+        String facilityId = form.getFacilityId();
+        TransactionTemplate readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        PlanningInput input = readTemplate.execute(status -> loadInput(facilityId, tenantId));
+        if (input.depot() == null) {
+            log.error("[DeliveryRouteService] Facility {} has no address for tenant {}", facilityId, tenantId);
+            throw new AppException(AppErrorCode.NOT_FOUND);
+        }
+
+        List<DeliveryBillEntity> routable = new ArrayList<>(input.bills().size());
+        List<String> unrouted = new ArrayList<>();
+        for (DeliveryBillEntity bill : input.bills()) {
+            if (input.customerAddresses().containsKey(bill.getToCustomerId())
+                    && bill.getTotalWeight() <= form.getVehicleCapacity()) {
+                routable.add(bill);
+            } else {
+                unrouted.add(bill.getId());
+            }
+        }
+
+        int size = routable.size() + 1;
+        float[] latitudes = new float[size];
+        float[] longitudes = new float[size];
+        double[] demand = new double[size];
+        latitudes[0] = input.depot().getLatitude();
+        longitudes[0] = input.depot().getLongitude();
+        for (int i = 1; i < size; i++) {
+            DeliveryBillEntity bill = routable.get(i - 1);
+            AddressEntity address = input.customerAddresses().get(bill.getToCustomerId());
+            latitudes[i] = address.getLatitude();
+            longitudes[i] = address.getLongitude();
+            demand[i] = bill.getTotalWeight();
+        }
+
+        RouteSolver solver = new RouteSolver(distanceMatrix(latitudes, longitudes), demand,
+                form.getVehicleCapacity());
+        long requested = form.getTimeLimitMillis() != null ? form.getTimeLimitMillis() : defaultTimeLimitMillis;
+        long timeLimit = Math.clamp(requested, 0L, maxTimeLimitMillis);
+        List<int[]> solved;
+        try {
+            solved = solver.solve(timeLimit,
+                    threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(AppErrorCode.UNEXPECTED_EXCEPTION);
+        }
+
+        Map<String, String> sequenceIds = new HashMap<>();
+        for (String billId : unrouted) {
+            sequenceIds.put(billId, null);
+        }
+        List<Route> routes = new ArrayList<>(solved.size());
+        double totalDistance = 0;
+        for (int r = 0; r < solved.size(); r++) {
+            int[] stops = solved.get(r);
+            List<String> billIds = new ArrayList<>(stops.length);
+            double load = 0;
+            for (int s = 0; s < stops.length; s++) {
+                DeliveryBillEntity bill = routable.get(stops[s] - 1);
+                sequenceIds.put(bill.getId(), String.format("%03d-%04d", r + 1, s + 1));
+                billIds.add(bill.getId());
+                load += demand[stops[s]];
+            }
+            double distance = solver.routeDistance(stops);
+            totalDistance += distance;
+            routes.add(new Route(r + 1, load, distance, billIds));
+        }
+
+        Set<String> skipped = new TransactionTemplate(transactionManager)
+                .execute(status -> writeSequence(sequenceIds, facilityId, tenantId));
+        if (!skipped.isEmpty()) {
+            routes = routes.stream()
+                    .map(route -> new Route(route.routeNumber(), route.load(), route.distanceKm(),
+                            route.deliveryBillIds().stream().filter(id -> !skipped.contains(id)).toList()))
+                    .toList();
+            unrouted.removeAll(skipped);
+        }
+        log.info("[DeliveryRouteService] Planned {} routes over {} delivery bills ({} km) at facility {} for tenant {}",
+                routes.size(), routable.size(), Math.round(totalDistance), facilityId, tenantId);
+        return new RoutePlan(facilityId, totalDistance, routes, unrouted, List.copyOf(skipped));
+    }
+
+    private PlanningInput loadInput(String facilityId, Long tenantId) {
+        AddressEntity depot = pickAddress(addressRepository.findByTenantIdAndEntityTypeAndEntityIdIn(tenantId,
+                EntityType.FACILITY.value(), List.of(facilityId)));
+        List<DeliveryBillEntity> bills = deliveryBillRepository.findByTenantIdAndFacilityIdAndDeliveryStatusId(
+                tenantId, facilityId, DeliveryStatus.PENDING.value());
+        bills.sort(Comparator.comparing(DeliveryBillEntity::getId));
+        Set<String> customerIds = bills.stream().map(DeliveryBillEntity::getToCustomerId).collect(Collectors.toSet());
+        Map<String, AddressEntity> customerAddresses = addressRepository
+                .findByTenantIdAndEntityTypeAndEntityIdIn(tenantId, EntityType.CUSTOMER.value(), customerIds).stream()
+                .collect(Collectors.groupingBy(AddressEntity::getEntityId)).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> pickAddress(entry.getValue())));
+        return new PlanningInput(depot, bills, customerAddresses);
+    }
+
+    /**
+     * Writes the planned sequence onto bills that are still PENDING at this facility and returns the ids of the
+     * ones that are not, which keep whatever sequence they had.
+     */
+    private Set<String> writeSequence(Map<String, String> sequenceIds, String facilityId, Long tenantId) {
+        List<DeliveryBillEntity> bills = deliveryBillRepository.findAllById(sequenceIds.keySet());
+        Set<String> skipped = new HashSet<>(sequenceIds.keySet());
+        List<DeliveryBillEntity> updated = new ArrayList<>(bills.size());
+        for (DeliveryBillEntity bill : bills) {
+            if (tenantId.equals(bill.getTenantId()) && facilityId.equals(bill.getFacilityId())
+                    && DeliveryStatus.PENDING.value().equals(bill.getDeliveryStatusId())) {
+                bill.setSequenceId(sequenceIds.get(bill.getId()));
+                updated.add(bill);
+                skipped.remove(bill.getId());
+            }
+        }
+        deliveryBillRepository.saveAll(updated);
+        if (!skipped.isEmpty()) {
+            log.info("[DeliveryRouteService] Skipped {} delivery bills that left PENDING during planning at " +
+                    "facility {} for tenant {}", skipped.size(), facilityId, tenantId);
+        }
+        return skipped;
+    }
+
+    private float[][] distanceMatrix(float[] latitudes, float[] longitudes) {
+        MatrixKey key = new MatrixKey(latitudes, longitudes);
+        synchronized (matrixCache) {
+            float[][] cached = matrixCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        float[][] matrix = GeoUtils.distanceMatrix(latitudes, longitudes);
+        synchronized (matrixCache) {
+            matrixCache.put(key, matrix);
+        }
+        return matrix;
+    }
+
+    private static AddressEntity pickAddress(List<AddressEntity> addresses) {
+        return addresses.stream()
+                .filter(AddressEntity::isDefault)
+                .findFirst()
+                .orElse(addresses.isEmpty() ? null : addresses.getFirst());
+    }
+
+    public record Route(int routeNumber, double load, double distanceKm, List<String> deliveryBillIds) {
+    }
+
+    public record RoutePlan(String facilityId, double totalDistanceKm, List<Route> routes,
+            List<String> unroutedDeliveryBillIds, List<String> skippedDeliveryBillIds) {
+    }
+
+    private record PlanningInput(AddressEntity depot, List<DeliveryBillEntity> bills,
+            Map<String, AddressEntity> customerAddresses) {
+    }
+
+    /**
+     * Stop coordinates in matrix order; a plan over the same stops reuses the matrix instead of recomputing
+     * every haversine pair.
+     */
+    private static final class MatrixKey {
+
+        private final float[] latitudes;
+        private final float[] longitudes;
+        private final int hash;
+
+        MatrixKey(float[] latitudes, float[] longitudes) {
+            this.latitudes = latitudes.clone();
+            this.longitudes = longitudes.clone();
+            this.hash = 31 * Arrays.hashCode(latitudes) + Arrays.hashCode(longitudes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof MatrixKey key && hash == key.hash
+                    && Arrays.equals(latitudes, key.latitudes) && Arrays.equals(longitudes, key.longitudes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import serp.project.logistics.constant.EntityType;
+import serp.project.logistics.constant.FacilityStatus;
+import serp.project.logistics.entity.AddressEntity;
+import serp.project.logistics.entity.FacilityEntity;
+import serp.project.logistics.repository.AddressRepository;
+import serp.project.logistics.repository.FacilityRepository;
+import serp.project.logistics.util.SpatialIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-tenant spatial index over the addresses of active facilities. A tenant's index is built from two queries
+ * on first use and dropped whenever one of its facilities or facility addresses is written, so the next lookup
+ * rebuilds it from committed data. Writes made through another instance are picked up once
+ * {@code app.facility-locator.ttl-seconds} pass.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityLocatorService {
+
+    private final FacilityRepository facilityRepository;
+    private final AddressRepository addressRepository;
+
+    private final Map<Long, CachedIndex> indexes = new ConcurrentHashMap<>();
+
+    @Value("${app.facility-locator.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public List<SpatialIndex.Neighbour<FacilityLocation>> findNearest(
+            double latitude,
+            double longitude,
+            int limit,
+            Long tenantId) {
+        return getIndex(tenantId).nearest(latitude, longitude, limit);
+    }
+
+    public List<SpatialIndex.Neighbour<FacilityLocation>> findWithinRadius(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Long tenantId) {
+        return getIndex(tenantId).withinRadius(latitude, longitude, radiusKm);
+    }
+
+    public void invalidate(Long tenantId) {
+        indexes.remove(tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    indexes.remove(tenantId);
+                }
+            });
+        }
+    }
+
+    private SpatialIndex<FacilityLocation> getIndex(Long tenantId) {
+        long now = System.nanoTime();
+        CachedIndex cached = indexes.get(tenantId);
+        if (isFresh(cached, now)) {
+            return cached.index();
+        }
+        // Stamped with the time the build started, so a build that raced an invalidation expires on schedule
+        return indexes.compute(tenantId, (id, current) -> isFresh(current, now)
+                        ? current
+                        : new CachedIndex(buildIndex(id), now))
+                .index();
+    }
+
+    private boolean isFresh(CachedIndex cached, long now) {
+        return cached != null && now - cached.loadedAt() < ttlSeconds * 1_000_000_000L;
+    }
+
+    private SpatialIndex<FacilityLocation> buildIndex(Long tenantId) {
+        Map<String, FacilityEntity> facilities = facilityRepository
+                .findByTenantIdAndStatusId(tenantId, FacilityStatus.ACTIVE.value()).stream()
+                .collect(Collectors.toMap(FacilityEntity::getId, Function.identity()));
+        Map<String, AddressEntity> addresses = addressRepository
+                .findByTenantIdAndEntityType(tenantId, EntityType.FACILITY.value()).stream()
+                .filter(address -> facilities.containsKey(address.getEntityId()))
+                .collect(Collectors.toMap(AddressEntity::getEntityId, Function.identity(),
+                        (first, second) -> second.isDefault() && !first.isDefault() ? second : first));
+
+        List<FacilityLocation> locations = new ArrayList<>(addresses.size());
+        for (AddressEntity address : addresses.values()) {
+            FacilityEntity facility = facilities.get(address.getEntityId());
+            locations.add(new FacilityLocation(facility.getId(), facility.getName(), address.getId(),
+                    address.getFullAddress(), address.getLatitude(), address.getLongitude()));
+        }
+        locations.sort(Comparator.comparing(FacilityLocation::facilityId));
+        log.info("[FacilityLocatorService] Indexed {} of {} active facilities for tenant {}", locations.size(),
+                facilities.size(), tenantId);
+        return new SpatialIndex<>(locations, FacilityLocation::latitude, FacilityLocation::longitude);
+    }
+
+    private record CachedIndex(SpatialIndex<FacilityLocation> index, long loadedAt) {
+    }
+
+    public record FacilityLocation(
+            String facilityId,
+            String name,
+            String addressId,
+            String fullAddress,
+            double latitude,
+            double longitude) {
+    }
+
+}
@@ -2,14 +2,14 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import serp.project.logistics.constant.EntityType;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.AddressCreationForm;
 import serp.project.logistics.dto.request.FacilityCreationForm;
 import serp.project.logistics.dto.request.FacilityUpdateForm;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.FacilityEntity;
 import serp.project.logistics.exception.AppErrorCode;
 import serp.project.logistics.exception.AppException;
@@ -25,6 +25,7 @@ public class FacilityService {
 
         private final FacilityRepository facilityRepository;
         private final AddressService addressService;
+        private final FacilityLocatorService facilityLocatorService;
 
         @Transactional(rollbackFor = Exception.class)
         public void createFacility(FacilityCreationForm form, Long tenantId) {
@@ -75,25 +76,28 @@ public class FacilityService {
                 facility.setWidth(form.getWidth());
                 facility.setHeight(form.getHeight());
                 facilityRepository.save(facility);
+                facilityLocatorService.invalidate(tenantId);
                 log.info("[FacilityService] Updated facility {} with ID {} for tenantId {}", form.getName(), facilityId,
                                 tenantId);
         }
 
-        public Page<FacilityEntity> findFacilities(
+        public PageResponse<FacilityEntity> findFacilities(
                         String query,
                         String statusId,
                         Long tenantId,
                         int page,
                         int size,
                         String sortBy,
-                        String sortDirection) {
-                Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-                return facilityRepository.findAll(
+                        String sortDirection,
+                        PagingMode paging,
+                        String cursor) {
+                return PaginationUtils.search(
+                                facilityRepository,
                                 FacilitySpecification.satisfy(
                                                 query,
                                                 statusId,
                                                 tenantId),
-                                pageable);
+                                page, size, sortBy, sortDirection, paging, cursor);
         }
 
         public FacilityEntity getFacility(String facilityId, Long tenantId) {
@@ -13,7 +13,11 @@ import serp.project.logistics.exception.AppException;
 import serp.project.logistics.repository.InventoryItemDetailRepository;
 import serp.project.logistics.util.IdUtils;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -35,9 +39,43 @@ public class InventoryItemDetailService {
             throw new AppException(AppErrorCode.NOT_FOUND);
         }
 
-        String itemId = IdUtils.generateInventoryItemDetailId();
-        InventoryItemDetailEntity entity = InventoryItemDetailEntity.builder()
-                .id(itemId)
+        inventoryItemDetailRepository.save(toEntity(shipmentId, form, product, tenantId));
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public void createInventoryItemDetails(
+            String shipmentId,
+            List<ShipmentCreationForm.InventoryItemDetail> forms,
+            Long tenantId) {
+        if (forms.isEmpty()) {
+            return;
+        }
+        Set<String> productIds = new LinkedHashSet<>();
+        for (ShipmentCreationForm.InventoryItemDetail form : forms) {
+            productIds.add(form.getProductId());
+        }
+        Map<String, ProductEntity> products = productService.getProducts(productIds, tenantId);
+
+        List<InventoryItemDetailEntity> entities = new ArrayList<>(forms.size());
+        for (ShipmentCreationForm.InventoryItemDetail form : forms) {
+            ProductEntity product = products.get(form.getProductId());
+            if (product == null) {
+                log.info("[InventoryItemDetailService] Product ID {} not found for tenant {}", form.getProductId(),
+                        tenantId);
+                throw new AppException(AppErrorCode.NOT_FOUND);
+            }
+            entities.add(toEntity(shipmentId, form, product, tenantId));
+        }
+        inventoryItemDetailRepository.saveAll(entities);
+    }
+
+    private InventoryItemDetailEntity toEntity(
+            String shipmentId,
+            ShipmentCreationForm.InventoryItemDetail form,
+            ProductEntity product,
+            Long tenantId) {
+        return InventoryItemDetailEntity.builder()
+                .id(IdUtils.generateInventoryItemDetailId())
                 .productId(form.getProductId())
                 .quantity(form.getQuantity())
                 .shipmentId(shipmentId)
@@ -51,8 +89,6 @@ public class InventoryItemDetailService {
                 .price(product.getCostPrice())
                 .tenantId(tenantId)
                 .build();
-        inventoryItemDetailRepository.save(entity);
-
     }
 
     @Transactional(rollbackFor = Exception.class)
@@ -2,13 +2,15 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import serp.project.logistics.constant.InventoryItemStatus;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.InventoryItemCreationForm;
 import serp.project.logistics.dto.request.InventoryItemUpdateForm;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.InventoryItemDetailEntity;
 import serp.project.logistics.entity.InventoryItemEntity;
 import serp.project.logistics.exception.AppErrorCode;
@@ -19,6 +21,8 @@ import serp.project.logistics.util.IdUtils;
 import serp.project.logistics.util.PaginationUtils;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -26,27 +30,40 @@ import java.time.LocalDate;
 public class InventoryItemService {
 
     private final InventoryItemRepository inventoryItemRepository;
+    private final StockLevelService stockLevelService;
 
     @Transactional(rollbackFor = Exception.class)
-    public void createInventoryItem(InventoryItemDetailEntity item) {
-        String inventoryItemId = IdUtils.generateInventoryItemId();
-        InventoryItemEntity inventoryItem = InventoryItemEntity.builder()
-                .id(inventoryItemId)
+    public void createInventoryItems(List<InventoryItemDetailEntity> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<InventoryItemEntity> inventoryItems = new ArrayList<>(items.size());
+        LocalDate receivedDate = LocalDate.now();
+        for (InventoryItemDetailEntity item : items) {
+            inventoryItems.add(toInventoryItem(item, receivedDate));
+        }
+        inventoryItemRepository.saveAll(inventoryItems);
+        stockLevelService.onItemsReceived(inventoryItems);
+        log.info("[InventoryItemService] Created {} inventory items for shipment {}", inventoryItems.size(),
+                items.getFirst().getShipmentId());
+    }
+
+    private InventoryItemEntity toInventoryItem(InventoryItemDetailEntity item, LocalDate receivedDate) {
+        return InventoryItemEntity.builder()
+                .id(IdUtils.generateInventoryItemId())
                 .productId(item.getProductId())
                 .quantity(item.getQuantity())
                 .facilityId(item.getFacilityId())
                 .lotId(item.getLotId())
                 .expirationDate(item.getExpirationDate())
                 .manufacturingDate(item.getManufacturingDate())
-                .statusId("VALID")
-                .receivedDate(LocalDate.now())
+                .statusId(InventoryItemStatus.VALID.value())
+                .receivedDate(receivedDate)
                 .tenantId(item.getTenantId())
                 .build();
-        inventoryItemRepository.save(inventoryItem);
-        log.info("[InventoryItemService] Created inventory item with ID {} for product ID: {}", inventoryItemId,
-                item.getProductId());
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void createInventoryItem(InventoryItemCreationForm form, Long tenantId) {
         String inventoryItemId = IdUtils.generateInventoryItemId();
         InventoryItemEntity inventoryItem = InventoryItemEntity.builder()
@@ -56,23 +73,33 @@ public class InventoryItemService {
                 .facilityId(form.getFacilityId())
                 .expirationDate(form.getExpirationDate())
                 .manufacturingDate(form.getManufacturingDate())
-                .statusId("VALID")
+                .statusId(InventoryItemStatus.VALID.value())
                 .tenantId(tenantId)
                 .build();
         inventoryItemRepository.save(inventoryItem);
+        stockLevelService.onItemsReceived(List.of(inventoryItem));
         log.info("[InventoryItemService] Created inventory item with ID {} for product ID: {}", inventoryItemId,
                 form.getProductId());
     }
 
+    @Transactional(rollbackFor = Exception.class)
     public void updateInventoryItem(String id, InventoryItemUpdateForm form, Long tenantId) {
         InventoryItemEntity inventoryItem = getInventoryItem(id, tenantId);
+        int previousQuantity = inventoryItem.getQuantity();
+        String previousStatusId = inventoryItem.getStatusId();
 
         inventoryItem.setQuantity(form.getQuantity());
         inventoryItem.setExpirationDate(form.getExpirationDate());
         inventoryItem.setManufacturingDate(form.getManufacturingDate());
         inventoryItem.setStatusId(form.getStatusId());
 
-        inventoryItemRepository.save(inventoryItem);
+        try {
+            inventoryItemRepository.saveAndFlush(inventoryItem);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.error("[InventoryItemService] Inventory item {} was changed concurrently, rejecting the update", id);
+            throw new AppException(AppErrorCode.CONCURRENT_MODIFICATION);
+        }
+        stockLevelService.onItemChanged(inventoryItem, previousQuantity, previousStatusId);
         log.info("[InventoryItemService] Updated inventory item with ID {}", id);
     }
 
@@ -85,7 +112,7 @@ public class InventoryItemService {
         return inventoryItem;
     }
 
-    public Page<InventoryItemEntity> getInventoryItems(
+    public PageResponse<InventoryItemEntity> getInventoryItems(
             String query,
             String productId,
             String facilityId,
@@ -98,10 +125,12 @@ public class InventoryItemService {
             int page,
             int size,
             String sortBy,
-            String sortDirection
+            String sortDirection,
+            PagingMode paging,
+            String cursor
     ) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return inventoryItemRepository.findAll(
+        return PaginationUtils.search(
+                inventoryItemRepository,
                 InventoryItemSpecification.satisfy(
                         query,
                         productId,
@@ -113,7 +142,7 @@ public class InventoryItemService {
                         statusId,
                         tenantId
                 ),
-                pageable
+                page, size, sortBy, sortDirection, paging, cursor
         );
     }
 
@@ -0,0 +1,284 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import serp.project.logistics.constant.InventoryItemStatus;
+import serp.project.logistics.constant.OrderStatus;
+import serp.project.logistics.constant.ReservationStatus;
+import serp.project.logistics.entity.InventoryItemEntity;
+import serp.project.logistics.entity.InventoryReservationEntity;
+import serp.project.logistics.entity.OrderItemEntity;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.repository.InventoryItemRepository;
+import serp.project.logistics.repository.InventoryReservationRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.StockLevelRepository;
+import serp.project.logistics.util.IdUtils;
+import serp.project.logistics.util.StripedLock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Holds stock of an approved order against the stock level projection, lot by lot in first-expiring-first-out
+ * order. Every change to a level is a conditional update, so two allocations can never reserve the same unit
+ * even across service instances. Within one instance, allocations of the same (facility, product) also queue on
+ * a striped lock until their transaction ends, so they read levels that the previous allocation already
+ * committed instead of failing and retrying against them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryReservationService {
+
+    private static final int LOCK_STRIPES = 256;
+    private static final int ALLOCATION_ATTEMPTS = 3;
+
+    private final InventoryReservationRepository reservationRepository;
+    private final StockLevelRepository stockLevelRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final LotIndexService lotIndexService;
+
+    private final StripedLock skuLocks = new StripedLock(LOCK_STRIPES);
+
+    @Transactional(rollbackFor = Exception.class)
+    public List<InventoryReservationEntity> reserve(String orderId, String facilityId, Long tenantId) {
+        String orderStatus = orderRepository.getOrderStatus(orderId, tenantId);
+        if (orderStatus == null) {
+            log.error("[InventoryReservationService] Order {} not found for tenant {}", orderId, tenantId);
+            throw new AppException(AppErrorCode.NOT_FOUND);
+        }
+        if (!orderStatus.equals(OrderStatus.APPROVED.value())) {
+            log.error("[InventoryReservationService] Cannot reserve stock for order {} with status {} for tenant {}",
+                    orderId, orderStatus, tenantId);
+            throw new AppException(AppErrorCode.ORDER_NOT_APPROVED_YET);
+        }
+        List<InventoryReservationEntity> existing = reservationRepository.findByTenantIdAndOrderIdAndStatusId(
+                tenantId, orderId, ReservationStatus.RESERVED.value());
+        if (!existing.isEmpty()) {
+            log.info("[InventoryReservationService] Order {} already holds {} reservations for tenant {}", orderId,
+                    existing.size(), tenantId);
+            return existing;
+        }
+        List<OrderItemEntity> orderItems = orderItemRepository.findByTenantIdAndOrderId(tenantId, orderId);
+        if (orderItems.isEmpty()) {
+            log.error("[InventoryReservationService] No order items found for order {} and tenant {}", orderId,
+                    tenantId);
+            throw new AppException(AppErrorCode.NOT_FOUND);
+        }
+
+        List<String> skuKeys = orderItems.stream()
+                .map(orderItem -> skuKey(tenantId, facilityId, orderItem.getProductId()))
+                .toList();
+        return withSkuLocks(skuKeys, () -> {
+            stockLevelRepository.lockFacilitiesShared(tenantId, List.of(facilityId));
+            List<InventoryReservationEntity> reservations = new ArrayList<>();
+            for (OrderItemEntity orderItem : orderItems) {
+                allocate(orderItem, facilityId, tenantId, reservations);
+            }
+            reservationRepository.saveAll(reservations);
+            lotIndexService.invalidate(tenantId, facilityId,
+                    orderItems.stream().map(OrderItemEntity::getProductId).toList());
+            log.info("[InventoryReservationService] Reserved {} lots for order {} at facility {} for tenant {}",
+                    reservations.size(), orderId, facilityId, tenantId);
+            return reservations;
+        });
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public int release(String orderId, Long tenantId) {
+        List<InventoryReservationEntity> reservations = reservationRepository.findByTenantIdAndOrderIdAndStatusId(
+                tenantId, orderId, ReservationStatus.RESERVED.value());
+        if (reservations.isEmpty()) {
+            return 0;
+        }
+        return withSkuLocks(skuKeys(reservations), () -> {
+            lockFacilities(reservations);
+            for (InventoryReservationEntity reservation : reservations) {
+                int updated = stockLevelRepository.release(tenantId, reservation.getFacilityId(),
+                        reservation.getProductId(), reservation.getLotId(), reservation.getQuantity());
+                if (updated == 0) {
+                    log.warn("[InventoryReservationService] Stock level for reservation {} holds less than {} units",
+                            reservation.getId(), reservation.getQuantity());
+                }
+                reservation.setStatusId(ReservationStatus.RELEASED.value());
+            }
+            reservationRepository.saveAll(reservations);
+            invalidateLots(reservations);
+            log.info("[InventoryReservationService] Released {} reservations of order {} for tenant {}",
+                    reservations.size(), orderId, tenantId);
+            return reservations.size();
+        });
+    }
+
+    /**
+     * Turns the order's reservations into stock leaving the facility: the reserved units are removed from both
+     * the stock level and the reserved lot's inventory items.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int commit(String orderId, Long tenantId) {
+        List<InventoryReservationEntity> reservations = reservationRepository.findByTenantIdAndOrderIdAndStatusId(
+                tenantId, orderId, ReservationStatus.RESERVED.value());
+        if (reservations.isEmpty()) {
+            log.error("[InventoryReservationService] No open reservations for order {} and tenant {}", orderId,
+                    tenantId);
+            throw new AppException(AppErrorCode.NOT_FOUND);
+        }
+        return withSkuLocks(skuKeys(reservations), () -> {
+            lockFacilities(reservations);
+            for (InventoryReservationEntity reservation : reservations) {
+                int updated = stockLevelRepository.consume(tenantId, reservation.getFacilityId(),
+                        reservation.getProductId(), reservation.getLotId(), reservation.getQuantity());
+                if (updated == 0) {
+                    log.error("[InventoryReservationService] Stock level for reservation {} cannot cover {} units",
+                            reservation.getId(), reservation.getQuantity());
+                    throw new AppException(AppErrorCode.INSUFFICIENT_STOCK);
+                }
+                consumeItems(reservation);
+                reservation.setStatusId(ReservationStatus.COMMITTED.value());
+            }
+            reservationRepository.saveAll(reservations);
+            invalidateLots(reservations);
+            log.info("[InventoryReservationService] Committed {} reservations of order {} for tenant {}",
+                    reservations.size(), orderId, tenantId);
+            return reservations.size();
+        });
+    }
+
+    public List<InventoryReservationEntity> getReservations(String orderId, Long tenantId) {
+        return reservationRepository.findByTenantIdAndOrderId(tenantId, orderId);
+    }
+
+    private void allocate(
+            OrderItemEntity orderItem,
+            String facilityId,
+            Long tenantId,
+            List<InventoryReservationEntity> reservations) {
+        long remaining = orderItem.getQuantity();
+        for (int attempt = 0; remaining > 0 && attempt < ALLOCATION_ATTEMPTS; attempt++) {
+            List<StockLevelRepository.AllocatableLot> lots = stockLevelRepository.findAllocatableLots(
+                    tenantId, facilityId, orderItem.getProductId());
+            if (lots.isEmpty()) {
+                break;
+            }
+            for (StockLevelRepository.AllocatableLot lot : lots) {
+                long take = Math.min(remaining, lot.getAvailable());
+                if (stockLevelRepository.reserve(lot.getId(), take) == 0) {
+                    // Another instance reserved from this lot after it was read; read the lots again.
+                    break;
+                }
+                reservations.add(InventoryReservationEntity.builder()
+                        .id(IdUtils.generateReservationId())
+                        .orderId(orderItem.getOrderId())
+                        .orderItemId(orderItem.getId())
+                        .facilityId(facilityId)
+                        .productId(orderItem.getProductId())
+                        .lotId(lot.getLotId())
+                        .expirationDate(lot.getExpirationDate())
+                        .quantity(take)
+                        .statusId(ReservationStatus.RESERVED.value())
+                        .tenantId(tenantId)
+                        .build());
+                remaining -= take;
+                if (remaining == 0) {
+                    break;
+                }
+            }
+        }
+        if (remaining > 0) {
+            log.warn("[InventoryReservationService] Product {} at facility {} is short of {} units for order item {}",
+                    orderItem.getProductId(), facilityId, remaining, orderItem.getId());
+            throw new AppException(AppErrorCode.INSUFFICIENT_STOCK);
+        }
+    }
+
+    private void consumeItems(InventoryReservationEntity reservation) {
+        long remaining = reservation.getQuantity();
+        List<InventoryItemEntity> items = inventoryItemRepository.findConsumable(reservation.getTenantId(),
+                reservation.getFacilityId(), reservation.getProductId(), reservation.getLotId(),
+                InventoryItemStatus.VALID.value());
+        for (InventoryItemEntity item : items) {
+            int take = (int) Math.min(remaining, item.getQuantity());
+            if (inventoryItemRepository.consume(item.getId(), take) == 1) {
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return;
+            }
+        }
+        log.error("[InventoryReservationService] Inventory items of lot {} cannot cover reservation {}",
+                reservation.getLotId(), reservation.getId());
+        throw new AppException(AppErrorCode.INSUFFICIENT_STOCK);
+    }
+
+    private void lockFacilities(List<InventoryReservationEntity> reservations) {
+        stockLevelRepository.lockFacilitiesShared(reservations.getFirst().getTenantId(),
+                reservations.stream().map(InventoryReservationEntity::getFacilityId).distinct().toList());
+    }
+
+    private void invalidateLots(List<InventoryReservationEntity> reservations) {
+        reservations.stream()
+                .collect(Collectors.groupingBy(InventoryReservationEntity::getFacilityId,
+                        Collectors.mapping(InventoryReservationEntity::getProductId, Collectors.toList())))
+                .forEach((facilityId, productIds) -> lotIndexService.invalidate(
+                        reservations.getFirst().getTenantId(), facilityId, productIds));
+    }
+
+    /**
+     * Runs the body holding the stripes of the given keys. Inside a transaction the stripes are kept until it
+     * completes, so the next allocation of the same product only starts once this one is visible.
+     */
+    private <T> T withSkuLocks(List<String> skuKeys, Supplier<T> body) {
+        List<ReentrantLock> locks = skuLocks.stripesFor(skuKeys);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            return body.get();
+        } finally {
+            if (!deferUnlock(locks)) {
+                unlock(locks);
+            }
+        }
+    }
+
+    private static boolean deferUnlock(List<ReentrantLock> locks) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                unlock(locks);
+            }
+        });
+        return true;
+    }
+
+    private static void unlock(List<ReentrantLock> locks) {
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+    }
+
+    private static List<String> skuKeys(List<InventoryReservationEntity> reservations) {
+        return reservations.stream()
+                .map(reservation -> skuKey(reservation.getTenantId(), reservation.getFacilityId(),
+                        reservation.getProductId()))
+                .toList();
+    }
+
+    private static String skuKey(Long tenantId, String facilityId, String productId) {
+        return tenantId + ":" + facilityId + ":" + productId;
+    }
+
+}
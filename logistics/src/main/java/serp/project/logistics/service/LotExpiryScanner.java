@@ -0,0 +1,67 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import serp.project.logistics.entity.StockLevelEntity;
+import serp.project.logistics.repository.StockLevelRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flags lots of every tenant that expire within {@code app.lot-expiry.warning-days}. Lots are walked in
+ * (expiration date, id) order through the partial index idx_wms2_stock_level_unflagged_expiry, one chunk per
+ * query. Flagged lots drop out of that index, so a run reads only lots still waiting for an alert rather than the
+ * table's whole expiry history, and each chunk resumes where the previous one stopped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LotExpiryScanner {
+
+    private final StockLevelRepository stockLevelRepository;
+
+    @Value("${app.lot-expiry.warning-days:30}")
+    private int warningDays;
+
+    @Value("${app.lot-expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${app.lot-expiry.cron:0 0 2 * * *}")
+    public void scheduledScan() {
+        scan(LocalDate.now().plusDays(warningDays));
+    }
+
+    /**
+     * Stamps every unflagged lot expiring on or before the cutoff and returns how many were flagged.
+     */
+    public int scan(LocalDate cutoff) {
+        LocalDateTime stamp = LocalDateTime.now();
+        Limit limit = Limit.of(chunkSize);
+        int flagged = 0;
+        List<StockLevelEntity> chunk = stockLevelRepository.findUnflaggedExpiring(cutoff, limit);
+        while (!chunk.isEmpty()) {
+            flagged += stockLevelRepository.markExpiryAlerted(
+                    chunk.stream().map(StockLevelEntity::getId).toList(), stamp);
+            for (StockLevelEntity level : chunk) {
+                log.warn("[LotExpiryScanner] Lot {} of product {} at facility {} expires on {} with {} units " +
+                                "for tenant {}", level.getLotId(), level.getProductId(), level.getFacilityId(),
+                        level.getExpirationDate(), level.getQuantity(), level.getTenantId());
+            }
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            StockLevelEntity last = chunk.getLast();
+            chunk = stockLevelRepository.findUnflaggedExpiringAfter(cutoff, last.getExpirationDate(), last.getId(),
+                    limit);
+        }
+        log.info("[LotExpiryScanner] Flagged {} lots expiring by {}", flagged, cutoff);
+        return flagged;
+    }
+
+}
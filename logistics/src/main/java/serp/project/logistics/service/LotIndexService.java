@@ -0,0 +1,154 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import serp.project.logistics.dto.request.PickSuggestionForm;
+import serp.project.logistics.entity.StockLevelEntity;
+import serp.project.logistics.repository.StockLevelRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Lots of a product at a facility ordered by expiration, first-expiring first and lots without an expiration
+ * date last. Each (facility, product) is loaded from the stock level projection once and kept as an immutable
+ * sorted set until a writer touches it or {@code app.lot-index.ttl-seconds} pass.
+ */
+@Service
+@RequiredArgsConstructor
+public class LotIndexService {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private static final Comparator<Lot> FEFO = Comparator
+            .comparing(Lot::expirationDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Lot::lotId);
+
+    private final StockLevelRepository stockLevelRepository;
+
+    private final Map<LotKey, CachedLots> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LotKey, CachedLots> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    @Value("${app.lot-index.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    public NavigableSet<Lot> getLots(String productId, String facilityId, Long tenantId) {
+        LotKey key = new LotKey(tenantId, facilityId, productId);
+        long now = System.nanoTime();
+        synchronized (cache) {
+            CachedLots cached = cache.get(key);
+            if (cached != null && now - cached.loadedAt() < ttlSeconds * 1_000_000_000L) {
+                return cached.lots();
+            }
+        }
+
+        NavigableSet<Lot> lots = new TreeSet<>(FEFO);
+        for (StockLevelEntity level : stockLevelRepository.findLots(tenantId, facilityId, productId)) {
+            long available = level.availableQuantity();
+            if (available > 0) {
+                lots.add(new Lot(level.getLotId(), level.getExpirationDate(), available));
+            }
+        }
+        NavigableSet<Lot> snapshot = Collections.unmodifiableNavigableSet(lots);
+        synchronized (cache) {
+            cache.put(key, new CachedLots(snapshot, now));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Which lots to pick each product from, first-expiring first. Lots already past their expiration date are
+     * never suggested; whatever the remaining lots cannot cover is reported as the shortage.
+     */
+    public List<PickSuggestion> suggestPicks(PickSuggestionForm form, Long tenantId) {
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        if (form.getItems() != null) {
+            for (PickSuggestionForm.Item item : form.getItems()) {
+                quantities.merge(item.getProductId(), item.getQuantity(), Long::sum);
+            }
+        }
+        String facilityId = form.getFacilityId();
+        LocalDate today = LocalDate.now();
+        List<PickSuggestion> suggestions = new ArrayList<>(quantities.size());
+        for (Map.Entry<String, Long> entry : quantities.entrySet()) {
+            long remaining = entry.getValue();
+            List<Pick> picks = new ArrayList<>();
+            for (Lot lot : getLots(entry.getKey(), facilityId, tenantId)) {
+                if (remaining <= 0) {
+                    break;
+                }
+                if (lot.expirationDate() != null && lot.expirationDate().isBefore(today)) {
+                    continue;
+                }
+                long take = Math.min(remaining, lot.available());
+                picks.add(new Pick(lot.lotId(), lot.expirationDate(), take));
+                remaining -= take;
+            }
+            suggestions.add(new PickSuggestion(entry.getKey(), entry.getValue(), Math.max(remaining, 0), picks));
+        }
+        return suggestions;
+    }
+
+    /**
+     * Drops the cached lots of the given products right away and again once the surrounding transaction
+     * completes, so a reader that reloaded in between does not keep the pre-commit quantities.
+     */
+    public void invalidate(Long tenantId, String facilityId, Collection<String> productIds) {
+        List<LotKey> keys = productIds.stream()
+                .distinct()
+                .map(productId -> new LotKey(tenantId, facilityId, productId))
+                .toList();
+        evict(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(keys);
+                }
+            });
+        }
+    }
+
+    public void invalidateTenant(Long tenantId) {
+        synchronized (cache) {
+            cache.keySet().removeIf(key -> key.tenantId().equals(tenantId));
+        }
+    }
+
+    private void evict(List<LotKey> keys) {
+        synchronized (cache) {
+            keys.forEach(cache::remove);
+        }
+    }
+
+    public record Lot(String lotId, LocalDate expirationDate, long available) {
+    }
+
+    public record Pick(String lotId, LocalDate expirationDate, long quantity) {
+    }
+
+    public record PickSuggestion(String productId, long requestedQuantity, long shortage, List<Pick> picks) {
+    }
+
+    private record LotKey(Long tenantId, String facilityId, String productId) {
+    }
+
+    private record CachedLots(NavigableSet<Lot> lots, long loadedAt) {
+    }
+
+}
@@ -0,0 +1,111 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import serp.project.logistics.constant.OrderDetailSection;
+import serp.project.logistics.constant.ShipmentStatus;
+import serp.project.logistics.dto.response.OrderAggregateResponse;
+import serp.project.logistics.dto.response.OrderDetailResponse;
+import serp.project.logistics.dto.response.ShipmentDetailResponse;
+import serp.project.logistics.entity.InventoryItemDetailEntity;
+import serp.project.logistics.entity.OrderEntity;
+import serp.project.logistics.entity.OrderItemEntity;
+import serp.project.logistics.entity.ShipmentEntity;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.repository.InventoryItemDetailRepository;
+import serp.project.logistics.repository.InvoiceRepository;
+import serp.project.logistics.repository.OrderItemRepository;
+import serp.project.logistics.repository.OrderRepository;
+import serp.project.logistics.repository.ShipmentRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read model of an order and everything hanging off it. Each requested section costs exactly one query, so
+ * the full aggregate takes at most six statements however many shipments the order has.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAggregateService {
+
+    private static final List<String> COMPLETED_SHIPMENT_STATUSES = List.of(
+            ShipmentStatus.IMPORTED.value(),
+            ShipmentStatus.EXPORTED.value());
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final ShipmentRepository shipmentRepository;
+    private final InventoryItemDetailRepository inventoryItemDetailRepository;
+    private final InvoiceRepository invoiceRepository;
+
+    @Transactional(readOnly = true)
+    public OrderAggregateResponse getOrderAggregate(String orderId, Set<OrderDetailSection> sections, Long tenantId) {
+        OrderEntity order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || !order.getTenantId().equals(tenantId)) {
+            log.info("[OrderAggregateService] Order with ID {} not found for tenantId {}", orderId, tenantId);
+            throw new AppException(AppErrorCode.NOT_FOUND);
+        }
+
+        List<OrderItemEntity> orderItems = null;
+        if (sections.contains(OrderDetailSection.ITEMS) || sections.contains(OrderDetailSection.QUANTITIES)) {
+            orderItems = orderItemRepository.findByTenantIdAndOrderId(tenantId, orderId);
+        }
+        OrderAggregateResponse.OrderAggregateResponseBuilder response = OrderAggregateResponse.builder()
+                .order(OrderDetailResponse.fromEntity(order,
+                        sections.contains(OrderDetailSection.ITEMS) ? orderItems : null));
+
+        if (sections.contains(OrderDetailSection.SHIPMENTS) || sections.contains(OrderDetailSection.SHIPMENT_ITEMS)) {
+            response.shipments(getShipments(orderId, sections.contains(OrderDetailSection.SHIPMENT_ITEMS),
+                    tenantId));
+        }
+        if (sections.contains(OrderDetailSection.QUANTITIES)) {
+            Map<String, Long> delivered = inventoryItemDetailRepository
+                    .sumQuantityByOrderItem(tenantId, orderId, COMPLETED_SHIPMENT_STATUSES).stream()
+                    .collect(Collectors.toMap(
+                            InventoryItemDetailRepository.OrderItemQuantity::getOrderItemId,
+                            InventoryItemDetailRepository.OrderItemQuantity::getQuantity));
+            response.quantities(orderItems.stream()
+                    .map(orderItem -> toProgress(orderItem, delivered.getOrDefault(orderItem.getId(), 0L)))
+                    .toList());
+        }
+        if (sections.contains(OrderDetailSection.INVOICES)) {
+            response.invoices(invoiceRepository.findBilledForOrder(tenantId, orderId));
+        }
+        return response.build();
+    }
+
+    private List<ShipmentDetailResponse> getShipments(String orderId, boolean withItems, Long tenantId) {
+        List<ShipmentEntity> shipments = shipmentRepository.findByTenantIdAndOrderId(tenantId, orderId);
+        if (!withItems || shipments.isEmpty()) {
+            return shipments.stream()
+                    .map(shipment -> ShipmentDetailResponse.fromEntity(shipment, null))
+                    .toList();
+        }
+        Map<String, List<InventoryItemDetailEntity>> itemsByShipment = inventoryItemDetailRepository
+                .findByTenantIdAndShipmentIdIn(tenantId, shipments.stream().map(ShipmentEntity::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(InventoryItemDetailEntity::getShipmentId));
+        return shipments.stream()
+                .map(shipment -> ShipmentDetailResponse.fromEntity(shipment,
+                        itemsByShipment.getOrDefault(shipment.getId(), List.of())))
+                .toList();
+    }
+
+    private static OrderAggregateResponse.OrderItemProgress toProgress(OrderItemEntity orderItem, long delivered) {
+        return OrderAggregateResponse.OrderItemProgress.builder()
+                .orderItemId(orderItem.getId())
+                .productId(orderItem.getProductId())
+                .orderedQuantity(orderItem.getQuantity())
+                .deliveredQuantity(delivered)
+                .remainingQuantity(Math.max(0, orderItem.getQuantity() - delivered))
+                .build();
+    }
+
+}
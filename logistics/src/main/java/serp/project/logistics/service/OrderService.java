@@ -2,8 +2,9 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import serp.project.logistics.constant.PagingMode;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.OrderEntity;
 import serp.project.logistics.repository.OrderRepository;
 import serp.project.logistics.repository.specification.OrderSpecification;
@@ -18,7 +19,7 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
 
-    public Page<OrderEntity> findOrders(
+    public PageResponse<OrderEntity> findOrders(
             String query,
             String orderTypeId,
             String fromSupplierId,
@@ -33,8 +34,11 @@ public class OrderService {
             int page,
             int size,
             String sortBy,
-            String sortDirection) {
-        return orderRepository.findAll(
+            String sortDirection,
+            PagingMode paging,
+            String cursor) {
+        return PaginationUtils.search(
+                orderRepository,
                 OrderSpecification.satisfy(
                         query,
                         orderTypeId,
@@ -47,7 +51,7 @@ public class OrderService {
                         deliveryAfter,
                         statusId,
                         tenantId),
-                PaginationUtils.createPageable(page, size, sortBy, sortDirection));
+                page, size, sortBy, sortDirection, paging, cursor);
     }
 
     public OrderEntity getOrder(String orderId, Long tenantId) {
@@ -2,18 +2,23 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.dto.request.ProductCreationForm;
 import serp.project.logistics.dto.request.ProductUpdateForm;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.ProductEntity;
 import serp.project.logistics.repository.ProductRepository;
 import serp.project.logistics.repository.specification.ProductSpecification;
 import serp.project.logistics.util.IdUtils;
 import serp.project.logistics.util.PaginationUtils;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -70,7 +75,7 @@ public class ProductService {
                 tenantId);
     }
 
-    public Page<ProductEntity> findProducts(
+    public PageResponse<ProductEntity> findProducts(
             String query,
             String categoryId,
             String statusId,
@@ -78,11 +83,13 @@ public class ProductService {
             int page,
             int size,
             String sortBy,
-            String sortDirection) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return productRepository.findAll(
+            String sortDirection,
+            PagingMode paging,
+            String cursor) {
+        return PaginationUtils.search(
+                productRepository,
                 ProductSpecification.satisfy(query, categoryId, statusId, tenantId),
-                pageable);
+                page, size, sortBy, sortDirection, paging, cursor);
     }
 
     public ProductEntity getProduct(String productId, Long tenantId) {
@@ -95,4 +102,12 @@ public class ProductService {
         return product;
     }
 
+    public Map<String, ProductEntity> getProducts(Collection<String> productIds, Long tenantId) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findByTenantIdAndIdIn(tenantId, productIds).stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+    }
+
 }
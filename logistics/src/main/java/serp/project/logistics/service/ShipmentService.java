@@ -2,15 +2,15 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import serp.project.logistics.constant.OrderStatus;
+import serp.project.logistics.constant.PagingMode;
 import serp.project.logistics.constant.ShipmentStatus;
 import serp.project.logistics.dto.request.ShipmentCreationForm;
 import serp.project.logistics.dto.request.ShipmentUpdateForm;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.InventoryItemDetailEntity;
 import serp.project.logistics.entity.OrderItemEntity;
 import serp.project.logistics.entity.ShipmentEntity;
@@ -24,7 +24,6 @@ import serp.project.logistics.repository.specification.ShipmentSpecification;
 import serp.project.logistics.util.IdUtils;
 import serp.project.logistics.util.PaginationUtils;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -71,12 +70,7 @@ public class ShipmentService {
         log.info("[ShipmentService] Created shipment {} for order {} and tenant {}", shipmentId, form.getOrderId(),
                 tenantId);
 
-        for (ShipmentCreationForm.InventoryItemDetail itemDetail : form.getItems()) {
-            inventoryItemDetailService.createInventoryItemDetails(
-                    shipmentId,
-                    itemDetail,
-                    tenantId);
-        }
+        inventoryItemDetailService.createInventoryItemDetails(shipmentId, form.getItems(), tenantId);
         log.info("[ShipmentService] Created {} items for shipment {} and tenant {}", form.getItems().size(), shipmentId,
                 tenantId);
     }
@@ -117,37 +111,23 @@ public class ShipmentService {
 
         log.info("[ShipmentService] Creating inventory items for shipment {} and tenant {}", shipmentId, tenantId);
         List<InventoryItemDetailEntity> items = inventoryItemDetailService.getItemsByShipmentId(shipmentId, tenantId);
-        for (var item : items) {
-            inventoryItemService.createInventoryItem(item);
-        }
+        inventoryItemService.createInventoryItems(items);
 
         List<OrderItemEntity> orderItems = orderItemRepository.findByTenantIdAndOrderId(tenantId, shipment.getOrderId());
         if (orderItems.isEmpty()) {
             log.error("[OrderService] No orderItems found for order {} and tenant {}", shipment.getOrderId(), tenantId);
             throw new AppException(AppErrorCode.NOT_FOUND);
         }
-        Map<String, Integer> itemQuantityMap = orderItems.stream().collect(Collectors.toMap(
-                OrderItemEntity::getId,
-                OrderItemEntity::getQuantity));
-        Map<String, Integer> deliveredQuantityMap = new HashMap<>();
-        List<ShipmentEntity> importedShipments = shipmentRepository.findByTenantIdAndOrderIdAndStatusId(tenantId, shipment.getOrderId(), ShipmentStatus.IMPORTED.value());
-        if (importedShipments.isEmpty()) {
-            log.warn("[OrderService] No importedShipments found for order {} and tenant {}", shipment.getOrderId(), tenantId);
-            return;
-        }
-        for (ShipmentEntity importedShipment : importedShipments) {
-            var _items = inventoryItemDetailService.getItemsByShipmentId(importedShipment.getId(), tenantId);
-            for (var item : _items) {
-                deliveredQuantityMap.put(
-                        item.getOrderItemId(),
-                        deliveredQuantityMap.getOrDefault(item.getOrderItemId(), 0) + item.getQuantity());
-            }
-        }
-        for (var entry : itemQuantityMap.entrySet()) {
-            String orderItemId = entry.getKey();
-            int orderedQuantity = entry.getValue();
-            int deliveredQuantity = deliveredQuantityMap.getOrDefault(orderItemId, 0);
-            log.info("[OrderService] Order item {} has delivered quantity {}/{}", orderItemId, deliveredQuantity, orderedQuantity);
+        Map<String, Long> deliveredQuantityMap = inventoryItemDetailRepository
+                .sumQuantityByOrderItem(tenantId, shipment.getOrderId(), List.of(ShipmentStatus.IMPORTED.value()))
+                .stream()
+                .collect(Collectors.toMap(
+                        InventoryItemDetailRepository.OrderItemQuantity::getOrderItemId,
+                        InventoryItemDetailRepository.OrderItemQuantity::getQuantity));
+        for (OrderItemEntity orderItem : orderItems) {
+            int orderedQuantity = orderItem.getQuantity();
+            long deliveredQuantity = deliveredQuantityMap.getOrDefault(orderItem.getId(), 0L);
+            log.debug("[OrderService] Order item {} has delivered quantity {}/{}", orderItem.getId(), deliveredQuantity, orderedQuantity);
             if (deliveredQuantity != orderedQuantity) {
                 log.info(
                         "[OrderService] Order {} is not fully delivery.",
@@ -168,7 +148,7 @@ public class ShipmentService {
         return shipment;
     }
 
-    public Page<ShipmentEntity> findShipments(
+    public PageResponse<ShipmentEntity> findShipments(
             String query,
             String shipmentTypeId,
             String fromSupplierId,
@@ -179,12 +159,14 @@ public class ShipmentService {
             int page,
             int size,
             String sortBy,
-            String sortDirection
+            String sortDirection,
+            PagingMode paging,
+            String cursor
     ) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return shipmentRepository.findAll(
+        return PaginationUtils.search(
+                shipmentRepository,
                 ShipmentSpecification.satisfy(query, shipmentTypeId, fromSupplierId, toCustomerId, orderId, statusId, tenantId),
-                pageable
+                page, size, sortBy, sortDirection, paging, cursor
         );
     }
 
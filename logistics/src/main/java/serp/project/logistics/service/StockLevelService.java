@@ -0,0 +1,187 @@
+package serp.project.logistics.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import serp.project.logistics.constant.InventoryItemStatus;
+import serp.project.logistics.entity.InventoryItemEntity;
+import serp.project.logistics.entity.StockLevelEntity;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+import serp.project.logistics.repository.InventoryItemRepository;
+import serp.project.logistics.repository.StockLevelRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockLevelService {
+
+    private final StockLevelRepository stockLevelRepository;
+    private final InventoryItemRepository inventoryItemRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final LotIndexService lotIndexService;
+
+    @Value("${app.stock-level.rebuild-parallelism:4}")
+    private int rebuildParallelism;
+
+    @Transactional(rollbackFor = Exception.class)
+    public void onItemsReceived(List<InventoryItemEntity> items) {
+        Map<StockKey, StockLevelEntity> deltas = new LinkedHashMap<>();
+        for (InventoryItemEntity item : items) {
+            if (item.getFacilityId() != null && isCounted(item.getStatusId())) {
+                addDelta(deltas, item, item.getQuantity());
+            }
+        }
+        apply(deltas.values());
+    }
+
+    @Transactional(rollbackFor = Exception.class)
+    public void onItemChanged(InventoryItemEntity item, int previousQuantity, String previousStatusId) {
+        long before = isCounted(previousStatusId) ? previousQuantity : 0;
+        long after = isCounted(item.getStatusId()) ? item.getQuantity() : 0;
+        if (before == after || item.getFacilityId() == null) {
+            return;
+        }
+        if (after > before) {
+            Map<StockKey, StockLevelEntity> deltas = new LinkedHashMap<>();
+            addDelta(deltas, item, after - before);
+            apply(deltas.values());
+            return;
+        }
+        stockLevelRepository.lockFacilitiesShared(item.getTenantId(), List.of(item.getFacilityId()));
+        int updated = stockLevelRepository.withdraw(item.getTenantId(), item.getFacilityId(), item.getProductId(),
+                StockLevelEntity.lotKey(item.getLotId()), before - after);
+        if (updated == 0) {
+            log.error("[StockLevelService] Removing {} of product {} at facility {} would leave less than the " +
+                    "reserved quantity for tenant {}", before - after, item.getProductId(), item.getFacilityId(),
+                    item.getTenantId());
+            throw new AppException(AppErrorCode.INSUFFICIENT_STOCK);
+        }
+        lotIndexService.invalidate(item.getTenantId(), item.getFacilityId(), List.of(item.getProductId()));
+    }
+
+    public long getAvailableQuantity(String productId, String facilityId, String lotId, Long tenantId) {
+        if (lotId == null) {
+            return stockLevelRepository.sumQuantity(tenantId, facilityId, productId);
+        }
+        return stockLevelRepository.findByTenantIdAndFacilityIdAndProductIdAndLotId(
+                        tenantId, facilityId, productId, lotId)
+                .map(StockLevelEntity::availableQuantity)
+                .orElse(0L);
+    }
+
+    public List<StockLevelRepository.ProductQuantity> getAvailability(
+            Collection<String> productIds,
+            String facilityId,
+            Long tenantId) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        Set<String> distinctIds = new TreeSet<>(productIds);
+        return facilityId == null
+                ? stockLevelRepository.sumQuantityByProductAndFacility(tenantId, distinctIds)
+                : stockLevelRepository.sumQuantityByProductAndFacility(tenantId, facilityId, distinctIds);
+    }
+
+    public List<StockLevelEntity> getExpiringLots(int days, Long tenantId) {
+        return stockLevelRepository.findExpiring(tenantId, LocalDate.now().plusDays(days));
+    }
+
+    /**
+     * Recomputes every facility of the tenant from raw inventory items, one transaction per facility and up to
+     * {@code app.stock-level.rebuild-parallelism} facilities at a time. Returns the number of levels written.
+     */
+    public int rebuild(Long tenantId) {
+        Set<String> facilityIds = new TreeSet<>(inventoryItemRepository.findFacilityIds(tenantId));
+        facilityIds.addAll(stockLevelRepository.findFacilityIds(tenantId));
+        facilityIds.remove(null);
+        if (facilityIds.isEmpty()) {
+            return 0;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int threads = Math.max(1, Math.min(rebuildParallelism, facilityIds.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>(facilityIds.size());
+            for (String facilityId : facilityIds) {
+                results.add(executor.submit(() -> transactionTemplate.execute(
+                        status -> stockLevelRepository.rebuildFacility(tenantId, facilityId))));
+            }
+            int levels = 0;
+            for (Future<Integer> result : results) {
+                levels += result.get();
+            }
+            lotIndexService.invalidateTenant(tenantId);
+            log.info("[StockLevelService] Rebuilt {} stock levels across {} facilities for tenant {}", levels,
+                    facilityIds.size(), tenantId);
+            return levels;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(AppErrorCode.UNEXPECTED_EXCEPTION);
+        } catch (ExecutionException e) {
+            log.error("[StockLevelService] Rebuilding stock levels failed for tenant {}", tenantId, e.getCause());
+            throw new AppException(AppErrorCode.UNEXPECTED_EXCEPTION);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void apply(Collection<StockLevelEntity> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Long tenantId = deltas.iterator().next().getTenantId();
+        List<String> facilityIds = deltas.stream().map(StockLevelEntity::getFacilityId).distinct().toList();
+        stockLevelRepository.lockFacilitiesShared(tenantId, facilityIds);
+        stockLevelRepository.addQuantities(new ArrayList<>(deltas));
+        for (String facilityId : facilityIds) {
+            lotIndexService.invalidate(tenantId, facilityId, deltas.stream()
+                    .filter(delta -> delta.getFacilityId().equals(facilityId))
+                    .map(StockLevelEntity::getProductId)
+                    .toList());
+        }
+    }
+
+    private static void addDelta(Map<StockKey, StockLevelEntity> deltas, InventoryItemEntity item, long quantity) {
+        String lotId = StockLevelEntity.lotKey(item.getLotId());
+        StockLevelEntity delta = deltas.computeIfAbsent(
+                new StockKey(item.getTenantId(), item.getFacilityId(), item.getProductId(), lotId),
+                key -> StockLevelEntity.builder()
+                        .tenantId(item.getTenantId())
+                        .facilityId(item.getFacilityId())
+                        .productId(item.getProductId())
+                        .lotId(lotId)
+                        .build());
+        delta.setQuantity(delta.getQuantity() + quantity);
+        if (item.getExpirationDate() != null && (delta.getExpirationDate() == null
+                || item.getExpirationDate().isBefore(delta.getExpirationDate()))) {
+            delta.setExpirationDate(item.getExpirationDate());
+        }
+    }
+
+    private static boolean isCounted(String statusId) {
+        return InventoryItemStatus.VALID.value().equals(statusId);
+    }
+
+    private record StockKey(Long tenantId, String facilityId, String productId, String lotId) {
+    }
+
+}
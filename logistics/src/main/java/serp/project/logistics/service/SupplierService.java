@@ -2,9 +2,9 @@ package serp.project.logistics.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import serp.project.logistics.constant.PagingMode;
+import serp.project.logistics.dto.response.PageResponse;
 import serp.project.logistics.entity.SupplierEntity;
 import serp.project.logistics.repository.SupplierRepository;
 import serp.project.logistics.repository.specification.SupplierSpecification;
@@ -17,16 +17,20 @@ public class SupplierService {
 
     private final SupplierRepository supplierRepository;
 
-    public Page<SupplierEntity> findSuppliers(
+    public PageResponse<SupplierEntity> findSuppliers(
             String query,
             String statusId,
             Long tenantId,
             int page,
             int size,
             String sortBy,
-            String sortDirection) {
-        Pageable pageable = PaginationUtils.createPageable(page, size, sortBy, sortDirection);
-        return supplierRepository.findAll(SupplierSpecification.satisfy(query, statusId, tenantId), pageable);
+            String sortDirection,
+            PagingMode paging,
+            String cursor) {
+        return PaginationUtils.search(
+                supplierRepository,
+                SupplierSpecification.satisfy(query, statusId, tenantId),
+                page, size, sortBy, sortDirection, paging, cursor);
     }
 
     public SupplierEntity getSupplier(String supplierId, Long tenantId) {
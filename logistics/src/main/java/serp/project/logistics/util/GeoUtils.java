@@ -0,0 +1,38 @@
+package serp.project.logistics.util;
+
+import java.util.stream.IntStream;
+
+public class GeoUtils {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    /**
+     * Great-circle distance in kilometres between two points given in degrees.
+     */
+    public static double haversineKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double phi1 = Math.toRadians(latitude1);
+        double phi2 = Math.toRadians(latitude2);
+        double sinHalfDeltaPhi = Math.sin((phi2 - phi1) / 2);
+        double sinHalfDeltaLambda = Math.sin(Math.toRadians(longitude2 - longitude1) / 2);
+        double a = sinHalfDeltaPhi * sinHalfDeltaPhi
+                + Math.cos(phi1) * Math.cos(phi2) * sinHalfDeltaLambda * sinHalfDeltaLambda;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Symmetric matrix of haversine distances between every pair of points, rows filled in parallel.
+     */
+    public static float[][] distanceMatrix(float[] latitudes, float[] longitudes) {
+        int size = latitudes.length;
+        float[][] matrix = new float[size][size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            for (int j = 0; j < size; j++) {
+                if (i != j) {
+                    matrix[i][j] = (float) haversineKm(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+                }
+            }
+        });
+        return matrix;
+    }
+
+}
@@ -1,9 +1,25 @@
 package serp.project.logistics.util;
 
-import java.util.UUID;
-
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids are the prefix followed by 20 Crockford base32 characters: 13 for a 64-bit (epoch millis, sequence)
+ * value and 7 for a per-process node id. Ids from one process sort in creation order, ids from different
+ * processes sort by millisecond, and consecutive inserts land on the right edge of the primary key index
+ * instead of a random page. The node id defaults to a random value drawn at startup and can be pinned with
+ * the {@code serp.id.node} system property.
+ */
 public class IdUtils {
 
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int SEQUENCE_BITS = 16;
+    private static final int CLOCK_CHARS = 13;
+    private static final int NODE_CHARS = 7;
+
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final long NODE_ID = nodeId();
+
     public static String generateProductId() {
         return generateIdWithPrefix("PRD");
     }
@@ -68,9 +84,46 @@ public class IdUtils {
         return generateIdWithPrefix("SHP");
     }
 
+    public static String generateStockLevelId() {
+        return generateIdWithPrefix("STL");
+    }
+
+    public static String generateReservationId() {
+        return generateIdWithPrefix("RSV");
+    }
+
     public static String generateIdWithPrefix(String prefix) {
-        String uuid = UUID.randomUUID().toString().replace("-", "").toUpperCase();
-        return prefix + uuid;
+        long clock = nextClock();
+        int length = prefix.length();
+        char[] id = new char[length + CLOCK_CHARS + NODE_CHARS];
+        prefix.getChars(0, length, id, 0);
+        encode(clock, id, length, CLOCK_CHARS);
+        encode(NODE_ID, id, length + CLOCK_CHARS, NODE_CHARS);
+        return new String(id);
+    }
+
+    /**
+     * Milliseconds in the high 48 bits and a sequence in the low 16. When more than 65536 ids are taken within
+     * one millisecond the value simply runs ahead of the wall clock, so callers never wait or retry a lock.
+     */
+    private static long nextClock() {
+        long floor = System.currentTimeMillis() << SEQUENCE_BITS;
+        return CLOCK.accumulateAndGet(floor, (previous, now) -> Math.max(previous + 1, now));
+    }
+
+    private static void encode(long value, char[] target, int offset, int chars) {
+        for (int i = offset + chars - 1; i >= offset; i--) {
+            target[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+    }
+
+    private static long nodeId() {
+        String configured = System.getProperty("serp.id.node");
+        if (configured != null && !configured.isBlank()) {
+            return Long.parseLong(configured.trim()) & 0xFFFFFFFFL;
+        }
+        return new SecureRandom().nextInt() & 0xFFFFFFFFL;
     }
 
 }
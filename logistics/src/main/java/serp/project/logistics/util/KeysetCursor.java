@@ -0,0 +1,114 @@
+package serp.project.logistics.util;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+import serp.project.logistics.exception.AppErrorCode;
+import serp.project.logistics.exception.AppException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: the sort column value and the id that breaks ties on it. The token
+ * also names the sort it was issued for, so a cursor replayed against another sort is rejected instead of
+ * silently skipping rows.
+ */
+public record KeysetCursor(String sortBy, boolean descending, String value, String id) {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final String NULL_VALUE = "\u0000";
+    private static final String ID = "id";
+
+    public static KeysetCursor of(Object entity, String sortBy, boolean descending) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Object value = wrapper.getPropertyValue(sortBy);
+        return new KeysetCursor(sortBy, descending, value == null ? null : value.toString(),
+                String.valueOf(wrapper.getPropertyValue(ID)));
+    }
+
+    public static KeysetCursor decode(String token, String sortBy, boolean descending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split(String.valueOf(SEPARATOR), -1);
+        } catch (IllegalArgumentException e) {
+            throw new AppException(AppErrorCode.INVALID_PAGE_CURSOR);
+        }
+        if (parts.length != 4 || !parts[0].equals(sortBy) || Boolean.parseBoolean(parts[1]) != descending) {
+            throw new AppException(AppErrorCode.INVALID_PAGE_CURSOR);
+        }
+        return new KeysetCursor(parts[0], descending, NULL_VALUE.equals(parts[2]) ? null : parts[2], parts[3]);
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + descending + SEPARATOR + (value == null ? NULL_VALUE : value)
+                + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows strictly after this cursor in {@code ORDER BY sortBy, id}, both in the cursor's direction. Follows
+     * PostgreSQL's default null placement: nulls sort last ascending and first descending.
+     */
+    public <T> Specification<T> after() {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> column = root.get(sortBy);
+            Path<Comparable<Object>> idColumn = root.get(ID);
+            Comparable<Object> lastId = parse(root, ID, id);
+            if (value == null) {
+                Predicate tie = cb.and(cb.isNull(column), beyond(cb, idColumn, lastId));
+                return descending ? cb.or(tie, cb.isNotNull(column)) : tie;
+            }
+            Comparable<Object> last = parse(root, sortBy, value);
+            Predicate tie = cb.and(cb.equal(column, last), beyond(cb, idColumn, lastId));
+            Predicate next = cb.or(beyond(cb, column, last), tie);
+            return descending ? next : cb.or(next, cb.isNull(column));
+        };
+    }
+
+    private Predicate beyond(CriteriaBuilder cb, Path<Comparable<Object>> path, Comparable<Object> bound) {
+        return descending ? cb.lessThan(path, bound) : cb.greaterThan(path, bound);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> parse(Root<?> root, String attribute, String raw) {
+        Class<?> type = root.get(attribute).getJavaType();
+        Object parsed;
+        try {
+            if (type == String.class) {
+                parsed = raw;
+            } else if (type == Long.class || type == long.class) {
+                parsed = Long.valueOf(raw);
+            } else if (type == Integer.class || type == int.class) {
+                parsed = Integer.valueOf(raw);
+            } else if (type == Double.class || type == double.class) {
+                parsed = Double.valueOf(raw);
+            } else if (type == Float.class || type == float.class) {
+                parsed = Float.valueOf(raw);
+            } else if (type == Boolean.class || type == boolean.class) {
+                parsed = Boolean.valueOf(raw);
+            } else if (type == LocalDate.class) {
+                parsed = LocalDate.parse(raw);
+            } else if (type == LocalDateTime.class) {
+                parsed = LocalDateTime.parse(raw);
+            } else {
+                parsed = null;
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            parsed = null;
+        }
+        if (parsed == null) {
+            throw new AppException(AppErrorCode.INVALID_PAGE_CURSOR);
+        }
+        return (Comparable<Object>) parsed;
+    }
+
+}
@@ -3,6 +3,12 @@ package serp.project.logistics.util;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import serp.project.logistics.constant.PagingMode;
+import serp.project.logistics.dto.response.PageResponse;
+
+import java.util.List;
 
 public class PaginationUtils {
 
@@ -11,4 +17,35 @@ public class PaginationUtils {
                 sortDirection.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending());
     }
 
+    /**
+     * Runs a search in the requested paging mode. {@code OFFSET} is the classic page with totals; {@code SLICE}
+     * keeps page numbers but fetches one extra row instead of running the count query; {@code KEYSET} ignores
+     * {@code page} and continues from {@code cursor} on {@code (sortBy, id)}, so deep pages cost the same as the
+     * first.
+     */
+    public static <T> PageResponse<T> search(JpaSpecificationExecutor<T> repository, Specification<T> spec,
+            int page, int size, String sortBy, String sortDirection, PagingMode paging, String cursor) {
+        return switch (paging) {
+            case OFFSET -> PageResponse.of(repository.findAll(spec, createPageable(page, size, sortBy, sortDirection)));
+            case SLICE -> PageResponse.ofSlice(repository.findBy(spec,
+                    query -> query.slice(createPageable(page, size, sortBy, sortDirection))));
+            case KEYSET -> keyset(repository, spec, size, sortBy, sortDirection.equalsIgnoreCase("desc"), cursor);
+        };
+    }
+
+    private static <T> PageResponse<T> keyset(JpaSpecificationExecutor<T> repository, Specification<T> spec,
+            int size, String sortBy, boolean descending, String cursor) {
+        Specification<T> filter = cursor == null || cursor.isBlank()
+                ? spec
+                : spec.and(KeysetCursor.decode(cursor, sortBy, descending).after());
+        Sort.Direction direction = descending ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        List<T> rows = repository.findBy(filter, query -> query.sortBy(sort).limit(size + 1).all());
+        if (rows.size() <= size) {
+            return PageResponse.ofKeyset(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return PageResponse.ofKeyset(items, KeysetCursor.of(items.getLast(), sortBy, descending).encode());
+    }
+
 }
@@ -0,0 +1,481 @@
+package serp.project.logistics.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Capacitated vehicle routing over a distance matrix whose index 0 is the depot. A savings construction is
+ * improved by relocate, swap and 2-opt moves restricted to each stop's nearest neighbours, then perturbed by
+ * ruin-and-recreate until the time limit. Every worker thread runs its own search from a different seed and
+ * the shortest plan wins.
+ */
+public class RouteSolver {
+
+    private static final int NEIGHBOURS = 24;
+    private static final double EPSILON = 1e-6;
+    private static final double ACCEPTANCE = 1.005;
+
+    private final float[][] distance;
+    private final double[] demand;
+    private final double capacity;
+    private final int stops;
+    private final int[][] nearest;
+
+    /**
+     * @param distance {@code (n + 1) x (n + 1)} matrix, row and column 0 being the depot
+     * @param demand   load of every stop, index 0 ignored; none may exceed the capacity
+     */
+    public RouteSolver(float[][] distance, double[] demand, double capacity) {
+        this.distance = distance;
+        this.demand = demand;
+        this.capacity = capacity;
+        this.stops = distance.length - 1;
+        this.nearest = new int[stops + 1][];
+        for (int u = 1; u <= stops; u++) {
+            final int from = u;
+            nearest[u] = IntStream.rangeClosed(1, stops)
+                    .filter(v -> v != from)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble(v -> distance[from][v]))
+                    .limit(NEIGHBOURS)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /**
+     * Routes as sequences of stop indexes, depot excluded, each starting and ending at the depot.
+     */
+    public List<int[]> solve(long timeLimitMillis, int threads) throws InterruptedException {
+        if (stops == 0) {
+            return List.of();
+        }
+        long deadline = System.nanoTime() + timeLimitMillis * 1_000_000L;
+        Solution initial = savings();
+        initial.localSearch(deadline);
+
+        int workers = Math.max(1, threads);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Solution>> results = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                long seed = 0x9E3779B97F4A7C15L * (w + 1);
+                results.add(executor.submit(() -> search(initial.copy(), new SplittableRandom(seed), deadline)));
+            }
+            Solution best = initial;
+            for (Future<Solution> result : results) {
+                Solution candidate = result.get();
+                if (candidate.cost() < best.cost() - EPSILON) {
+                    best = candidate;
+                }
+            }
+            return best.routes();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Route search failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public double routeDistance(int[] route) {
+        double total = 0;
+        int previous = 0;
+        for (int stop : route) {
+            total += distance[previous][stop];
+            previous = stop;
+        }
+        return total + distance[previous][0];
+    }
+
+    private Solution search(Solution current, SplittableRandom random, long deadline) {
+        Solution best = current.copy();
+        double currentCost = current.cost();
+        double bestCost = currentCost;
+        int maxRuin = Math.max(2, Math.min(stops, Math.max(4, stops / 10)));
+        while (System.nanoTime() < deadline) {
+            Solution candidate = current.copy();
+            candidate.ruinAndRecreate(random, 2 + random.nextInt(maxRuin - 1));
+            candidate.localSearch(deadline);
+            double cost = candidate.cost();
+            if (cost < bestCost - EPSILON) {
+                best = candidate.copy();
+                bestCost = cost;
+            }
+            if (cost < currentCost * ACCEPTANCE) {
+                current = candidate;
+                currentCost = cost;
+            } else if (random.nextInt(50) == 0) {
+                current = best.copy();
+                currentCost = bestCost;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Clarke-Wright savings: start with one route per stop and merge route ends in order of the distance saved.
+     */
+    private Solution savings() {
+        List<List<Integer>> routes = new ArrayList<>(stops + 1);
+        int[] routeOf = new int[stops + 1];
+        double[] load = new double[stops + 1];
+        routes.add(null);
+        for (int u = 1; u <= stops; u++) {
+            List<Integer> route = new ArrayList<>();
+            route.add(u);
+            routes.add(route);
+            routeOf[u] = u;
+            load[u] = demand[u];
+        }
+
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 1; i <= stops; i++) {
+            for (int j : nearest[i]) {
+                if (i < j) {
+                    pairs.add(new long[] { i, j });
+                }
+            }
+        }
+        pairs.sort(Comparator.comparingDouble(pair -> -saving((int) pair[0], (int) pair[1])));
+
+        for (long[] pair : pairs) {
+            int i = (int) pair[0];
+            int j = (int) pair[1];
+            int ri = routeOf[i];
+            int rj = routeOf[j];
+            if (ri == rj || load[ri] + load[rj] > capacity || saving(i, j) <= 0) {
+                continue;
+            }
+            List<Integer> a = routes.get(ri);
+            List<Integer> b = routes.get(rj);
+            if (a.getFirst() == i && a.size() > 1 && a.getLast() != i) {
+                a = a.reversed();
+            }
+            if (b.getLast() == j && b.size() > 1 && b.getFirst() != j) {
+                b = b.reversed();
+            }
+            if (a.getLast() != i || b.getFirst() != j) {
+                continue;
+            }
+            List<Integer> merged = new ArrayList<>(a.size() + b.size());
+            merged.addAll(a);
+            merged.addAll(b);
+            routes.set(ri, merged);
+            routes.set(rj, null);
+            load[ri] += load[rj];
+            for (int stop : b) {
+                routeOf[stop] = ri;
+            }
+        }
+
+        Solution solution = new Solution(stops);
+        for (List<Integer> route : routes) {
+            if (route != null) {
+                solution.addRoute(route.stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+        return solution;
+    }
+
+    private double saving(int i, int j) {
+        return distance[0][i] + distance[0][j] - distance[i][j];
+    }
+
+    private final class Solution {
+
+        private int[][] route;
+        private int[] length;
+        private double[] load;
+        private int routeCount;
+        private final int[] routeOf;
+        private final int[] positionOf;
+
+        Solution(int stops) {
+            route = new int[stops][];
+            length = new int[stops];
+            load = new double[stops];
+            routeOf = new int[stops + 1];
+            positionOf = new int[stops + 1];
+        }
+
+        private Solution(Solution other) {
+            route = new int[other.route.length][];
+            for (int r = 0; r < other.routeCount; r++) {
+                route[r] = Arrays.copyOf(other.route[r], Math.max(other.length[r] + 4, other.route[r].length));
+            }
+            length = other.length.clone();
+            load = other.load.clone();
+            routeCount = other.routeCount;
+            routeOf = other.routeOf.clone();
+            positionOf = other.positionOf.clone();
+        }
+
+        Solution copy() {
+            return new Solution(this);
+        }
+
+        void addRoute(int[] stopsOfRoute) {
+            int r = routeCount++;
+            route[r] = Arrays.copyOf(stopsOfRoute, stopsOfRoute.length + 4);
+            length[r] = stopsOfRoute.length;
+            load[r] = 0;
+            for (int p = 0; p < stopsOfRoute.length; p++) {
+                routeOf[stopsOfRoute[p]] = r;
+                positionOf[stopsOfRoute[p]] = p;
+                load[r] += demand[stopsOfRoute[p]];
+            }
+        }
+
+        List<int[]> routes() {
+            List<int[]> result = new ArrayList<>(routeCount);
+            for (int r = 0; r < routeCount; r++) {
+                if (length[r] > 0) {
+                    result.add(Arrays.copyOf(route[r], length[r]));
+                }
+            }
+            return result;
+        }
+
+        double cost() {
+            double total = 0;
+            for (int r = 0; r < routeCount; r++) {
+                int previous = 0;
+                for (int p = 0; p < length[r]; p++) {
+                    total += distance[previous][route[r][p]];
+                    previous = route[r][p];
+                }
+                total += distance[previous][0];
+            }
+            return total;
+        }
+
+        void localSearch(long deadline) {
+            boolean improved = true;
+            while (improved && System.nanoTime() < deadline) {
+                improved = false;
+                for (int u = 1; u <= stops; u++) {
+                    for (int v : nearest[u]) {
+                        if (relocate(u, v) || swap(u, v)) {
+                            improved = true;
+                            break;
+                        }
+                    }
+                }
+                for (int r = 0; r < routeCount; r++) {
+                    improved |= twoOpt(r);
+                }
+            }
+        }
+
+        void ruinAndRecreate(SplittableRandom random, int count) {
+            int seed = 1 + random.nextInt(stops);
+            int[] removed = new int[Math.min(count, nearest[seed].length + 1)];
+            removed[0] = seed;
+            for (int k = 1; k < removed.length; k++) {
+                removed[k] = nearest[seed][k - 1];
+            }
+            for (int stop : removed) {
+                removeAt(routeOf[stop], positionOf[stop]);
+            }
+            compact();
+            for (int k = removed.length - 1; k > 0; k--) {
+                int swapWith = random.nextInt(k + 1);
+                int tmp = removed[k];
+                removed[k] = removed[swapWith];
+                removed[swapWith] = tmp;
+            }
+            for (int stop : removed) {
+                insertCheapest(stop);
+            }
+        }
+
+        private void insertCheapest(int stop) {
+            int bestRoute = -1;
+            int bestPosition = 0;
+            double bestDelta = Double.MAX_VALUE;
+            for (int r = 0; r < routeCount; r++) {
+                if (load[r] + demand[stop] > capacity) {
+                    continue;
+                }
+                int previous = 0;
+                for (int p = 0; p <= length[r]; p++) {
+                    int next = p == length[r] ? 0 : route[r][p];
+                    double delta = distance[previous][stop] + distance[stop][next] - distance[previous][next];
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestRoute = r;
+                        bestPosition = p;
+                    }
+                    previous = next;
+                }
+            }
+            if (bestRoute < 0) {
+                addRoute(new int[] { stop });
+            } else {
+                insertAt(bestRoute, bestPosition, stop);
+            }
+        }
+
+        /**
+         * Moves u next to v, either just after or just before it, when that shortens the plan.
+         */
+        private boolean relocate(int u, int v) {
+            int ru = routeOf[u];
+            int rv = routeOf[v];
+            if (ru != rv && load[rv] + demand[u] > capacity) {
+                return false;
+            }
+            int pu = previous(u);
+            int su = next(u);
+            double removalGain = distance[pu][u] + distance[u][su] - distance[pu][su];
+
+            int after = next(v);
+            if (after != u && v != pu) {
+                double delta = distance[v][u] + distance[u][after] - distance[v][after] - removalGain;
+                if (delta < -EPSILON) {
+                    move(u, v, true);
+                    return true;
+                }
+            }
+            int before = previous(v);
+            if (before != u && v != su) {
+                double delta = distance[before][u] + distance[u][v] - distance[before][v] - removalGain;
+                if (delta < -EPSILON) {
+                    move(u, v, false);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean swap(int u, int v) {
+            int ru = routeOf[u];
+            int rv = routeOf[v];
+            if (ru == rv || load[ru] - demand[u] + demand[v] > capacity
+                    || load[rv] - demand[v] + demand[u] > capacity) {
+                return false;
+            }
+            int pu = previous(u);
+            int su = next(u);
+            int pv = previous(v);
+            int sv = next(v);
+            double delta = distance[pu][v] + distance[v][su] - distance[pu][u] - distance[u][su]
+                    + distance[pv][u] + distance[u][sv] - distance[pv][v] - distance[v][sv];
+            if (delta >= -EPSILON) {
+                return false;
+            }
+            int positionU = positionOf[u];
+            int positionV = positionOf[v];
+            route[ru][positionU] = v;
+            route[rv][positionV] = u;
+            routeOf[u] = rv;
+            positionOf[u] = positionV;
+            routeOf[v] = ru;
+            positionOf[v] = positionU;
+            load[ru] += demand[v] - demand[u];
+            load[rv] += demand[u] - demand[v];
+            return true;
+        }
+
+        private boolean twoOpt(int r) {
+            boolean improved = false;
+            int[] stopsOfRoute = route[r];
+            int n = length[r];
+            for (int i = 0; i < n - 1; i++) {
+                int a = i == 0 ? 0 : stopsOfRoute[i - 1];
+                int b = stopsOfRoute[i];
+                for (int j = i + 1; j < n; j++) {
+                    int c = stopsOfRoute[j];
+                    int d = j == n - 1 ? 0 : stopsOfRoute[j + 1];
+                    double delta = distance[a][c] + distance[b][d] - distance[a][b] - distance[c][d];
+                    if (delta < -EPSILON) {
+                        for (int left = i, right = j; left < right; left++, right--) {
+                            int tmp = stopsOfRoute[left];
+                            stopsOfRoute[left] = stopsOfRoute[right];
+                            stopsOfRoute[right] = tmp;
+                        }
+                        for (int p = i; p <= j; p++) {
+                            positionOf[stopsOfRoute[p]] = p;
+                        }
+                        b = stopsOfRoute[i];
+                        improved = true;
+                    }
+                }
+            }
+            return improved;
+        }
+
+        private void move(int u, int v, boolean afterV) {
+            removeAt(routeOf[u], positionOf[u]);
+            insertAt(routeOf[v], positionOf[v] + (afterV ? 1 : 0), u);
+            compact();
+        }
+
+        private int previous(int stop) {
+            int p = positionOf[stop];
+            return p == 0 ? 0 : route[routeOf[stop]][p - 1];
+        }
+
+        private int next(int stop) {
+            int r = routeOf[stop];
+            int p = positionOf[stop];
+            return p == length[r] - 1 ? 0 : route[r][p + 1];
+        }
+
+        private void removeAt(int r, int p) {
+            int stop = route[r][p];
+            System.arraycopy(route[r], p + 1, route[r], p, length[r] - p - 1);
+            length[r]--;
+            load[r] -= demand[stop];
+            for (int q = p; q < length[r]; q++) {
+                positionOf[route[r][q]] = q;
+            }
+        }
+
+        private void insertAt(int r, int p, int stop) {
+            if (length[r] == route[r].length) {
+                route[r] = Arrays.copyOf(route[r], length[r] * 2 + 4);
+            }
+            System.arraycopy(route[r], p, route[r], p + 1, length[r] - p);
+            route[r][p] = stop;
+            length[r]++;
+            load[r] += demand[stop];
+            routeOf[stop] = r;
+            for (int q = p; q < length[r]; q++) {
+                positionOf[route[r][q]] = q;
+            }
+        }
+
+        /**
+         * Drops emptied routes by moving the last route into their slot.
+         */
+        private void compact() {
+            for (int r = routeCount - 1; r >= 0; r--) {
+                if (length[r] > 0) {
+                    continue;
+                }
+                int last = --routeCount;
+                if (r != last) {
+                    route[r] = route[last];
+                    length[r] = length[last];
+                    load[r] = load[last];
+                    for (int q = 0; q < length[r]; q++) {
+                        routeOf[route[r][q]] = r;
+                    }
+                }
+                route[last] = null;
+                length[last] = 0;
+                load[last] = 0;
+            }
+        }
+    }
+
+}
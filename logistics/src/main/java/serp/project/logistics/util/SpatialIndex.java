@@ -0,0 +1,160 @@
+package serp.project.logistics.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable k-d tree over points on the earth's surface. Points are stored as unit vectors, where the straight
+ * chord between two points grows with their great-circle distance, so nearest and within-radius answers are
+ * exact haversine answers with no cell boundaries to patch up as a geohash grid would need.
+ */
+public class SpatialIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final List<T> items;
+    private final double[][] points;
+    private final int[] tree;
+
+    public SpatialIndex(List<T> items, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude) {
+        this.items = List.copyOf(items);
+        this.points = new double[this.items.size()][];
+        for (int i = 0; i < points.length; i++) {
+            T item = this.items.get(i);
+            points[i] = toUnitVector(latitude.applyAsDouble(item), longitude.applyAsDouble(item));
+        }
+        this.tree = new int[points.length];
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = i;
+        }
+        build(0, tree.length, 0);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * Up to {@code k} items closest to the given point, nearest first.
+     */
+    public List<Neighbour<T>> nearest(double latitude, double longitude, int k) {
+        if (k <= 0 || tree.length == 0) {
+            return List.of();
+        }
+        double[] target = toUnitVector(latitude, longitude);
+        PriorityQueue<double[]> best = new PriorityQueue<>(Math.min(k, tree.length) + 1,
+                Comparator.comparingDouble(entry -> -entry[0]));
+        nearest(0, tree.length, 0, target, k, best);
+        List<double[]> found = new ArrayList<>(best);
+        found.sort(Comparator.comparingDouble(entry -> entry[0]));
+        return found.stream().map(entry -> neighbour((int) entry[1], entry[0])).toList();
+    }
+
+    /**
+     * Every item within {@code radiusKm} of the given point, nearest first.
+     */
+    public List<Neighbour<T>> withinRadius(double latitude, double longitude, double radiusKm) {
+        if (radiusKm < 0 || tree.length == 0) {
+            return List.of();
+        }
+        double[] target = toUnitVector(latitude, longitude);
+        double chord = 2 * Math.sin(Math.min(Math.PI, radiusKm / EARTH_RADIUS_KM) / 2);
+        List<double[]> found = new ArrayList<>();
+        withinRadius(0, tree.length, 0, target, chord * chord, found);
+        found.sort(Comparator.comparingDouble(entry -> entry[0]));
+        return found.stream().map(entry -> neighbour((int) entry[1], entry[0])).toList();
+    }
+
+    private void build(int from, int to, int axis) {
+        if (to - from <= 1) {
+            return;
+        }
+        Integer[] range = new Integer[to - from];
+        for (int i = from; i < to; i++) {
+            range[i - from] = tree[i];
+        }
+        Arrays.sort(range, Comparator.comparingDouble(i -> points[i][axis]));
+        for (int i = from; i < to; i++) {
+            tree[i] = range[i - from];
+        }
+        int middle = (from + to) >>> 1;
+        build(from, middle, (axis + 1) % 3);
+        build(middle + 1, to, (axis + 1) % 3);
+    }
+
+    private void nearest(int from, int to, int axis, double[] target, int k, PriorityQueue<double[]> best) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int index = tree[middle];
+        double distance = squaredChord(points[index], target);
+        if (best.size() < k) {
+            best.add(new double[] { distance, index });
+        } else if (distance < best.peek()[0]) {
+            best.poll();
+            best.add(new double[] { distance, index });
+        }
+        double offset = target[axis] - points[index][axis];
+        int nextAxis = (axis + 1) % 3;
+        if (offset < 0) {
+            nearest(from, middle, nextAxis, target, k, best);
+            if (best.size() < k || offset * offset < best.peek()[0]) {
+                nearest(middle + 1, to, nextAxis, target, k, best);
+            }
+        } else {
+            nearest(middle + 1, to, nextAxis, target, k, best);
+            if (best.size() < k || offset * offset < best.peek()[0]) {
+                nearest(from, middle, nextAxis, target, k, best);
+            }
+        }
+    }
+
+    private void withinRadius(int from, int to, int axis, double[] target, double limit, List<double[]> found) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int index = tree[middle];
+        double distance = squaredChord(points[index], target);
+        if (distance <= limit) {
+            found.add(new double[] { distance, index });
+        }
+        double offset = target[axis] - points[index][axis];
+        int nextAxis = (axis + 1) % 3;
+        if (offset < 0 || offset * offset <= limit) {
+            withinRadius(from, middle, nextAxis, target, limit, found);
+        }
+        if (offset >= 0 || offset * offset <= limit) {
+            withinRadius(middle + 1, to, nextAxis, target, limit, found);
+        }
+    }
+
+    private Neighbour<T> neighbour(int index, double squaredChord) {
+        double chord = Math.sqrt(squaredChord);
+        double distanceKm = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, chord / 2));
+        return new Neighbour<>(items.get(index), distanceKm);
+    }
+
+    private static double squaredChord(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double cosPhi = Math.cos(phi);
+        return new double[] { cosPhi * Math.cos(lambda), cosPhi * Math.sin(lambda), Math.sin(phi) };
+    }
+
+    public record Neighbour<T>(T item, double distanceKm) {
+    }
+
+}
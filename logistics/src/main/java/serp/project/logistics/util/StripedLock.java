@@ -0,0 +1,39 @@
+package serp.project.logistics.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed pool of locks shared by hash, so any number of keys can be locked without one lock per key.
+ * Keys that share a stripe simply serialize with each other.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+
+    public StripedLock(int stripeCount) {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * The distinct stripes guarding these keys, in a fixed global order so that callers locking them one by one
+     * cannot deadlock each other.
+     */
+    public List<ReentrantLock> stripesFor(Collection<?> keys) {
+        TreeSet<Integer> indexes = new TreeSet<>();
+        for (Object key : keys) {
+            indexes.add(Math.floorMod(spread(key.hashCode()), stripes.length));
+        }
+        return indexes.stream().map(index -> stripes[index]).toList();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}